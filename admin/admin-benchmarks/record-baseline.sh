@@ -0,0 +1,21 @@
+#!/bin/bash
+# Records the baseline results of a release in results/, with the JDK and machine they were recorded on.
+# Usage: ./record-baseline.sh <release>, from admin-benchmarks after building target/benchmarks.jar
+
+set -e
+
+if [ -z "$1" ]; then
+  echo "Usage: $0 <release>"
+  exit 1
+fi
+
+cd "$(dirname "$0")"
+RESULTS=results/baseline-$1
+java -jar target/benchmarks.jar -prof gc -rf json -rff "$RESULTS.json"
+{
+  java -version 2>&1
+  uname -srm
+  grep -m1 "model name" /proc/cpuinfo || sysctl -n machdep.cpu.brand_string
+  grep -c ^processor /proc/cpuinfo || sysctl -n hw.ncpu
+} > "$RESULTS.txt" 2>/dev/null
+echo "Recorded $RESULTS.json and $RESULTS.txt"
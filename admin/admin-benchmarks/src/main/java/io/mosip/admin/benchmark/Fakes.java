@@ -0,0 +1,72 @@
+package io.mosip.admin.benchmark;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Fake collaborators of the benchmarked beans.
+ *
+ * Repositories and other interfaces are faked with a proxy answering only the
+ * methods the benchmark uses, any other call fails so that a benchmark does not
+ * silently measure a code path it does not set up. Beans are wired by setting
+ * their fields, the same way the container injects them.
+ */
+public final class Fakes {
+
+	private Fakes() {
+	}
+
+	/**
+	 * Creates a fake of the interface.
+	 *
+	 * @param type    interface to fake
+	 * @param answers answer of each method by method name, called with the
+	 *                method arguments
+	 * @return the fake
+	 */
+	public static <T> T of(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+		Object fake = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+			switch (method.getName()) {
+			case "equals":
+				return args != null && args.length == 1 && proxy == args[0];
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			case "toString":
+				return "Fake " + type.getSimpleName();
+			default:
+				Function<Object[], Object> answer = answers.get(method.getName());
+				if (answer == null) {
+					throw new UnsupportedOperationException(
+							type.getSimpleName() + "." + method.getName() + " is not faked");
+				}
+				return answer.apply(args == null ? new Object[0] : args);
+			}
+		});
+		return type.cast(fake);
+	}
+
+	/**
+	 * Sets the field of the bean, declared in its class or any super class.
+	 *
+	 * @param bean  bean to wire
+	 * @param name  field name
+	 * @param value field value
+	 */
+	public static void set(Object bean, String name, Object value) {
+		for (Class<?> type = bean.getClass(); type != null; type = type.getSuperclass()) {
+			try {
+				Field field = type.getDeclaredField(name);
+				field.setAccessible(true);
+				field.set(bean, value);
+				return;
+			} catch (NoSuchFieldException e) {
+				// declared in a super class
+			} catch (IllegalAccessException e) {
+				throw new IllegalStateException("Failed to set " + name + " of " + bean.getClass().getName(), e);
+			}
+		}
+		throw new IllegalArgumentException(bean.getClass().getName() + " has no field " + name);
+	}
+}
@@ -0,0 +1,321 @@
+package io.mosip.admin.benchmark.hotlist;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.mosip.admin.benchmark.Fakes;
+import io.mosip.hotlist.builder.AuditRequestBuilder;
+import io.mosip.hotlist.builder.RestRequestBuilder;
+import io.mosip.hotlist.cache.HotlistStatusCache;
+import io.mosip.hotlist.controller.HotlistController;
+import io.mosip.hotlist.dto.HotlistBulkResponseDTO;
+import io.mosip.hotlist.dto.HotlistRequestResponseDTO;
+import io.mosip.hotlist.entity.Hotlist;
+import io.mosip.hotlist.entity.HotlistHistory;
+import io.mosip.hotlist.event.HotlistEventHandler;
+import io.mosip.hotlist.exception.HotlistAppException;
+import io.mosip.hotlist.helper.AuditHelper;
+import io.mosip.hotlist.helper.RestHelper;
+import io.mosip.hotlist.repository.HotlistHistoryRepository;
+import io.mosip.hotlist.repository.HotlistRepository;
+import io.mosip.hotlist.security.HotlistSecurityManager;
+import io.mosip.hotlist.service.impl.HotlistBulkWriter;
+import io.mosip.hotlist.service.impl.HotlistServiceImpl;
+import io.mosip.hotlist.validator.HotlistValidator;
+import io.mosip.kernel.core.http.RequestWrapper;
+import io.mosip.kernel.core.http.ResponseWrapper;
+import io.mosip.kernel.core.websub.model.EventModel;
+import io.mosip.kernel.core.websub.spi.PublisherClient;
+
+/**
+ * Blocking ids through the bulk request {@code /block/bulk} against blocking
+ * the same number of ids with one {@code /block} request each, both reported
+ * in ids per second.
+ *
+ * The controller and the service are wired as in the service, with the real
+ * rest helper calling the crypto manager, the websub hub and the audit manager
+ * stubbed by {@link StubServices}. The repositories and the entity manager keep
+ * the ids in memory, encrypting them on save as the entity interceptor does.
+ * The events, published asynchronously by the service, are published in the
+ * request thread here for both paths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class HotlistBulkBenchmark {
+
+	/** Number of ids blocked by each invocation of both benchmarks. */
+	private static final int IDS = 500;
+
+	private static final String ID_TYPE = "UIN";
+
+	private static final String TOPIC = "mosip/hotlist";
+
+	/** Latency of each call to the stub services, in milliseconds. */
+	@Param({ "0", "2" })
+	public long latencyMillis;
+
+	/** Number of encrypt requests of a bulk request sent at a time. */
+	@Param({ "8" })
+	public int encryptThreads;
+
+	private StubServices stubs;
+
+	private HotlistSecurityManager securityManager;
+
+	private HotlistController controller;
+
+	/** The ids blocked, by id hash. */
+	private final Map<String, Hotlist> hotlisted = new ConcurrentHashMap<>();
+
+	private final AtomicLong idSequence = new AtomicLong();
+
+	@Setup
+	public void setup() throws Exception {
+		stubs = new StubServices(latencyMillis);
+		ObjectMapper mapper = new ObjectMapper();
+		mapper.registerModule(new JavaTimeModule());
+		mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+		StandardEnvironment env = environment();
+
+		RestHelper restHelper = new RestHelper();
+		Fakes.set(restHelper, "mapper", mapper);
+		Fakes.set(restHelper, "webClient", WebClient.create());
+		RestRequestBuilder restBuilder = new RestRequestBuilder();
+		Fakes.set(restBuilder, "env", env);
+
+		securityManager = new HotlistSecurityManager();
+		Fakes.set(securityManager, "restBuilder", restBuilder);
+		Fakes.set(securityManager, "restHelper", restHelper);
+		Fakes.set(securityManager, "appId", "ADMIN_SERVICES");
+		Fakes.set(securityManager, "refId", "hotlist_service");
+		Fakes.set(securityManager, "encryptThreads", encryptThreads);
+		securityManager.init();
+
+		HotlistEventHandler eventHandler = new HotlistEventHandler();
+		Fakes.set(eventHandler, "topic", TOPIC);
+		Fakes.set(eventHandler, "webSubHubUrl", stubs.url(StubServices.HUB_PATH));
+		Fakes.set(eventHandler, "appId", "HOTLIST");
+		Fakes.set(eventHandler, "publisher", publisher());
+
+		HotlistRepository hotlistRepo = hotlistRepository();
+		HotlistStatusCache statusCache = new HotlistStatusCache();
+		Fakes.set(statusCache, "enabled", true);
+		Fakes.set(statusCache, "maxSize", 100000);
+		Fakes.set(statusCache, "ttl", 60000L);
+		Fakes.set(statusCache, "hotlistRepo", hotlistRepo);
+		statusCache.init();
+
+		Map<String, Function<Object[], Object>> entityManagerAnswers = new HashMap<>();
+		entityManagerAnswers.put("persist", args -> {
+			save(args[0]);
+			return null;
+		});
+		entityManagerAnswers.put("flush", args -> null);
+		entityManagerAnswers.put("clear", args -> null);
+		HotlistBulkWriter bulkWriter = new HotlistBulkWriter();
+		Fakes.set(bulkWriter, "batchSize", 500);
+		Fakes.set(bulkWriter, "hotlistRepo", hotlistRepo);
+		Fakes.set(bulkWriter, "mapper", mapper);
+		Fakes.set(bulkWriter, "entityManager", Fakes.of(EntityManager.class, entityManagerAnswers));
+
+		Map<String, Function<Object[], Object>> historyAnswers = new HashMap<>();
+		historyAnswers.put("save", args -> save(args[0]));
+		HotlistServiceImpl service = new HotlistServiceImpl();
+		Fakes.set(service, "topic", TOPIC);
+		Fakes.set(service, "webSubHubUrl", stubs.url(StubServices.HUB_PATH));
+		Fakes.set(service, "appId", "HOTLIST");
+		Fakes.set(service, "batchSize", 500);
+		Fakes.set(service, "hotlistRepo", hotlistRepo);
+		Fakes.set(service, "hotlistHRepo", Fakes.of(HotlistHistoryRepository.class, historyAnswers));
+		Fakes.set(service, "mapper", mapper);
+		Fakes.set(service, "eventHandler", eventHandler);
+		Fakes.set(service, "statusCache", statusCache);
+		Fakes.set(service, "securityManager", securityManager);
+		Fakes.set(service, "bulkWriter", bulkWriter);
+
+		AuditRequestBuilder auditBuilder = new AuditRequestBuilder();
+		Fakes.set(auditBuilder, "appId", "HOTLIST");
+		Fakes.set(auditBuilder, "env", env);
+		AuditHelper auditHelper = new AuditHelper();
+		Fakes.set(auditHelper, "restHelper", restHelper);
+		Fakes.set(auditHelper, "auditBuilder", auditBuilder);
+		Fakes.set(auditHelper, "restBuilder", restBuilder);
+
+		HotlistValidator validator = new HotlistValidator();
+		Fakes.set(validator, "allowedIdTypes", new ArrayList<>(Arrays.asList(ID_TYPE, "VID")));
+		validator.init();
+
+		controller = new HotlistController();
+		Fakes.set(controller, "validator", validator);
+		Fakes.set(controller, "hotlistService", service);
+		Fakes.set(controller, "auditHelper", auditHelper);
+		Fakes.set(controller, "bulkMaxSize", 10000);
+	}
+
+	/**
+	 * Forgets the ids blocked by the iteration, every invocation blocks new ids.
+	 */
+	@Setup(Level.Iteration)
+	public void clear() {
+		hotlisted.clear();
+	}
+
+	@TearDown
+	public void tearDown() {
+		securityManager.destroy();
+		stubs.close();
+	}
+
+	private StandardEnvironment environment() {
+		Map<String, Object> properties = new HashMap<>();
+		rest(properties, "mosip.hotlist.encryptor", stubs.url(StubServices.ENCRYPT_PATH));
+		rest(properties, "mosip.hotlist.decryptor", stubs.url(StubServices.ENCRYPT_PATH));
+		rest(properties, "mosip.hotlist.audit", stubs.url(StubServices.AUDIT_PATH));
+		properties.put("spring.application.name", "HOTLIST");
+		StandardEnvironment env = new StandardEnvironment();
+		env.getPropertySources().addFirst(new MapPropertySource("benchmark", properties));
+		return env;
+	}
+
+	private static void rest(Map<String, Object> properties, String serviceName, String uri) {
+		properties.put(serviceName + ".rest.uri", uri);
+		properties.put(serviceName + ".rest.httpMethod", "POST");
+		properties.put(serviceName + ".rest.headers.mediaType", MediaType.APPLICATION_JSON_VALUE);
+		properties.put(serviceName + ".rest.timeout", "10");
+	}
+
+	/**
+	 * Publisher posting the event to the stub hub, as the websub client does.
+	 */
+	@SuppressWarnings("unchecked")
+	private static PublisherClient<String, EventModel, HttpHeaders> publisher() {
+		RestTemplate restTemplate = new RestTemplate();
+		Map<String, Function<Object[], Object>> answers = new HashMap<>();
+		answers.put("publishUpdate", args -> {
+			HttpHeaders headers = new HttpHeaders();
+			headers.setContentType(MediaType.APPLICATION_JSON);
+			restTemplate.postForEntity(args[4] + "?hub.mode=publish&hub.topic=" + args[0],
+					new HttpEntity<>(args[1], headers), String.class);
+			return null;
+		});
+		return Fakes.of(PublisherClient.class, answers);
+	}
+
+	private HotlistRepository hotlistRepository() {
+		Map<String, Function<Object[], Object>> answers = new HashMap<>();
+		answers.put("findByIdHashAndIdTypeAndIsDeleted", args -> Optional.ofNullable(hotlisted.get(args[0])));
+		answers.put("save", args -> save(args[0]));
+		answers.put("findStatusByIdHashIn", args -> ((Collection<?>) args[0]).stream()
+				.map(hotlisted::get)
+				.filter(hotlist -> hotlist != null)
+				.map(hotlist -> new Object[] { hotlist.getIdHash(), hotlist.getIdType(), hotlist.getStatus(),
+						hotlist.getExpiryTimestamp() })
+				.collect(Collectors.toList()));
+		return Fakes.of(HotlistRepository.class, answers);
+	}
+
+	/**
+	 * Saves the entity, encrypting its id as the entity interceptor does.
+	 */
+	private Object save(Object entity) {
+		try {
+			if (entity instanceof Hotlist) {
+				Hotlist hotlist = (Hotlist) entity;
+				hotlist.setIdValue(securityManager.encrypt(hotlist.getIdValue()));
+				hotlisted.put(hotlist.getIdHash(), hotlist);
+			} else if (entity instanceof HotlistHistory) {
+				HotlistHistory history = (HotlistHistory) entity;
+				history.setIdValue(securityManager.encrypt(history.getIdValue()));
+			}
+			return entity;
+		} catch (HotlistAppException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private HotlistRequestResponseDTO newRequest() {
+		HotlistRequestResponseDTO request = new HotlistRequestResponseDTO();
+		request.setId(String.valueOf(1000000000L + idSequence.incrementAndGet()));
+		request.setIdType(ID_TYPE);
+		return request;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(IDS)
+	public ResponseWrapper<List<HotlistBulkResponseDTO>> blockBulk() {
+		List<HotlistRequestResponseDTO> requests = new ArrayList<>(IDS);
+		for (int i = 0; i < IDS; i++) {
+			requests.add(newRequest());
+		}
+		RequestWrapper<List<HotlistRequestResponseDTO>> request = new RequestWrapper<>();
+		request.setRequest(requests);
+		ResponseWrapper<List<HotlistBulkResponseDTO>> response = controller.blockAll(request);
+		if (response.getErrors() != null && !response.getErrors().isEmpty()) {
+			throw new IllegalStateException("Bulk block failed: " + response.getErrors());
+		}
+		for (HotlistBulkResponseDTO item : response.getResponse()) {
+			if (item.getErrors() != null && !item.getErrors().isEmpty()) {
+				throw new IllegalStateException("Block of id failed: " + item.getErrors());
+			}
+		}
+		return response;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(IDS)
+	public int blockSingle() {
+		int blocked = 0;
+		for (int i = 0; i < IDS; i++) {
+			RequestWrapper<HotlistRequestResponseDTO> request = new RequestWrapper<>();
+			request.setRequest(newRequest());
+			ResponseWrapper<HotlistRequestResponseDTO> response = controller.block(request);
+			if (response.getErrors() != null && !response.getErrors().isEmpty()) {
+				throw new IllegalStateException("Block failed: " + response.getErrors());
+			}
+			blocked++;
+		}
+		return blocked;
+	}
+}
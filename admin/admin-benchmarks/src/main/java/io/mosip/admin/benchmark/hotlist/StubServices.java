@@ -0,0 +1,96 @@
+package io.mosip.admin.benchmark.hotlist;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Local stubs of the services the hotlist service calls: the crypto manager of
+ * the key manager, the websub hub and the audit manager. They answer on the
+ * loopback interface with a fixed response after the given latency, so that a
+ * benchmark measures the calls over HTTP and not the services called.
+ */
+final class StubServices implements AutoCloseable {
+
+	static final String ENCRYPT_PATH = "/v1/keymanager/encrypt";
+
+	static final String HUB_PATH = "/hub/";
+
+	static final String AUDIT_PATH = "/v1/auditmanager/audits";
+
+	private static final byte[] ENCRYPT_RESPONSE = ("{\"id\":\"mosip.cryptomanager.encrypt\",\"version\":\"1.0\","
+			+ "\"response\":{\"data\":\"c3R1Yi1lbmNyeXB0ZWQtaWQtdmFsdWUtb2YtdGhlLWhvdGxpc3Q\"},\"errors\":null}")
+			.getBytes(StandardCharsets.UTF_8);
+
+	private static final byte[] AUDIT_RESPONSE = "{\"status\":true}".getBytes(StandardCharsets.UTF_8);
+
+	private final HttpServer server;
+
+	private final ExecutorService executor;
+
+	private final long latencyMillis;
+
+	/**
+	 * Starts the stubs on a free port of the loopback interface.
+	 *
+	 * @param latencyMillis latency of each call, in milliseconds
+	 * @throws IOException if the server fails to start
+	 */
+	StubServices(long latencyMillis) throws IOException {
+		this.latencyMillis = latencyMillis;
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext(ENCRYPT_PATH, exchange -> respond(exchange, ENCRYPT_RESPONSE));
+		server.createContext(HUB_PATH, exchange -> respond(exchange, new byte[0]));
+		server.createContext(AUDIT_PATH, exchange -> respond(exchange, AUDIT_RESPONSE));
+		// a thread per call in flight, so that the latency does not queue the calls
+		executor = Executors.newCachedThreadPool(runnable -> {
+			Thread thread = new Thread(runnable, "stub-services");
+			thread.setDaemon(true);
+			return thread;
+		});
+		server.setExecutor(executor);
+		server.start();
+	}
+
+	/**
+	 * URL of a stub.
+	 *
+	 * @param path path of the stub
+	 * @return the URL
+	 */
+	String url(String path) {
+		return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + path;
+	}
+
+	private void respond(HttpExchange exchange, byte[] body) throws IOException {
+		try (InputStream in = exchange.getRequestBody()) {
+			in.readAllBytes();
+		}
+		if (latencyMillis > 0) {
+			try {
+				Thread.sleep(latencyMillis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(200, body.length == 0 ? -1 : body.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(body);
+		}
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+}
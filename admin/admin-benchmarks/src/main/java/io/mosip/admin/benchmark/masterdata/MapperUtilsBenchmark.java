@@ -0,0 +1,114 @@
+package io.mosip.admin.benchmark.masterdata;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.mosip.kernel.masterdata.dto.LocationDto;
+import io.mosip.kernel.masterdata.dto.getresponse.extn.LocationExtnDto;
+import io.mosip.kernel.masterdata.dto.getresponse.extn.MachineExtnDto;
+import io.mosip.kernel.masterdata.dto.getresponse.extn.ZoneExtnDto;
+import io.mosip.kernel.masterdata.entity.Location;
+import io.mosip.kernel.masterdata.entity.Machine;
+import io.mosip.kernel.masterdata.entity.Zone;
+import io.mosip.kernel.masterdata.utils.MapperUtils;
+
+/**
+ * Entity to response mapping of the masterdata search and get APIs, and request
+ * to entity mapping of the create and update APIs. The location mappings are
+ * compared with the reflection based mapping that MapperUtils replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperUtilsBenchmark {
+
+	/** Number of locations of the list mappings, as in a full location sync. */
+	@Param({ "10000" })
+	public int rows;
+
+	private Machine machine;
+
+	private List<Machine> machines;
+
+	private List<Location> locations;
+
+	private List<LocationDto> locationDtos;
+
+	private List<Zone> zones;
+
+	@Setup
+	public void setup() {
+		machines = MasterdataFixtures.machines(100);
+		machine = machines.get(0);
+		locations = MasterdataFixtures.locations(rows);
+		locationDtos = new ArrayList<>(locations.size());
+		for (Location location : locations) {
+			LocationDto locationDto = new LocationDto();
+			locationDto.setCode(location.getCode());
+			locationDto.setName(location.getName());
+			locationDto.setHierarchyLevel(location.getHierarchyLevel());
+			locationDto.setHierarchyName(location.getHierarchyName());
+			locationDto.setParentLocCode(location.getParentLocCode());
+			locationDto.setLangCode(location.getLangCode());
+			locationDto.setIsActive(true);
+			locationDtos.add(locationDto);
+		}
+		zones = MasterdataFixtures.zones(4, 4);
+	}
+
+	@Benchmark
+	public MachineExtnDto mapMachine() {
+		return MapperUtils.map(machine, MachineExtnDto.class);
+	}
+
+	@Benchmark
+	public MachineExtnDto mapMachineIgnoringNullValues() {
+		return MapperUtils.map(machine, new MachineExtnDto(), false);
+	}
+
+	@Benchmark
+	public List<MachineExtnDto> mapAllMachines() {
+		return MapperUtils.mapAll(machines, MachineExtnDto.class);
+	}
+
+	@Benchmark
+	public List<LocationExtnDto> mapAllLocations() {
+		return MapperUtils.mapAll(locations, LocationExtnDto.class);
+	}
+
+	@Benchmark
+	public List<LocationExtnDto> mapAllLocationsReflective() {
+		return ReflectiveMapper.mapAll(locations, LocationExtnDto.class);
+	}
+
+	@Benchmark
+	public List<Location> mapAllLocationDtos() {
+		return MapperUtils.mapAll(locationDtos, Location.class);
+	}
+
+	@Benchmark
+	public List<Location> mapAllLocationDtosReflective() {
+		return ReflectiveMapper.mapAll(locationDtos, Location.class);
+	}
+
+	@Benchmark
+	public List<ZoneExtnDto> mapAllZones() {
+		return MapperUtils.mapAll(zones, ZoneExtnDto.class);
+	}
+}
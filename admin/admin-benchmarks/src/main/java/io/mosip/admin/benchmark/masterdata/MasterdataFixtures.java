@@ -0,0 +1,182 @@
+package io.mosip.admin.benchmark.masterdata;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import io.mosip.kernel.masterdata.dto.getresponse.extn.LocationExtnDto;
+import io.mosip.kernel.masterdata.entity.BaseEntity;
+import io.mosip.kernel.masterdata.entity.Location;
+import io.mosip.kernel.masterdata.entity.Machine;
+import io.mosip.kernel.masterdata.entity.Zone;
+import io.mosip.kernel.masterdata.entity.ZoneUser;
+
+/**
+ * Synthetic masterdata used by the benchmarks. The data is generated from a
+ * fixed seed, so every run measures the same data.
+ */
+final class MasterdataFixtures {
+
+	static final String[] LANG_CODES = { "eng", "ara" };
+
+	static final String ROOT_ZONE = "MOR";
+
+	private static final String[] HIERARCHY_NAMES = { "Country", "Region", "Province", "City", "Zone", "Postal Code" };
+
+	private static final LocalDateTime CREATED = LocalDateTime.of(2021, 1, 1, 0, 0);
+
+	private MasterdataFixtures() {
+	}
+
+	/**
+	 * Zone hierarchy with the root zone and the given number of child zones of
+	 * each zone, down to the depth, in each language.
+	 */
+	static List<Zone> zones(int fanout, int depth) {
+		List<Zone> zones = new ArrayList<>();
+		for (String langCode : LANG_CODES) {
+			// the root zone is its own parent, as in the zone table
+			addZone(zones, ROOT_ZONE, ROOT_ZONE, ROOT_ZONE, 0, fanout, depth, langCode);
+		}
+		return zones;
+	}
+
+	private static void addZone(List<Zone> zones, String code, String parentCode, String path, int level, int fanout,
+			int depth, String langCode) {
+		Zone zone = new Zone();
+		zone.setCode(code);
+		zone.setLangCode(langCode);
+		zone.setName("Zone " + code + " " + langCode);
+		zone.setHierarchyLevel((short) level);
+		zone.setHierarchyName(HIERARCHY_NAMES[Math.min(level, HIERARCHY_NAMES.length - 1)]);
+		zone.setParentZoneCode(parentCode);
+		zone.setHierarchyPath(path);
+		setCreateMetaData(zone);
+		zones.add(zone);
+		if (level < depth) {
+			for (int i = 0; i < fanout; i++) {
+				String childCode = code + (char) ('A' + i);
+				addZone(zones, childCode, code, path + "/" + childCode, level + 1, fanout, depth, langCode);
+			}
+		}
+	}
+
+	/**
+	 * Codes of the zones at the level, in the order of {@link #zones(int, int)}.
+	 */
+	static List<String> zoneCodes(List<Zone> zones, int level) {
+		List<String> codes = new ArrayList<>();
+		for (Zone zone : zones) {
+			if (zone.getHierarchyLevel() == level && LANG_CODES[0].equals(zone.getLangCode())) {
+				codes.add(zone.getCode());
+			}
+		}
+		return codes;
+	}
+
+	static List<ZoneUser> zoneUsers(String userId, List<String> zoneCodes) {
+		List<ZoneUser> zoneUsers = new ArrayList<>();
+		for (String zoneCode : zoneCodes) {
+			ZoneUser zoneUser = new ZoneUser();
+			zoneUser.setUserId(userId);
+			zoneUser.setZoneCode(zoneCode);
+			zoneUser.setLangCode(LANG_CODES[0]);
+			setCreateMetaData(zoneUser);
+			zoneUsers.add(zoneUser);
+		}
+		return zoneUsers;
+	}
+
+	static List<Location> locations(int count) {
+		Random random = new Random(count);
+		List<Location> locations = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			int level = random.nextInt(HIERARCHY_NAMES.length);
+			Location location = new Location();
+			location.setCode("LOC" + i);
+			location.setName(randomName(random));
+			location.setHierarchyLevel((short) level);
+			location.setHierarchyName(HIERARCHY_NAMES[level]);
+			location.setParentLocCode(i == 0 ? null : "LOC" + random.nextInt(i));
+			location.setLangCode(LANG_CODES[i % LANG_CODES.length]);
+			setCreateMetaData(location);
+			locations.add(location);
+		}
+		return locations;
+	}
+
+	/**
+	 * Location search results in random order, as they are sorted in memory.
+	 */
+	static List<LocationExtnDto> locationDtos(int count) {
+		Random random = new Random(count);
+		List<LocationExtnDto> locations = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			int level = random.nextInt(HIERARCHY_NAMES.length);
+			LocationExtnDto location = new LocationExtnDto();
+			location.setCode("LOC" + i);
+			location.setName(randomName(random));
+			location.setHierarchyLevel(level);
+			location.setHierarchyName(HIERARCHY_NAMES[level]);
+			location.setParentLocCode("LOC" + random.nextInt(count));
+			location.setLangCode(LANG_CODES[i % LANG_CODES.length]);
+			location.setIsActive(random.nextBoolean());
+			location.setCreatedBy("superadmin");
+			location.setCreatedDateTime(CREATED.plusMinutes(random.nextInt(500000)));
+			locations.add(location);
+		}
+		Collections.shuffle(locations, random);
+		return locations;
+	}
+
+	static List<Machine> machines(int count) {
+		Random random = new Random(count);
+		List<Machine> machines = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			Machine machine = new Machine();
+			machine.setId(String.valueOf(10000 + i));
+			machine.setLangCode(LANG_CODES[0]);
+			machine.setName("Machine " + i);
+			machine.setSerialNum("SN" + Long.toHexString(random.nextLong()));
+			machine.setIpAddress("10.1." + (i / 256 % 256) + "." + (i % 256));
+			machine.setMacAddress(String.format("A4-BB-6D-%02X-%02X-%02X", random.nextInt(256), random.nextInt(256),
+					random.nextInt(256)));
+			machine.setMachineSpecId("MS" + (i % 20));
+			machine.setValidityDateTime(CREATED.plusYears(5));
+			machine.setZoneCode(ROOT_ZONE + (char) ('A' + i % 6));
+			machine.setRegCenterId(String.valueOf(10000 + i % 500));
+			machine.setKeyIndex(Long.toHexString(random.nextLong()));
+			machine.setPublicKey(publicKey(random));
+			machine.setSignKeyIndex(Long.toHexString(random.nextLong()));
+			machine.setSignPublicKey(publicKey(random));
+			setCreateMetaData(machine);
+			machines.add(machine);
+		}
+		return machines;
+	}
+
+	private static String randomName(Random random) {
+		char[] name = new char[6 + random.nextInt(10)];
+		for (int i = 0; i < name.length; i++) {
+			name[i] = (char) ('a' + random.nextInt(26));
+		}
+		name[0] = Character.toUpperCase(name[0]);
+		return new String(name);
+	}
+
+	private static String publicKey(Random random) {
+		byte[] key = new byte[294];
+		random.nextBytes(key);
+		return Base64.getUrlEncoder().encodeToString(key);
+	}
+
+	private static void setCreateMetaData(BaseEntity entity) {
+		entity.setIsActive(true);
+		entity.setIsDeleted(false);
+		entity.setCreatedBy("superadmin");
+		entity.setCreatedDateTime(CREATED);
+	}
+}
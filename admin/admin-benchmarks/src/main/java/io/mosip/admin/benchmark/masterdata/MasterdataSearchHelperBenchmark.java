@@ -0,0 +1,134 @@
+package io.mosip.admin.benchmark.masterdata;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+
+import io.mosip.kernel.masterdata.dto.SearchDtoWithoutLangCode;
+import io.mosip.kernel.masterdata.dto.request.Pagination;
+import io.mosip.kernel.masterdata.dto.request.SearchDto;
+import io.mosip.kernel.masterdata.dto.request.SearchFilter;
+import io.mosip.kernel.masterdata.dto.request.SearchSort;
+import io.mosip.kernel.masterdata.entity.Zone;
+import io.mosip.kernel.masterdata.utils.MasterdataSearchHelper;
+import io.mosip.kernel.masterdata.utils.OptionalFilter;
+
+/**
+ * Criteria query building and execution of the masterdata search, against the
+ * zone table in an in memory H2 database. Each search uses a new entity
+ * manager, as each search request does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MasterdataSearchHelperBenchmark {
+
+	private static final OptionalFilter[] NO_OPTIONAL_FILTERS = new OptionalFilter[0];
+
+	/** Number of child zones of each zone, the hierarchy is four levels deep. */
+	@Param({ "4", "8" })
+	public int fanout;
+
+	private SessionFactory sessionFactory;
+
+	@Setup
+	public void setup() {
+		StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySetting(AvailableSettings.DRIVER, "org.h2.Driver")
+				.applySetting(AvailableSettings.URL,
+						"jdbc:h2:mem:masterdata-search;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS master")
+				.applySetting(AvailableSettings.USER, "sa")
+				.applySetting(AvailableSettings.DIALECT, "org.hibernate.dialect.H2Dialect")
+				.applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+				.applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, "500").build();
+		sessionFactory = new MetadataSources(registry).addAnnotatedClass(Zone.class).buildMetadata()
+				.buildSessionFactory();
+
+		EntityManager entityManager = sessionFactory.createEntityManager();
+		try {
+			entityManager.getTransaction().begin();
+			MasterdataFixtures.zones(fanout, 4).forEach(entityManager::persist);
+			entityManager.getTransaction().commit();
+		} finally {
+			entityManager.close();
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public Page<Zone> searchByNameSortedByName() {
+		SearchDto searchDto = new SearchDto(
+				Arrays.asList(new SearchFilter("zone mora", null, null, "name", "contains")),
+				Arrays.asList(new SearchSort("name", "ASC")), new Pagination(0, 10), "eng");
+		return search(searchDto);
+	}
+
+	@Benchmark
+	public Page<Zone> searchByLevelSortedByHierarchyName() {
+		SearchDto searchDto = new SearchDto(
+				Arrays.asList(new SearchFilter("3", null, null, "hierarchyLevel", "equals")),
+				Arrays.asList(new SearchSort("hierarchyName", "DESC")), new Pagination(2, 10), "eng");
+		return search(searchDto);
+	}
+
+	@Benchmark
+	public Page<Zone> searchAllLanguagesByCodePrefix() {
+		SearchDtoWithoutLangCode searchDto = new SearchDtoWithoutLangCode(
+				Arrays.asList(new SearchFilter("MORB", null, null, "code", "startsWith")),
+				Arrays.asList(new SearchSort("code", "ASC")), new Pagination(1, 25), null);
+		EntityManager entityManager = sessionFactory.createEntityManager();
+		try {
+			return new MasterdataSearchHelper(entityManager).searchMasterdataWithoutLangCode(Zone.class, searchDto,
+					NO_OPTIONAL_FILTERS);
+		} finally {
+			entityManager.close();
+		}
+	}
+
+	@Benchmark
+	public Page<Zone> searchWithoutFilters() {
+		List<SearchFilter> noFilters = Collections.emptyList();
+		SearchDto searchDto = new SearchDto(noFilters, Arrays.asList(new SearchSort("code", "DESC")),
+				new Pagination(5, 10), "eng");
+		return search(searchDto);
+	}
+
+	private Page<Zone> search(SearchDto searchDto) {
+		EntityManager entityManager = sessionFactory.createEntityManager();
+		try {
+			return new MasterdataSearchHelper(entityManager).searchMasterdata(Zone.class, searchDto,
+					NO_OPTIONAL_FILTERS);
+		} finally {
+			entityManager.close();
+		}
+	}
+}
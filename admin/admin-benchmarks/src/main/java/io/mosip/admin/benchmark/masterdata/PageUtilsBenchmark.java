@@ -0,0 +1,73 @@
+package io.mosip.admin.benchmark.masterdata;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.mosip.admin.benchmark.Fakes;
+import io.mosip.kernel.masterdata.dto.getresponse.extn.LocationExtnDto;
+import io.mosip.kernel.masterdata.dto.request.Pagination;
+import io.mosip.kernel.masterdata.dto.request.SearchSort;
+import io.mosip.kernel.masterdata.dto.response.PageResponseDto;
+import io.mosip.kernel.masterdata.utils.PageUtils;
+
+/**
+ * In memory sorting and paging of the search results, used for the sort fields
+ * which are not entity attributes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageUtilsBenchmark {
+
+	@Param({ "1000", "10000" })
+	public int rows;
+
+	private PageUtils pageUtils;
+
+	private List<LocationExtnDto> locations;
+
+	private List<SearchSort> singleFieldSort;
+
+	private List<SearchSort> multiFieldSort;
+
+	@Setup
+	public void setup() {
+		pageUtils = new PageUtils();
+		Fakes.set(pageUtils, "maximumRows", 100);
+		locations = MasterdataFixtures.locationDtos(rows);
+		singleFieldSort = Arrays.asList(new SearchSort("name", "ASC"));
+		multiFieldSort = Arrays.asList(new SearchSort("hierarchyLevel", "DESC"), new SearchSort("name", "ASC"),
+				new SearchSort("createdDateTime", "DESC"));
+	}
+
+	@Benchmark
+	public PageResponseDto<LocationExtnDto> sortBySingleField() {
+		return pageUtils.sortPage(locations, singleFieldSort, new Pagination(3, 10));
+	}
+
+	@Benchmark
+	public PageResponseDto<LocationExtnDto> sortByMultipleFields() {
+		return pageUtils.sortPage(locations, multiFieldSort, new Pagination(3, 10));
+	}
+
+	@Benchmark
+	public PageResponseDto<LocationExtnDto> pageWithoutSort() {
+		return pageUtils.applyPagination(locations, new Pagination(3, 10));
+	}
+}
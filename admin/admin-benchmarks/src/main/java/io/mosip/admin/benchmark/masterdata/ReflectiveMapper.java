@@ -0,0 +1,134 @@
+package io.mosip.admin.benchmark.masterdata;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+
+import io.mosip.kernel.masterdata.dto.getresponse.extn.BaseDto;
+import io.mosip.kernel.masterdata.entity.BaseEntity;
+
+/**
+ * Reflection based mapping as done by MapperUtils before the mapping plans were
+ * cached, fields are looked up and matched on every call. Used only as the
+ * baseline of {@link MapperUtilsBenchmark}.
+ */
+final class ReflectiveMapper {
+
+	private static final String ISACTIVE_COLUMN_NAME = "isActive";
+	private static final String ISDELETE_COLUMN_NAME = "isDeleted";
+
+	private ReflectiveMapper() {
+		super();
+	}
+
+	static <S, D> List<D> mapAll(final Collection<S> sourceList, Class<D> destinationClass) {
+		return sourceList.stream().map(entity -> map(entity, destinationClass)).collect(Collectors.toList());
+	}
+
+	static <S, D> D map(final S source, Class<D> destinationClass) {
+		try {
+			D destination = destinationClass.newInstance();
+			mapFieldValues(source, destination);
+			if (source.getClass().isAnnotationPresent(Entity.class)) {
+				mapEntityToDto(source, destination);
+			} else {
+				mapDtoToEntity(source, destination);
+			}
+			return destination;
+		} catch (InstantiationException | IllegalAccessException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static <S, D> void mapFieldValues(S source, D destination) throws IllegalAccessException {
+		mapFieldValues(source, destination, source.getClass().getDeclaredFields(),
+				destination.getClass().getDeclaredFields());
+	}
+
+	private static <S, D> void mapDtoToEntity(S source, D destination)
+			throws InstantiationException, IllegalAccessException {
+		setBaseFieldValue(source, destination);
+		for (Field field : destination.getClass().getDeclaredFields()) {
+			if (field.isAnnotationPresent(EmbeddedId.class)) {
+				Object id = field.getType().newInstance();
+				mapFieldValues(source, id);
+				field.setAccessible(true);
+				field.set(destination, id);
+				field.setAccessible(false);
+				break;
+			}
+		}
+	}
+
+	private static <S, D> void mapEntityToDto(S source, D destination) throws IllegalAccessException {
+		boolean isIdMapped = false;
+		boolean isSuperMapped = false;
+		for (Field sfield : source.getClass().getDeclaredFields()) {
+			sfield.setAccessible(true);
+			if (!isIdMapped && sfield.isAnnotationPresent(EmbeddedId.class)) {
+				mapFieldValues(sfield.get(source), destination);
+				sfield.setAccessible(false);
+				isIdMapped = true;
+			} else if (!isSuperMapped) {
+				setBaseFieldValue(source, destination);
+				isSuperMapped = true;
+			}
+		}
+	}
+
+	private static <S, D> void setBaseFieldValue(S source, D destination) throws IllegalAccessException {
+		String sourceSupername = source.getClass().getSuperclass().getName();
+		String destinationSupername = destination.getClass().getSuperclass().getName();
+		String baseEntityClassName = BaseEntity.class.getName();
+		String baseDtoClassName = BaseDto.class.getName();
+		String objectClassName = Object.class.getName();
+
+		if (sourceSupername.equals(baseEntityClassName) && destinationSupername.equals(baseDtoClassName)) {
+			mapFieldValues(source, destination, source.getClass().getSuperclass().getDeclaredFields(),
+					destination.getClass().getSuperclass().getDeclaredFields());
+		} else if (sourceSupername.equals(baseDtoClassName) && destinationSupername.equals(baseEntityClassName)) {
+			mapFieldValues(source, destination, source.getClass().getSuperclass().getDeclaredFields(),
+					withoutStatusFields(destination.getClass().getSuperclass().getDeclaredFields()));
+		} else if (sourceSupername.equals(baseEntityClassName) && !destinationSupername.equals(baseEntityClassName)) {
+			mapFieldValues(source, destination, source.getClass().getSuperclass().getDeclaredFields(),
+					destination.getClass().getDeclaredFields());
+		} else if (destinationSupername.equals(baseEntityClassName) && !sourceSupername.equals(baseEntityClassName)) {
+			mapFieldValues(source, destination, source.getClass().getDeclaredFields(),
+					withoutStatusFields(destination.getClass().getSuperclass().getDeclaredFields()));
+		} else if (!sourceSupername.equals(objectClassName) && !destinationSupername.equals(objectClassName)) {
+			mapFieldValues(source, destination, source.getClass().getSuperclass().getDeclaredFields(),
+					destination.getClass().getSuperclass().getDeclaredFields());
+		}
+	}
+
+	private static Field[] withoutStatusFields(Field[] fields) {
+		return Arrays.stream(fields)
+				.filter(f -> !f.getName().equals(ISACTIVE_COLUMN_NAME) && !f.getName().equals(ISDELETE_COLUMN_NAME))
+				.toArray(Field[]::new);
+	}
+
+	private static <D, S> void mapFieldValues(S source, D destination, Field[] sourceFields,
+			Field[] destinationFields) throws IllegalAccessException {
+		for (Field sfield : sourceFields) {
+			if (Modifier.isStatic(sfield.getModifiers()) || Modifier.isFinal(sfield.getModifiers())) {
+				continue;
+			}
+			sfield.setAccessible(true);
+			for (Field dfield : destinationFields) {
+				if (sfield.getName().equals(dfield.getName()) && sfield.getType().equals(dfield.getType())) {
+					dfield.setAccessible(true);
+					dfield.set(destination, sfield.get(source));
+					dfield.setAccessible(false);
+					sfield.setAccessible(false);
+					break;
+				}
+			}
+		}
+	}
+}
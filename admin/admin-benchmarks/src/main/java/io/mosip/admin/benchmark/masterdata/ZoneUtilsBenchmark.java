@@ -0,0 +1,108 @@
+package io.mosip.admin.benchmark.masterdata;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.mosip.admin.benchmark.Fakes;
+import io.mosip.kernel.masterdata.entity.Zone;
+import io.mosip.kernel.masterdata.entity.ZoneUser;
+import io.mosip.kernel.masterdata.repository.ZoneRepository;
+import io.mosip.kernel.masterdata.repository.ZoneUserRepository;
+import io.mosip.kernel.masterdata.utils.ZoneHierarchyIndex;
+import io.mosip.kernel.masterdata.utils.ZoneUtils;
+
+/**
+ * Zone hierarchy lookups done for the zone based authorization of the admin
+ * APIs, against in memory zone and zone user repositories.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ZoneUtilsBenchmark {
+
+	private static final String USER_ID = "zonal-admin";
+
+	/** Number of child zones of each zone, the hierarchy is four levels deep. */
+	@Param({ "3", "6" })
+	public int fanout;
+
+	private List<Zone> zones;
+
+	private String regionCode;
+
+	/** Zone utils checking the zone version at most once in 30 seconds. */
+	private ZoneUtils zoneUtils;
+
+	/** Zone utils checking the zone version on every lookup. */
+	private ZoneUtils versionCheckingZoneUtils;
+
+	@Setup
+	public void setup() {
+		zones = MasterdataFixtures.zones(fanout, 4);
+		List<String> regionCodes = MasterdataFixtures.zoneCodes(zones, 1);
+		regionCode = regionCodes.get(0);
+		List<ZoneUser> zoneUsers = MasterdataFixtures.zoneUsers(USER_ID, regionCodes.subList(0, 2));
+
+		zoneUtils = zoneUtils(zoneUsers, 30000L);
+		versionCheckingZoneUtils = zoneUtils(zoneUsers, 0L);
+	}
+
+	private ZoneUtils zoneUtils(List<ZoneUser> zoneUsers, long versionCheckInterval) {
+		Object[] version = { (long) zones.size(), zones.get(0).getCreatedDateTime(), null, null };
+		Map<String, Function<Object[], Object>> zoneAnswers = new HashMap<>();
+		zoneAnswers.put("findAllNonDeleted", args -> zones);
+		zoneAnswers.put("findZoneVersion", args -> Collections.singletonList(version));
+		Map<String, Function<Object[], Object>> zoneUserAnswers = new HashMap<>();
+		zoneUserAnswers.put("findByUserIdNonDeleted", args -> zoneUsers);
+
+		ZoneUtils utils = new ZoneUtils();
+		Fakes.set(utils, "zoneRepository", Fakes.of(ZoneRepository.class, zoneAnswers));
+		Fakes.set(utils, "zoneUserRepository", Fakes.of(ZoneUserRepository.class, zoneUserAnswers));
+		Fakes.set(utils, "versionCheckInterval", versionCheckInterval);
+		return utils;
+	}
+
+	@Benchmark
+	public ZoneHierarchyIndex buildZoneIndex() {
+		return new ZoneHierarchyIndex(zones, null);
+	}
+
+	@Benchmark
+	public List<Zone> leafZonesOfCountry() {
+		return zoneUtils.getLeafZones("eng", MasterdataFixtures.ROOT_ZONE);
+	}
+
+	@Benchmark
+	public List<Zone> subZonesOfRegion() {
+		return zoneUtils.getChildZoneList(null, regionCode, "eng");
+	}
+
+	@Benchmark
+	public List<Zone> userZones() {
+		return zoneUtils.getUserZonesByUserId(USER_ID);
+	}
+
+	@Benchmark
+	public List<Zone> userZonesWithVersionCheck() {
+		return versionCheckingZoneUtils.getUserZonesByUserId(USER_ID);
+	}
+}
@@ -0,0 +1,88 @@
+package io.mosip.admin.benchmark.syncdata;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Rest template answering the paged GET requests with the pages given as JSON,
+ * without any network call.
+ */
+class FakeRestTemplate extends RestTemplate {
+
+	private final List<byte[]> pages;
+
+	FakeRestTemplate(List<String> pages) {
+		this.pages = new ArrayList<>();
+		for (String page : pages) {
+			this.pages.add(page.getBytes(StandardCharsets.UTF_8));
+		}
+	}
+
+	@Override
+	public <T> T execute(URI url, HttpMethod method, RequestCallback requestCallback,
+			ResponseExtractor<T> responseExtractor) {
+		String pageNumber = UriComponentsBuilder.fromUri(url).build().getQueryParams().getFirst("pageNumber");
+		byte[] page = pages.get(pageNumber == null ? 0 : Integer.parseInt(pageNumber));
+		try (ClientHttpResponse response = new PageResponse(page)) {
+			return responseExtractor.extractData(response);
+		} catch (IOException e) {
+			throw new RestClientException("Failed to read page " + pageNumber, e);
+		}
+	}
+
+	private static final class PageResponse implements ClientHttpResponse {
+
+		private final byte[] body;
+
+		private PageResponse(byte[] body) {
+			this.body = body;
+		}
+
+		@Override
+		public HttpStatus getStatusCode() {
+			return HttpStatus.OK;
+		}
+
+		@Override
+		public int getRawStatusCode() {
+			return HttpStatus.OK.value();
+		}
+
+		@Override
+		public String getStatusText() {
+			return HttpStatus.OK.getReasonPhrase();
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			HttpHeaders headers = new HttpHeaders();
+			headers.setContentType(MediaType.APPLICATION_JSON);
+			return headers;
+		}
+
+		@Override
+		public InputStream getBody() {
+			return new ByteArrayInputStream(body);
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+}
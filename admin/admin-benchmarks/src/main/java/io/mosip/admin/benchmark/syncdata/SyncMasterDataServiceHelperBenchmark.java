@@ -0,0 +1,214 @@
+package io.mosip.admin.benchmark.syncdata;
+
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.mosip.admin.benchmark.Fakes;
+import io.mosip.kernel.clientcrypto.dto.TpmCryptoRequestDto;
+import io.mosip.kernel.clientcrypto.dto.TpmCryptoResponseDto;
+import io.mosip.kernel.clientcrypto.service.spi.ClientCryptoManagerService;
+import io.mosip.kernel.syncdata.dto.DynamicFieldDto;
+import io.mosip.kernel.syncdata.dto.LocationDto;
+import io.mosip.kernel.syncdata.dto.MachineDto;
+import io.mosip.kernel.syncdata.dto.response.SyncDataBaseDto;
+import io.mosip.kernel.syncdata.entity.Location;
+import io.mosip.kernel.syncdata.entity.Machine;
+import io.mosip.kernel.syncdata.repository.LocationRepository;
+import io.mosip.kernel.syncdata.repository.MachineRepository;
+import io.mosip.kernel.syncdata.service.helper.ClientSettingsBundleStore;
+import io.mosip.kernel.syncdata.service.helper.EntityChangeLedger;
+import io.mosip.kernel.syncdata.service.helper.PagedResponseFetcher;
+import io.mosip.kernel.syncdata.utils.MapperUtils;
+import io.mosip.kernel.syncdata.utils.SyncMasterDataServiceHelper;
+
+/**
+ * Full client settings sync of the registration client: fetching and mapping
+ * the entities, fetching the dynamic fields from the masterdata service and
+ * encrypting the entity bundles for the machine.
+ *
+ * Repositories answer from in memory lists, the masterdata service is a fake
+ * rest template serving JSON pages and the client crypto service encrypts with
+ * AES-GCM only, without the TPM or the RSA wrapping of the key.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SyncMasterDataServiceHelperBenchmark {
+
+	private static final String DYNAMIC_FIELD_URL = "https://masterdata.local/v1/masterdata/dynamicfields";
+
+	private static final int DYNAMIC_FIELD_PAGE_SIZE = 10;
+
+	/** Number of locations in each language. */
+	@Param({ "1000", "10000" })
+	public int locationCount;
+
+	@Param({ "300" })
+	public int dynamicFieldCount;
+
+	private SyncMasterDataServiceHelper helper;
+
+	/** Helper with the encrypted bundles cache disabled. */
+	private SyncMasterDataServiceHelper uncachedHelper;
+
+	private List<LocationDto> locationDtos;
+
+	private String machineId;
+
+	private String publicKey;
+
+	private LocalDateTime currentTimeStamp;
+
+	private PagedResponseFetcher pagedResponseFetcher;
+
+	@Setup
+	public void setup() throws Exception {
+		ObjectMapper objectMapper = SyncdataFixtures.objectMapper();
+		pagedResponseFetcher = new PagedResponseFetcher();
+		Fakes.set(pagedResponseFetcher, "objectMapper", objectMapper);
+		Fakes.set(pagedResponseFetcher, "threads", 4);
+		Fakes.set(pagedResponseFetcher, "window", 4);
+		pagedResponseFetcher.init();
+		List<Machine> machines = SyncdataFixtures.machines(200);
+		List<Location> locations = SyncdataFixtures.locations(locationCount);
+		List<String> dynamicFieldPages = SyncdataFixtures.dynamicFieldPages(dynamicFieldCount,
+				DYNAMIC_FIELD_PAGE_SIZE, objectMapper);
+		machineId = machines.get(0).getId();
+		publicKey = machines.get(0).getPublicKey();
+		currentTimeStamp = LocalDateTime.now();
+
+		helper = helper(objectMapper, pagedResponseFetcher, machines, locations, dynamicFieldPages, 10000);
+		uncachedHelper = helper(objectMapper, pagedResponseFetcher, machines, locations, dynamicFieldPages, 0);
+		locationDtos = helper.getLocationHierarchy(null, currentTimeStamp).get();
+	}
+
+	@TearDown
+	public void tearDown() {
+		pagedResponseFetcher.destroy();
+	}
+
+	private static SyncMasterDataServiceHelper helper(ObjectMapper objectMapper,
+			PagedResponseFetcher pagedResponseFetcher, List<Machine> machines, List<Location> locations,
+			List<String> dynamicFieldPages, int maxBundles) {
+		Map<String, Function<Object[], Object>> machineAnswers = new HashMap<>();
+		machineAnswers.put("findMachineLatestCreatedUpdatedDeleted", args -> machines);
+		Map<String, Function<Object[], Object>> locationAnswers = new HashMap<>();
+		locationAnswers.put("findAllLatestCreatedUpdateDeleted", args -> locations);
+
+		MapperUtils mapper = new MapperUtils();
+		Fakes.set(mapper, "objectMapper", objectMapper);
+		ClientSettingsBundleStore bundleStore = new ClientSettingsBundleStore();
+		Fakes.set(bundleStore, "maxEntries", maxBundles);
+		Fakes.set(bundleStore, "clientCryptoManagerService", clientCryptoManagerService());
+
+		SyncMasterDataServiceHelper helper = new SyncMasterDataServiceHelper();
+		Fakes.set(helper, "mapper", mapper);
+		Fakes.set(helper, "pagedResponseFetcher", pagedResponseFetcher);
+		Fakes.set(helper, "machineRepository", Fakes.of(MachineRepository.class, machineAnswers));
+		Fakes.set(helper, "locationRepository", Fakes.of(LocationRepository.class, locationAnswers));
+		Fakes.set(helper, "clientSettingsBundleStore", bundleStore);
+		// full sync requests do not read the ledger
+		Fakes.set(helper, "entityChangeLedger", new EntityChangeLedger());
+		Fakes.set(helper, "restTemplate", new FakeRestTemplate(dynamicFieldPages));
+		Fakes.set(helper, "dynamicfieldUrl", DYNAMIC_FIELD_URL);
+		return helper;
+	}
+
+	/**
+	 * Client crypto service encrypting the payload with AES-GCM, so that the cost
+	 * grows with the payload as the real one does.
+	 */
+	private static ClientCryptoManagerService clientCryptoManagerService() {
+		byte[] key = new byte[32];
+		new SecureRandom().nextBytes(key);
+		SecretKeySpec secretKey = new SecretKeySpec(key, "AES");
+		AtomicLong nonces = new AtomicLong();
+		Map<String, Function<Object[], Object>> answers = new HashMap<>();
+		answers.put("csEncrypt", args -> {
+			TpmCryptoRequestDto request = (TpmCryptoRequestDto) args[0];
+			try {
+				byte[] nonce = new byte[12];
+				long counter = nonces.incrementAndGet();
+				for (int i = 0; i < 8; i++) {
+					nonce[i] = (byte) (counter >>> (i * 8));
+				}
+				Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+				cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(128, nonce));
+				byte[] encrypted = cipher.doFinal(Base64.getUrlDecoder().decode(request.getValue()));
+				TpmCryptoResponseDto response = new TpmCryptoResponseDto();
+				response.setValue(Base64.getUrlEncoder().encodeToString(encrypted));
+				return response;
+			} catch (GeneralSecurityException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		return Fakes.of(ClientCryptoManagerService.class, answers);
+	}
+
+	@Benchmark
+	public List<MachineDto> machines() throws Exception {
+		return helper.getMachines(SyncdataFixtures.REG_CENTER_ID, null, currentTimeStamp, machineId).get();
+	}
+
+	@Benchmark
+	public List<LocationDto> locationHierarchy() throws Exception {
+		return helper.getLocationHierarchy(null, currentTimeStamp).get();
+	}
+
+	@Benchmark
+	public List<DynamicFieldDto> dynamicFields() throws Exception {
+		return helper.getAllDynamicFields(null).get();
+	}
+
+	@Benchmark
+	public List<SyncDataBaseDto> locationBundle() {
+		List<SyncDataBaseDto> result = new ArrayList<>();
+		helper.getSyncDataBaseDto("Location", "structured", locationDtos, publicKey, result);
+		return result;
+	}
+
+	@Benchmark
+	public List<SyncDataBaseDto> locationBundleEncrypted() {
+		List<SyncDataBaseDto> result = new ArrayList<>();
+		uncachedHelper.getSyncDataBaseDto("Location", "structured", locationDtos, publicKey, result);
+		return result;
+	}
+
+	@Benchmark
+	public List<SyncDataBaseDto> locationBundleV2Encrypted() {
+		List<SyncDataBaseDto> result = new ArrayList<>();
+		uncachedHelper.getSyncDataBaseDtoV2("Location", "structured", locationDtos, publicKey, result);
+		return result;
+	}
+}
@@ -0,0 +1,158 @@
+package io.mosip.admin.benchmark.syncdata;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.mosip.kernel.core.http.ResponseWrapper;
+import io.mosip.kernel.syncdata.dto.DynamicFieldDto;
+import io.mosip.kernel.syncdata.dto.DynamicFieldValueDto;
+import io.mosip.kernel.syncdata.dto.PageDto;
+import io.mosip.kernel.syncdata.entity.BaseEntity;
+import io.mosip.kernel.syncdata.entity.Location;
+import io.mosip.kernel.syncdata.entity.Machine;
+
+/**
+ * Synthetic sync data used by the benchmarks. The data is generated from a
+ * fixed seed, so every run measures the same data.
+ */
+final class SyncdataFixtures {
+
+	static final String[] LANG_CODES = { "eng", "ara", "fra" };
+
+	static final String REG_CENTER_ID = "10001";
+
+	private static final String[] HIERARCHY_NAMES = { "Country", "Region", "Province", "City", "Zone", "Postal Code" };
+
+	private static final LocalDateTime CREATED = LocalDateTime.of(2021, 1, 1, 0, 0);
+
+	private SyncdataFixtures() {
+	}
+
+	/**
+	 * Object mapper configured as the one of the service.
+	 */
+	static ObjectMapper objectMapper() {
+		ObjectMapper objectMapper = new ObjectMapper();
+		objectMapper.registerModule(new JavaTimeModule());
+		objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+		return objectMapper;
+	}
+
+	static List<Machine> machines(int count) {
+		Random random = new Random(count);
+		List<Machine> machines = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			Machine machine = new Machine();
+			machine.setId(String.valueOf(10000 + i));
+			machine.setLangCode(LANG_CODES[0]);
+			machine.setName("Machine " + i);
+			machine.setSerialNum("SN" + Long.toHexString(random.nextLong()));
+			machine.setIpAddress("10.1." + (i / 256 % 256) + "." + (i % 256));
+			machine.setMacAddress(String.format("A4-BB-6D-%02X-%02X-%02X", random.nextInt(256), random.nextInt(256),
+					random.nextInt(256)));
+			machine.setMachineSpecId("MS" + (i % 20));
+			machine.setValidityDateTime(CREATED.plusYears(5));
+			machine.setZoneCode("MOR");
+			machine.setRegCenterId(REG_CENTER_ID);
+			machine.setKeyIndex(Long.toHexString(random.nextLong()));
+			machine.setPublicKey(publicKey(random));
+			machine.setSignKeyIndex(Long.toHexString(random.nextLong()));
+			machine.setSignPublicKey(publicKey(random));
+			setCreateMetaData(machine);
+			machines.add(machine);
+		}
+		return machines;
+	}
+
+	/**
+	 * Location hierarchy with the given number of locations in each language.
+	 */
+	static List<Location> locations(int count) {
+		Random random = new Random(count);
+		List<Location> locations = new ArrayList<>(count * LANG_CODES.length);
+		for (String langCode : LANG_CODES) {
+			for (int i = 0; i < count; i++) {
+				int level = Math.min(HIERARCHY_NAMES.length - 1, 32 - Integer.numberOfLeadingZeros(i) >> 1);
+				Location location = new Location();
+				location.setCode("LOC" + i);
+				location.setName(randomName(random));
+				location.setHierarchyLevel(level);
+				location.setHierarchyName(HIERARCHY_NAMES[level]);
+				location.setParentLocCode(i == 0 ? "" : "LOC" + (i - 1) / 4);
+				location.setLangCode(langCode);
+				setCreateMetaData(location);
+				locations.add(location);
+			}
+		}
+		return locations;
+	}
+
+	/**
+	 * Dynamic field pages as returned by the masterdata service, in JSON.
+	 */
+	static List<String> dynamicFieldPages(int fieldCount, int pageSize, ObjectMapper objectMapper)
+			throws JsonProcessingException {
+		Random random = new Random(fieldCount);
+		List<DynamicFieldDto> fields = new ArrayList<>(fieldCount);
+		for (int i = 0; i < fieldCount; i++) {
+			List<DynamicFieldValueDto> values = new ArrayList<>();
+			for (int v = 0; v < 5 + random.nextInt(20); v++) {
+				DynamicFieldValueDto value = new DynamicFieldValueDto();
+				value.setCode("VAL" + v);
+				value.setValue(randomName(random));
+				value.setActive(true);
+				values.add(value);
+			}
+			DynamicFieldDto field = new DynamicFieldDto();
+			field.setId(String.valueOf(1000 + i));
+			field.setName("field" + (i / LANG_CODES.length));
+			field.setDataType("string");
+			field.setFieldVal(values);
+			field.setLangCode(LANG_CODES[i % LANG_CODES.length]);
+			field.setIsActive(true);
+			field.setIsDeleted(false);
+			fields.add(field);
+		}
+
+		int totalPages = (fieldCount + pageSize - 1) / pageSize;
+		List<String> pages = new ArrayList<>(totalPages);
+		for (int pageNo = 0; pageNo < totalPages; pageNo++) {
+			PageDto<DynamicFieldDto> page = new PageDto<>(pageNo, totalPages, fieldCount,
+					fields.subList(pageNo * pageSize, Math.min(fieldCount, (pageNo + 1) * pageSize)));
+			ResponseWrapper<PageDto<DynamicFieldDto>> response = new ResponseWrapper<>();
+			response.setResponse(page);
+			pages.add(objectMapper.writeValueAsString(response));
+		}
+		return pages;
+	}
+
+	private static String randomName(Random random) {
+		char[] name = new char[6 + random.nextInt(10)];
+		for (int i = 0; i < name.length; i++) {
+			name[i] = (char) ('a' + random.nextInt(26));
+		}
+		name[0] = Character.toUpperCase(name[0]);
+		return new String(name);
+	}
+
+	private static String publicKey(Random random) {
+		byte[] key = new byte[294];
+		random.nextBytes(key);
+		return Base64.getUrlEncoder().encodeToString(key);
+	}
+
+	private static void setCreateMetaData(BaseEntity entity) {
+		entity.setIsActive(true);
+		entity.setIsDeleted(false);
+		entity.setCreatedBy("superadmin");
+		entity.setCreatedDateTime(CREATED);
+	}
+}
@@ -0,0 +1,408 @@
+package io.mosip.admin.common.audit;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Bounded queue of audit events sent to the audit manager by a background
+ * thread, so that a slow or unavailable audit manager does not hold up the
+ * request threads.
+ *
+ * The sender takes up to a batch of events at a time from the queue. When the
+ * queue is full a submitting thread waits up to the offer timeout, then the
+ * event is appended to the spill file if one is configured, or dropped.
+ * Events that fail to send are spilled the same way, and spilled events are
+ * sent again once the sender is idle. On stop the queued events are sent
+ * until the shutdown timeout, the rest are spilled or dropped.
+ *
+ * Spilled and dropped events are logged as they happen, on the first one and
+ * then once every thousand, and the counts can be bound to a meter registry by
+ * the owner of the queue.
+ *
+ * Spilled lines that cannot be parsed are dropped one by one. When the spill
+ * file cannot be read to the end, the unread events are kept and read again
+ * on the next replay.
+ *
+ * @param <E> type of the audit event
+ * @since 1.2.0
+ */
+public class AuditEventQueue<E> {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(AuditEventQueue.class);
+
+	private static final long POLL_INTERVAL = 1000L;
+
+	private static final String REPLAY_SUFFIX = ".replay";
+
+	/** spills and drops are logged once every this many events */
+	private static final long LOG_EVERY = 1000L;
+
+	private final BlockingQueue<E> queue;
+
+	private final int batchSize;
+
+	private final long offerTimeout;
+
+	private final long replayInterval;
+
+	private final Path spillFile;
+
+	private final Class<E> eventType;
+
+	private final ObjectMapper objectMapper;
+
+	private final Consumer<E> sender;
+
+	private final Thread worker;
+
+	private final Object spillLock = new Object();
+
+	private final AtomicLong submittedCount = new AtomicLong();
+
+	private final AtomicLong blockedCount = new AtomicLong();
+
+	private final AtomicLong sentCount = new AtomicLong();
+
+	private final AtomicLong failedCount = new AtomicLong();
+
+	private final AtomicLong spilledCount = new AtomicLong();
+
+	private final AtomicLong droppedCount = new AtomicLong();
+
+	private volatile boolean running;
+
+	private long nextReplay;
+
+	/**
+	 * Lines of the replay file already sent or spilled again, when the last replay
+	 * could not read it to the end.
+	 */
+	private long replayedLines;
+
+	/**
+	 * @param name           name of the sender thread
+	 * @param capacity       maximum number of queued events
+	 * @param batchSize      maximum number of events taken from the queue at once
+	 * @param offerTimeout   milliseconds a submitting thread waits when the queue
+	 *                       is full
+	 * @param replayInterval minimum milliseconds between attempts to send the
+	 *                       spilled events
+	 * @param spillFile      file the events are spilled to, null to drop them
+	 * @param eventType      type of the event, to read back spilled events
+	 * @param objectMapper   mapper of the spilled events
+	 * @param sender         sends one event, throws an exception on failure
+	 */
+	public AuditEventQueue(String name, int capacity, int batchSize, long offerTimeout, long replayInterval,
+			String spillFile, Class<E> eventType, ObjectMapper objectMapper, Consumer<E> sender) {
+		this.queue = new ArrayBlockingQueue<>(capacity);
+		this.batchSize = batchSize;
+		this.offerTimeout = offerTimeout;
+		this.replayInterval = replayInterval;
+		this.spillFile = spillFile == null || spillFile.trim().isEmpty() ? null : Paths.get(spillFile.trim());
+		this.eventType = eventType;
+		this.objectMapper = objectMapper;
+		this.sender = sender;
+		this.worker = new Thread(this::run, name);
+		this.worker.setDaemon(true);
+	}
+
+	/**
+	 * Starts the sender thread. Events left in the spill file by a previous run
+	 * are sent again.
+	 */
+	public void start() {
+		if (spillFile != null) {
+			recoverReplayFile();
+		}
+		running = true;
+		worker.start();
+	}
+
+	/**
+	 * Stops the sender thread after sending the queued events, waiting at most
+	 * the timeout.
+	 *
+	 * @param timeout milliseconds to wait for the queued events to be sent
+	 */
+	public void stop(long timeout) {
+		running = false;
+		try {
+			worker.join(timeout);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (worker.isAlive()) {
+			// give up on the event being sent, the rest of the batch is spilled
+			worker.interrupt();
+			try {
+				worker.join(POLL_INTERVAL);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		List<E> remaining = new ArrayList<>();
+		queue.drainTo(remaining);
+		if (!remaining.isEmpty()) {
+			overflow(remaining);
+		}
+		LOGGER.info("Audit queue stopped, submitted: {}, blocked: {}, sent: {}, failed: {}, spilled: {}, dropped: {}",
+				submittedCount.get(), blockedCount.get(), sentCount.get(), failedCount.get(), spilledCount.get(),
+				droppedCount.get());
+	}
+
+	/**
+	 * Queues the event to be sent.
+	 *
+	 * @param event audit event
+	 * @return true if the event is queued, false if it is spilled or dropped
+	 */
+	public boolean submit(E event) {
+		submittedCount.incrementAndGet();
+		boolean queued = false;
+		if (running) {
+			queued = queue.offer(event);
+			if (!queued) {
+				// the sender is not keeping up
+				blockedCount.incrementAndGet();
+				try {
+					queued = offerTimeout > 0 && queue.offer(event, offerTimeout, TimeUnit.MILLISECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+		if (!queued) {
+			overflow(Collections.singletonList(event));
+		}
+		return queued;
+	}
+
+	public long getSubmittedCount() {
+		return submittedCount.get();
+	}
+
+	/**
+	 * @return number of submitted events which found the queue full
+	 */
+	public long getBlockedCount() {
+		return blockedCount.get();
+	}
+
+	public long getSentCount() {
+		return sentCount.get();
+	}
+
+	public long getFailedCount() {
+		return failedCount.get();
+	}
+
+	public long getSpilledCount() {
+		return spilledCount.get();
+	}
+
+	public long getDroppedCount() {
+		return droppedCount.get();
+	}
+
+	/**
+	 * @return number of events waiting in the queue
+	 */
+	public int getQueuedCount() {
+		return queue.size();
+	}
+
+	private void run() {
+		List<E> batch = new ArrayList<>(batchSize);
+		while (running || !queue.isEmpty()) {
+			try {
+				E event = queue.poll(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+				if (event == null) {
+					replaySpilledEvents();
+					continue;
+				}
+				batch.add(event);
+				queue.drainTo(batch, batchSize - 1);
+				List<E> failed = send(batch);
+				batch.clear();
+				if (!failed.isEmpty()) {
+					overflow(failed);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				if (!batch.isEmpty()) {
+					overflow(batch);
+				}
+				return;
+			} catch (RuntimeException e) {
+				LOGGER.error("Audit sender failed", e);
+			}
+		}
+	}
+
+	private List<E> send(List<E> events) {
+		List<E> failed = new ArrayList<>();
+		for (E event : events) {
+			if (!failed.isEmpty() || Thread.currentThread().isInterrupted() || !send(event)) {
+				// the audit manager is failing or the stop timed out, keep the rest of the
+				// batch for later
+				failed.add(event);
+			}
+		}
+		return failed;
+	}
+
+	private boolean send(E event) {
+		try {
+			sender.accept(event);
+			sentCount.incrementAndGet();
+			return true;
+		} catch (RuntimeException e) {
+			if (failedCount.incrementAndGet() % 1000 == 1) {
+				LOGGER.error("Failed to send audit event, failed so far: {}", failedCount.get(), e);
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Spills the events if a spill file is configured, otherwise drops them.
+	 */
+	private void overflow(List<E> events) {
+		if (spillFile != null && spill(events)) {
+			return;
+		}
+		if (logDue(droppedCount.addAndGet(events.size()), events.size())) {
+			LOGGER.warn("Audit events dropped so far: {}, queued: {}", droppedCount.get(), queue.size());
+		}
+	}
+
+	/**
+	 * Checks if the count reached by adding the events is the first one or
+	 * crossed a multiple of {@link #LOG_EVERY}.
+	 */
+	private static boolean logDue(long count, int added) {
+		return count == added || count / LOG_EVERY != (count - added) / LOG_EVERY;
+	}
+
+	private boolean spill(List<E> events) {
+		synchronized (spillLock) {
+			try (BufferedWriter writer = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+					StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+				for (E event : events) {
+					writer.write(objectMapper.writeValueAsString(event));
+					writer.newLine();
+				}
+			} catch (IOException e) {
+				LOGGER.error("Failed to spill audit events to {}", spillFile, e);
+				return false;
+			}
+		}
+		if (logDue(spilledCount.addAndGet(events.size()), events.size())) {
+			LOGGER.warn("Audit events spilled to {} so far: {}, queued: {}", spillFile, spilledCount.get(),
+					queue.size());
+		}
+		return true;
+	}
+
+	private void replaySpilledEvents() {
+		long now = System.currentTimeMillis();
+		if (spillFile == null || now < nextReplay) {
+			return;
+		}
+		nextReplay = now + replayInterval;
+		Path replayFile = Paths.get(spillFile + REPLAY_SUFFIX);
+		synchronized (spillLock) {
+			try {
+				// a replay file left by a failed read is finished before the new spills
+				if (!Files.exists(replayFile)) {
+					if (!Files.exists(spillFile) || Files.size(spillFile) == 0) {
+						return;
+					}
+					Files.move(spillFile, replayFile);
+					replayedLines = 0;
+				}
+			} catch (IOException e) {
+				LOGGER.error("Failed to read spilled audit events from {}", spillFile, e);
+				return;
+			}
+		}
+		List<E> failed = new ArrayList<>();
+		long lineNumber = 0;
+		boolean readFailed = false;
+		// decoded leniently, a corrupted line fails to parse instead of failing the read
+		try (BufferedReader reader = new BufferedReader(
+				new InputStreamReader(Files.newInputStream(replayFile), StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (++lineNumber <= replayedLines || line.isEmpty()) {
+					continue;
+				}
+				E event;
+				try {
+					event = objectMapper.readValue(line, eventType);
+				} catch (JsonProcessingException e) {
+					droppedCount.incrementAndGet();
+					LOGGER.error("Dropped malformed spilled audit event at line {} of {}", lineNumber, replayFile, e);
+					continue;
+				}
+				if (!failed.isEmpty() || !running || !send(event)) {
+					failed.add(event);
+				}
+			}
+		} catch (IOException e) {
+			readFailed = true;
+			LOGGER.error("Failed to read spilled audit events from {}, the unread events are kept", replayFile, e);
+		}
+		if (!failed.isEmpty() && !spill(failed) && logDue(droppedCount.addAndGet(failed.size()), failed.size())) {
+			LOGGER.warn("Audit events dropped so far: {}, queued: {}", droppedCount.get(), queue.size());
+		}
+		if (readFailed) {
+			replayedLines = lineNumber;
+			return;
+		}
+		replayedLines = 0;
+		try {
+			Files.deleteIfExists(replayFile);
+		} catch (IOException e) {
+			LOGGER.error("Failed to delete {}", replayFile, e);
+		}
+	}
+
+	/**
+	 * Puts back the events of a replay interrupted by a stop of the service.
+	 */
+	private void recoverReplayFile() {
+		Path replayFile = Paths.get(spillFile + REPLAY_SUFFIX);
+		if (!Files.exists(replayFile)) {
+			return;
+		}
+		try {
+			Files.write(spillFile, Files.readAllBytes(replayFile), StandardOpenOption.CREATE,
+					StandardOpenOption.APPEND);
+			Files.delete(replayFile);
+		} catch (IOException e) {
+			LOGGER.error("Failed to recover spilled audit events from {}", replayFile, e);
+		}
+	}
+}
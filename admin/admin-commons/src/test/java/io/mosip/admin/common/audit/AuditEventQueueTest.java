@@ -0,0 +1,201 @@
+package io.mosip.admin.common.audit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@RunWith(JUnit4.class)
+public class AuditEventQueueTest {
+
+	private ObjectMapper objectMapper;
+
+	private File spillFile;
+
+	private List<String> sent;
+
+	private AuditEventQueue<TestEvent> queue;
+
+	@Before
+	public void setup() throws IOException {
+		objectMapper = new ObjectMapper();
+		spillFile = File.createTempFile("audit-spill", ".log");
+		spillFile.delete();
+		sent = Collections.synchronizedList(new ArrayList<>());
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		if (queue != null) {
+			queue.stop(1000);
+		}
+		Files.deleteIfExists(spillFile.toPath());
+		Files.deleteIfExists(new File(spillFile.getPath() + ".replay").toPath());
+	}
+
+	@Test
+	public void testEventsSentInOrder() {
+		queue = queue(1000, null, event -> sent.add(event.getEventId()));
+		List<String> expected = new ArrayList<>();
+		for (int i = 0; i < 500; i++) {
+			assertTrue(queue.submit(event("ADM-" + i)));
+			expected.add("ADM-" + i);
+		}
+		queue.stop(5000);
+		assertEquals(expected, sent);
+		assertEquals(500, queue.getSentCount());
+		assertEquals(0, queue.getDroppedCount());
+	}
+
+	@Test
+	public void testSubmitDoesNotWaitForSlowAuditManager() throws InterruptedException {
+		CountDownLatch release = new CountDownLatch(1);
+		queue = queue(10, null, event -> await(release));
+		long start = System.nanoTime();
+		int queued = 0;
+		for (int i = 0; i < 100; i++) {
+			if (queue.submit(event("ADM-" + i))) {
+				queued++;
+			}
+		}
+		assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+		// the sender holds a batch of ten events, the queue ten more
+		assertTrue(queued <= 20);
+		assertEquals(100 - queued, queue.getDroppedCount());
+		assertEquals(100 - queued, queue.getBlockedCount());
+		release.countDown();
+	}
+
+	@Test
+	public void testFailedEventsSpilledAndResent() throws Exception {
+		AtomicBoolean available = new AtomicBoolean();
+		queue = queue(1000, spillFile.getPath(), event -> {
+			if (!available.get()) {
+				throw new IllegalStateException("audit manager unavailable");
+			}
+			sent.add(event.getEventId());
+		});
+		for (int i = 0; i < 20; i++) {
+			queue.submit(event("ADM-" + i));
+		}
+		waitFor(() -> queue.getSpilledCount() >= 20);
+		assertEquals(0, queue.getDroppedCount());
+
+		available.set(true);
+		waitFor(() -> sent.size() == 20);
+		assertEquals("ADM-0", sent.get(0));
+		assertEquals("ADM-19", sent.get(19));
+		assertEquals(0, queue.getDroppedCount());
+	}
+
+	@Test
+	public void testStopWithinTimeout() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		queue = queue(100, spillFile.getPath(), event -> await(release));
+		for (int i = 0; i < 50; i++) {
+			queue.submit(event("ADM-" + i));
+		}
+		long start = System.nanoTime();
+		queue.stop(200);
+		assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 2000);
+		// the events not sent are kept in the spill file, with the batch of the sender
+		assertEquals(50, queue.getSpilledCount());
+		assertEquals(0, queue.getDroppedCount());
+		assertEquals(50, Files.readAllLines(spillFile.toPath()).size());
+		assertFalse(queue.submit(event("ADM-50")));
+		queue = null;
+		release.countDown();
+	}
+
+	@Test
+	public void testMalformedSpilledLinesSkipped() throws Exception {
+		List<String> lines = new ArrayList<>();
+		lines.add(objectMapper.writeValueAsString(event("ADM-0")));
+		lines.add("not an audit event");
+		lines.add(objectMapper.writeValueAsString(event("ADM-1")));
+		lines.add("{\"eventId\":");
+		lines.add(objectMapper.writeValueAsString(event("ADM-2")));
+		Files.write(spillFile.toPath(), lines);
+
+		queue = queue(1000, spillFile.getPath(), event -> sent.add(event.getEventId()));
+		waitFor(() -> sent.size() == 3);
+		assertEquals(Arrays.asList("ADM-0", "ADM-1", "ADM-2"), sent);
+		assertEquals(2, queue.getDroppedCount());
+		waitFor(() -> !new File(spillFile.getPath() + ".replay").exists());
+		assertFalse(spillFile.exists());
+	}
+
+	private AuditEventQueue<TestEvent> queue(int capacity, String spillFile, Consumer<TestEvent> sender) {
+		AuditEventQueue<TestEvent> queue = new AuditEventQueue<>("audit-test-sender", capacity, 10, 0, 0,
+				spillFile, TestEvent.class, objectMapper, sender);
+		queue.start();
+		return queue;
+	}
+
+	private static TestEvent event(String eventId) {
+		TestEvent event = new TestEvent();
+		event.setEventId(eventId);
+		event.setEventName("ADM-TEST");
+		return event;
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10000;
+		while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+		}
+		assertTrue(condition.getAsBoolean());
+	}
+
+	public static class TestEvent {
+
+		private String eventId;
+
+		private String eventName;
+
+		public String getEventId() {
+			return eventId;
+		}
+
+		public void setEventId(String eventId) {
+			this.eventId = eventId;
+		}
+
+		public String getEventName() {
+			return eventName;
+		}
+
+		public void setEventName(String eventName) {
+			this.eventName = eventName;
+		}
+	}
+}
@@ -0,0 +1,430 @@
+package io.mosip.admin.bulkdataupload.batch;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersInvalidException;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Launches the bulk upload jobs on a fixed number of workers.
+ *
+ * The job execution is created in the job repository when the job is launched, and the job waits in the queue
+ * until a worker takes it. Workers take the queued jobs by priority (job parameter {@value #PRIORITY}, higher
+ * first) and then in launch order, skipping the jobs of a table or user which already has the maximum number of
+ * jobs running. Launching a job fails when the queue is full.
+ *
+ * The workers are started before any request, so the authentication of the launching thread is kept in the job
+ * execution context under {@value #SECURITY_PARAM_NAME} and set on the worker while the job runs.
+ *
+ * The queue is kept in memory only, the jobs queued or running when the service stops are lost. Their executions
+ * are failed on the next start by {@link #failAbandonedJobs(JobExplorer, JobExecutionListener)}.
+ */
+public class BulkJobLauncher implements JobLauncher, InitializingBean, DisposableBean, MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkJobLauncher.class);
+
+    /** Job parameter with the priority of the job, higher priority jobs are run first */
+    public static final String PRIORITY = "priority";
+
+    /** Job parameter with the comma separated tables of the job, jobs of the same table are limited */
+    public static final String TABLE_NAME = "tableName";
+
+    /** Job parameter with the user who launched the job, jobs of the same user are limited */
+    public static final String USERNAME = "username";
+
+    /** Job execution context key of the authentication of the user who launched the job */
+    public static final String SECURITY_PARAM_NAME = "security-param";
+
+    private final JobRepository jobRepository;
+    private final int workers;
+    private final int queueCapacity;
+    private final int maxJobsPerTable;
+    private final int maxJobsPerUser;
+    private final long shutdownTimeout;
+
+    /** guarded by this */
+    private final TreeSet<QueuedJob> queue = new TreeSet<>();
+    /** running jobs by table and user key, guarded by this */
+    private final Map<String, Integer> runningJobs = new HashMap<>();
+    /** guarded by this */
+    private boolean stopped;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong abandoned = new AtomicLong();
+    private final AtomicLong totalWaitMillis = new AtomicLong();
+    private final AtomicLong maxWaitMillis = new AtomicLong();
+
+    private ExecutorService workerPool;
+    /** the executions created before are left over by a previous run */
+    private Date startedAt;
+
+    /**
+     * @param jobRepository   job repository
+     * @param workers         number of jobs run at a time
+     * @param queueCapacity   number of jobs waiting for a worker, launching more jobs fails
+     * @param maxJobsPerTable number of jobs of a table run at a time, 0 for no limit
+     * @param maxJobsPerUser  number of jobs of a user run at a time, 0 for no limit
+     * @param shutdownTimeout milliseconds to wait for the running jobs on shutdown
+     */
+    public BulkJobLauncher(JobRepository jobRepository, int workers, int queueCapacity, int maxJobsPerTable,
+                           int maxJobsPerUser, long shutdownTimeout) {
+        this.jobRepository = jobRepository;
+        this.workers = workers;
+        this.queueCapacity = queueCapacity;
+        this.maxJobsPerTable = maxJobsPerTable;
+        this.maxJobsPerUser = maxJobsPerUser;
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        Assert.notNull(jobRepository, "A JobRepository has not been set.");
+        Assert.isTrue(workers > 0, "Number of workers must be positive");
+        startedAt = new Date();
+        AtomicInteger threadCount = new AtomicInteger();
+        workerPool = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "bulk-job-worker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workers; i++) {
+            workerPool.execute(this::work);
+        }
+        logger.info("Bulk job launcher started with {} workers, queue capacity {}, max jobs per table {}, per user {}",
+                workers, queueCapacity, maxJobsPerTable, maxJobsPerUser);
+    }
+
+    @Override
+    public JobExecution run(Job job, JobParameters jobParameters) throws JobExecutionAlreadyRunningException,
+            JobRestartException, JobInstanceAlreadyCompleteException, JobParametersInvalidException {
+        Assert.notNull(job, "The Job must not be null.");
+        Assert.notNull(jobParameters, "The JobParameters must not be null.");
+        job.getJobParametersValidator().validate(jobParameters);
+
+        JobExecution jobExecution = jobRepository.createJobExecution(job.getName(), jobParameters);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null)
+            jobExecution.getExecutionContext().put(SECURITY_PARAM_NAME, authentication);
+        QueuedJob queuedJob = new QueuedJob(job, jobExecution, sequence.incrementAndGet());
+        int depth;
+        boolean launcherStopped;
+        synchronized (this) {
+            depth = queue.size();
+            launcherStopped = stopped;
+            if (!stopped && depth < queueCapacity) {
+                queue.add(queuedJob);
+                notifyAll();
+                submitted.incrementAndGet();
+                logger.info("Job {} queued with priority {}, queue depth {}", queuedJob.getTransactionId(),
+                        queuedJob.priority, depth + 1);
+                return jobExecution;
+            }
+        }
+
+        long rejectedCount = rejected.incrementAndGet();
+        String message = launcherStopped ? "Bulk job launcher is stopped"
+                : "Bulk job queue is full, " + depth + " jobs waiting";
+        logger.warn("Job {} rejected: {}, rejected so far: {}", queuedJob.getTransactionId(), message, rejectedCount);
+        jobExecution.upgradeStatus(BatchStatus.FAILED);
+        jobExecution.setExitStatus(ExitStatus.FAILED.addExitDescription(message));
+        jobExecution.setEndTime(new Date());
+        jobRepository.update(jobExecution);
+        throw new TaskRejectedException(message);
+    }
+
+    /**
+     * Fails the job executions left unfinished by a previous run of the service. The jobs it had queued or running
+     * were lost with it, while their executions stay STARTING or STARTED in the job repository and would never
+     * complete. Only the executions created before this launcher started are failed, the listener is then called
+     * with each of them as for a completed job.
+     *
+     * @param jobExplorer job explorer of the job repository
+     * @param listener    called with each failed job execution, may be null
+     * @return number of job executions failed
+     */
+    public int failAbandonedJobs(JobExplorer jobExplorer, JobExecutionListener listener) {
+        Assert.state(startedAt != null, "Bulk job launcher is not started");
+        int count = 0;
+        for (String jobName : jobExplorer.getJobNames()) {
+            for (JobExecution jobExecution : jobExplorer.findRunningJobExecutions(jobName)) {
+                if (jobExecution.getCreateTime() == null || !jobExecution.getCreateTime().before(startedAt))
+                    continue;
+                String message = "Job was " + jobExecution.getStatus() + " when the service stopped";
+                Date endTime = new Date();
+                for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
+                    if (stepExecution.getStatus().isRunning()) {
+                        stepExecution.setStatus(BatchStatus.FAILED);
+                        stepExecution.setExitStatus(ExitStatus.FAILED.addExitDescription(message));
+                        stepExecution.setEndTime(endTime);
+                        jobRepository.update(stepExecution);
+                    }
+                }
+                jobExecution.setStatus(BatchStatus.FAILED);
+                jobExecution.setExitStatus(ExitStatus.FAILED.addExitDescription(message));
+                jobExecution.setEndTime(endTime);
+                jobExecution.addFailureException(new IllegalStateException(message));
+                jobRepository.update(jobExecution);
+                abandoned.incrementAndGet();
+                count++;
+                logger.warn("Job {} failed: {}", jobExecution.getJobParameters().getString("transactionId"), message);
+                if (listener != null) {
+                    try {
+                        listener.afterJob(jobExecution);
+                    } catch (RuntimeException e) {
+                        logger.error("Failed to notify the failure of job {}",
+                                jobExecution.getJobParameters().getString("transactionId"), e);
+                    }
+                }
+            }
+        }
+        logger.info("Failed {} job executions left unfinished by a previous run", count);
+        return count;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("admin.bulkupload.job.queue.depth", this, BulkJobLauncher::getQueueDepth)
+                .description("Bulk upload jobs waiting for a worker")
+                .register(registry);
+        Gauge.builder("admin.bulkupload.job.running", this, BulkJobLauncher::getRunningCount)
+                .description("Bulk upload jobs running")
+                .register(registry);
+        FunctionCounter.builder("admin.bulkupload.job.submitted", this, BulkJobLauncher::getSubmittedCount)
+                .description("Bulk upload jobs queued")
+                .register(registry);
+        FunctionCounter.builder("admin.bulkupload.job.rejected", this, BulkJobLauncher::getRejectedCount)
+                .description("Bulk upload jobs rejected as the queue was full or the launcher stopped")
+                .register(registry);
+        FunctionCounter.builder("admin.bulkupload.job.completed", this, BulkJobLauncher::getCompletedCount)
+                .description("Bulk upload jobs run")
+                .register(registry);
+        FunctionCounter.builder("admin.bulkupload.job.abandoned", this, BulkJobLauncher::getAbandonedCount)
+                .description("Bulk upload jobs of a previous run failed on startup")
+                .register(registry);
+        FunctionTimer.builder("admin.bulkupload.job.wait", this, BulkJobLauncher::getStartedCount,
+                        launcher -> launcher.totalWaitMillis.get(), TimeUnit.MILLISECONDS)
+                .description("Time the started bulk upload jobs waited in the queue")
+                .register(registry);
+        Gauge.builder("admin.bulkupload.job.wait.max", this, BulkJobLauncher::getMaxWaitMillis)
+                .description("Longest time a bulk upload job waited in the queue, in milliseconds")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        int waiting;
+        synchronized (this) {
+            stopped = true;
+            waiting = queue.size();
+            notifyAll();
+        }
+        workerPool.shutdown();
+        if (!workerPool.awaitTermination(shutdownTimeout, TimeUnit.MILLISECONDS)) {
+            workerPool.shutdownNow();
+        }
+        logger.info("Bulk job launcher stopped with {} jobs waiting, submitted: {}, rejected: {}, completed: {}, "
+                        + "average wait: {} ms, max wait: {} ms", waiting, submitted.get(), rejected.get(),
+                completed.get(), getAverageWaitMillis(), maxWaitMillis.get());
+    }
+
+    private void work() {
+        while (true) {
+            QueuedJob queuedJob;
+            try {
+                queuedJob = take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (queuedJob == null)
+                return;
+
+            long waitMillis = System.currentTimeMillis() - queuedJob.queuedAt;
+            totalWaitMillis.addAndGet(waitMillis);
+            maxWaitMillis.accumulateAndGet(waitMillis, Math::max);
+            running.incrementAndGet();
+            logger.info("Job {} started after waiting {} ms", queuedJob.getTransactionId(), waitMillis);
+            SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+            securityContext.setAuthentication(
+                    (Authentication) queuedJob.jobExecution.getExecutionContext().get(SECURITY_PARAM_NAME));
+            SecurityContextHolder.setContext(securityContext);
+            try {
+                queuedJob.job.execute(queuedJob.jobExecution);
+                logger.info("Job {} completed with status {}", queuedJob.getTransactionId(),
+                        queuedJob.jobExecution.getStatus());
+            } catch (Throwable t) {
+                logger.error("Job {} failed", queuedJob.getTransactionId(), t);
+            } finally {
+                SecurityContextHolder.clearContext();
+                running.decrementAndGet();
+                completed.incrementAndGet();
+                release(queuedJob);
+            }
+        }
+    }
+
+    /**
+     * Takes the first queued job which is within the table and user limits, waits if there is none.
+     *
+     * @return the job to run, null when the launcher is stopped
+     */
+    private synchronized QueuedJob take() throws InterruptedException {
+        while (!stopped) {
+            Iterator<QueuedJob> iterator = queue.iterator();
+            while (iterator.hasNext()) {
+                QueuedJob queuedJob = iterator.next();
+                if (isWithinLimits(queuedJob)) {
+                    iterator.remove();
+                    for (String key : queuedJob.limitKeys) {
+                        runningJobs.merge(key, 1, Integer::sum);
+                    }
+                    return queuedJob;
+                }
+            }
+            wait();
+        }
+        return null;
+    }
+
+    private synchronized void release(QueuedJob queuedJob) {
+        for (String key : queuedJob.limitKeys) {
+            runningJobs.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+        }
+        notifyAll();
+    }
+
+    private boolean isWithinLimits(QueuedJob queuedJob) {
+        for (String key : queuedJob.limitKeys) {
+            int limit = key.startsWith(TABLE_NAME) ? maxJobsPerTable : maxJobsPerUser;
+            if (limit > 0 && runningJobs.getOrDefault(key, 0) >= limit)
+                return false;
+        }
+        return true;
+    }
+
+    public synchronized int getQueueDepth() {
+        return queue.size();
+    }
+
+    public int getRunningCount() {
+        return running.get();
+    }
+
+    public long getSubmittedCount() {
+        return submitted.get();
+    }
+
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    public long getCompletedCount() {
+        return completed.get();
+    }
+
+    /**
+     * @return number of job executions of a previous run failed on startup
+     */
+    public long getAbandonedCount() {
+        return abandoned.get();
+    }
+
+    /**
+     * @return number of jobs taken by a worker
+     */
+    public long getStartedCount() {
+        return completed.get() + running.get();
+    }
+
+    /**
+     * @return average milliseconds the started jobs waited in the queue
+     */
+    public long getAverageWaitMillis() {
+        long started = getStartedCount();
+        return started == 0 ? 0 : totalWaitMillis.get() / started;
+    }
+
+    public long getMaxWaitMillis() {
+        return maxWaitMillis.get();
+    }
+
+    private static final class QueuedJob implements Comparable<QueuedJob> {
+
+        private final Job job;
+        private final JobExecution jobExecution;
+        private final long sequence;
+        private final long priority;
+        private final long queuedAt = System.currentTimeMillis();
+        private final List<String> limitKeys = new ArrayList<>();
+
+        private QueuedJob(Job job, JobExecution jobExecution, long sequence) {
+            this.job = job;
+            this.jobExecution = jobExecution;
+            this.sequence = sequence;
+            JobParameters jobParameters = jobExecution.getJobParameters();
+            Long jobPriority = jobParameters.getLong(PRIORITY);
+            this.priority = jobPriority == null ? 0 : jobPriority;
+            String tableNames = jobParameters.getString(TABLE_NAME);
+            if (tableNames != null) {
+                for (String tableName : tableNames.split(",")) {
+                    if (!tableName.isBlank())
+                        limitKeys.add(TABLE_NAME + ":" + tableName.trim().toLowerCase());
+                }
+            }
+            String username = jobParameters.getString(USERNAME);
+            if (username != null && !username.isEmpty())
+                limitKeys.add(USERNAME + ":" + username);
+        }
+
+        private String getTransactionId() {
+            return jobExecution.getJobParameters().getString("transactionId");
+        }
+
+        @Override
+        public int compareTo(QueuedJob other) {
+            int byPriority = Long.compare(other.priority, priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+}
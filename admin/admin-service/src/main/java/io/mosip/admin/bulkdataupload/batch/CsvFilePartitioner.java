@@ -0,0 +1,226 @@
+package io.mosip.admin.bulkdataupload.batch;
+
+import org.apache.commons.io.input.BoundedInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.file.separator.RecordSeparatorPolicy;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Splits the CSV files of a table into byte ranges, which are read and written in parallel.
+ *
+ * A file is split in up to grid size ranges of at least the minimum partition size. The ranges are cut at the end
+ * of a record, as read with the record separator policy of the reader, so that no record is split between two
+ * partitions. Each partition holds the file, the byte range after the header, the header and the line number of
+ * its first line in the file.
+ */
+public class CsvFilePartitioner implements Partitioner {
+
+    private static final Logger logger = LoggerFactory.getLogger(CsvFilePartitioner.class);
+
+    public static final String FILE = "csv.file";
+    public static final String FILE_NAME = "csv.fileName";
+    public static final String HEADER = "csv.header";
+    public static final String START_OFFSET = "csv.startOffset";
+    public static final String END_OFFSET = "csv.endOffset";
+    public static final String START_LINE = "csv.startLine";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Map<File, String> files;
+    private final RecordSeparatorPolicy recordSeparatorPolicy;
+    private final int maxPartitionsPerFile;
+    private final long minPartitionSize;
+
+    /**
+     * @param files                 files to split with the uploaded file name
+     * @param recordSeparatorPolicy record separator policy of the reader
+     * @param maxPartitionsPerFile  maximum number of partitions of a file
+     * @param minPartitionSize      minimum number of bytes in a partition
+     */
+    public CsvFilePartitioner(Map<File, String> files, RecordSeparatorPolicy recordSeparatorPolicy,
+                              int maxPartitionsPerFile, long minPartitionSize) {
+        this.files = files;
+        this.recordSeparatorPolicy = recordSeparatorPolicy;
+        this.maxPartitionsPerFile = Math.max(1, maxPartitionsPerFile);
+        this.minPartitionSize = Math.max(1, minPartitionSize);
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        for (Map.Entry<File, String> file : files.entrySet()) {
+            try {
+                split(file.getKey(), file.getValue(), partitions);
+            } catch (IOException e) {
+                throw new ItemStreamException("Failed to split file " + file.getValue(), e);
+            }
+        }
+        return partitions;
+    }
+
+    private void split(File file, String fileName, Map<String, ExecutionContext> partitions) throws IOException {
+        long length = file.length();
+        try (LineInput lines = new LineInput(new FileInputStream(file))) {
+            String header = lines.readLine();
+            if (header == null)
+                header = "";
+            long dataStart = lines.offset;
+            long dataSize = length - dataStart;
+            int count = (int) Math.max(1, Math.min(maxPartitionsPerFile,
+                    (dataSize + minPartitionSize - 1) / minPartitionSize));
+
+            long start = dataStart;
+            int startLine = lines.lineNumber + 1;
+            int index = 1;
+            long target = dataStart + dataSize * index / count;
+            String line;
+            while (index < count && (line = lines.readLine()) != null) {
+                String record = line;
+                while (!recordSeparatorPolicy.isEndOfRecord(record) && (line = lines.readLine()) != null) {
+                    record = recordSeparatorPolicy.preProcess(record) + line;
+                }
+                if (lines.offset >= target && lines.offset < length) {
+                    addPartition(partitions, file, fileName, header, start, lines.offset, startLine);
+                    start = lines.offset;
+                    startLine = lines.lineNumber + 1;
+                    index++;
+                    target = dataStart + dataSize * index / count;
+                }
+            }
+            addPartition(partitions, file, fileName, header, start, length, startLine);
+            logger.info("File {} of {} bytes split in {} partitions", fileName, length, index);
+        }
+    }
+
+    private static void addPartition(Map<String, ExecutionContext> partitions, File file, String fileName,
+                                     String header, long start, long end, int startLine) {
+        ExecutionContext context = new ExecutionContext();
+        context.putString(FILE, file.getAbsolutePath());
+        context.putString(FILE_NAME, fileName);
+        context.putString(HEADER, header);
+        context.putLong(START_OFFSET, start);
+        context.putLong(END_OFFSET, end);
+        context.putInt(START_LINE, startLine);
+        partitions.put("partition" + partitions.size(), context);
+    }
+
+    /**
+     * @param partition execution context of the partition
+     * @return the byte range of the partition, opened when read
+     */
+    public static Resource getResource(ExecutionContext partition) {
+        return new FileRangeResource(new File(partition.getString(FILE)), partition.getLong(START_OFFSET),
+                partition.getLong(END_OFFSET));
+    }
+
+    private static final class FileRangeResource extends AbstractResource {
+
+        private final File file;
+        private final long start;
+        private final long end;
+
+        private FileRangeResource(File file, long start, long end) {
+            this.file = file;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public boolean exists() {
+            return file.exists();
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            FileInputStream inputStream = new FileInputStream(file);
+            try {
+                inputStream.getChannel().position(start);
+            } catch (IOException e) {
+                inputStream.close();
+                throw e;
+            }
+            return new BoundedInputStream(inputStream, end - start);
+        }
+
+        @Override
+        public String getDescription() {
+            return "file [" + file.getName() + "] bytes " + start + "-" + end;
+        }
+    }
+
+    /**
+     * Reads the lines of a file, keeping the byte offset after the last line read.
+     */
+    private static final class LineInput implements Closeable {
+
+        private final InputStream inputStream;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private final ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+        private int position;
+        private int limit;
+        private long offset;
+        private int lineNumber;
+
+        private LineInput(InputStream inputStream) {
+            this.inputStream = inputStream;
+        }
+
+        /**
+         * @return the next line without the line terminator, null at the end of the file
+         */
+        private String readLine() throws IOException {
+            line.reset();
+            boolean read = false;
+            while (true) {
+                if (position == limit) {
+                    limit = Math.max(0, inputStream.read(buffer));
+                    position = 0;
+                    if (limit == 0) {
+                        if (!read)
+                            return null;
+                        lineNumber++;
+                        return toLine();
+                    }
+                }
+                read = true;
+                int start = position;
+                while (position < limit && buffer[position] != '\n') {
+                    position++;
+                }
+                line.write(buffer, start, position - start);
+                offset += position - start;
+                if (position < limit) {
+                    position++;
+                    offset++;
+                    lineNumber++;
+                    return toLine();
+                }
+            }
+        }
+
+        private String toLine() {
+            String value = new String(line.toByteArray(), StandardCharsets.UTF_8);
+            return value.endsWith("\r") ? value.substring(0, value.length() - 1) : value;
+        }
+
+        @Override
+        public void close() throws IOException {
+            inputStream.close();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package io.mosip.admin.bulkdataupload.batch;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.partition.PartitionHandler;
+import org.springframework.batch.core.partition.StepExecutionSplitter;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.FutureTask;
+import java.util.function.Function;
+
+/**
+ * Runs the partitions of a file load step on the task executor, each partition with its own step built for the
+ * partition, so that the reader of a partition reads only its byte range of the file.
+ */
+public class CsvPartitionHandler implements PartitionHandler {
+
+    private final Function<ExecutionContext, Step> stepFactory;
+    private final TaskExecutor taskExecutor;
+    private final int gridSize;
+
+    /**
+     * @param stepFactory  builds the step of a partition from the partition execution context
+     * @param taskExecutor runs the partitions
+     * @param gridSize     grid size passed to the partitioner
+     */
+    public CsvPartitionHandler(Function<ExecutionContext, Step> stepFactory, TaskExecutor taskExecutor,
+                               int gridSize) {
+        this.stepFactory = stepFactory;
+        this.taskExecutor = taskExecutor;
+        this.gridSize = gridSize;
+    }
+
+    @Override
+    public Collection<StepExecution> handle(StepExecutionSplitter stepSplitter, StepExecution masterStepExecution)
+            throws Exception {
+        Set<StepExecution> partitions = stepSplitter.split(masterStepExecution, gridSize);
+        Set<StepExecution> result = new HashSet<>();
+        List<FutureTask<StepExecution>> tasks = new ArrayList<>(partitions.size());
+        for (StepExecution partition : partitions) {
+            Step step = stepFactory.apply(partition.getExecutionContext());
+            FutureTask<StepExecution> task = new FutureTask<>(() -> {
+                step.execute(partition);
+                return partition;
+            });
+            try {
+                taskExecutor.execute(task);
+                tasks.add(task);
+            } catch (TaskRejectedException e) {
+                partition.setStatus(BatchStatus.FAILED);
+                partition.setExitStatus(ExitStatus.FAILED.addExitDescription(
+                        "TaskExecutor rejected the task for this step."));
+                result.add(partition);
+            }
+        }
+        for (FutureTask<StepExecution> task : tasks) {
+            result.add(task.get());
+        }
+        return result;
+    }
+}
@@ -8,6 +8,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobExecutionListener;
 import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.file.FlatFileParseException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.core.Authentication;
@@ -18,7 +19,6 @@ import javax.sql.DataSource;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 public class JobResultListener implements JobExecutionListener {
 
@@ -29,7 +29,7 @@ public class JobResultListener implements JobExecutionListener {
     private AuditUtil auditUtil;
     private JobExecutionSecurityContextListener jobExecutionSecurityContextListener;
 
-    private static final String SECURITY_PARAM_NAME = "security-param";
+    private static final String SECURITY_PARAM_NAME = BulkJobLauncher.SECURITY_PARAM_NAME;
     private static final ThreadLocal<Authentication> ORIGINAL_CONTEXT = new ThreadLocal<>();
 
     public JobResultListener(DataSource dataSource,
@@ -42,7 +42,9 @@ public class JobResultListener implements JobExecutionListener {
     @Override
     public void beforeJob(JobExecution jobExecution) {
         logger.info("Job started : {}", jobExecution.getJobParameters().getString("transactionId"));
-        this.jobExecutionSecurityContextListener.fillJobExecutionContext(jobExecution);
+        //the launcher keeps the authentication of the launching thread, jobs are run on its workers
+        if (!jobExecution.getExecutionContext().containsKey(SECURITY_PARAM_NAME))
+            this.jobExecutionSecurityContextListener.fillJobExecutionContext(jobExecution);
 
         if(jobExecution.getStepExecutions().isEmpty()) {
             restoreContext(jobExecution);
@@ -60,21 +62,27 @@ public class JobResultListener implements JobExecutionListener {
         logger.info("Job completed : {}", jobId);
         try {
             List<String> failures = new ArrayList<String>();
-            jobExecution.getStepExecutions().forEach(step -> {
+            int commitCount = 0;
+            for (StepExecution step : jobExecution.getStepExecutions()) {
+                ExecutionContext context = step.getExecutionContext();
+                boolean partition = context.containsKey(CsvFilePartitioner.FILE);
                 step.getFailureExceptions().forEach(failure -> {
                     if (failure instanceof FlatFileParseException) {
-                        failures.add("Line --> " + ((FlatFileParseException) failure).getLineNumber() +
+                        //line number in the file, the reader of a partition counts from its first line
+                        int lineNumber = ((FlatFileParseException) failure).getLineNumber();
+                        failures.add((partition ? "File --> " + context.getString(CsvFilePartitioner.FILE_NAME) + " " : "") +
+                                "Line --> " + (partition ? context.getInt(CsvFilePartitioner.START_LINE) + lineNumber - 1 : lineNumber) +
                                 " --> Datatype mismatch / Failed to write into object");
                     } else
                         failures.add(failure.getCause() != null ? failure.getCause().getMessage() : failure.getMessage());
                 });
-            });
-
-            Optional<Integer> commitResult = jobExecution.getStepExecutions().stream().map(StepExecution::getCommitCount).findFirst();
-            Optional<Integer> readResult = jobExecution.getStepExecutions().stream().map(StepExecution::getCommitCount).findFirst();
-            int readCount = readResult.isPresent() ? readResult.get() : 0;
-            int commitCount = commitResult.isPresent() ? commitResult.get() : 0;
-            String message = String.format(STATUS_MESSAGE, readCount,
+                //counts of the partitions are aggregated in the partitioned step
+                if (!partition)
+                    commitCount += step.getCommitCount();
+            }
+            //failures of the job itself, e.g. a job left unfinished when the service stopped
+            jobExecution.getFailureExceptions().forEach(failure -> failures.add(failure.getMessage()));
+            String message = String.format(STATUS_MESSAGE, commitCount,
                     jobExecution.getStatus().toString(), failures.isEmpty() ? "0 Errors" : failures.toString());
             auditUtil.setAuditRequestDto(EventEnum.getEventEnumWithValue(EventEnum.BULKDATA_UPLOAD_COMPLETED,
                             jobId + " --> " + message), jobExecution.getJobParameters().getString("username"));
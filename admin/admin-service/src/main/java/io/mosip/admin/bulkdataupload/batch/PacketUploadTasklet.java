@@ -2,6 +2,9 @@ package io.mosip.admin.bulkdataupload.batch;
 
 import io.mosip.admin.bulkdataupload.dto.PacketUploadStatus;
 import io.mosip.admin.bulkdataupload.service.PacketUploadService;
+import io.mosip.kernel.core.util.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.batch.core.JobExecutionException;
 import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.scope.context.ChunkContext;
@@ -9,12 +12,15 @@ import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.util.Assert;
-import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
 
 public class PacketUploadTasklet implements Tasklet, InitializingBean {
 
+    private static final Logger logger = LoggerFactory.getLogger(PacketUploadTasklet.class);
+
     private String fileName;
-    private byte[] file;
+    private File file;
     private PacketUploadService packetUploadService;
     private String centerId;
     private String supervisorStatus;
@@ -22,7 +28,7 @@ public class PacketUploadTasklet implements Tasklet, InitializingBean {
     private String process;
     private String mode;
 
-    public PacketUploadTasklet(String fileName, byte[] packet, PacketUploadService packetUploadService,
+    public PacketUploadTasklet(String fileName, File packet, PacketUploadService packetUploadService,
                               String centerId, String supervisorStatus, String source, String process,
                                String mode) {
         this.fileName = fileName;
@@ -38,14 +44,19 @@ public class PacketUploadTasklet implements Tasklet, InitializingBean {
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
         PacketUploadStatus status = null;
-        switch (mode) {
-            case "UPLOAD" :
-                status = packetUploadService.onlyUploadPacket(this.fileName, this.file);
-                break;
-            case "SYNC-UPLOAD":
-                status = packetUploadService.syncAndUploadPacket(this.fileName, this.file, centerId, supervisorStatus, source, process,
-                        (String) chunkContext.getStepContext().getJobParameters().get("transactionId"));
-                break;
+        try {
+            switch (mode) {
+                case "UPLOAD" :
+                    status = packetUploadService.onlyUploadPacket(this.fileName, this.file);
+                    break;
+                case "SYNC-UPLOAD":
+                    status = packetUploadService.syncAndUploadPacket(this.fileName, this.file, centerId, supervisorStatus, source, process,
+                            (String) chunkContext.getStepContext().getJobParameters().get("transactionId"));
+                    break;
+            }
+        } finally {
+            //spooled packet is not used once the job is done
+            if(!FileUtils.deleteQuietly(this.file)) { logger.warn("Failed to delete spooled packet {}", this.fileName); }
         }
 
         if(null!=status && status.isFailed())
@@ -1,32 +1,46 @@
 package io.mosip.admin.bulkdataupload.batch;
 
-import java.lang.reflect.InvocationTargetException;
-import java.util.Iterator;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.PersistenceUnitUtil;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.SingularAttribute;
 
 import io.mosip.admin.bulkdataupload.entity.*;
-import io.mosip.admin.config.Mapper;
 import io.mosip.admin.config.MapperUtils;
+import org.hibernate.Session;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.batch.core.JobExecutionException;
 import org.springframework.batch.item.ItemWriter;
-import org.springframework.batch.item.adapter.AbstractMethodInvokingDelegator;
-import org.springframework.batch.item.adapter.DynamicMethodInvocationException;
-import org.springframework.context.ApplicationContext;
 import org.springframework.util.CollectionUtils;
-import org.springframework.util.MethodInvoker;
+import org.springframework.util.ReflectionUtils;
 
 import io.mosip.admin.bulkdataupload.constant.BulkUploadErrorCode;
 import io.mosip.admin.packetstatusupdater.exception.RequestException;
-import io.mosip.kernel.core.dataaccess.spi.repository.BaseRepository;
 
 /**
- * This class will write the information in database
+ * This class will write the information in database.
+ *
+ * Each chunk is written set based: the existing records of all the items are
+ * fetched with one query, the items and their history records are then
+ * persisted in the chunk transaction and flushed together as JDBC batches.
+ *
  * @author dhanendra
  *
  * @param <T>
@@ -34,36 +48,35 @@ import io.mosip.kernel.core.dataaccess.spi.repository.BaseRepository;
 public class RepositoryListItemWriter<T> implements ItemWriter<T> {
 	private static final Logger LOGGER =  LoggerFactory.getLogger(RepositoryListItemWriter.class);
 
-    private String methodName;
+    /**
+     * Maximum number of identifiers in one existence query.
+     */
+    private static final int MAX_IDENTIFIERS_PER_QUERY = 500;
+
     private EntityManager em;
     private EntityManagerFactory emf;
     private Class<?> entity;
-    private Mapper mapper;
-    private ApplicationContext applicationContext;
-    private String repoBeanName;
     private String operation;
+    private int batchSize = 100;
 
     public RepositoryListItemWriter() {
     }
-    
-    public RepositoryListItemWriter(EntityManager em,EntityManagerFactory emf,Class<?> entity,Mapper mapper,ApplicationContext applicationContext) {
+
+    public RepositoryListItemWriter(EntityManager em,EntityManagerFactory emf,Class<?> entity) {
     	this.em=em;
     	this.emf=emf;
     	this.entity=entity;
-    	this.mapper=mapper;
-    	this.applicationContext=applicationContext;
-    }
-
-    public void setMethodName(String methodName) {
-        this.methodName = methodName;
     }
 
     public void setOperation(String operation) {
         this.operation = operation;
     }
 
-    public void setRepoBeanName(String repoBeanName) {
-        this.repoBeanName = repoBeanName;
+    /**
+     * @param batchSize number of statements sent to the database in one JDBC batch
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
     }
 
     public void write(List<? extends T> items) throws Exception {
@@ -75,26 +88,22 @@ public class RepositoryListItemWriter<T> implements ItemWriter<T> {
     protected void doWrite(List<? extends T> items) throws Exception {
     	LOGGER.info("Writing to the repository with " + items.size() + " items.");
         try {
-            BaseRepository baseRepository = (BaseRepository) applicationContext.getBean(this.repoBeanName);
-            Iterator i$ = items.iterator();
-            while(i$.hasNext()) {
-                Object object = i$.next();
-                PersistenceUnitUtil util = emf.getPersistenceUnitUtil();
+            em.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            PersistenceUnitUtil util = emf.getPersistenceUnitUtil();
+            Map<Object, Object> existingRecords = findExisting(entity, items);
+            Map<Object, Object> records = new LinkedHashMap<>();
+            for (Object object : items) {
                 Object identifier = util.getIdentifier(object);
-                T existingRecord = (T) em.find(entity, identifier);
+                Object existingRecord = existingRecords.get(identifier);
                 switch (this.operation) {
                     case "insert":
-                        MethodInvoker invoker = this.createMethodInvoker(baseRepository, this.methodName);
-                        if(existingRecord !=null) {
+                        if(existingRecord !=null || records.containsKey(identifier)) {
                             throw new RequestException(BulkUploadErrorCode.ENTRY_EXISTS_SAME_IDENTIFIER.getErrorCode(),
                                     "Entry already exists with this id >> " + identifier);
                         }
-                        invoker.setArguments(new Object[]{object});
-                        this.doInvoke(invoker);
                         break;
 
                     case "update":
-                        BaseRepository baseRepositoryToUpdate = (BaseRepository) applicationContext.getBean(this.repoBeanName);
                         if(existingRecord == null) {
                             throw new RequestException(BulkUploadErrorCode.BULK_OPERATION_ERROR.getErrorCode(),
                                     "No entry found with this id >> " + identifier);
@@ -102,11 +111,9 @@ public class RepositoryListItemWriter<T> implements ItemWriter<T> {
                         ((BaseEntity)object).setCreatedBy(((BaseEntity)existingRecord).getCreatedBy());
                         ((BaseEntity)object).setCreatedDateTime(((BaseEntity)existingRecord).getCreatedDateTime());
                         ((BaseEntity)object).setIsDeleted(((BaseEntity)existingRecord).getIsDeleted());
-                        baseRepositoryToUpdate.save(object);
                         break;
 
                     case "delete":
-                        BaseRepository baseRepositoryToDelete = (BaseRepository) applicationContext.getBean(this.repoBeanName);
                         if(existingRecord == null) {
                             throw new RequestException(BulkUploadErrorCode.BULK_OPERATION_ERROR.getErrorCode(),
                                     "No entry found with this id >> " + identifier);
@@ -115,100 +122,153 @@ public class RepositoryListItemWriter<T> implements ItemWriter<T> {
                         ((BaseEntity)object).setCreatedDateTime(((BaseEntity)existingRecord).getCreatedDateTime());
                         ((BaseEntity)object).setUpdatedBy(((BaseEntity)existingRecord).getUpdatedBy());
                         ((BaseEntity)object).setUpdatedDateTime(((BaseEntity)existingRecord).getUpdatedDateTime());
-                        baseRepositoryToDelete.save(object);
                         break;
                 }
-                createHistoryRecord(object);
+                // the last row of an identifier wins, as when each row was saved in turn
+                records.put(identifier, object);
             }
+
+            // rows of one table are queued together so that they go in the same JDBC batch
+            List<Object> historyRecords = new ArrayList<>();
+            for (Object object : records.values()) {
+                if ("insert".equals(this.operation)) {
+                    em.persist(object);
+                } else {
+                    em.merge(object);
+                }
+                Object historyRecord = createHistoryRecord(object);
+                if (historyRecord != null) {
+                    historyRecords.add(historyRecord);
+                }
+            }
+            saveHistoryRecords(historyRecords);
+            em.flush();
+            em.clear();
         } catch (Throwable t) {
             LOGGER.error(BulkUploadErrorCode.BATCH_ERROR.getErrorCode(), t);
             throw new JobExecutionException(t.getMessage() + (t.getCause() != null ? t.getCause().getMessage() : ""));
         }
     }
 
-    private void createHistoryRecord(Object object) {
-        String historyRepoBeanName;
-        BaseRepository historyBaseRepo;
+    private void saveHistoryRecords(List<Object> historyRecords) {
+        if (historyRecords.isEmpty()) {
+            return;
+        }
+        PersistenceUnitUtil util = emf.getPersistenceUnitUtil();
+        Map<Object, Object> records = new LinkedHashMap<>();
+        for (Object historyRecord : historyRecords) {
+            records.put(util.getIdentifier(historyRecord), historyRecord);
+        }
+        // history saved earlier with the same effective time is overwritten as before
+        Set<Object> existing = findExisting(historyRecords.get(0).getClass(), records.values()).keySet();
+        for (Map.Entry<Object, Object> record : records.entrySet()) {
+            if (existing.contains(record.getKey())) {
+                em.merge(record.getValue());
+            } else {
+                em.persist(record.getValue());
+            }
+        }
+    }
+
+    /**
+     * Fetches the records having the identifier of any of the objects, with one
+     * query for up to {@link #MAX_IDENTIFIERS_PER_QUERY} objects.
+     *
+     * @return existing records by identifier
+     */
+    private Map<Object, Object> findExisting(Class<?> entityClass, Collection<?> objects) {
+        PersistenceUnitUtil util = emf.getPersistenceUnitUtil();
+        EntityType<?> entityType = em.getMetamodel().entity(entityClass);
+        List<Object> batch = new ArrayList<>(Math.min(objects.size(), MAX_IDENTIFIERS_PER_QUERY));
+        Map<Object, Object> existingRecords = new HashMap<>();
+        for (Object object : objects) {
+            batch.add(object);
+            if (batch.size() == MAX_IDENTIFIERS_PER_QUERY) {
+                findExisting(entityClass, entityType, batch, util, existingRecords);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            findExisting(entityClass, entityType, batch, util, existingRecords);
+        }
+        return existingRecords;
+    }
+
+    private <E> void findExisting(Class<E> entityClass, EntityType<?> entityType, List<Object> objects,
+                                  PersistenceUnitUtil util, Map<Object, Object> existingRecords) {
+        CriteriaBuilder builder = em.getCriteriaBuilder();
+        CriteriaQuery<E> query = builder.createQuery(entityClass);
+        Root<E> root = query.from(entityClass);
+        if (entityType.hasSingleIdAttribute()) {
+            SingularAttribute<?, ?> idAttribute = entityType.getId(entityType.getIdType().getJavaType());
+            List<Object> identifiers = new ArrayList<>(objects.size());
+            for (Object object : objects) {
+                identifiers.add(util.getIdentifier(object));
+            }
+            query.where(root.get(idAttribute.getName()).in(identifiers));
+        } else {
+            // composite key declared with @IdClass, one conjunction of the key columns per object
+            Set<? extends SingularAttribute<?, ?>> idAttributes = entityType.getIdClassAttributes();
+            List<Predicate> predicates = new ArrayList<>(objects.size());
+            for (Object object : objects) {
+                List<Predicate> keyPredicates = new ArrayList<>(idAttributes.size());
+                for (SingularAttribute<?, ?> idAttribute : idAttributes) {
+                    Object value = getValue(idAttribute.getJavaMember(), object);
+                    keyPredicates.add(value == null ? builder.isNull(root.get(idAttribute.getName()))
+                            : builder.equal(root.get(idAttribute.getName()), value));
+                }
+                predicates.add(builder.and(keyPredicates.toArray(new Predicate[0])));
+            }
+            query.where(builder.or(predicates.toArray(new Predicate[0])));
+        }
+        for (E existingRecord : em.createQuery(query).getResultList()) {
+            existingRecords.put(util.getIdentifier(existingRecord), existingRecord);
+        }
+    }
+
+    private static Object getValue(Member member, Object object) {
+        if (member instanceof Method) {
+            ReflectionUtils.makeAccessible((Method) member);
+            return ReflectionUtils.invokeMethod((Method) member, object);
+        }
+        ReflectionUtils.makeAccessible((Field) member);
+        return ReflectionUtils.getField((Field) member, object);
+    }
+
+    private Object createHistoryRecord(Object object) {
         switch(entity.getCanonicalName()) {
             case "io.mosip.admin.bulkdataupload.entity.ZoneUser":
-                historyRepoBeanName=mapper.getRepo(ZoneUserHistory.class);
-                historyBaseRepo = (BaseRepository) applicationContext.getBean(historyRepoBeanName);
                 ZoneUserHistory userHistory = new ZoneUserHistory();
                 MapperUtils.map(object, userHistory);
                 MapperUtils.setBaseFieldValue(object, userHistory);
                 userHistory.setEffDTimes(userHistory.getCreatedDateTime());
-                historyBaseRepo.save(userHistory);
-                break;
+                return userHistory;
             case "io.mosip.admin.bulkdataupload.entity.UserDetails":
-                historyRepoBeanName=mapper.getRepo(UserDetailsHistory.class);
-                historyBaseRepo = (BaseRepository) applicationContext.getBean(historyRepoBeanName);
                 UserDetailsHistory userDetailHistory = new UserDetailsHistory();
                 MapperUtils.map(object, userDetailHistory);
                 MapperUtils.setBaseFieldValue(object, userDetailHistory);
                 userDetailHistory.setEffDTimes(userDetailHistory.getCreatedDateTime());
-                historyBaseRepo.save(userDetailHistory);
-                break;
+                return userDetailHistory;
             case "io.mosip.admin.bulkdataupload.entity.Machine":
-                historyRepoBeanName=mapper.getRepo(MachineHistory.class);
-                historyBaseRepo = (BaseRepository) applicationContext.getBean(historyRepoBeanName);
                 MachineHistory machineHistory = new MachineHistory();
                 MapperUtils.map(object, machineHistory);
                 MapperUtils.setBaseFieldValue(object, machineHistory);
                 machineHistory.setEffectDateTime(machineHistory.getCreatedDateTime());
-                historyBaseRepo.save(machineHistory);
-                break;
+                return machineHistory;
             case "io.mosip.admin.bulkdataupload.entity.Device":
-                historyRepoBeanName=mapper.getRepo(DeviceHistory.class);
-                historyBaseRepo = (BaseRepository) applicationContext.getBean(historyRepoBeanName);
                 DeviceHistory deviceHistory = new DeviceHistory();
                 MapperUtils.map(object, deviceHistory);
                 MapperUtils.setBaseFieldValue(object, deviceHistory);
                 deviceHistory.setEffectDateTime(deviceHistory.getCreatedDateTime());
-                historyBaseRepo.save(deviceHistory);
-                break;
+                return deviceHistory;
             case "io.mosip.admin.bulkdataupload.entity.RegistrationCenter":
-                historyRepoBeanName=mapper.getRepo(RegistrationCenterHistory.class);
-                historyBaseRepo = (BaseRepository) applicationContext.getBean(historyRepoBeanName);
                 RegistrationCenterHistory registrationCenterHistory = new RegistrationCenterHistory();
                 MapperUtils.map(object, registrationCenterHistory);
                 MapperUtils.setBaseFieldValue(object, registrationCenterHistory);
                 registrationCenterHistory.setEffectivetimes(registrationCenterHistory.getCreatedDateTime());
-                historyBaseRepo.save(registrationCenterHistory);
+                return registrationCenterHistory;
             default:
-                break;
-        }
-    }
-
-    /*public void afterPropertiesSet() throws Exception {
-        Assert.state(this.repository != null, "A CrudRepository implementation is required");
-    }*/
-
-    private Object doInvoke(MethodInvoker invoker) throws Exception {
-        try {
-            invoker.prepare();
-        } catch (ClassNotFoundException var3) {
-            throw new DynamicMethodInvocationException(var3);
-        } catch (NoSuchMethodException var4) {
-            throw new DynamicMethodInvocationException(var4);
+                return null;
         }
-
-        try {
-            return invoker.invoke();
-        } catch (InvocationTargetException var5) {
-            if(var5.getCause() instanceof Exception) {
-                throw (Exception)var5.getCause();
-            } else {
-                throw new AbstractMethodInvokingDelegator.InvocationTargetThrowableWrapper(var5.getCause());
-            }
-        } catch (IllegalAccessException var6) {
-            throw new DynamicMethodInvocationException(var6);
-        }
-    }
-
-    private MethodInvoker createMethodInvoker(Object targetObject, String targetMethod) {
-        MethodInvoker invoker = new MethodInvoker();
-        invoker.setTargetObject(targetObject);
-        invoker.setTargetMethod(targetMethod);
-        return invoker;
     }
 }
@@ -6,6 +6,7 @@ import io.mosip.admin.bulkdataupload.dto.*;
 import io.mosip.admin.packetstatusupdater.util.RestClient;
 import io.mosip.commons.packet.facade.PacketReader;
 import io.mosip.commons.packet.spi.IPacketCryptoService;
+import io.mosip.kernel.core.authmanager.authadapter.model.AuthUserDetails;
 import io.mosip.kernel.core.http.ResponseWrapper;
 import io.mosip.kernel.core.util.CryptoUtil;
 import io.mosip.kernel.core.util.DateUtils;
@@ -18,7 +19,12 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.*;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
@@ -28,10 +34,16 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import javax.annotation.PostConstruct;
 import java.io.File;
+import java.io.IOException;
 import java.math.BigInteger;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.Semaphore;
 
 import static io.mosip.kernel.core.util.JsonUtils.javaObjectToJsonString;
 
@@ -42,6 +54,7 @@ public class PacketUploadService {
     private static final String PACKET_SYNC_STATUS_ID = "mosip.registration.sync";
     private static final String PACKET_SYNC_VERSION = "1.0";
     private static final String SPACE = " ";
+    private static final String AUTH_COOKIE = "Authorization=";
 
     @Autowired
     private RestClient restClient;
@@ -89,8 +102,28 @@ public class PacketUploadService {
     @Value("${MACHINE_GET_API}")
     private String MACHINE_GET_API;
 
+    /**
+     * Uploaded packets are kept in this directory until the upload job completes
+     */
+    @Value("${mosip.admin.packetupload.spool-dir:${java.io.tmpdir}/admin-packet-upload}")
+    private String spoolDir;
+
+    /**
+     * Number of packets synced at a time, each sync holds the packet in memory to decrypt it
+     */
+    @Value("${mosip.admin.packetupload.max-concurrent-decrypt:2}")
+    private int maxConcurrentDecrypt;
+
     private String language;
 
+    private Semaphore decryptPermits;
+
+    /**
+     * Writes the uploaded packet from its file to the connection. The interceptors of the shared rest template
+     * buffer the request body, so the authentication cookie is added by {@link #uploadPacket(String, File)}.
+     */
+    private RestTemplate uploadRestTemplate;
+
     @PostConstruct
     public void init() {
         File accountLoc = new File(baseLocation + File.separator + account);
@@ -101,6 +134,32 @@ public class PacketUploadService {
 
         language = mandatoryLanguages != null ? mandatoryLanguages.split(",")[0].trim() :
                 optionalLanguages.split(",")[0].trim();
+
+        decryptPermits = new Semaphore(maxConcurrentDecrypt, true);
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setBufferRequestBody(false);
+        uploadRestTemplate = new RestTemplate(requestFactory);
+    }
+
+    /**
+     * Moves the uploaded packet to the spool directory, the multipart content is not read into memory.
+     *
+     * @param file uploaded packet
+     * @return spooled packet file, to be deleted once the upload job completes
+     * @throws IOException if the packet could not be written
+     */
+    public File spoolPacket(MultipartFile file) throws IOException {
+        Path spoolPath = Paths.get(spoolDir);
+        Files.createDirectories(spoolPath);
+        File packet = Files.createTempFile(spoolPath, "packet-", ".zip").toFile();
+        try {
+            file.transferTo(packet);
+        } catch (IOException | RuntimeException e) {
+            FileUtils.deleteQuietly(packet);
+            throw e;
+        }
+        return packet;
     }
 
 
@@ -137,7 +196,7 @@ public class PacketUploadService {
         return machineList;
     }
 
-    public PacketUploadStatus syncAndUploadPacket(String fileName, byte[] file, String centerId, String supervisorStatus,
+    public PacketUploadStatus syncAndUploadPacket(String fileName, File file, String centerId, String supervisorStatus,
                                     String source, String process, String transactionId) throws JSONException {
         String[] nameFields = nameFieldNames.split(",");
         List<String> additionalInfoFields = new ArrayList<>();
@@ -170,7 +229,7 @@ public class PacketUploadService {
         return new PacketUploadStatus("UNKNOWN ERROR : Empty Response", true);
     }
 
-    public PacketUploadStatus onlyUploadPacket(String fileName, byte[] file) throws JSONException {
+    public PacketUploadStatus onlyUploadPacket(String fileName, File file) throws JSONException {
         ResponseEntity<String> responseEntity = uploadPacket(fileName, file);
         if(responseEntity != null && responseEntity.hasBody()) {
             JSONObject response = new JSONObject(responseEntity.getBody());
@@ -191,17 +250,39 @@ public class PacketUploadService {
         return new PacketUploadStatus("UNKNOWN ERROR : Empty Response", true);
     }
 
-    private ResponseEntity<String> syncRegistration(String centerId, String source, String process, String fileName, byte[] file, String supervisorStatus,
+    private ResponseEntity<String> syncRegistration(String centerId, String source, String process, String fileName, File file, String supervisorStatus,
                                  List<String> additionalInfoFields, List<MachineRegistrationCenterDto> machineList, String transactionId) {
         String containerName = fileName.replace(".zip", "");
         String id = containerName.split("-")[0];
 
+        //the packet is read once for all the machines, the permits bound the packets held in memory
+        decryptPermits.acquireUninterruptibly();
+        try {
+            byte[] encryptedPacket;
+            String packetHash;
+            try {
+                encryptedPacket = Files.readAllBytes(file.toPath());
+                packetHash = HMACUtils2.digestAsPlainText(encryptedPacket);
+            } catch (IOException | NoSuchAlgorithmException e) {
+                logger.error("Failed to read packet : {}", containerName, e);
+                return null;
+            }
+            return syncRegistration(centerId, source, process, containerName, id, encryptedPacket, packetHash,
+                    supervisorStatus, additionalInfoFields, machineList, transactionId);
+        } finally {
+            decryptPermits.release();
+        }
+    }
+
+    private ResponseEntity<String> syncRegistration(String centerId, String source, String process, String containerName,
+                                 String id, byte[] encryptedPacket, String packetHash, String supervisorStatus,
+                                 List<String> additionalInfoFields, List<MachineRegistrationCenterDto> machineList, String transactionId) {
         for(MachineRegistrationCenterDto m : machineList) {
             String refId = centerId + "_" + m.getId();
             File packet = new File(baseLocation + File.separator + account + File.separator + id + ".zip");
             try {
                 logger.info("Iterating RefId : {} with additionalInfoFields : {}", refId, additionalInfoFields);
-                FileUtils.writeByteArrayToFile(packet, onlineCrypto.decrypt(refId, file));
+                FileUtils.writeByteArrayToFile(packet, onlineCrypto.decrypt(refId, encryptedPacket));
                 Map<String, String> additionalInfoFieldValues = packetReader.getFields(id, additionalInfoFields, source, process, true);
 
                 List<String> fullName = new ArrayList<>();
@@ -219,8 +300,8 @@ public class PacketUploadService {
                 syncdto.setRegistrationId(id);
                 syncdto.setRegistrationType(process);
                 syncdto.setPacketId(containerName);
-                syncdto.setPacketHashValue(HMACUtils2.digestAsPlainText(file));
-                syncdto.setPacketSize(BigInteger.valueOf(file.length));
+                syncdto.setPacketHashValue(packetHash);
+                syncdto.setPacketSize(BigInteger.valueOf(encryptedPacket.length));
                 syncdto.setSupervisorStatus(supervisorStatus);
                 syncdto.setName(String.join(SPACE, fullName));
                 syncdto.setPhone(additionalInfoFieldValues.get(phoneFieldName));
@@ -256,19 +337,23 @@ public class PacketUploadService {
         return null;
     }
 
-    private ResponseEntity<String> uploadPacket(String fileName, byte[] file) {
+    private ResponseEntity<String> uploadPacket(String fileName, File file) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if(authentication != null && authentication.getPrincipal() instanceof AuthUserDetails)
+            headers.add(HttpHeaders.COOKIE, AUTH_COOKIE + ((AuthUserDetails) authentication.getPrincipal()).getToken());
         MultiValueMap<String, String> fileMap = new LinkedMultiValueMap<>();
         ContentDisposition contentDisposition = ContentDisposition.builder("form-data").name("file")
                 .filename(fileName).build();
         fileMap.add(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString());
         try {
-            HttpEntity<byte[]> fileEntity = new HttpEntity<>(file, fileMap);
+            //the packet is written to the request from the file
+            HttpEntity<Resource> fileEntity = new HttpEntity<>(new FileSystemResource(file), fileMap);
             MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
             body.add("file", fileEntity);
             HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
-            return restTemplate.exchange(packetReceiverURL, HttpMethod.POST,
+            return uploadRestTemplate.exchange(packetReceiverURL, HttpMethod.POST,
                     requestEntity, String.class);
 
         } catch (Exception e) {
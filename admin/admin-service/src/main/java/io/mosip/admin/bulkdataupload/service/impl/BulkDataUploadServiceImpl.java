@@ -1,6 +1,9 @@
 package io.mosip.admin.bulkdataupload.service.impl;
 
 import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -8,6 +11,7 @@ import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -15,6 +19,9 @@ import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
 import javax.sql.DataSource;
 
+import io.mosip.admin.bulkdataupload.batch.BulkJobLauncher;
+import io.mosip.admin.bulkdataupload.batch.CsvFilePartitioner;
+import io.mosip.admin.bulkdataupload.batch.CsvPartitionHandler;
 import io.mosip.admin.bulkdataupload.batch.CustomLineMapper;
 import io.mosip.admin.bulkdataupload.batch.JobResultListener;
 import io.mosip.admin.bulkdataupload.batch.PacketUploadTasklet;
@@ -28,24 +35,24 @@ import org.slf4j.LoggerFactory;
 import org.springframework.batch.core.*;
 import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
 import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
-import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.job.builder.SimpleJobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.listener.JobExecutionListenerSupport;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.file.FlatFileItemReader;
-import org.springframework.batch.item.file.LineCallbackHandler;
 import org.springframework.batch.item.file.mapping.BeanWrapperFieldSetMapper;
 import org.springframework.batch.item.file.transform.DelimitedLineTokenizer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.ApplicationContext;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.core.convert.support.DefaultConversionService;
-import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -87,11 +94,9 @@ public class BulkDataUploadServiceImpl implements BulkDataService {
 	private static Predicate<String> emptyCheck = String::isBlank;
 	private static String STATUS_MESSAGE = "SUCCESS: %d, FAILED: %d";
 	private static String CSV_UPLOAD_MESSAGE = "FILE: %s, READ: %d, STATUS: %s, MESSAGE: %s";
+	private static final int ENTITY_NAME_LENGTH = 64;
 	private static String PKT_UPLOAD_MESSAGE = "FILE: %s, STATUS: %s, MESSAGE: %s";
 
-	@Autowired
-	ApplicationContext applicationContext;
-
 	@Autowired
 	private AuditUtil auditUtil;
 
@@ -130,6 +135,10 @@ public class BulkDataUploadServiceImpl implements BulkDataService {
 	@Qualifier("customStepBuilderFactory")
 	private StepBuilderFactory stepBuilderFactory;
 
+	@Autowired
+	@Qualifier("csvPartitionTaskExecutor")
+	private TaskExecutor csvPartitionTaskExecutor;
+
 	@Autowired
 	private DataSource dataSource;
 
@@ -142,8 +151,56 @@ public class BulkDataUploadServiceImpl implements BulkDataService {
 	@Value("${mosip.optional-languages}")
 	private String optionalLanguages;
 
+	/**
+	 * Number of CSV rows written in one transaction, also the JDBC batch size
+	 */
+	@Value("${mosip.admin.bulkdataupload.chunk-size:100}")
+	private int chunkSize;
+
+	/**
+	 * Priority of the CSV upload jobs in the job queue, higher priority jobs are run first
+	 */
+	@Value("${mosip.admin.bulkdataupload.job.priority.masterdata:1}")
+	private long masterdataJobPriority;
+
+	/**
+	 * Priority of the packet upload jobs in the job queue
+	 */
+	@Value("${mosip.admin.bulkdataupload.job.priority.packet:0}")
+	private long packetJobPriority;
+
+	/**
+	 * Maximum number of partitions of an uploaded CSV file, the partitions are read and written in parallel
+	 */
+	@Value("${mosip.admin.bulkdataupload.partition.grid-size:4}")
+	private int partitionGridSize;
+
+	/**
+	 * Minimum number of bytes in a partition, smaller files are read in one partition
+	 */
+	@Value("${mosip.admin.bulkdataupload.partition.min-size:1048576}")
+	private long minPartitionSize;
+
+	/**
+	 * Tables loaded in one upload are loaded in this order
+	 */
+	@Value("${mosip.admin.bulkdataupload.table-load-order:language,loc_hierarchy_list,location,zone,zone_user,zone_user_h,reg_center_type,registration_center,registration_center_h,machine_type,machine_spec,machine_master,machine_master_h,device_type,device_spec,device_master,device_master_h,user_detail,user_detail_h,doc_category,doc_type,valid_document,template_file_format,template_type,template,reason_category,reason_list}")
+	private String tableLoadOrder;
+
+	@Value("${mosip.admin.bulkdataupload.spool-dir:${java.io.tmpdir}/admin-bulk-upload}")
+	private String spoolDir;
+
 	private Map<String, Class> entityMap = new HashMap<String, Class>();
 
+	/**
+	 * Field set mappers by entity, the mappers are stateless once built and are shared by the jobs
+	 */
+	private final Map<Class<?>, BeanWrapperFieldSetMapper<Object>> fieldSetMappers = new ConcurrentHashMap<>();
+
+	private volatile ConversionService conversionService;
+
+	private volatile List<String> configuredLanguages;
+
 
 	@Override
 	public BulkDataGetExtnDto getTrascationDetails(String transcationId) {
@@ -226,25 +283,47 @@ public class BulkDataUploadServiceImpl implements BulkDataService {
 					BulkUploadErrorCode.INVALID_ARGUMENT.getErrorMessage() + "TABLENAME");
 		}
 
-		Class<?> entity = mapper.getEntity(tableName);
-		if (entity == null) {
+		//files of a single table, or one file for each of the comma separated tables
+		List<String> tableNames = Arrays.stream(tableName.split(","))
+				.map(String::trim)
+				.filter(emptyCheck.negate())
+				.collect(Collectors.toList());
+		if (tableNames.isEmpty() || (tableNames.size() > 1 && tableNames.size() != files.length)) {
 			auditUtil.setAuditRequestDto(EventEnum.BULKDATA_INVALID_ARGUMENT);
 			throw new RequestException(BulkUploadErrorCode.INVALID_ARGUMENT.getErrorCode(),
 					BulkUploadErrorCode.INVALID_ARGUMENT.getErrorMessage() + "TABLENAME");
 		}
 
+		Map<String, List<MultipartFile>> tableFiles = new LinkedHashMap<>();
+		for (int i = 0; i < files.length; i++) {
+			String table = tableNames.size() == 1 ? tableNames.get(0) : tableNames.get(i);
+			if (mapper.getEntity(table) == null) {
+				auditUtil.setAuditRequestDto(EventEnum.BULKDATA_INVALID_ARGUMENT);
+				throw new RequestException(BulkUploadErrorCode.INVALID_ARGUMENT.getErrorCode(),
+						BulkUploadErrorCode.INVALID_ARGUMENT.getErrorMessage() + "TABLENAME");
+			}
+			tableFiles.computeIfAbsent(table, key -> new ArrayList<>()).add(files[i]);
+		}
+
 		logger.info("category {}, tablename: {} , operation: {}, Uploaded files : {}", AuditUtil.neutralizeParam(category), AuditUtil.neutralizeParam(tableName), AuditUtil.neutralizeParam(operation),
 				AuditUtil.neutralizeParam(files.length));
 
 		auditUtil.setAuditRequestDto(EventEnum.getEventEnumWithValue(EventEnum.BULKDATA_UPLOAD,
 				"{category:'" + category + "',tablename:'" + tableName + "',operation:'" + operation + "'}"));
 
+		String entityNames = tableFiles.keySet().stream()
+				.map(table -> mapper.getEntity(table).getSimpleName())
+				.collect(Collectors.joining(","));
 		BulkUploadTranscation bulkUploadTranscation = saveTranscationDetails(0, operation,
-				entity.getSimpleName(), category, "", "PROCESSING");
+				entityNames.length() > ENTITY_NAME_LENGTH ? entityNames.substring(0, ENTITY_NAME_LENGTH) : entityNames,
+				category, "", "PROCESSING");
 
-		Arrays.stream(new MultipartFile[]{files[0]}).forEach(file -> {
-			String message = null;
-			try {
+		String fileNames = Arrays.stream(files).map(MultipartFile::getOriginalFilename)
+				.collect(Collectors.joining(","));
+		List<File> spooledFiles = new ArrayList<>();
+		String message = null;
+		try {
+			for (MultipartFile file : files) {
 				logger.info("Is file empty ? {}, file-size :{}", file.isEmpty(), file.getSize());
 				if (file.isEmpty()) {
 					throw new RequestException(BulkUploadErrorCode.EMPTY_FILE.getErrorCode(),
@@ -255,37 +334,51 @@ public class BulkDataUploadServiceImpl implements BulkDataService {
 					throw new RequestException(BulkUploadErrorCode.INVALID_FILE_FORMAT.getErrorCode(),
 							BulkUploadErrorCode.INVALID_FILE_FORMAT.getErrorMessage());
 				}
+			}
 
-				auditUtil.setAuditRequestDto(EventEnum.getEventEnumWithValue(EventEnum.BULKDATA_UPLOAD_CSV,
-						operation + " from " + file.getOriginalFilename()));
-
-				JobParameters jobParameters = new JobParametersBuilder()
-						.addString("transactionId", bulkUploadTranscation.getId())
-						.addString("username", SecurityContextHolder.getContext().getAuthentication().getName())
-						.addLong("time", System.currentTimeMillis())
-						.toJobParameters();
-				jobLauncher.run(getJob(file,operation, mapper.getRepo(entity), setCreateMetaData(), entity),
-								jobParameters);
-
-				auditUtil.setAuditRequestDto(EventEnum.getEventEnumWithValue(EventEnum.BULKDATA_UPLOAD_JOBDETAILS,
-						bulkUploadTranscation.getId()));
-
-			} catch (Throwable e) {
-				logger.error("Failed to import data from CSV", e);
-				message = String.format(CSV_UPLOAD_MESSAGE, file.getOriginalFilename(), 0, "FAILED", e.getMessage());
+			auditUtil.setAuditRequestDto(EventEnum.getEventEnumWithValue(EventEnum.BULKDATA_UPLOAD_CSV,
+					operation + " from " + fileNames));
+
+			//files are spooled to disk, the queued job reads the partitions of the files in parallel
+			Map<String, Map<File, String>> tableSpooledFiles = new LinkedHashMap<>();
+			for (String table : getTablesInLoadOrder(tableFiles.keySet())) {
+				Map<File, String> spooled = new LinkedHashMap<>();
+				for (MultipartFile file : tableFiles.get(table)) {
+					File csvFile = spoolFile(file);
+					spooledFiles.add(csvFile);
+					spooled.put(csvFile, file.getOriginalFilename());
+				}
+				tableSpooledFiles.put(table, spooled);
 			}
 
-			//On failure of launching job
-			if(message != null) {
-				auditUtil.setAuditRequestDto(EventEnum.getEventEnumWithValue(EventEnum.BULKDATA_UPLOAD_COMPLETED,
-						bulkUploadTranscation.getId() + " --> " + message));
+			JobParameters jobParameters = new JobParametersBuilder()
+					.addString("transactionId", bulkUploadTranscation.getId())
+					.addString(BulkJobLauncher.USERNAME, SecurityContextHolder.getContext().getAuthentication().getName())
+					.addString(BulkJobLauncher.TABLE_NAME, String.join(",", tableSpooledFiles.keySet()))
+					.addLong(BulkJobLauncher.PRIORITY, masterdataJobPriority)
+					.addLong("time", System.currentTimeMillis())
+					.toJobParameters();
+			jobLauncher.run(getJob(tableSpooledFiles, operation, setCreateMetaData(), spooledFiles),
+							jobParameters);
+
+			auditUtil.setAuditRequestDto(EventEnum.getEventEnumWithValue(EventEnum.BULKDATA_UPLOAD_JOBDETAILS,
+					bulkUploadTranscation.getId()));
+
+		} catch (Throwable e) {
+			logger.error("Failed to import data from CSV", e);
+			message = String.format(CSV_UPLOAD_MESSAGE, fileNames, 0, "FAILED", e.getMessage());
+			spooledFiles.forEach(FileUtils::deleteQuietly);
+		}
 
-				bulkUploadTranscation.setUploadDescription(message);
-				bulkUploadTranscation.setRecordCount(0);
-				updateBulkUploadTransaction(bulkUploadTranscation);
-			}
+		//On failure of launching job
+		if(message != null) {
+			auditUtil.setAuditRequestDto(EventEnum.getEventEnumWithValue(EventEnum.BULKDATA_UPLOAD_COMPLETED,
+					bulkUploadTranscation.getId() + " --> " + message));
 
-		});
+			bulkUploadTranscation.setUploadDescription(message);
+			bulkUploadTranscation.setRecordCount(0);
+			updateBulkUploadTransaction(bulkUploadTranscation);
+		}
 		return setResponseDetails(bulkUploadTranscation, tableName);
 	}
 
@@ -336,6 +429,7 @@ public class BulkDataUploadServiceImpl implements BulkDataService {
 
 		Arrays.stream(files).forEach( file -> {
 			String message = null;
+			File packet = null;
 			auditUtil.setAuditRequestDto(EventEnum.getEventEnumWithValue(EventEnum.BULKDATA_PACKET_UPLOAD, file.getOriginalFilename()));
 			try {
 				if (!file.getOriginalFilename().endsWith(".zip")) {
@@ -350,11 +444,13 @@ public class BulkDataUploadServiceImpl implements BulkDataService {
 							BulkUploadErrorCode.EMPTY_FILE.getErrorMessage());
 				}
 
+				//packet is spooled to disk, the job reads it from the file
+				packet = packetUploadService.spoolPacket(file);
 				Job job = jobBuilderFactory.get("ETL-Load")
 						.listener(jobResultListener)
 						.incrementer(new RunIdIncrementer())
 						.start(stepBuilderFactory.get("packet-upload")
-								.tasklet(new PacketUploadTasklet(file.getOriginalFilename(), file.getBytes(),
+								.tasklet(new PacketUploadTasklet(file.getOriginalFilename(), packet,
 										packetUploadService, centerId, supervisorStatus,
 										source, process, hasDataReadRole ? "SYNC-UPLOAD" : "UPLOAD"))
 								.build())
@@ -362,7 +458,8 @@ public class BulkDataUploadServiceImpl implements BulkDataService {
 
 				JobParameters jobParameters = new JobParametersBuilder()
 						.addString("transactionId", bulkUploadTranscation.getId())
-						.addString("username", SecurityContextHolder.getContext().getAuthentication().getName())
+						.addString(BulkJobLauncher.USERNAME, SecurityContextHolder.getContext().getAuthentication().getName())
+						.addLong(BulkJobLauncher.PRIORITY, packetJobPriority)
 						.addLong("time", System.currentTimeMillis())
 						.toJobParameters();
 
@@ -371,6 +468,7 @@ public class BulkDataUploadServiceImpl implements BulkDataService {
 			} catch (Throwable e) {
 				logger.error("Failed to sync and upload packet", e);
 				message = String.format(PKT_UPLOAD_MESSAGE, file.getOriginalFilename(), "FAILED", e.getMessage());
+				FileUtils.deleteQuietly(packet);
 			}
 
 			if(message != null) {
@@ -389,20 +487,73 @@ public class BulkDataUploadServiceImpl implements BulkDataService {
 		return grantedAuthorities.stream().anyMatch( ga -> ga.getAuthority().equalsIgnoreCase(DATA_READ_ROLE));
 	}
 
-	private Job getJob(MultipartFile file, String operation, String repositoryName, String contextUser,
-					   Class<?> entity) throws IOException {
-		Step step = stepBuilderFactory.get("ETL-file-load")
-				.<Object, List<Object>>chunk(100)
-				.reader(itemReader(file, entity))
+	/**
+	 * Builds the job loading the tables one after the other in the given order, each table with a partitioned
+	 * step reading the partitions of its files in parallel. The job stops at the first table which fails, and the
+	 * spooled files are deleted once the job completes.
+	 */
+	private Job getJob(Map<String, Map<File, String>> tableFiles, String operation, String contextUser,
+					   List<File> spooledFiles) {
+		SimpleJobBuilder jobBuilder = null;
+		for (Map.Entry<String, Map<File, String>> entry : tableFiles.entrySet()) {
+			Class<?> entity = mapper.getEntity(entry.getKey());
+			CsvFilePartitioner partitioner = new CsvFilePartitioner(entry.getValue(),
+					new CustomRecordSeparatorPolicy(), partitionGridSize, minPartitionSize);
+			Step step = stepBuilderFactory.get("ETL-file-load:" + entry.getKey())
+					.partitioner("ETL-file-partition:" + entry.getKey(), partitioner)
+					.partitionHandler(new CsvPartitionHandler(
+							partition -> getPartitionStep(partition, operation, contextUser, entity),
+							csvPartitionTaskExecutor, partitionGridSize))
+					.build();
+			jobBuilder = jobBuilder == null ? jobBuilderFactory.get("ETL-Load")
+					.listener(jobResultListener)
+					.listener(new JobExecutionListenerSupport() {
+						@Override
+						public void afterJob(JobExecution jobExecution) {
+							spooledFiles.forEach(FileUtils::deleteQuietly);
+						}
+					})
+					.incrementer(new RunIdIncrementer())
+					.start(step) : jobBuilder.next(step);
+		}
+		return jobBuilder.build();
+	}
+
+	private Step getPartitionStep(ExecutionContext partition, String operation, String contextUser,
+								  Class<?> entity) {
+		return stepBuilderFactory.get("ETL-file-load")
+				.<Object, List<Object>>chunk(chunkSize)
+				.reader(itemReader(partition, entity))
 				.processor(processor(operation, contextUser))
-				.writer(itemWriterMapper(repositoryName, operationMapper(operation), entity))
+				.writer(itemWriterMapper(operationMapper(operation), entity))
 				.build();
+	}
 
-		return jobBuilderFactory.get("ETL-Load")
-				.listener(jobResultListener)
-				.incrementer(new RunIdIncrementer())
-				.start(step)
-				.build();
+	/**
+	 * Tables in the configured load order, parent tables before the tables referring to them. The tables
+	 * which are not in the configured order are loaded last, in the uploaded order.
+	 */
+	private List<String> getTablesInLoadOrder(Collection<String> tables) {
+		List<String> loadOrder = Arrays.asList(tableLoadOrder.split(","));
+		List<String> orderedTables = new ArrayList<>(tables);
+		orderedTables.sort(Comparator.comparingInt(table -> {
+			int index = loadOrder.indexOf(table);
+			return index < 0 ? Integer.MAX_VALUE : index;
+		}));
+		return orderedTables;
+	}
+
+	private File spoolFile(MultipartFile file) throws IOException {
+		Path spoolPath = Paths.get(spoolDir);
+		Files.createDirectories(spoolPath);
+		File csvFile = Files.createTempFile(spoolPath, "bulkupload-", ".csv").toFile();
+		try {
+			file.transferTo(csvFile);
+		} catch (IOException | RuntimeException e) {
+			FileUtils.deleteQuietly(csvFile);
+			throw e;
+		}
+		return csvFile;
 	}
 
 	private ConversionService customConversionService() {
@@ -442,32 +593,22 @@ public class BulkDataUploadServiceImpl implements BulkDataService {
 		return customConversionService;
 	}
 
-	@StepScope
-	private FlatFileItemReader<Object> itemReader(MultipartFile file, Class<?> clazz) throws IOException {
+	private FlatFileItemReader<Object> itemReader(ExecutionContext partition, Class<?> clazz) {
 
 		DelimitedLineTokenizer lineTokenizer = new DelimitedLineTokenizer();
 		lineTokenizer.setDelimiter(",");
 		lineTokenizer.setStrict(false);
+		//byte range of the partition starts after the header
+		lineTokenizer.setNames(partition.getString(CsvFilePartitioner.HEADER).split(","));
 
 		FlatFileItemReader<Object> flatFileItemReader = new FlatFileItemReader<>();
 		flatFileItemReader.setEncoding("UTF-8");
-		flatFileItemReader.setResource(new InputStreamResource(file.getInputStream()));
+		flatFileItemReader.setResource(CsvFilePartitioner.getResource(partition));
 		flatFileItemReader.setName("CSV-Reader");
 		flatFileItemReader.setRecordSeparatorPolicy(new CustomRecordSeparatorPolicy());
-		flatFileItemReader.setLinesToSkip(1);
-		flatFileItemReader.setSkippedLinesCallback(new LineCallbackHandler() {
-			@Override
-			public void handleLine(String s) {
-				lineTokenizer.setNames(s.split(","));
-			}
-		});
-		BeanWrapperFieldSetMapper<Object> fieldSetMapper = new BeanWrapperFieldSetMapper<>();
-		fieldSetMapper.setTargetType(clazz);
-		fieldSetMapper.setConversionService(customConversionService());
-
-		CustomLineMapper<Object> lineMapper = new CustomLineMapper<Object>(setupLanguages(), null);
+		CustomLineMapper<Object> lineMapper = new CustomLineMapper<Object>(getConfiguredLanguages(), null);
 		lineMapper.setLineTokenizer(lineTokenizer);
-		lineMapper.setFieldSetMapper(fieldSetMapper);
+		lineMapper.setFieldSetMapper(getFieldSetMapper(clazz));
 		flatFileItemReader.setLineMapper(lineMapper);
 		return flatFileItemReader;
 
@@ -501,29 +642,25 @@ public class BulkDataUploadServiceImpl implements BulkDataService {
 	}
 
 
-	private ItemWriter<List<Object>> insertItemWriter(String repoBeanName, String methodName, Class<?> entity) {
-		RepositoryListItemWriter<List<Object>> writer = new RepositoryListItemWriter<>(em, emf, entity, mapper,
-				applicationContext);
-		writer.setRepoBeanName(repoBeanName);
+	private ItemWriter<List<Object>> insertItemWriter(Class<?> entity) {
+		RepositoryListItemWriter<List<Object>> writer = new RepositoryListItemWriter<>(em, emf, entity);
 		writer.setOperation("insert");
-		writer.setMethodName(methodName);
+		writer.setBatchSize(chunkSize);
 		return writer;
 	}
 
-	private <T extends BaseEntity, S> ItemWriter<List<Object>> updateItemWriter(String repoName, Class<?> entity) {
-		RepositoryListItemWriter<List<Object>> writer = new RepositoryListItemWriter<>(em, emf, entity, mapper,
-				applicationContext);
-		writer.setRepoBeanName(repoName);
+	private <T extends BaseEntity, S> ItemWriter<List<Object>> updateItemWriter(Class<?> entity) {
+		RepositoryListItemWriter<List<Object>> writer = new RepositoryListItemWriter<>(em, emf, entity);
 		writer.setOperation("update");
+		writer.setBatchSize(chunkSize);
 		return writer;
 	}
 
 	@SuppressWarnings("unchecked")
-	private <T extends BaseEntity, S> ItemWriter<List<Object>> deleteItemWriter(String repoName, Class<?> entity) {
-		RepositoryListItemWriter<List<Object>> writer = new RepositoryListItemWriter<>(em, emf, entity, mapper,
-				applicationContext);
-		writer.setRepoBeanName(repoName);
+	private <T extends BaseEntity, S> ItemWriter<List<Object>> deleteItemWriter(Class<?> entity) {
+		RepositoryListItemWriter<List<Object>> writer = new RepositoryListItemWriter<>(em, emf, entity);
 		writer.setOperation("delete");
+		writer.setBatchSize(chunkSize);
 		return writer;
 	}
 
@@ -578,14 +715,14 @@ public class BulkDataUploadServiceImpl implements BulkDataService {
 		return operationName;
 	}
 
-	ItemWriter<List<Object>> itemWriterMapper(String repoBeanName, String operationName, Class<?> entity) {
+	ItemWriter<List<Object>> itemWriterMapper(String operationName, Class<?> entity) {
 		ItemWriter<List<Object>> item = null;
 		if (operationName.equalsIgnoreCase("create"))
-			item = insertItemWriter(repoBeanName, operationName, entity);
+			item = insertItemWriter(entity);
 		else if (operationName.equalsIgnoreCase("update"))
-			item = updateItemWriter(repoBeanName, entity);
+			item = updateItemWriter(entity);
 		else if (operationName.equalsIgnoreCase("delete"))
-			item = deleteItemWriter(repoBeanName, entity);
+			item = deleteItemWriter(entity);
 		return item;
 	}
 	
@@ -595,6 +732,27 @@ public class BulkDataUploadServiceImpl implements BulkDataService {
 				|| operation.equalsIgnoreCase("delete"));
 	}
 
+	private BeanWrapperFieldSetMapper<Object> getFieldSetMapper(Class<?> clazz) {
+		return fieldSetMappers.computeIfAbsent(clazz, entity -> {
+			BeanWrapperFieldSetMapper<Object> fieldSetMapper = new BeanWrapperFieldSetMapper<>();
+			fieldSetMapper.setTargetType(entity);
+			fieldSetMapper.setConversionService(getConversionService());
+			return fieldSetMapper;
+		});
+	}
+
+	private ConversionService getConversionService() {
+		if (conversionService == null)
+			conversionService = customConversionService();
+		return conversionService;
+	}
+
+	private List<String> getConfiguredLanguages() {
+		if (configuredLanguages == null)
+			configuredLanguages = Collections.unmodifiableList(setupLanguages());
+		return configuredLanguages;
+	}
+
 	private List<String> setupLanguages() {
 		List<String> configuredLanguages = new ArrayList<>();
 		if(mandatoryLanguages != null && !mandatoryLanguages.isBlank()) {
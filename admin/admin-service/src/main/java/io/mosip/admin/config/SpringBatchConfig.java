@@ -1,5 +1,6 @@
 package io.mosip.admin.config;
 
+import io.mosip.admin.bulkdataupload.batch.BulkJobLauncher;
 import io.mosip.admin.bulkdataupload.batch.JobResultListener;
 import io.mosip.admin.packetstatusupdater.util.AuditUtil;
 import org.digibooster.spring.batch.listener.JobExecutionListenerContextSupport;
@@ -7,14 +8,18 @@ import org.digibooster.spring.batch.security.listener.JobExecutionSecurityContex
 import org.springframework.batch.core.JobExecutionListener;
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
 import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
-import org.springframework.batch.core.launch.JobLauncher;
-import org.springframework.batch.core.launch.support.SimpleJobLauncher;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.task.DelegatingSecurityContextAsyncTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import javax.sql.DataSource;
@@ -38,12 +43,49 @@ public class SpringBatchConfig {
     @Autowired
     PlatformTransactionManager platformTransactionManager;
 
+    @Autowired
+    JobExplorer jobExplorer;
+
     @Autowired
     private DataSource dataSource;
 
     @Autowired
     private AuditUtil auditUtil;
 
+    /**
+     * Number of bulk upload jobs run at a time
+     */
+    @Value("${mosip.admin.bulkdataupload.job.workers:4}")
+    private int workers;
+
+    /**
+     * Number of bulk upload jobs waiting to be run, further uploads are rejected
+     */
+    @Value("${mosip.admin.bulkdataupload.job.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${mosip.admin.bulkdataupload.job.max-per-table:1}")
+    private int maxJobsPerTable;
+
+    @Value("${mosip.admin.bulkdataupload.job.max-per-user:2}")
+    private int maxJobsPerUser;
+
+    @Value("${mosip.admin.bulkdataupload.job.shutdown-timeout:30000}")
+    private long shutdownTimeout;
+
+    /**
+     * Fail on startup the jobs left queued or running by the previous run. To be disabled when several instances
+     * share the job repository, as the jobs running on the other instances would be failed too
+     */
+    @Value("${mosip.admin.bulkdataupload.job.fail-abandoned-on-startup:true}")
+    private boolean failAbandonedOnStartup;
+
+    /**
+     * Number of CSV file partitions read and written at a time, shared by all the running jobs
+     */
+    @Value("${mosip.admin.bulkdataupload.partition.threads:4}")
+    private int partitionThreads;
+
     @Bean
     public JobResultListener jobResultListener() {
         return new JobResultListener(dataSource, auditUtil, new JobExecutionSecurityContextListener());
@@ -56,12 +98,28 @@ public class SpringBatchConfig {
 
 
     @Bean(name = "asyncJobLauncher")
-    public JobLauncher simpleJobLauncher(JobRepository jobRepository) throws Exception {
-        SimpleJobLauncher jobLauncher = new SimpleJobLauncher();
-        jobLauncher.setJobRepository(jobRepository);
-        jobLauncher.setTaskExecutor(new SimpleAsyncTaskExecutor());
-        jobLauncher.afterPropertiesSet();
-        return jobLauncher;
+    public BulkJobLauncher simpleJobLauncher(JobRepository jobRepository) {
+        return new BulkJobLauncher(jobRepository, workers, queueCapacity, maxJobsPerTable, maxJobsPerUser,
+                shutdownTimeout);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void failAbandonedJobs() {
+        if (failAbandonedOnStartup)
+            applicationContext.getBean("asyncJobLauncher", BulkJobLauncher.class)
+                    .failAbandonedJobs(jobExplorer, jobResultListener());
+    }
+
+    @Bean(name = "csvPartitionTaskExecutor")
+    public TaskExecutor csvPartitionTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(partitionThreads);
+        executor.setMaxPoolSize(partitionThreads);
+        executor.setThreadNamePrefix("bulk-csv-partition-");
+        executor.setDaemon(true);
+        executor.initialize();
+        //partitions run with the security context of the job
+        return new DelegatingSecurityContextAsyncTaskExecutor(executor);
     }
 
 }
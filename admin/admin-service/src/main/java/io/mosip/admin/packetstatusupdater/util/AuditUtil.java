@@ -9,6 +9,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -30,6 +31,7 @@ import org.springframework.web.client.RestTemplate;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.mosip.admin.common.audit.AuditEventQueue;
 import io.mosip.admin.packetstatusupdater.constant.AuditErrorCode;
 import io.mosip.admin.packetstatusupdater.dto.AuditRequestDto;
 import io.mosip.admin.packetstatusupdater.dto.AuditResponseDto;
@@ -70,6 +72,30 @@ public class AuditUtil {
 	@Value("${mosip.kernel.masterdata.audit-url}")
 	private String auditUrl;
 
+	@Value("${mosip.admin.audit.async-enabled:true}")
+	private boolean asyncEnabled;
+
+	@Value("${mosip.admin.audit.queue-capacity:10000}")
+	private int queueCapacity;
+
+	@Value("${mosip.admin.audit.batch-size:100}")
+	private int batchSize;
+
+	@Value("${mosip.admin.audit.offer-timeout:0}")
+	private long offerTimeout;
+
+	@Value("${mosip.admin.audit.replay-interval:60000}")
+	private long replayInterval;
+
+	@Value("${mosip.admin.audit.spill-file:}")
+	private String spillFile;
+
+	@Value("${mosip.admin.audit.shutdown-timeout:10000}")
+	private long shutdownTimeout;
+
+	/** Audit events waiting to be sent, null when they are sent by the caller. */
+	private AuditEventQueue<AuditRequestDto> auditEventQueue;
+
 	@Autowired
 	@Qualifier("selfTokenRestTemplate")
 	private RestTemplate restTemplate;
@@ -93,7 +119,30 @@ public class AuditUtil {
 			Integer eventCount=Integer.getInteger(System.getProperty("seqGen"));
 			eventCounter=new AtomicInteger(eventCount);
 		}
-		
+		if (asyncEnabled) {
+			auditEventQueue = new AuditEventQueue<>("admin-audit-sender", queueCapacity, batchSize, offerTimeout,
+					replayInterval, spillFile, AuditRequestDto.class, objectMapper, this::callAuditManager);
+			auditEventQueue.start();
+		}
+	}
+
+	/**
+	 * Sends the queued audit events before the service stops.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		if (auditEventQueue != null) {
+			auditEventQueue.stop(shutdownTimeout);
+		}
+	}
+
+	/**
+	 * Gets the queue of the audit events.
+	 *
+	 * @return the queue, null if the audit events are sent by the caller
+	 */
+	public AuditEventQueue<AuditRequestDto> getAuditEventQueue() {
+		return auditEventQueue;
 	}
 	
 	/**
@@ -250,6 +299,8 @@ public class AuditUtil {
 						environment.equalsIgnoreCase("test")) )) {
 			LOGGER.info("Recieved Audit : "+auditRequestDto.toString());
 
+		} else if (auditEventQueue != null) {
+			auditEventQueue.submit(auditRequestDto);
 		} else {
 			callAuditManager(auditRequestDto);
 		}
@@ -0,0 +1,104 @@
+package io.mosip.admin.util;
+
+import io.mosip.admin.common.audit.AuditEventQueue;
+import io.mosip.admin.packetstatusupdater.dto.AuditRequestDto;
+import io.mosip.admin.packetstatusupdater.util.AuditUtil;
+import io.mosip.admin.packetstatusupdater.util.EventEnum;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+
+public class AuditUtilTest {
+
+    private static final String AUDIT_URL = "http://localhost/v1/auditmanager/audits";
+
+    private final RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
+
+    private final Environment env = Mockito.mock(Environment.class);
+
+    private File spillFile;
+
+    private AuditUtil auditUtil;
+
+    @Before
+    public void setUp() throws Exception {
+        spillFile = File.createTempFile("admin-audit-spill", ".log");
+        spillFile.delete();
+        Mockito.when(env.getActiveProfiles()).thenReturn(new String[] { "prod" });
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+
+        auditUtil = new AuditUtil();
+        ReflectionTestUtils.setField(auditUtil, "restTemplate", restTemplate);
+        ReflectionTestUtils.setField(auditUtil, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(auditUtil, "env", env);
+        ReflectionTestUtils.setField(auditUtil, "auditUrl", AUDIT_URL);
+        ReflectionTestUtils.setField(auditUtil, "asyncEnabled", true);
+        ReflectionTestUtils.setField(auditUtil, "queueCapacity", 100);
+        ReflectionTestUtils.setField(auditUtil, "batchSize", 10);
+        ReflectionTestUtils.setField(auditUtil, "replayInterval", 60000L);
+        ReflectionTestUtils.setField(auditUtil, "spillFile", spillFile.getPath());
+        ReflectionTestUtils.setField(auditUtil, "shutdownTimeout", 1000L);
+        ReflectionTestUtils.invokeMethod(auditUtil, "init");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        auditUtil.shutdown();
+        Files.deleteIfExists(spillFile.toPath());
+        Files.deleteIfExists(new File(spillFile.getPath() + ".replay").toPath());
+    }
+
+    @Test
+    public void auditEventIsSentByTheQueue() {
+        Mockito.when(exchange()).thenReturn(new ResponseEntity<>(
+                "{\"response\":{\"status\":true},\"errors\":[]}", HttpStatus.OK));
+
+        auditUtil.setAuditRequestDto(EventEnum.PACKET_STATUS, "admin");
+
+        Mockito.verify(restTemplate, Mockito.timeout(5000)).exchange(ArgumentMatchers.eq(AUDIT_URL),
+                ArgumentMatchers.eq(HttpMethod.POST), ArgumentMatchers.any(HttpEntity.class),
+                ArgumentMatchers.eq(String.class));
+        AuditEventQueue<AuditRequestDto> queue = auditUtil.getAuditEventQueue();
+        Assert.assertEquals(1, queue.getSubmittedCount());
+        Assert.assertEquals(0, queue.getDroppedCount());
+    }
+
+    @Test
+    public void auditEventIsSpilledWhenAuditManagerFails() throws Exception {
+        Mockito.when(exchange()).thenThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+
+        auditUtil.setAuditRequestDto(EventEnum.PACKET_STATUS, "admin");
+
+        AuditEventQueue<AuditRequestDto> queue = auditUtil.getAuditEventQueue();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (queue.getSpilledCount() == 0 && System.currentTimeMillis() < deadline)
+            Thread.sleep(20);
+        Assert.assertEquals(1, queue.getSpilledCount());
+        List<String> lines = Files.readAllLines(spillFile.toPath());
+        Assert.assertEquals(1, lines.size());
+        Assert.assertTrue(lines.get(0).contains(EventEnum.PACKET_STATUS.getEventId()));
+    }
+
+    private ResponseEntity<String> exchange() {
+        return restTemplate.exchange(ArgumentMatchers.anyString(), ArgumentMatchers.any(HttpMethod.class),
+                ArgumentMatchers.any(HttpEntity.class), ArgumentMatchers.eq(String.class));
+    }
+}
@@ -0,0 +1,289 @@
+package io.mosip.admin.util;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.admin.bulkdataupload.batch.BulkJobLauncher;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.JobParametersIncrementer;
+import org.springframework.batch.core.JobParametersValidator;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.job.DefaultJobParametersValidator;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class BulkJobLauncherTest {
+
+    private final JobRepository jobRepository = Mockito.mock(JobRepository.class);
+
+    private final List<String> started = Collections.synchronizedList(new ArrayList<>());
+
+    private final AtomicLong executionId = new AtomicLong();
+
+    private BulkJobLauncher launcher;
+
+    @After
+    public void tearDown() throws Exception {
+        SecurityContextHolder.clearContext();
+        if (launcher != null)
+            launcher.destroy();
+    }
+
+    @Test
+    public void higherPriorityJobIsTakenFirst() throws Exception {
+        launcher = startLauncher(1, 10, 0, 0);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(3);
+
+        launcher.run(new TestJob(release, done), parameters("first", "gender", "admin", 0));
+        awaitStarted(1);
+        launcher.run(new TestJob(null, done), parameters("packet", null, "admin", 0));
+        launcher.run(new TestJob(null, done), parameters("masterdata", "zone", "admin", 1));
+        Assert.assertEquals(2, launcher.getQueueDepth());
+
+        release.countDown();
+        Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(List.of("first", "masterdata", "packet"), started);
+        Assert.assertEquals(3, launcher.getSubmittedCount());
+    }
+
+    @Test
+    public void jobsOfSameTableRunOneAtATime() throws Exception {
+        launcher = startLauncher(2, 10, 1, 0);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch otherTableDone = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(3);
+
+        launcher.run(new TestJob(release, done), parameters("gender-1", "gender", "admin", 0));
+        awaitStarted(1);
+        launcher.run(new TestJob(null, done), parameters("gender-2", "Gender", "admin", 0));
+        launcher.run(new TestJob(null, done, otherTableDone), parameters("zone-1", "zone", "admin", 0));
+
+        //the second job of the table waits for the first, while the other table's job is run
+        Assert.assertTrue(otherTableDone.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(List.of("gender-1", "zone-1"), started);
+        Assert.assertEquals(1, launcher.getQueueDepth());
+
+        release.countDown();
+        Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(List.of("gender-1", "zone-1", "gender-2"), started);
+    }
+
+    @Test
+    public void jobIsRejectedWhenQueueIsFull() throws Exception {
+        launcher = startLauncher(1, 1, 0, 0);
+        CountDownLatch release = new CountDownLatch(1);
+
+        launcher.run(new TestJob(release), parameters("running", "gender", "admin", 0));
+        awaitStarted(1);
+        launcher.run(new TestJob(null), parameters("queued", "gender", "admin", 0));
+        try {
+            launcher.run(new TestJob(null), parameters("rejected", "gender", "admin", 0));
+            Assert.fail();
+        } catch (TaskRejectedException e) {
+            Assert.assertTrue(e.getMessage().contains("full"));
+        }
+        Assert.assertEquals(1, launcher.getRejectedCount());
+        Mockito.verify(jobRepository).update(Mockito.argThat(
+                (JobExecution execution) -> execution.getStatus() == BatchStatus.FAILED));
+        release.countDown();
+    }
+
+    @Test
+    public void authenticationOfLauncherIsSetOnWorker() throws Exception {
+        launcher = startLauncher(1, 10, 0, 0);
+        Authentication authentication = new UsernamePasswordAuthenticationToken("admin", "");
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        AtomicReference<Authentication> jobAuthentication = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        launcher.run(new TestJob(null, done) {
+            @Override
+            public void execute(JobExecution execution) {
+                jobAuthentication.set(SecurityContextHolder.getContext().getAuthentication());
+                super.execute(execution);
+            }
+        }, parameters("first", "gender", "admin", 0));
+        Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+        Assert.assertSame(authentication, jobAuthentication.get());
+
+        //the worker does not keep the authentication for the next job
+        SecurityContextHolder.clearContext();
+        CountDownLatch nextDone = new CountDownLatch(1);
+        jobAuthentication.set(authentication);
+        launcher.run(new TestJob(null, nextDone) {
+            @Override
+            public void execute(JobExecution execution) {
+                jobAuthentication.set(SecurityContextHolder.getContext().getAuthentication());
+                super.execute(execution);
+            }
+        }, parameters("second", "gender", "admin", 0));
+        Assert.assertTrue(nextDone.await(10, TimeUnit.SECONDS));
+        Assert.assertNull(jobAuthentication.get());
+    }
+
+    @Test
+    public void abandonedJobsOfPreviousRunAreFailed() throws Exception {
+        JobExecution queued = execution(1, "queued", BatchStatus.STARTING, -60000);
+        JobExecution running = execution(2, "running", BatchStatus.STARTED, -60000);
+        StepExecution runningStep = running.createStepExecution("step");
+        runningStep.setStatus(BatchStatus.STARTED);
+        launcher = startLauncher(1, 10, 0, 0);
+        JobExecution launched = execution(3, "launched", BatchStatus.STARTING, 60000);
+        JobExplorer jobExplorer = Mockito.mock(JobExplorer.class);
+        Mockito.when(jobExplorer.getJobNames()).thenReturn(List.of("ETL-Load"));
+        Mockito.when(jobExplorer.findRunningJobExecutions("ETL-Load")).thenReturn(Set.of(queued, running, launched));
+        JobExecutionListener listener = Mockito.mock(JobExecutionListener.class);
+
+        Assert.assertEquals(2, launcher.failAbandonedJobs(jobExplorer, listener));
+
+        for (JobExecution execution : List.of(queued, running)) {
+            Assert.assertEquals(BatchStatus.FAILED, execution.getStatus());
+            Assert.assertEquals("FAILED", execution.getExitStatus().getExitCode());
+            Assert.assertNotNull(execution.getEndTime());
+            Mockito.verify(jobRepository).update(execution);
+            Mockito.verify(listener).afterJob(execution);
+        }
+        Assert.assertEquals(BatchStatus.FAILED, runningStep.getStatus());
+        Mockito.verify(jobRepository).update(runningStep);
+        //the job launched since the start is left to the launcher
+        Assert.assertEquals(BatchStatus.STARTING, launched.getStatus());
+        Mockito.verify(jobRepository, Mockito.never()).update(launched);
+        Mockito.verify(listener, Mockito.never()).afterJob(launched);
+        Assert.assertEquals(2, launcher.getAbandonedCount());
+    }
+
+    @Test
+    public void metricsAreBoundToRegistry() throws Exception {
+        launcher = startLauncher(1, 1, 0, 0);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        launcher.bindTo(registry);
+        CountDownLatch release = new CountDownLatch(1);
+
+        launcher.run(new TestJob(release), parameters("running", "gender", "admin", 0));
+        awaitStarted(1);
+        launcher.run(new TestJob(null), parameters("queued", "gender", "admin", 0));
+        try {
+            launcher.run(new TestJob(null), parameters("rejected", "gender", "admin", 0));
+            Assert.fail();
+        } catch (TaskRejectedException e) {
+            //the queue is full
+        }
+
+        Assert.assertEquals(1, registry.get("admin.bulkupload.job.queue.depth").gauge().value(), 0);
+        Assert.assertEquals(1, registry.get("admin.bulkupload.job.running").gauge().value(), 0);
+        Assert.assertEquals(2, registry.get("admin.bulkupload.job.submitted").functionCounter().count(), 0);
+        Assert.assertEquals(1, registry.get("admin.bulkupload.job.rejected").functionCounter().count(), 0);
+        FunctionTimer wait = registry.get("admin.bulkupload.job.wait").functionTimer();
+        Assert.assertEquals(1, wait.count(), 0);
+        release.countDown();
+    }
+
+    private static JobExecution execution(long id, String transactionId, BatchStatus status, long createdInMillis) {
+        JobExecution execution = new JobExecution(new JobInstance(id, "ETL-Load"), id,
+                parameters(transactionId, "gender", "admin", 0), null);
+        execution.setStatus(status);
+        execution.setCreateTime(new Date(System.currentTimeMillis() + createdInMillis));
+        return execution;
+    }
+
+    private BulkJobLauncher startLauncher(int workers, int queueCapacity, int maxJobsPerTable, int maxJobsPerUser)
+            throws Exception {
+        Mockito.when(jobRepository.createJobExecution(Mockito.anyString(), Mockito.any(JobParameters.class)))
+                .thenAnswer(invocation -> new JobExecution(
+                        new JobInstance(executionId.incrementAndGet(), invocation.getArgument(0)),
+                        executionId.get(), invocation.getArgument(1), null));
+        BulkJobLauncher bulkJobLauncher = new BulkJobLauncher(jobRepository, workers, queueCapacity,
+                maxJobsPerTable, maxJobsPerUser, 5000);
+        bulkJobLauncher.afterPropertiesSet();
+        return bulkJobLauncher;
+    }
+
+    private void awaitStarted(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (started.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(count, started.size());
+    }
+
+    private static JobParameters parameters(String transactionId, String tableName, String username, long priority) {
+        JobParametersBuilder builder = new JobParametersBuilder()
+                .addString("transactionId", transactionId)
+                .addString(BulkJobLauncher.USERNAME, username)
+                .addLong(BulkJobLauncher.PRIORITY, priority);
+        if (tableName != null)
+            builder.addString(BulkJobLauncher.TABLE_NAME, tableName);
+        return builder.toJobParameters();
+    }
+
+    private class TestJob implements Job {
+
+        private final CountDownLatch release;
+        private final CountDownLatch[] done;
+
+        private TestJob(CountDownLatch release, CountDownLatch... done) {
+            this.release = release;
+            this.done = done;
+        }
+
+        @Override
+        public String getName() {
+            return "test-job";
+        }
+
+        @Override
+        public boolean isRestartable() {
+            return false;
+        }
+
+        @Override
+        public void execute(JobExecution execution) {
+            started.add(execution.getJobParameters().getString("transactionId"));
+            try {
+                if (release != null)
+                    release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            execution.setStatus(BatchStatus.COMPLETED);
+            for (CountDownLatch latch : done) {
+                if (latch != null)
+                    latch.countDown();
+            }
+        }
+
+        @Override
+        public JobParametersIncrementer getJobParametersIncrementer() {
+            return null;
+        }
+
+        @Override
+        public JobParametersValidator getJobParametersValidator() {
+            return new DefaultJobParametersValidator();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package io.mosip.admin.util;
+
+import io.mosip.admin.bulkdataupload.batch.CsvFilePartitioner;
+import io.mosip.admin.bulkdataupload.batch.CustomRecordSeparatorPolicy;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class CsvFilePartitionerTest {
+
+    private static final String HEADER = "code,name,langCode,isActive";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void fileIsSplitOnRecordBoundaries() throws Exception {
+        List<String> records = new ArrayList<>();
+        StringBuilder content = new StringBuilder(HEADER).append("\r\n");
+        for (int i = 0; i < 1000; i++) {
+            String record = "GEN" + i + ",Gender " + i + ",eng,TRUE";
+            records.add(record);
+            content.append(record).append("\r\n");
+            if (i % 97 == 0)
+                content.append("  \r\n");
+        }
+        File file = writeFile("gender.csv", content.toString());
+
+        List<ExecutionContext> partitions = partition(file, 4, 1000);
+
+        Assert.assertEquals(4, partitions.size());
+        String[] lines = content.toString().split("\r\n", -1);
+        List<String> read = new ArrayList<>();
+        long end = partitions.get(0).getLong(CsvFilePartitioner.START_OFFSET);
+        for (ExecutionContext partition : partitions) {
+            Assert.assertEquals(HEADER, partition.getString(CsvFilePartitioner.HEADER));
+            Assert.assertEquals("gender.csv", partition.getString(CsvFilePartitioner.FILE_NAME));
+            Assert.assertEquals(end, partition.getLong(CsvFilePartitioner.START_OFFSET));
+            end = partition.getLong(CsvFilePartitioner.END_OFFSET);
+
+            String[] partitionLines = read(partition).split("\r\n");
+            Assert.assertEquals(lines[partition.getInt(CsvFilePartitioner.START_LINE) - 1], partitionLines[0]);
+            for (String line : partitionLines) {
+                if (!line.isBlank())
+                    read.add(line);
+            }
+        }
+        Assert.assertEquals(file.length(), end);
+        Assert.assertEquals(records, read);
+    }
+
+    @Test
+    public void smallFileIsOnePartition() throws Exception {
+        File file = writeFile("gender.csv", HEADER + "\nMLE,Male,eng,TRUE\nFLE,Female,eng,TRUE");
+
+        List<ExecutionContext> partitions = partition(file, 4, 1048576);
+
+        Assert.assertEquals(1, partitions.size());
+        Assert.assertEquals(2, partitions.get(0).getInt(CsvFilePartitioner.START_LINE));
+        Assert.assertEquals("MLE,Male,eng,TRUE\nFLE,Female,eng,TRUE", read(partitions.get(0)));
+    }
+
+    private List<ExecutionContext> partition(File file, int maxPartitions, long minPartitionSize) {
+        Map<File, String> files = new LinkedHashMap<>();
+        files.put(file, file.getName());
+        List<ExecutionContext> partitions = new ArrayList<>(new CsvFilePartitioner(files,
+                new CustomRecordSeparatorPolicy(), maxPartitions, minPartitionSize).partition(maxPartitions).values());
+        partitions.sort(Comparator.comparingLong(partition -> partition.getLong(CsvFilePartitioner.START_OFFSET)));
+        return partitions;
+    }
+
+    private File writeFile(String name, String content) throws Exception {
+        File file = temporaryFolder.newFile(name);
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static String read(ExecutionContext partition) throws Exception {
+        try (InputStream inputStream = CsvFilePartitioner.getResource(partition).getInputStream()) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -15,10 +15,13 @@ import io.mosip.commons.packet.impl.OnlinePacketCryptoServiceImpl;
 import io.mosip.commons.packet.keeper.PacketKeeper;
 import io.mosip.kernel.core.http.ResponseWrapper;
 import org.apache.commons.io.output.ByteArrayOutputStream;
+import org.hamcrest.Matchers;
 import org.json.JSONException;
 import org.junit.Assert;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -29,13 +32,16 @@ import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.test.web.client.match.MockRestRequestMatchers;
 import org.springframework.test.web.client.response.MockRestResponseCreators;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.*;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
@@ -77,9 +83,16 @@ public class PacketUploadServiceTest {
 
     private MockRestServiceServer mockRestServiceServer;
 
+    private MockRestServiceServer uploadServer;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Before
     public void setup() throws PacketKeeperException, IOException {
         mockRestServiceServer = MockRestServiceServer.bindTo(restTemplate).build();
+        uploadServer = MockRestServiceServer.bindTo((RestTemplate) ReflectionTestUtils.getField(packetUploadService,
+                "uploadRestTemplate")).build();
 
         List<ValueDto> names = new ArrayList<>();
         names.add(new ValueDto("eng", "testuser"));
@@ -159,7 +172,7 @@ public class PacketUploadServiceTest {
         ResponseWrapper<String> uploadResponse = new ResponseWrapper<>();
         uploadResponse.setResponse("successful");
         uploadResponse.setErrors(null);
-        mockRestServiceServer.expect(MockRestRequestMatchers.requestTo(packetReceiverURL))
+        uploadServer.expect(MockRestRequestMatchers.requestTo(packetReceiverURL))
                 .andRespond(MockRestResponseCreators.withSuccess()
                         .body(objectMapper.writeValueAsString(uploadResponse))
                         .contentType(MediaType.APPLICATION_JSON_UTF8));
@@ -169,10 +182,10 @@ public class PacketUploadServiceTest {
 
         PacketUploadStatus packetUploadStatus = packetUploadService.syncAndUploadPacket(
                 "10003101070000220211225191146-10003_10107-20211225191543.zip",
-                new MockMultipartFile("10003101070000220211225191146-10003_10107-20211225191543",
+                packetUploadService.spoolPacket(new MockMultipartFile("10003101070000220211225191146-10003_10107-20211225191543",
                         "10003101070000220211225191146-10003_10107-20211225191543.zip",
                         "application/zip",
-                        new StringInputStream("dsdgsdfgsdfgdfgdfgsdfgsdfgsdfgsdfgsdfgsdfg")).getBytes(),
+                        new StringInputStream("dsdgsdfgsdfgdfgdfgsdfgsdfgsdfgsdfgsdfgsdfg"))),
                 "10003",
                 "APPROVED",
                 "REGISTRATION_CLIENT",
@@ -182,4 +195,36 @@ public class PacketUploadServiceTest {
         Assert.assertNotNull(packetUploadStatus);
         Assert.assertFalse(packetUploadStatus.isFailed());
     }
+
+    @Test
+    public void spoolPacketTest() throws IOException {
+        byte[] content = "dsdgsdfgsdfgdfgdfgsdfgsdfgsdfgsdfgsdfgsdfg".getBytes(StandardCharsets.UTF_8);
+        File packet = packetUploadService.spoolPacket(new MockMultipartFile("file",
+                "10003101070000220211225191146-10003_10107-20211225191543.zip", "application/zip", content));
+
+        Assert.assertTrue(packet.exists());
+        Assert.assertArrayEquals(content, Files.readAllBytes(packet.toPath()));
+        Assert.assertTrue(packet.delete());
+    }
+
+    @Test
+    public void onlyUploadPacketFromFileTest() throws IOException, JSONException {
+        File packet = temporaryFolder.newFile("10003101070000220211225191146-10003_10107-20211225191543.zip");
+        Files.write(packet.toPath(), "dsdgsdfgsdfgdfgdfgsdfgsdfgsdfgsdfgsdfgsdfg".getBytes(StandardCharsets.UTF_8));
+
+        ResponseWrapper<String> uploadResponse = new ResponseWrapper<>();
+        uploadResponse.setResponse("successful");
+        uploadResponse.setErrors(null);
+        uploadServer.expect(MockRestRequestMatchers.requestTo(packetReceiverURL))
+                .andExpect(MockRestRequestMatchers.content().string(
+                        Matchers.containsString("dsdgsdfgsdfgdfgdfgsdfgsdfgsdfgsdfgsdfgsdfg")))
+                .andRespond(MockRestResponseCreators.withSuccess()
+                        .body(objectMapper.writeValueAsString(uploadResponse))
+                        .contentType(MediaType.APPLICATION_JSON_UTF8));
+
+        PacketUploadStatus packetUploadStatus = packetUploadService.onlyUploadPacket(packet.getName(), packet);
+
+        Assert.assertFalse(packetUploadStatus.isFailed());
+        uploadServer.verify();
+    }
 }
@@ -0,0 +1,103 @@
+package io.mosip.admin.util;
+
+import com.sun.net.httpserver.HttpServer;
+import io.mosip.admin.bulkdataupload.dto.PacketUploadStatus;
+import io.mosip.admin.bulkdataupload.service.PacketUploadService;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Uploads a packet several times larger than the heap, in a separate JVM started with a small heap.
+ */
+public class PacketUploadSmallHeapTest {
+
+    private static final long PACKET_SIZE = 300L * 1024 * 1024;
+
+    private static final String HEAP = "-Xmx64m";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void packetLargerThanHeapIsUploaded() throws Exception {
+        File packet = temporaryFolder.newFile("10003101070000220211225191146-10003_10107-20211225191543.zip");
+        try (RandomAccessFile file = new RandomAccessFile(packet, "rw")) {
+            file.setLength(PACKET_SIZE);
+        }
+        File log = temporaryFolder.newFile("upload.log");
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        Process process = new ProcessBuilder(java, HEAP, "-cp", System.getProperty("java.class.path"),
+                Upload.class.getName(), packet.getPath(), temporaryFolder.newFolder().getPath())
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start();
+
+        Assert.assertTrue(process.waitFor(2, TimeUnit.MINUTES));
+        Assert.assertEquals(new String(Files.readAllBytes(log.toPath()), StandardCharsets.UTF_8), 0,
+                process.exitValue());
+    }
+
+    /**
+     * Uploads the packet given as first argument to a local packet receiver, which only counts the bytes received.
+     */
+    public static class Upload {
+
+        public static void main(String[] args) throws Exception {
+            File packet = new File(args[0]);
+            AtomicLong received = new AtomicLong();
+            HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            server.createContext("/packetreceiver", exchange -> {
+                byte[] buffer = new byte[8192];
+                try (InputStream body = exchange.getRequestBody()) {
+                    int read;
+                    while ((read = body.read(buffer)) != -1)
+                        received.addAndGet(read);
+                }
+                byte[] response = "{\"response\":\"successful\",\"errors\":null}".getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, response.length);
+                try (OutputStream body = exchange.getResponseBody()) {
+                    body.write(response);
+                }
+            });
+            server.start();
+            int exitCode = 1;
+            try {
+                PacketUploadService packetUploadService = new PacketUploadService();
+                ReflectionTestUtils.setField(packetUploadService, "baseLocation", args[1]);
+                ReflectionTestUtils.setField(packetUploadService, "account", "PACKET_MANAGER_ACCOUNT");
+                ReflectionTestUtils.setField(packetUploadService, "mandatoryLanguages", "eng");
+                ReflectionTestUtils.setField(packetUploadService, "maxConcurrentDecrypt", 1);
+                ReflectionTestUtils.setField(packetUploadService, "packetReceiverURL",
+                        "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort()
+                                + "/packetreceiver");
+                packetUploadService.init();
+
+                PacketUploadStatus status = packetUploadService.onlyUploadPacket(packet.getName(), packet);
+                if (status.isFailed() || received.get() < packet.length())
+                    System.err.println("Upload failed, status: " + status.getMessage() + ", bytes received: "
+                            + received.get() + " of " + packet.length());
+                else
+                    exitCode = 0;
+            } finally {
+                server.stop(0);
+            }
+            System.exit(exitCode);
+        }
+    }
+}
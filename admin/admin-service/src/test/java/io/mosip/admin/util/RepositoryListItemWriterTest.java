@@ -0,0 +1,151 @@
+package io.mosip.admin.util;
+
+import io.mosip.admin.TestBootApplication;
+import io.mosip.admin.bulkdataupload.batch.RepositoryListItemWriter;
+import io.mosip.admin.bulkdataupload.entity.BaseEntity;
+import io.mosip.admin.bulkdataupload.entity.Gender;
+import io.mosip.admin.bulkdataupload.entity.ZoneUser;
+import io.mosip.admin.bulkdataupload.entity.ZoneUserHistory;
+import io.mosip.admin.bulkdataupload.entity.id.CodeAndLanguageCodeID;
+import io.mosip.admin.bulkdataupload.entity.id.ZoneUserHistoryId;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.JobExecutionException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = TestBootApplication.class)
+public class RepositoryListItemWriterTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RepositoryListItemWriterTest.class);
+
+    private static final int ROWS = 10000;
+
+    private static final int CHUNK_SIZE = 500;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    public void insertAndUpdateInChunksTest() throws Exception {
+        List<Gender> genders = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            genders.add(gender("WRTG" + i, "Writer gender " + i));
+        }
+        long start = System.nanoTime();
+        writeInChunks(writer(Gender.class, "insert"), genders);
+        LOGGER.info("Inserted {} rows in {} ms", ROWS, (System.nanoTime() - start) / 1000000);
+        Assert.assertEquals(ROWS, countGenders());
+
+        for (Gender gender : genders) {
+            gender.setCreatedBy(null);
+            gender.setGenderName(gender.getGenderName() + " updated");
+            gender.setUpdatedBy("writer-test");
+            gender.setUpdatedDateTime(LocalDateTime.now());
+        }
+        start = System.nanoTime();
+        writeInChunks(writer(Gender.class, "update"), genders);
+        LOGGER.info("Updated {} rows in {} ms", ROWS, (System.nanoTime() - start) / 1000000);
+
+        Gender updated = em.find(Gender.class, new CodeAndLanguageCodeID("WRTG7", "eng"));
+        Assert.assertEquals("Writer gender 7 updated", updated.getGenderName());
+        Assert.assertEquals("superadmin", updated.getCreatedBy());
+    }
+
+    @Test(expected = JobExecutionException.class)
+    public void insertExistingEntryTest() throws Exception {
+        RepositoryListItemWriter<Object> writer = writer(Gender.class, "insert");
+        writeInChunks(writer, Arrays.asList(gender("WRTDUP", "Writer duplicate")));
+        writeInChunks(writer, Arrays.asList(gender("WRTDUP", "Writer duplicate")));
+    }
+
+    @Test(expected = JobExecutionException.class)
+    public void updateMissingEntryTest() throws Exception {
+        writeInChunks(writer(Gender.class, "update"), Arrays.asList(gender("WRTMISSING", "Writer missing")));
+    }
+
+    @Test
+    public void insertWithHistoryTest() throws Exception {
+        List<ZoneUser> zoneUsers = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            ZoneUser zoneUser = new ZoneUser();
+            zoneUser.setZoneCode("WRZ");
+            zoneUser.setUserId("writer-user-" + i);
+            zoneUser.setLangCode("eng");
+            setCreateMetaData(zoneUser);
+            zoneUsers.add(zoneUser);
+        }
+        writeInChunks(writer(ZoneUser.class, "insert"), zoneUsers);
+        Assert.assertEquals(10L, em.createQuery("SELECT COUNT(h) FROM ZoneUserHistory h WHERE h.zoneCode = 'WRZ'")
+                .getSingleResult());
+        Assert.assertNotNull(em.find(ZoneUserHistory.class,
+                new ZoneUserHistoryId("WRZ", "writer-user-3",
+                        zoneUsers.get(3).getCreatedDateTime())));
+    }
+
+    private <T> RepositoryListItemWriter<T> writer(Class<?> entity, String operation) {
+        RepositoryListItemWriter<T> writer = new RepositoryListItemWriter<>(em, emf, entity);
+        writer.setOperation(operation);
+        writer.setBatchSize(CHUNK_SIZE);
+        return writer;
+    }
+
+    private <T> void writeInChunks(RepositoryListItemWriter<T> writer, List<? extends T> items) throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        for (int from = 0; from < items.size(); from += CHUNK_SIZE) {
+            List<? extends T> chunk = items.subList(from, Math.min(items.size(), from + CHUNK_SIZE));
+            Exception failure = transactionTemplate.execute(status -> {
+                try {
+                    writer.write(chunk);
+                    return null;
+                } catch (Exception e) {
+                    status.setRollbackOnly();
+                    return e;
+                }
+            });
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    private long countGenders() {
+        return (Long) em.createQuery("SELECT COUNT(g) FROM Gender g WHERE g.code LIKE 'WRTG%'").getSingleResult();
+    }
+
+    private static Gender gender(String code, String name) {
+        Gender gender = new Gender();
+        gender.setCode(code);
+        gender.setLangCode("eng");
+        gender.setGenderName(name);
+        setCreateMetaData(gender);
+        return gender;
+    }
+
+    private static void setCreateMetaData(BaseEntity entity) {
+        entity.setIsActive(true);
+        entity.setIsDeleted(false);
+        entity.setCreatedBy("superadmin");
+        entity.setCreatedDateTime(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,132 @@
+package io.mosip.hotlist.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter of the hotlisted ids, keyed by id hash and id type.
+ *
+ * A negative answer is definite: the id is not in the hotlist table. A
+ * positive answer may be wrong with about the false positive probability the
+ * filter is sized for. Ids can be added concurrently but not removed, so ids
+ * deleted from the table stay in the filter until it is rebuilt.
+ */
+public final class HotlistIdFilter {
+
+	private final AtomicLongArray bits;
+
+	private final long bitCount;
+
+	private final int hashCount;
+
+	private final long capacity;
+
+	private final AtomicLong size = new AtomicLong();
+
+	/**
+	 * Instantiates a new filter.
+	 *
+	 * @param capacity          the number of ids the filter is sized for
+	 * @param falsePositiveRate the false positive probability at capacity
+	 */
+	public HotlistIdFilter(long capacity, double falsePositiveRate) {
+		this.capacity = Math.max(1, capacity);
+		long bitsNeeded = (long) Math.ceil(-this.capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		int words = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bitsNeeded + 63) / 64));
+		this.bits = new AtomicLongArray(words);
+		this.bitCount = (long) words * 64;
+		this.hashCount = (int) Math.max(1, Math.min(16, Math.round((double) bitCount / this.capacity * Math.log(2))));
+	}
+
+	/**
+	 * Adds the id. The size only grows if the id sets a bit not set before, so
+	 * adding an id again does not count towards the capacity.
+	 *
+	 * @param idHash the id hash
+	 * @param idType the id type
+	 */
+	public void add(String idHash, String idType) {
+		long hash1 = mix(hash(idHash, idType));
+		long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+		boolean added = false;
+		for (int i = 0; i < hashCount; i++) {
+			long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+			int word = (int) (bit >>> 6);
+			long mask = 1L << bit;
+			long current;
+			while (((current = bits.get(word)) & mask) == 0) {
+				if (bits.compareAndSet(word, current, current | mask)) {
+					added = true;
+					break;
+				}
+			}
+		}
+		if (added) {
+			size.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Checks if the id may have been added.
+	 *
+	 * @param idHash the id hash
+	 * @param idType the id type
+	 * @return false if the id was never added
+	 */
+	public boolean mightContain(String idHash, String idType) {
+		long hash1 = mix(hash(idHash, idType));
+		long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+		for (int i = 0; i < hashCount; i++) {
+			long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+			if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks if more ids were added than the filter is sized for, so that the
+	 * false positive probability is above the configured one.
+	 *
+	 * @return true, if the filter should be rebuilt with a larger capacity
+	 */
+	public boolean isSaturated() {
+		return size.get() > capacity;
+	}
+
+	/**
+	 * Gets the number of distinct ids added. Ids added more than once are counted
+	 * once, and an id whose bits were all set by other ids is not counted, so the
+	 * size may be slightly below the actual number of ids.
+	 *
+	 * @return the size
+	 */
+	public long size() {
+		return size.get();
+	}
+
+	/**
+	 * 64 bit FNV-1a hash of the id hash and id type.
+	 */
+	private static long hash(String idHash, String idType) {
+		long hash = 0xCBF29CE484222325L;
+		for (int i = 0; i < idHash.length(); i++) {
+			hash = (hash ^ idHash.charAt(i)) * 0x100000001B3L;
+		}
+		hash = (hash ^ 0xFFFF) * 0x100000001B3L;
+		for (int i = 0; i < idType.length(); i++) {
+			hash = (hash ^ idType.charAt(i)) * 0x100000001B3L;
+		}
+		return hash;
+	}
+
+	/**
+	 * Finalizer of splitmix64, spreads the bits of the hash.
+	 */
+	private static long mix(long hash) {
+		hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+		hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+		return hash ^ (hash >>> 31);
+	}
+}
@@ -0,0 +1,320 @@
+package io.mosip.hotlist.cache;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.mosip.hotlist.logger.HotlistLogger;
+import io.mosip.hotlist.repository.HotlistRepository;
+import io.mosip.hotlist.security.HotlistSecurityManager;
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.kernel.core.util.DateUtils;
+
+/**
+ * Cache of the hotlist status of the ids, so that status checks do not query
+ * the database for every request.
+ *
+ * A bloom filter of all the ids in the hotlist table answers the checks of
+ * ids which are not hotlisted. The status of the other ids is kept for a time
+ * to live in a bounded cache. The filter is refreshed in the background with
+ * the ids added or updated since the last refresh, also by the other
+ * instances, and the cached status of those ids is evicted. Ids blocked or
+ * unblocked by this instance are evicted right away.
+ *
+ * When the cache is disabled, or the filter is not refreshed for too long,
+ * the status is always read from the database.
+ */
+@Component
+public class HotlistStatusCache {
+
+	/** The mosip logger. */
+	private static Logger mosipLogger = HotlistLogger.getLogger(HotlistStatusCache.class);
+
+	/** The Constant HOTLIST_STATUS_CACHE. */
+	private static final String HOTLIST_STATUS_CACHE = "HotlistStatusCache";
+
+	/** Status of the ids which are not in the hotlist table. */
+	private static final Optional<CachedStatus> NOT_HOTLISTED = Optional.empty();
+
+	/** The cache enabled. */
+	@Value("${mosip.hotlist.cache.enabled:true}")
+	private boolean enabled;
+
+	/** The maximum number of cached status. */
+	@Value("${mosip.hotlist.cache.max-size:100000}")
+	private int maxSize;
+
+	/** The time to live of a cached status in milliseconds. */
+	@Value("${mosip.hotlist.cache.ttl-millis:60000}")
+	private long ttl;
+
+	/** The minimum number of ids the filter is sized for. */
+	@Value("${mosip.hotlist.cache.filter.expected-ids:1000000}")
+	private long expectedIds;
+
+	/** The false positive probability of the filter. */
+	@Value("${mosip.hotlist.cache.filter.false-positive-rate:0.01}")
+	private double falsePositiveRate;
+
+	/** Time in milliseconds after which a filter not refreshed is not used. */
+	@Value("${mosip.hotlist.cache.filter.max-staleness-millis:30000}")
+	private long maxStaleness;
+
+	/**
+	 * Time in milliseconds the changes are read again in the next refresh, to
+	 * cover the transactions committed late and the clock skew of the instances.
+	 */
+	@Value("${mosip.hotlist.cache.filter.refresh-overlap-millis:60000}")
+	private long refreshOverlap;
+
+	/** The number of ids read in one query when the filter is built. */
+	@Value("${mosip.hotlist.cache.filter.load-page-size:10000}")
+	private int loadPageSize;
+
+	/** The hotlist repo. */
+	@Autowired
+	private HotlistRepository hotlistRepo;
+
+	/** The cached status by id hash and id type, least recently used first. */
+	private Map<String, CacheEntry> cache;
+
+	/** Incremented by every eviction, so that a status read before it is not cached. */
+	private final AtomicLong evictions = new AtomicLong();
+
+	/** The filter, null until it is built. */
+	private volatile HotlistIdFilter filter;
+
+	/** The filter being built, which also gets the ids blocked meanwhile. */
+	private volatile HotlistIdFilter pendingFilter;
+
+	/** Time of the last refresh of the filter. */
+	private volatile long refreshedAt;
+
+	/** Timestamp from which the changes are read in the next refresh. */
+	private LocalDateTime changesSince;
+
+	@PostConstruct
+	public void init() {
+		cache = Collections.synchronizedMap(new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+				return size() > maxSize;
+			}
+		});
+	}
+
+	/**
+	 * Gets the status of the id, from the filter or the cache if possible.
+	 *
+	 * @param idHash the id hash
+	 * @param idType the id type
+	 * @param loader reads the status from the database
+	 * @return the status, empty if the id is not hotlisted
+	 */
+	public Optional<CachedStatus> getStatus(String idHash, String idType, Supplier<Optional<CachedStatus>> loader) {
+		if (!enabled) {
+			return loader.get();
+		}
+		HotlistIdFilter currentFilter = filter;
+		if (currentFilter != null && System.currentTimeMillis() - refreshedAt <= maxStaleness
+				&& !currentFilter.mightContain(idHash, idType)) {
+			return NOT_HOTLISTED;
+		}
+		String key = key(idHash, idType);
+		CacheEntry entry = cache.get(key);
+		if (entry != null && entry.expiresAt > System.currentTimeMillis()) {
+			return entry.status;
+		}
+		long evictionCount = evictions.get();
+		Optional<CachedStatus> status = loader.get();
+		synchronized (cache) {
+			// not cached if the id changed while it was read
+			if (evictionCount == evictions.get()) {
+				cache.put(key, new CacheEntry(status, System.currentTimeMillis() + ttl));
+			}
+		}
+		return status;
+	}
+
+	/**
+	 * Evicts the status of an id blocked or unblocked, now and once the
+	 * transaction is committed.
+	 *
+	 * @param idHash the id hash
+	 * @param idType the id type
+	 */
+	public void evict(String idHash, String idType) {
+		if (!enabled) {
+			return;
+		}
+		addToFilter(idHash, idType);
+		evictStatus(idHash, idType);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				@Override
+				public void afterCommit() {
+					addToFilter(idHash, idType);
+					evictStatus(idHash, idType);
+				}
+			});
+		}
+	}
+
+	/**
+	 * Clears the cached status and rebuilds the filter, after ids are deleted
+	 * from the hotlist table.
+	 */
+	public void reload() {
+		if (!enabled) {
+			return;
+		}
+		synchronized (cache) {
+			evictions.incrementAndGet();
+			cache.clear();
+		}
+		rebuildFilter();
+	}
+
+	/**
+	 * Adds the ids changed since the last refresh to the filter and evicts their
+	 * cached status. The filter is built on the first run, and again once more
+	 * ids were added than it is sized for.
+	 */
+	@Scheduled(fixedDelayString = "${mosip.hotlist.cache.filter.refresh-interval-millis:5000}")
+	public synchronized void refreshFilter() {
+		if (!enabled) {
+			return;
+		}
+		try {
+			HotlistIdFilter currentFilter = filter;
+			if (currentFilter == null || currentFilter.isSaturated()) {
+				rebuildFilter();
+				return;
+			}
+			LocalDateTime refreshStart = DateUtils.getUTCCurrentDateTime();
+			List<Object[]> changedIds = hotlistRepo.findIdHashAndIdTypeChangedSince(changesSince);
+			for (Object[] id : changedIds) {
+				currentFilter.add((String) id[0], (String) id[1]);
+				evictStatus((String) id[0], (String) id[1]);
+			}
+			changesSince = refreshStart.minus(refreshOverlap, ChronoUnit.MILLIS);
+			refreshedAt = System.currentTimeMillis();
+		} catch (RuntimeException e) {
+			mosipLogger.warn(HotlistSecurityManager.getUser(), HOTLIST_STATUS_CACHE, "refreshFilter",
+					"HOTLIST FILTER REFRESH FAILED WITH EXCEPTION - " + ExceptionUtils.getStackTrace(e));
+		}
+	}
+
+	/**
+	 * Builds the filter from all the ids of the hotlist table.
+	 */
+	private synchronized void rebuildFilter() {
+		long start = System.currentTimeMillis();
+		LocalDateTime refreshStart = DateUtils.getUTCCurrentDateTime();
+		// sized for twice the ids, so that it is not rebuilt again soon
+		long capacity = Math.max(expectedIds, hotlistRepo.countByIsDeleted(false) * 2);
+		HotlistIdFilter newFilter = new HotlistIdFilter(capacity, falsePositiveRate);
+		pendingFilter = newFilter;
+		try {
+			String lastIdHash = "";
+			String lastIdType = "";
+			List<Object[]> ids;
+			do {
+				ids = hotlistRepo.findIdHashAndIdTypeAfter(lastIdHash, lastIdType, PageRequest.of(0, loadPageSize));
+				for (Object[] id : ids) {
+					lastIdHash = (String) id[0];
+					lastIdType = (String) id[1];
+					newFilter.add(lastIdHash, lastIdType);
+				}
+			} while (ids.size() == loadPageSize);
+			filter = newFilter;
+		} finally {
+			pendingFilter = null;
+		}
+		changesSince = refreshStart.minus(refreshOverlap, ChronoUnit.MILLIS);
+		refreshedAt = System.currentTimeMillis();
+		mosipLogger.info(HotlistSecurityManager.getUser(), HOTLIST_STATUS_CACHE, "rebuildFilter",
+				"HOTLIST FILTER BUILT WITH " + newFilter.size() + " IDs IN " + (refreshedAt - start) + " ms");
+	}
+
+	private void addToFilter(String idHash, String idType) {
+		// the filter being built is read first, it replaces the filter before it is cleared
+		HotlistIdFilter newFilter = pendingFilter;
+		if (newFilter != null) {
+			newFilter.add(idHash, idType);
+		}
+		HotlistIdFilter currentFilter = filter;
+		if (currentFilter != null) {
+			currentFilter.add(idHash, idType);
+		}
+	}
+
+	private void evictStatus(String idHash, String idType) {
+		synchronized (cache) {
+			evictions.incrementAndGet();
+			cache.remove(key(idHash, idType));
+		}
+	}
+
+	private static String key(String idHash, String idType) {
+		return idHash + '\u0000' + idType;
+	}
+
+	/**
+	 * The cached status.
+	 */
+	private static final class CacheEntry {
+
+		private final Optional<CachedStatus> status;
+
+		private final long expiresAt;
+
+		private CacheEntry(Optional<CachedStatus> status, long expiresAt) {
+			this.status = status;
+			this.expiresAt = expiresAt;
+		}
+	}
+
+	/**
+	 * The status and expiry timestamp of a hotlisted id.
+	 */
+	public static final class CachedStatus {
+
+		private final String status;
+
+		private final LocalDateTime expiryTimestamp;
+
+		public CachedStatus(String status, LocalDateTime expiryTimestamp) {
+			this.status = status;
+			this.expiryTimestamp = expiryTimestamp;
+		}
+
+		public String getStatus() {
+			return status;
+		}
+
+		public LocalDateTime getExpiryTimestamp() {
+			return expiryTimestamp;
+		}
+	}
+}
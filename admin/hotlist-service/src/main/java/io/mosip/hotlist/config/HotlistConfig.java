@@ -52,6 +52,10 @@ public class HotlistConfig {
 	@Value("${mosip.hotlist.datasource.dialect}")
 	private String dialect;
 
+	/** The number of ids of a bulk request saved in one batch. */
+	@Value("${mosip.hotlist.bulk.batch-size:500}")
+	private int batchSize;
+
 	/** The publisher. */
 	@Autowired
 	private PublisherClient<String, EventModel, HttpHeaders> publisher;
@@ -104,6 +108,8 @@ public class HotlistConfig {
 		jpaProperties.put("hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName());
 		jpaProperties.put("hibernate.physical_naming_strategy", SpringPhysicalNamingStrategy.class.getName());
 		jpaProperties.put("hibernate.ejb.interceptor", interceptor);
+		jpaProperties.put("hibernate.jdbc.batch_size", batchSize);
+		jpaProperties.put("hibernate.order_inserts", Boolean.TRUE);
 		return jpaProperties;
 	}
 }
@@ -0,0 +1,141 @@
+package io.mosip.hotlist.config.job;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.zip.CRC32;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.mosip.hotlist.logger.HotlistLogger;
+import io.mosip.hotlist.security.HotlistSecurityManager;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * Lock of a cleanup across the instances of the service, so that a cleanup
+ * runs on one instance at a time.
+ *
+ * The lock is a postgres session advisory lock, held on its own connection
+ * while the cleanup runs. It is released when the cleanup completes, or by
+ * the database when the connection of an instance which died is closed.
+ */
+@Component
+public class HotlistCleanupLock {
+
+	/** The mosip logger. */
+	private static Logger mosipLogger = HotlistLogger.getLogger(HotlistCleanupLock.class);
+
+	/** The lock enabled. */
+	@Value("${mosip.hotlist.cleanup.lock-enabled:true}")
+	private boolean enabled;
+
+	/** The data source. */
+	@Autowired
+	private DataSource dataSource;
+
+	/**
+	 * Tries to acquire the lock of the cleanup, without waiting.
+	 *
+	 * @param name the name of the cleanup
+	 * @return the lock, which is released when closed; null if the lock is held
+	 *         by another instance
+	 * @throws SQLException the SQL exception
+	 */
+	public Lock tryAcquire(String name) throws SQLException {
+		if (!enabled) {
+			return new Lock(null, 0);
+		}
+		long key = getKey(name);
+		Connection connection = dataSource.getConnection();
+		try {
+			if (execute(connection, "SELECT pg_try_advisory_lock(?)", key)) {
+				return new Lock(connection, key);
+			}
+		} catch (SQLException | RuntimeException e) {
+			connection.close();
+			throw e;
+		}
+		connection.close();
+		return null;
+	}
+
+	/**
+	 * Gets the key of the advisory lock of the cleanup.
+	 *
+	 * @param name the name of the cleanup
+	 * @return the key
+	 */
+	private static long getKey(String name) {
+		CRC32 crc = new CRC32();
+		crc.update(("hotlist-cleanup:" + name).getBytes(StandardCharsets.UTF_8));
+		return crc.getValue();
+	}
+
+	/**
+	 * Executes the lock function with the key.
+	 *
+	 * @param connection the connection
+	 * @param sql the sql
+	 * @param key the key
+	 * @return the result of the lock function
+	 * @throws SQLException the SQL exception
+	 */
+	private static boolean execute(Connection connection, String sql, long key) throws SQLException {
+		try (PreparedStatement statement = connection.prepareStatement(sql)) {
+			statement.setLong(1, key);
+			try (ResultSet resultSet = statement.executeQuery()) {
+				return resultSet.next() && resultSet.getBoolean(1);
+			}
+		}
+	}
+
+	/**
+	 * The lock held by this instance.
+	 */
+	public static final class Lock implements AutoCloseable {
+
+		/** The connection holding the lock, null when the lock is disabled. */
+		private final Connection connection;
+
+		/** The key. */
+		private final long key;
+
+		/**
+		 * Instantiates a new lock.
+		 *
+		 * @param connection the connection
+		 * @param key the key
+		 */
+		private Lock(Connection connection, long key) {
+			this.connection = connection;
+			this.key = key;
+		}
+
+		@Override
+		public void close() {
+			if (connection == null) {
+				return;
+			}
+			try {
+				execute(connection, "SELECT pg_advisory_unlock(?)", key);
+				connection.close();
+			} catch (SQLException e) {
+				mosipLogger.warn(HotlistSecurityManager.getUser(), "HotlistCleanupLock", "close",
+						"FAILED TO RELEASE CLEANUP LOCK - " + e.getMessage());
+				// the session is ended instead, so that the pool does not reuse it with the lock held
+				try {
+					connection.abort(Runnable::run);
+				} catch (SQLException abortException) {
+					mosipLogger.warn(HotlistSecurityManager.getUser(), "HotlistCleanupLock", "close",
+							"FAILED TO ABORT CLEANUP LOCK CONNECTION - " + abortException.getMessage());
+				}
+			}
+		}
+	}
+}
@@ -1,9 +1,19 @@
 package io.mosip.hotlist.config.job;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import io.mosip.hotlist.cache.HotlistStatusCache;
 import io.mosip.hotlist.logger.HotlistLogger;
 import io.mosip.hotlist.repository.HotlistRepository;
 import io.mosip.hotlist.security.HotlistSecurityManager;
@@ -15,6 +25,12 @@ import io.mosip.kernel.core.util.DateUtils;
 /**
  * The Class HotlistScheduledCleanupJob.
  *
+ * The ids are deleted in batches: the id hashes of a batch are read in the
+ * order of the id hash, after the last id hash of the previous batch, and the
+ * ids of those hashes still matching the cleanup are deleted with one
+ * statement. The ids are never loaded as entities, so they are not decrypted.
+ * A cleanup runs on one instance at a time, the other instances skip it.
+ *
  * @author Manoj SP
  */
 @Component
@@ -23,24 +39,43 @@ public class HotlistScheduledCleanupJob {
 	/** The mosip logger. */
 	private static Logger mosipLogger = HotlistLogger.getLogger(HotlistScheduledCleanupJob.class);
 
+	/** The Constant HOTLIST_SCHEDULED_CLEANUP_JOB. */
+	private static final String HOTLIST_SCHEDULED_CLEANUP_JOB = "HotlistScheduledCleanupJob";
+
+	/** The number of ids deleted in one statement. */
+	@Value("${mosip.hotlist.cleanup.batch-size:1000}")
+	private int batchSize;
+
 	/** The hotlist repo. */
 	@Autowired
 	private HotlistRepository hotlistRepo;
 
+	/** The status cache. */
+	@Autowired
+	private HotlistStatusCache statusCache;
+
+	/** The cleanup lock. */
+	@Autowired
+	private HotlistCleanupLock cleanupLock;
+
+	/** The number of ids deleted by the cleanups of this instance. */
+	private final AtomicLong deletedCount = new AtomicLong();
+
+	/** The number of cleanups skipped as they were running on another instance. */
+	private final AtomicLong skippedCount = new AtomicLong();
+
+	/** The duration of the last cleanup in milliseconds. */
+	private volatile long lastDurationMillis;
+
 	/**
 	 * Cleanup unblocked ids.
 	 */
 	@Scheduled(initialDelayString = "#{60 * 60 * 1000 * ${mosip.hotlist.cleanup-schedule.init-delay}}", fixedRateString = "#{60 * 60 * 1000 * ${mosip.hotlist.cleanup-schedule.fixed-rate}}")
 	public void cleanupUnblockedIds() {
-		try {
-			mosipLogger.info(HotlistSecurityManager.getUser(), "HotlistScheduledCleanupJob", "cleanupUnblockedIds",
-					"INITIATED CLEANUP OF UNBLOCKED IDs");
-			hotlistRepo.findByStatusAndExpiryTimestampAndIsDeleted(HotlistStatus.UNBLOCKED, null, false).forEach(hotlistRepo::delete);
-		} catch (Exception e) {
-			mosipLogger.warn(HotlistSecurityManager.getUser(), "HotlistScheduledCleanupJob", "cleanupUnblockedIds",
-					"HOTLIST STATUS CLEANUP FAILED WITH EXCEPTION - " + ExceptionUtils.getStackTrace(e));
-		}
-
+		cleanup("cleanupUnblockedIds", "UNBLOCKED IDs",
+				(idHash, pageable) -> hotlistRepo.findIdHashByStatusWithoutExpiryAfter(idHash,
+						HotlistStatus.UNBLOCKED, pageable),
+				idHashes -> hotlistRepo.deleteByIdHashInAndStatusWithoutExpiry(idHashes, HotlistStatus.UNBLOCKED));
 	}
 
 	/**
@@ -48,15 +83,12 @@ public class HotlistScheduledCleanupJob {
 	 */
 	@Scheduled(initialDelayString = "#{60 * 60 * 1000 * ${mosip.hotlist.cleanup-schedule.init-delay}}", fixedRateString = "#{60 * 60 * 1000 * ${mosip.hotlist.cleanup-schedule.fixed-rate}}")
 	public void cleanupExpiredIds() {
-		try {
-			mosipLogger.info(HotlistSecurityManager.getUser(), "HotlistScheduledCleanupJob", "cleanupExpiredIds",
-					"INITIATED CLEANUP OF EXPIRED IDs");
-			hotlistRepo.findByExpiryTimestampLessThanAndStatusAndIsDeleted(DateUtils.getUTCCurrentDateTime(),
-					HotlistStatus.UNBLOCKED, false).forEach(hotlistRepo::delete);
-		} catch (Exception e) {
-			mosipLogger.warn(HotlistSecurityManager.getUser(), "HotlistScheduledCleanupJob", "cleanupUnblockedIds",
-					"HOTLIST STATUS CLEANUP FAILED WITH EXCEPTION - " + ExceptionUtils.getStackTrace(e));
-		}
+		LocalDateTime currentTimestamp = DateUtils.getUTCCurrentDateTime();
+		cleanup("cleanupExpiredIds", "EXPIRED IDs",
+				(idHash, pageable) -> hotlistRepo.findIdHashByExpiryTimestampLessThanAndStatusAfter(idHash,
+						currentTimestamp, HotlistStatus.UNBLOCKED, pageable),
+				idHashes -> hotlistRepo.deleteByIdHashInAndExpiryTimestampLessThanAndStatus(idHashes,
+						currentTimestamp, HotlistStatus.UNBLOCKED));
 	}
 
 	/**
@@ -64,13 +96,86 @@ public class HotlistScheduledCleanupJob {
 	 */
 	@Scheduled(initialDelayString = "#{60 * 60 * 1000 * ${mosip.hotlist.cleanup-schedule.init-delay}}", fixedRateString = "#{60 * 60 * 1000 * ${mosip.hotlist.cleanup-schedule.fixed-rate}}")
 	public void cleanupDeletedIds() {
-		try {
-			mosipLogger.info(HotlistSecurityManager.getUser(), "HotlistScheduledCleanupJob", "cleanupDeletedIds",
-					"INITIATED CLEANUP OF EXPIRED IDs");
-			hotlistRepo.findByIsDeleted(true).forEach(hotlistRepo::delete);
+		cleanup("cleanupDeletedIds", "DELETED IDs", hotlistRepo::findDeletedIdHashAfter,
+				hotlistRepo::deleteDeletedByIdHashIn);
+	}
+
+	/**
+	 * Deletes the ids in batches under the cleanup lock, and reloads the status
+	 * cache so that the ids deleted are removed from its filter.
+	 *
+	 * @param cleanup the name of the cleanup
+	 * @param ids the ids cleaned up, for the logs
+	 * @param finder finds a batch of id hashes after the given id hash
+	 * @param deleter deletes the ids of the id hashes
+	 */
+	private void cleanup(String cleanup, String ids, BiFunction<String, Pageable, List<String>> finder,
+			Function<List<String>, Integer> deleter) {
+		long start = System.currentTimeMillis();
+		try (HotlistCleanupLock.Lock lock = cleanupLock.tryAcquire(cleanup)) {
+			if (lock == null) {
+				skippedCount.incrementAndGet();
+				mosipLogger.info(HotlistSecurityManager.getUser(), HOTLIST_SCHEDULED_CLEANUP_JOB, cleanup,
+						"SKIPPED CLEANUP OF " + ids + ", RUNNING ON ANOTHER INSTANCE");
+				return;
+			}
+			mosipLogger.info(HotlistSecurityManager.getUser(), HOTLIST_SCHEDULED_CLEANUP_JOB, cleanup,
+					"INITIATED CLEANUP OF " + ids);
+			long deleted = 0;
+			int batches = 0;
+			String lastIdHash = "";
+			List<String> idHashes;
+			do {
+				idHashes = finder.apply(lastIdHash, PageRequest.of(0, batchSize));
+				if (!idHashes.isEmpty()) {
+					int batchDeleted = deleter.apply(idHashes);
+					deleted += batchDeleted;
+					deletedCount.addAndGet(batchDeleted);
+					batches++;
+					lastIdHash = idHashes.get(idHashes.size() - 1);
+					mosipLogger.debug(HotlistSecurityManager.getUser(), HOTLIST_SCHEDULED_CLEANUP_JOB, cleanup,
+							"DELETED " + deleted + " " + ids + " IN " + batches + " BATCHES");
+				}
+			} while (idHashes.size() == batchSize);
+
+			if (deleted > 0) {
+				statusCache.reload();
+			}
+			lastDurationMillis = System.currentTimeMillis() - start;
+			mosipLogger.info(HotlistSecurityManager.getUser(), HOTLIST_SCHEDULED_CLEANUP_JOB, cleanup,
+					"COMPLETED CLEANUP OF " + ids + ", DELETED " + deleted + " IN " + batches + " BATCHES, "
+							+ lastDurationMillis + " ms");
 		} catch (Exception e) {
-			mosipLogger.warn(HotlistSecurityManager.getUser(), "HotlistScheduledCleanupJob", "cleanupDeletedIds",
+			mosipLogger.warn(HotlistSecurityManager.getUser(), HOTLIST_SCHEDULED_CLEANUP_JOB, cleanup,
 					"HOTLIST STATUS CLEANUP FAILED WITH EXCEPTION - " + ExceptionUtils.getStackTrace(e));
 		}
 	}
+
+	/**
+	 * Gets the number of ids deleted by the cleanups of this instance.
+	 *
+	 * @return the deleted count
+	 */
+	public long getDeletedCount() {
+		return deletedCount.get();
+	}
+
+	/**
+	 * Gets the number of cleanups skipped as they were running on another
+	 * instance.
+	 *
+	 * @return the skipped count
+	 */
+	public long getSkippedCount() {
+		return skippedCount.get();
+	}
+
+	/**
+	 * Gets the duration of the last cleanup completed.
+	 *
+	 * @return the duration in milliseconds
+	 */
+	public long getLastDurationMillis() {
+		return lastDurationMillis;
+	}
 }
@@ -55,7 +55,13 @@ public enum HotlistErrorConstants {
 	ENCRYPTION_DECRYPTION_FAILED("ADM-HTL-014", "Failed to either encrypt/decrypt message using Kernel Crypto Manager"),
 
 	/** The unknown error. */
-	UNKNOWN_ERROR("ADM-HTL-015", "Unknown error occurred");
+	UNKNOWN_ERROR("ADM-HTL-015", "Unknown error occurred"),
+
+	/** The bulk limit exceeded. */
+	BULK_LIMIT_EXCEEDED("ADM-HTL-016", "Number of ids in the request exceeds the limit - %s"),
+
+	/** The duplicate id. */
+	DUPLICATE_ID("ADM-HTL-017", "Id is repeated in the request");
 
 	/** The error code. */
 	private final String errorCode;
@@ -1,11 +1,21 @@
 package io.mosip.hotlist.controller;
 
+import static io.mosip.hotlist.constant.HotlistErrorConstants.BULK_LIMIT_EXCEEDED;
+import static io.mosip.hotlist.constant.HotlistErrorConstants.MISSING_INPUT_PARAMETER;
+
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.WebDataBinder;
@@ -18,6 +28,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import io.mosip.hotlist.constant.AuditEvents;
 import io.mosip.hotlist.constant.AuditModules;
+import io.mosip.hotlist.dto.HotlistBulkResponseDTO;
 import io.mosip.hotlist.dto.HotlistRequestResponseDTO;
 import io.mosip.hotlist.exception.HotlistAppException;
 import io.mosip.hotlist.helper.AuditHelper;
@@ -44,6 +55,12 @@ public class HotlistController {
 
 	private static final String RETRIEVE = "retrieveHotlist";
 
+	private static final String BLOCK_ALL = "blockAll";
+
+	private static final String UNBLOCK_ALL = "unblockAll";
+
+	private static final String RETRIEVE_ALL = "retrieveHotlistAll";
+
 	private static final String HOTLIST_CONTROLLER = "HotlistController";
 
 	/** The mosip logger. */
@@ -70,6 +87,10 @@ public class HotlistController {
 	@Autowired
 	private AuditHelper auditHelper;
 
+	/** The maximum number of ids of a bulk request. */
+	@Value("${mosip.hotlist.bulk.max-size:10000}")
+	private int bulkMaxSize;
+
 	/**
 	 * Block.
 	 *
@@ -153,4 +174,150 @@ public class HotlistController {
 		}
 		return response;
 	}
+
+	/**
+	 * Block the ids of a bulk request.
+	 *
+	 * @param request the request
+	 * @return the response wrapper, with the response of each id in the order of
+	 *         the request
+	 */
+	@PreAuthorize("hasAnyRole(@authorizedRoles.getPostHotlistBlock())")
+	@PostMapping(path = "/block/bulk", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseWrapper<List<HotlistBulkResponseDTO>> blockAll(
+			@RequestBody RequestWrapper<List<HotlistRequestResponseDTO>> request) {
+		return bulk(request, validator::validateRequest, hotlistService::blockAll, AuditEvents.BLOCK_REQUEST,
+				"BLOCK HOTLIST REQUESTED", BLOCK_ALL);
+	}
+
+	/**
+	 * Retrieve the hotlist status of the ids of a bulk request.
+	 *
+	 * @param request the request with the id and id type of each id
+	 * @return the response wrapper, with the response of each id in the order of
+	 *         the request
+	 */
+	@PreAuthorize("hasAnyRole(@authorizedRoles.getGetHotlistStatus())")
+	@PostMapping(path = "/status/bulk", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseWrapper<List<HotlistBulkResponseDTO>> retrieveHotlistAll(
+			@RequestBody RequestWrapper<List<HotlistRequestResponseDTO>> request) {
+		return bulk(request, (item, errors) -> {
+			validator.validateId(item.getId(), errors);
+			validator.validateIdType(item.getIdType(), errors);
+		}, hotlistService::retrieveHotlistAll, AuditEvents.RETRIEVE_HOTLIST, "RETRIEVE HOTLIST REQUESTED", RETRIEVE_ALL);
+	}
+
+	/**
+	 * Unblock the ids of a bulk request.
+	 *
+	 * @param request the request
+	 * @return the response wrapper, with the response of each id in the order of
+	 *         the request
+	 */
+	@PreAuthorize("hasAnyRole(@authorizedRoles.getPostHotlistUnblock())")
+	@PostMapping(path = "/unblock/bulk", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseWrapper<List<HotlistBulkResponseDTO>> unblockAll(
+			@RequestBody RequestWrapper<List<HotlistRequestResponseDTO>> request) {
+		return bulk(request, validator::validateRequest, hotlistService::unblockAll, AuditEvents.UNBLOCK_HOTLIST,
+				"UNBLOCK HOTLIST REQUESTED", UNBLOCK_ALL);
+	}
+
+	/**
+	 * Validates each id of a bulk request, and passes the valid ids to the
+	 * service. The ids which are not valid get their errors in their response,
+	 * while the errors of the service fail the whole request. The ids which the
+	 * service returns with an error, such as a duplicate id or an id which failed
+	 * to encrypt, are audited as errors.
+	 *
+	 * @param request          the request
+	 * @param validation       the validation of an id
+	 * @param operation        the service operation
+	 * @param event            the audit event
+	 * @param auditDescription the audit description
+	 * @param method           the method, for the logs
+	 * @return the response wrapper
+	 */
+	private ResponseWrapper<List<HotlistBulkResponseDTO>> bulk(RequestWrapper<List<HotlistRequestResponseDTO>> request,
+			BiConsumer<HotlistRequestResponseDTO, Errors> validation, BulkOperation operation, AuditEvents event,
+			String auditDescription, String method) {
+		ResponseWrapper<List<HotlistBulkResponseDTO>> response = new ResponseWrapper<>();
+		List<HotlistRequestResponseDTO> requests = request.getRequest();
+		if (Objects.isNull(requests) || requests.isEmpty()) {
+			response.setErrors(Collections.singletonList(new ServiceError(MISSING_INPUT_PARAMETER.getErrorCode(),
+					String.format(MISSING_INPUT_PARAMETER.getErrorMessage(), "request"))));
+			return response;
+		}
+		if (requests.size() > bulkMaxSize) {
+			response.setErrors(Collections.singletonList(new ServiceError(BULK_LIMIT_EXCEEDED.getErrorCode(),
+					String.format(BULK_LIMIT_EXCEEDED.getErrorMessage(), bulkMaxSize))));
+			return response;
+		}
+		List<HotlistBulkResponseDTO> responses = new ArrayList<>(Collections.nCopies(requests.size(), null));
+		List<HotlistRequestResponseDTO> validRequests = new ArrayList<>(requests.size());
+		List<Integer> validIndexes = new ArrayList<>(requests.size());
+		for (int index = 0; index < requests.size(); index++) {
+			HotlistRequestResponseDTO item = requests.get(index);
+			BeanPropertyBindingResult errors = new BeanPropertyBindingResult(new HotlistRequestResponseDTO(), "request");
+			HotlistBulkResponseDTO itemResponse = new HotlistBulkResponseDTO();
+			if (Objects.isNull(item)) {
+				errors.reject(MISSING_INPUT_PARAMETER.getErrorCode(),
+						String.format(MISSING_INPUT_PARAMETER.getErrorMessage(), "request"));
+			} else {
+				itemResponse.setId(item.getId());
+				itemResponse.setIdType(item.getIdType());
+				validation.accept(item, errors);
+			}
+			if (errors.hasErrors()) {
+				itemResponse.setErrors(errors.getAllErrors().stream()
+						.map(error -> new ServiceError(error.getCode(), error.getDefaultMessage()))
+						.collect(Collectors.toList()));
+				responses.set(index, itemResponse);
+			} else {
+				validRequests.add(item);
+				validIndexes.add(index);
+			}
+		}
+		try {
+			if (!validRequests.isEmpty()) {
+				List<HotlistBulkResponseDTO> validResponses = operation.apply(validRequests);
+				for (int index = 0; index < validIndexes.size(); index++) {
+					responses.set(validIndexes.get(index), validResponses.get(index));
+				}
+			}
+			response.setResponse(responses);
+			for (int index = 0; index < validRequests.size(); index++) {
+				HotlistRequestResponseDTO item = validRequests.get(index);
+				String idHash = HotlistSecurityManager.hash(item.getId().getBytes());
+				List<ServiceError> itemErrors = responses.get(validIndexes.get(index)).getErrors();
+				if (Objects.isNull(itemErrors) || itemErrors.isEmpty()) {
+					auditHelper.audit(AuditModules.HOTLIST_SERVICE, event, idHash, item.getIdType(), auditDescription);
+				} else {
+					auditHelper.auditError(AuditModules.HOTLIST_SERVICE, event, idHash, item.getIdType(),
+							new HotlistAppException(itemErrors.get(0).getErrorCode(), itemErrors.get(0).getMessage()));
+				}
+			}
+		} catch (HotlistAppException e) {
+			mosipLogger.error(HotlistSecurityManager.getUser(), HOTLIST_CONTROLLER, method, e.getMessage());
+			response.setErrors(Collections.singletonList(new ServiceError(e.getErrorCode(), e.getErrorText())));
+			validRequests.forEach(item -> auditHelper.auditError(AuditModules.HOTLIST_SERVICE, event,
+					HotlistSecurityManager.hash(item.getId().getBytes()), item.getIdType(), e));
+		}
+		return response;
+	}
+
+	/**
+	 * The service operation of a bulk request.
+	 */
+	@FunctionalInterface
+	private interface BulkOperation {
+
+		/**
+		 * Applies the operation to the valid ids of the request.
+		 *
+		 * @param requests the requests
+		 * @return the responses, in the order of the requests
+		 * @throws HotlistAppException the hotlist app exception
+		 */
+		List<HotlistBulkResponseDTO> apply(List<HotlistRequestResponseDTO> requests) throws HotlistAppException;
+	}
 }
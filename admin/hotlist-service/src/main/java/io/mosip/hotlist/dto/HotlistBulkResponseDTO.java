@@ -0,0 +1,25 @@
+package io.mosip.hotlist.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import io.mosip.kernel.core.exception.ServiceError;
+import lombok.Data;
+
+/**
+ * The response of an id of a bulk request, with the errors of the id if it
+ * failed.
+ */
+@Data
+public class HotlistBulkResponseDTO {
+
+	private String id;
+
+	private String idType;
+
+	private String status;
+
+	private LocalDateTime expiryTimestamp;
+
+	private List<ServiceError> errors;
+}
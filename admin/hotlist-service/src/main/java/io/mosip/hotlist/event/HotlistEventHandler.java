@@ -2,6 +2,8 @@ package io.mosip.hotlist.event;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
@@ -14,6 +16,7 @@ import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import io.mosip.hotlist.constant.HotlistErrorConstants;
+import io.mosip.hotlist.dto.HotlistRequestResponseDTO;
 import io.mosip.hotlist.exception.HotlistRetryException;
 import io.mosip.hotlist.logger.HotlistLogger;
 import io.mosip.hotlist.security.HotlistSecurityManager;
@@ -65,29 +68,65 @@ public class HotlistEventHandler {
 	@WithRetry
 	public void publishEvent(String id, String idType, String status, LocalDateTime expiryTimestamp) {
 		try {
-			EventModel payload = new EventModel();
-			payload.setPublisher(appId);
-			payload.setTopic(topic);
-			String publishedOn = DateUtils.formatToISOString(DateUtils.getUTCCurrentDateTime());
-			payload.setPublishedOn(publishedOn);
-			Event event = new Event();
-			event.setId(UUID.randomUUID().toString());
-			event.setTimestamp(publishedOn);
-			Map<String, Object> data = new HashMap<>();
-			data.put("id", id);
-			data.put("idType", idType);
-			data.put("status", status);
-			data.put("expiryTimestamp",
-					Objects.nonNull(expiryTimestamp) ? DateUtils.formatToISOString(expiryTimestamp) : expiryTimestamp);
-			event.setData(data);
-			payload.setEvent(event);
-			mosipLogger.debug(HotlistSecurityManager.getUser(), "HotlistServiceImpl", PUBLISH_EVENT,
-					"PUBLISHING EVENT - " + payload.toString());
-			publisher.publishUpdate(topic, payload, MediaType.APPLICATION_JSON_VALUE, null, webSubHubUrl);
+			publish(id, idType, status, expiryTimestamp);
 		} catch (Exception e) {
 			mosipLogger.error(HotlistSecurityManager.getUser(), "HotlistServiceImpl", "publishEvent",
 					"FAILED TO PUBLISH EVENT WITH ERROR - " + e.getMessage());
 			throw new HotlistRetryException(HotlistErrorConstants.UNKNOWN_ERROR, e);
 		}
 	}
+
+	/**
+	 * Publish the events of a bulk request in one task. Each event is removed
+	 * from the list once published, so that a retry publishes only the events
+	 * left.
+	 *
+	 * @param events the events, with the id hash as id
+	 */
+	@Async
+	@WithRetry
+	public void publishEvents(List<HotlistRequestResponseDTO> events) {
+		try {
+			Iterator<HotlistRequestResponseDTO> iterator = events.iterator();
+			while (iterator.hasNext()) {
+				HotlistRequestResponseDTO event = iterator.next();
+				publish(event.getId(), event.getIdType(), event.getStatus(), event.getExpiryTimestamp());
+				iterator.remove();
+			}
+		} catch (Exception e) {
+			mosipLogger.error(HotlistSecurityManager.getUser(), "HotlistServiceImpl", "publishEvents",
+					"FAILED TO PUBLISH " + events.size() + " EVENTS WITH ERROR - " + e.getMessage());
+			throw new HotlistRetryException(HotlistErrorConstants.UNKNOWN_ERROR, e);
+		}
+	}
+
+	/**
+	 * Publish.
+	 *
+	 * @param id              the id
+	 * @param idType          the id type
+	 * @param status          the status
+	 * @param expiryTimestamp the expiry timestamp
+	 */
+	private void publish(String id, String idType, String status, LocalDateTime expiryTimestamp) {
+		EventModel payload = new EventModel();
+		payload.setPublisher(appId);
+		payload.setTopic(topic);
+		String publishedOn = DateUtils.formatToISOString(DateUtils.getUTCCurrentDateTime());
+		payload.setPublishedOn(publishedOn);
+		Event event = new Event();
+		event.setId(UUID.randomUUID().toString());
+		event.setTimestamp(publishedOn);
+		Map<String, Object> data = new HashMap<>();
+		data.put("id", id);
+		data.put("idType", idType);
+		data.put("status", status);
+		data.put("expiryTimestamp",
+				Objects.nonNull(expiryTimestamp) ? DateUtils.formatToISOString(expiryTimestamp) : expiryTimestamp);
+		event.setData(data);
+		payload.setEvent(event);
+		mosipLogger.debug(HotlistSecurityManager.getUser(), "HotlistServiceImpl", PUBLISH_EVENT,
+				"PUBLISHING EVENT - " + payload.toString());
+		publisher.publishUpdate(topic, payload, MediaType.APPLICATION_JSON_VALUE, null, webSubHubUrl);
+	}
 }
\ No newline at end of file
@@ -1,11 +1,17 @@
 package io.mosip.hotlist.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import io.mosip.hotlist.entity.Hotlist;
 
@@ -38,28 +44,153 @@ public interface HotlistRepository extends JpaRepository<Hotlist, String>{
 	Boolean existsByIdHashAndIdTypeAndIsDeleted(String idHash, String idType, Boolean isDeleted);
 
 	/**
-	 * Find by status.
+	 * Find the id hashes of the unblocked ids without expiry, after the given
+	 * id hash, without loading and decrypting the ids.
 	 *
+	 * @param idHash the id hash of the last id read
 	 * @param status the status
-	 * @param isDeleted the is deleted
-	 * @return the list
+	 * @param pageable the number of id hashes to read
+	 * @return the id hashes
+	 */
+	@Query("SELECT DISTINCT h.idHash FROM Hotlist h WHERE h.idHash > :idHash AND h.status = :status AND h.expiryTimestamp IS NULL AND h.isDeleted = false ORDER BY h.idHash")
+	List<String> findIdHashByStatusWithoutExpiryAfter(@Param("idHash") String idHash, @Param("status") String status,
+			Pageable pageable);
+
+	/**
+	 * Delete the ids of the id hashes with the status and without expiry.
+	 *
+	 * @param idHashes the id hashes
+	 * @param status the status
+	 * @return the number of ids deleted
 	 */
-	List<Hotlist> findByStatusAndExpiryTimestampAndIsDeleted(String status, LocalDateTime expiryDTimes, Boolean isDeleted);
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM Hotlist h WHERE h.idHash IN :idHashes AND h.status = :status AND h.expiryTimestamp IS NULL AND h.isDeleted = false")
+	int deleteByIdHashInAndStatusWithoutExpiry(@Param("idHashes") Collection<String> idHashes,
+			@Param("status") String status);
 
 	/**
-	 * Find by expiry timestamp less than current timestamp.
+	 * Find the id hashes of the ids with the status which expired before the
+	 * timestamp, after the given id hash, without loading and decrypting the ids.
 	 *
+	 * @param idHash the id hash of the last id read
 	 * @param currentTimestamp the current timestamp
-	 * @param isDeleted the is deleted
-	 * @return the list
+	 * @param status the status
+	 * @param pageable the number of id hashes to read
+	 * @return the id hashes
 	 */
-	List<Hotlist> findByExpiryTimestampLessThanAndStatusAndIsDeleted(LocalDateTime currentTimestamp, String status, Boolean isDeleted);
-	
+	@Query("SELECT DISTINCT h.idHash FROM Hotlist h WHERE h.idHash > :idHash AND h.expiryTimestamp < :currentTimestamp AND h.status = :status AND h.isDeleted = false ORDER BY h.idHash")
+	List<String> findIdHashByExpiryTimestampLessThanAndStatusAfter(@Param("idHash") String idHash,
+			@Param("currentTimestamp") LocalDateTime currentTimestamp, @Param("status") String status,
+			Pageable pageable);
+
+	/**
+	 * Delete the ids of the id hashes with the status which expired before the
+	 * timestamp.
+	 *
+	 * @param idHashes the id hashes
+	 * @param currentTimestamp the current timestamp
+	 * @param status the status
+	 * @return the number of ids deleted
+	 */
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM Hotlist h WHERE h.idHash IN :idHashes AND h.expiryTimestamp < :currentTimestamp AND h.status = :status AND h.isDeleted = false")
+	int deleteByIdHashInAndExpiryTimestampLessThanAndStatus(@Param("idHashes") Collection<String> idHashes,
+			@Param("currentTimestamp") LocalDateTime currentTimestamp, @Param("status") String status);
+
+	/**
+	 * Find the id hashes of the deleted ids, after the given id hash, without
+	 * loading and decrypting the ids.
+	 *
+	 * @param idHash the id hash of the last id read
+	 * @param pageable the number of id hashes to read
+	 * @return the id hashes
+	 */
+	@Query("SELECT DISTINCT h.idHash FROM Hotlist h WHERE h.idHash > :idHash AND h.isDeleted = true ORDER BY h.idHash")
+	List<String> findDeletedIdHashAfter(@Param("idHash") String idHash, Pageable pageable);
+
+	/**
+	 * Delete the deleted ids of the id hashes.
+	 *
+	 * @param idHashes the id hashes
+	 * @return the number of ids deleted
+	 */
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM Hotlist h WHERE h.idHash IN :idHashes AND h.isDeleted = true")
+	int deleteDeletedByIdHashIn(@Param("idHashes") Collection<String> idHashes);
+
 	/**
-	 * Find by is deleted.
+	 * Find the status and expiry timestamp by id hash and id type, without
+	 * loading and decrypting the id value.
+	 *
+	 * @param idHash the id hash
+	 * @param idType the id type
+	 * @return the status and expiry timestamp
+	 */
+	@Query("SELECT h.status, h.expiryTimestamp FROM Hotlist h WHERE h.idHash = :idHash AND h.idType = :idType AND h.isDeleted = false")
+	List<Object[]> findStatusByIdHashAndIdType(@Param("idHash") String idHash, @Param("idType") String idType);
+
+	/**
+	 * Find the id hash, id type, status and expiry timestamp of the ids of the id
+	 * hashes, without loading and decrypting the id values.
+	 *
+	 * @param idHashes the id hashes
+	 * @return the id hash, id type, status and expiry timestamp
+	 */
+	@Query("SELECT h.idHash, h.idType, h.status, h.expiryTimestamp FROM Hotlist h WHERE h.idHash IN :idHashes AND h.isDeleted = false")
+	List<Object[]> findStatusByIdHashIn(@Param("idHashes") Collection<String> idHashes);
+
+	/**
+	 * Update the status of the ids of the id type and id hashes, without loading
+	 * and encrypting the id values again.
+	 *
+	 * @param idType the id type
+	 * @param idHashes the id hashes
+	 * @param status the status
+	 * @param startTimestamp the start timestamp
+	 * @param expiryTimestamp the expiry timestamp
+	 * @param updatedBy the updated by
+	 * @param updatedDateTime the updated date time
+	 * @return the number of ids updated
+	 */
+	@Modifying
+	@Transactional
+	@Query("UPDATE Hotlist h SET h.status = :status, h.startTimestamp = :startTimestamp, h.expiryTimestamp = :expiryTimestamp, h.updatedBy = :updatedBy, h.updatedDateTime = :updatedDateTime WHERE h.idType = :idType AND h.idHash IN :idHashes AND h.isDeleted = false")
+	int updateStatusByIdTypeAndIdHashIn(@Param("idType") String idType, @Param("idHashes") Collection<String> idHashes,
+			@Param("status") String status, @Param("startTimestamp") LocalDateTime startTimestamp,
+			@Param("expiryTimestamp") LocalDateTime expiryTimestamp, @Param("updatedBy") String updatedBy,
+			@Param("updatedDateTime") LocalDateTime updatedDateTime);
+
+	/**
+	 * Count by is deleted.
 	 *
 	 * @param isDeleted the is deleted
-	 * @return the list
+	 * @return the count
+	 */
+	long countByIsDeleted(Boolean isDeleted);
+
+	/**
+	 * Find the id hash and id type of the ids after the given one, in the order
+	 * of the primary key.
+	 *
+	 * @param idHash the id hash of the last id read
+	 * @param idType the id type of the last id read
+	 * @param pageable the number of ids to read
+	 * @return the id hash and id type
+	 */
+	@Query("SELECT h.idHash, h.idType FROM Hotlist h WHERE h.isDeleted = false AND (h.idHash > :idHash OR (h.idHash = :idHash AND h.idType > :idType)) ORDER BY h.idHash, h.idType")
+	List<Object[]> findIdHashAndIdTypeAfter(@Param("idHash") String idHash, @Param("idType") String idType,
+			Pageable pageable);
+
+	/**
+	 * Find the id hash and id type of the ids created, updated or deleted since
+	 * the timestamp.
+	 *
+	 * @param timestamp the timestamp
+	 * @return the id hash and id type
 	 */
-	List<Hotlist> findByIsDeleted(Boolean isDeleted);
+	@Query("SELECT h.idHash, h.idType FROM Hotlist h WHERE h.createdDateTime >= :timestamp OR h.updatedDateTime >= :timestamp OR h.deletedDateTime >= :timestamp")
+	List<Object[]> findIdHashAndIdTypeChangedSince(@Param("timestamp") LocalDateTime timestamp);
 }
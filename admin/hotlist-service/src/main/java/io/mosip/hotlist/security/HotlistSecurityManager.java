@@ -1,8 +1,19 @@
 package io.mosip.hotlist.security;
 
 import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -64,6 +75,32 @@ public class HotlistSecurityManager {
 	@Value("${mosip.hotlist.crypto.ref-id}")
 	public String refId;
 
+	/** The number of encrypt requests of a bulk request sent at a time. */
+	@Value("${mosip.hotlist.bulk.encrypt-threads:8}")
+	private int encryptThreads;
+
+	/** The executor of the encrypt requests of a bulk request. */
+	private ExecutorService encryptExecutor;
+
+	/** The data encrypted ahead of a bulk save, by plain data, of the current thread. */
+	private final ThreadLocal<Map<String, String>> encryptedData = new ThreadLocal<>();
+
+	/**
+	 * Inits the encrypt executor.
+	 */
+	@PostConstruct
+	public void init() {
+		encryptExecutor = Executors.newFixedThreadPool(encryptThreads);
+	}
+
+	/**
+	 * Shuts down the encrypt executor.
+	 */
+	@PreDestroy
+	public void destroy() {
+		encryptExecutor.shutdown();
+	}
+
 	/**
 	 * Gets the user.
 	 *
@@ -102,6 +139,10 @@ public class HotlistSecurityManager {
 	 * @throws HotlistAppException the hotlist app exception
 	 */
 	public String encrypt(String dataToEncrypt) throws HotlistAppException {
+		Map<String, String> encrypted = encryptedData.get();
+		if (Objects.nonNull(encrypted) && encrypted.containsKey(dataToEncrypt)) {
+			return encrypted.get(dataToEncrypt);
+		}
 		RequestWrapper<CryptomanagerRequestDto> requestWrapper = new RequestWrapper<>();
 		CryptomanagerRequestDto request = new CryptomanagerRequestDto(appId, refId, DateUtils.getUTCCurrentDateTime(),
 				CryptoUtil.encodeToURLSafeBase64(dataToEncrypt.getBytes()), null, null, true);
@@ -110,6 +151,53 @@ public class HotlistSecurityManager {
 				ResponseWrapper.class));
 	}
 
+	/**
+	 * Encrypts the data of a bulk request, sending the encrypt requests in
+	 * parallel. The data which failed to encrypt is left out of the result.
+	 *
+	 * @param dataToEncrypt the data to encrypt
+	 * @return the encrypted data by plain data
+	 */
+	public Map<String, String> encryptAll(Collection<String> dataToEncrypt) {
+		Map<String, CompletableFuture<String>> futures = new LinkedHashMap<>();
+		for (String data : new LinkedHashSet<>(dataToEncrypt)) {
+			futures.put(data, CompletableFuture.supplyAsync(() -> {
+				try {
+					return encrypt(data);
+				} catch (HotlistAppException e) {
+					throw new HotlistAppUncheckedException(HotlistErrorConstants.ENCRYPTION_DECRYPTION_FAILED, e);
+				}
+			}, encryptExecutor));
+		}
+		Map<String, String> encrypted = new HashMap<>();
+		futures.forEach((data, future) -> {
+			try {
+				encrypted.put(data, future.join());
+			} catch (CompletionException e) {
+				mosipLogger.error(HotlistSecurityManager.getUser(), HOTLIST_SECURITY_MANAGER, "encryptAll",
+						e.getCause().getMessage());
+			}
+		});
+		return encrypted;
+	}
+
+	/**
+	 * Runs the save of a bulk request with the data encrypted ahead, which
+	 * {@link #encrypt(String)} then returns without calling the crypto manager.
+	 * The entities have to be flushed before the save returns.
+	 *
+	 * @param encrypted the encrypted data by plain data
+	 * @param save the save
+	 */
+	public void withEncrypted(Map<String, String> encrypted, Runnable save) {
+		encryptedData.set(encrypted);
+		try {
+			save.run();
+		} finally {
+			encryptedData.remove();
+		}
+	}
+
 	/**
 	 * Decrypt.
 	 *
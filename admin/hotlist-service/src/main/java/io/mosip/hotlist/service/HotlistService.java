@@ -1,5 +1,8 @@
 package io.mosip.hotlist.service;
 
+import java.util.List;
+
+import io.mosip.hotlist.dto.HotlistBulkResponseDTO;
 import io.mosip.hotlist.dto.HotlistRequestResponseDTO;
 import io.mosip.hotlist.exception.HotlistAppException;
 
@@ -37,4 +40,33 @@ public interface HotlistService {
 	 * @throws HotlistAppException the hotlist app exception
 	 */
 	public HotlistRequestResponseDTO unblock(HotlistRequestResponseDTO unblockRequest) throws HotlistAppException;
+
+	/**
+	 * Block the ids of a bulk request.
+	 *
+	 * @param blockRequests the block requests, already validated
+	 * @return the responses, in the order of the requests
+	 * @throws HotlistAppException the hotlist app exception
+	 */
+	public List<HotlistBulkResponseDTO> blockAll(List<HotlistRequestResponseDTO> blockRequests) throws HotlistAppException;
+
+	/**
+	 * Retrieve the hotlist status of the ids of a bulk request.
+	 *
+	 * @param requests the requests with the id and id type, already validated
+	 * @return the responses, in the order of the requests
+	 * @throws HotlistAppException the hotlist app exception
+	 */
+	public List<HotlistBulkResponseDTO> retrieveHotlistAll(List<HotlistRequestResponseDTO> requests)
+			throws HotlistAppException;
+
+	/**
+	 * Unblock the ids of a bulk request.
+	 *
+	 * @param unblockRequests the unblock requests, already validated
+	 * @return the responses, in the order of the requests
+	 * @throws HotlistAppException the hotlist app exception
+	 */
+	public List<HotlistBulkResponseDTO> unblockAll(List<HotlistRequestResponseDTO> unblockRequests)
+			throws HotlistAppException;
 }
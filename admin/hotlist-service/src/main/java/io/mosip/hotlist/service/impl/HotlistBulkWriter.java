@@ -0,0 +1,99 @@
+package io.mosip.hotlist.service.impl;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.transaction.Transactional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.mosip.hotlist.entity.Hotlist;
+import io.mosip.hotlist.entity.HotlistHistory;
+import io.mosip.hotlist.repository.HotlistRepository;
+
+/**
+ * Saves the ids of a bulk request in one transaction. The ids are hashed and
+ * encrypted by {@link HotlistServiceImpl} before the save, so that the
+ * transaction only holds the database connection for the inserts and updates.
+ */
+@Component
+public class HotlistBulkWriter {
+
+	/** The number of ids of a bulk request saved in one batch. */
+	@Value("${mosip.hotlist.bulk.batch-size:500}")
+	private int batchSize;
+
+	/** The hotlist repo. */
+	@Autowired
+	private HotlistRepository hotlistRepo;
+
+	/** The mapper. */
+	@Autowired
+	private ObjectMapper mapper;
+
+	/** The entity manager. */
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	/**
+	 * Saves the ids of a bulk request. The new ids and the history are inserted
+	 * in batches, and the ids already hotlisted are updated with one statement
+	 * per batch of the ids updated the same way.
+	 *
+	 * @param inserts the ids inserted
+	 * @param updates the ids updated
+	 */
+	@Transactional
+	public void saveAll(Collection<Hotlist> inserts, Collection<Hotlist> updates) {
+		int count = 0;
+		for (Hotlist hotlist : inserts) {
+			entityManager.persist(mapper.convertValue(hotlist, HotlistHistory.class));
+			entityManager.persist(hotlist);
+			flushBatch(++count);
+		}
+		for (Hotlist hotlist : updates) {
+			entityManager.persist(mapper.convertValue(hotlist, HotlistHistory.class));
+			flushBatch(++count);
+		}
+		entityManager.flush();
+		entityManager.clear();
+
+		Map<List<Object>, List<Hotlist>> updatesByStatus = updates.stream()
+				.collect(Collectors.groupingBy(
+						hotlist -> Arrays.asList(hotlist.getIdType(), hotlist.getStatus(), hotlist.getExpiryTimestamp()),
+						LinkedHashMap::new, Collectors.toList()));
+		for (List<Hotlist> sameStatus : updatesByStatus.values()) {
+			Hotlist hotlist = sameStatus.get(0);
+			for (int start = 0; start < sameStatus.size(); start += batchSize) {
+				List<String> idHashes = sameStatus.subList(start, Math.min(start + batchSize, sameStatus.size()))
+						.stream().map(Hotlist::getIdHash).collect(Collectors.toList());
+				hotlistRepo.updateStatusByIdTypeAndIdHashIn(hotlist.getIdType(), idHashes, hotlist.getStatus(),
+						hotlist.getStartTimestamp(), hotlist.getExpiryTimestamp(), hotlist.getUpdatedBy(),
+						hotlist.getUpdatedDateTime());
+			}
+		}
+	}
+
+	/**
+	 * Flushes the entities persisted once a batch is full, so that they are
+	 * inserted in one batch and not kept in the persistence context.
+	 *
+	 * @param count the number of ids persisted
+	 */
+	private void flushBatch(int count) {
+		if (count % batchSize == 0) {
+			entityManager.flush();
+			entityManager.clear();
+		}
+	}
+}
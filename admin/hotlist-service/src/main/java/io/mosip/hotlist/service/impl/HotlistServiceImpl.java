@@ -1,10 +1,20 @@
 package io.mosip.hotlist.service.impl;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
+import javax.transaction.Transactional.TxType;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -14,7 +24,10 @@ import org.springframework.transaction.TransactionException;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.mosip.hotlist.cache.HotlistStatusCache;
+import io.mosip.hotlist.cache.HotlistStatusCache.CachedStatus;
 import io.mosip.hotlist.constant.HotlistErrorConstants;
+import io.mosip.hotlist.dto.HotlistBulkResponseDTO;
 import io.mosip.hotlist.dto.HotlistRequestResponseDTO;
 import io.mosip.hotlist.entity.Hotlist;
 import io.mosip.hotlist.entity.HotlistHistory;
@@ -25,6 +38,7 @@ import io.mosip.hotlist.repository.HotlistHistoryRepository;
 import io.mosip.hotlist.repository.HotlistRepository;
 import io.mosip.hotlist.security.HotlistSecurityManager;
 import io.mosip.hotlist.service.HotlistService;
+import io.mosip.kernel.core.exception.ServiceError;
 import io.mosip.kernel.core.hotlist.constant.HotlistStatus;
 import io.mosip.kernel.core.logger.spi.Logger;
 import io.mosip.kernel.core.util.DateUtils;
@@ -62,6 +76,10 @@ public class HotlistServiceImpl implements HotlistService {
 	@Value("${spring.application.name:HOTLIST}")
 	private String appId;
 
+	/** The number of ids of a bulk request read in one batch. */
+	@Value("${mosip.hotlist.bulk.batch-size:500}")
+	private int batchSize;
+
 	/** The hotlist repo. */
 	@Autowired
 	private HotlistRepository hotlistRepo;
@@ -78,6 +96,18 @@ public class HotlistServiceImpl implements HotlistService {
 	@Autowired
 	private HotlistEventHandler eventHandler;
 
+	/** The status cache. */
+	@Autowired
+	private HotlistStatusCache statusCache;
+
+	/** The security manager. */
+	@Autowired
+	private HotlistSecurityManager securityManager;
+
+	/** The bulk writer. */
+	@Autowired
+	private HotlistBulkWriter bulkWriter;
+
 	/**
 	 * Block.
 	 *
@@ -105,6 +135,7 @@ public class HotlistServiceImpl implements HotlistService {
 				hotlist.setIsDeleted(false);
 				hotlistHRepo.save(mapper.convertValue(hotlist, HotlistHistory.class));
 				hotlistRepo.save(hotlist);
+				statusCache.evict(idHash, blockRequest.getIdType());
 				eventHandler.publishEvent(idHash, blockRequest.getIdType(), status, hotlist.getExpiryTimestamp());
 			}
 			return buildResponse(blockRequest.getId(), null, requestedStatus, isExpired(expiryTimestamp));
@@ -125,32 +156,60 @@ public class HotlistServiceImpl implements HotlistService {
 	@Override
 	public HotlistRequestResponseDTO retrieveHotlist(String id, String idType) throws HotlistAppException {
 		try {
-			Optional<Hotlist> hotlistedOptionalData = hotlistRepo
-					.findByIdHashAndIdTypeAndIsDeleted(HotlistSecurityManager.hash(id.getBytes()), idType, false);
-			if (hotlistedOptionalData.isPresent()) {
-				Hotlist hotlistedData = hotlistedOptionalData.get();
-				String status = hotlistedData.getStatus();
-				if (Objects.nonNull(isExpired(hotlistedData.getExpiryTimestamp()))) {
-					switch (status) {
-					case HotlistStatus.BLOCKED:
-						status = HotlistStatus.UNBLOCKED;
-						break;
-					case HotlistStatus.UNBLOCKED:
-						status = HotlistStatus.BLOCKED;
-						break;
-					}
-					return buildResponse(id, idType, status, hotlistedData.getExpiryTimestamp());
-				}
-				return buildResponse(id, idType, status, null);
-			} else {
-				return buildResponse(id, idType, HotlistStatus.UNBLOCKED, null);
-			}
+			String idHash = HotlistSecurityManager.hash(id.getBytes());
+			Optional<CachedStatus> hotlistedOptionalData = statusCache.getStatus(idHash, idType,
+					() -> findStatus(idHash, idType));
+			return buildStatusResponse(id, idType, hotlistedOptionalData);
 		} catch (DataAccessException | TransactionException e) {
 			mosipLogger.error(HotlistSecurityManager.getUser(), HOTLIST_SERVICE_IMPL, RETRIEVE_HOTLIST, e.getMessage());
 			throw new HotlistAppException(HotlistErrorConstants.DATABASE_ACCESS_ERROR, e);
 		}
 	}
 
+	/**
+	 * Builds the response of the status of the id, which is the opposite of the
+	 * status in the database until its expiry.
+	 *
+	 * @param id                    the id
+	 * @param idType                the id type
+	 * @param hotlistedOptionalData the status in the database
+	 * @return the hotlist request response DTO
+	 */
+	private HotlistRequestResponseDTO buildStatusResponse(String id, String idType,
+			Optional<CachedStatus> hotlistedOptionalData) {
+		if (hotlistedOptionalData.isPresent()) {
+			CachedStatus hotlistedData = hotlistedOptionalData.get();
+			String status = hotlistedData.getStatus();
+			if (Objects.nonNull(isExpired(hotlistedData.getExpiryTimestamp()))) {
+				switch (status) {
+				case HotlistStatus.BLOCKED:
+					status = HotlistStatus.UNBLOCKED;
+					break;
+				case HotlistStatus.UNBLOCKED:
+					status = HotlistStatus.BLOCKED;
+					break;
+				}
+				return buildResponse(id, idType, status, hotlistedData.getExpiryTimestamp());
+			}
+			return buildResponse(id, idType, status, null);
+		} else {
+			return buildResponse(id, idType, HotlistStatus.UNBLOCKED, null);
+		}
+	}
+
+	/**
+	 * Find the status of the id in the database. Only the status and expiry
+	 * timestamp are read, so the id value is not decrypted.
+	 *
+	 * @param idHash the id hash
+	 * @param idType the id type
+	 * @return the status, empty if the id is not hotlisted
+	 */
+	private Optional<CachedStatus> findStatus(String idHash, String idType) {
+		return hotlistRepo.findStatusByIdHashAndIdType(idHash, idType).stream().findFirst()
+				.map(row -> new CachedStatus((String) row[0], (LocalDateTime) row[1]));
+	}
+
 	/**
 	 * Update hotlist.
 	 *
@@ -176,6 +235,223 @@ public class HotlistServiceImpl implements HotlistService {
 		}
 	}
 
+	/**
+	 * Block the ids of a bulk request.
+	 *
+	 * @param blockRequests the block requests
+	 * @return the responses
+	 * @throws HotlistAppException the hotlist app exception
+	 */
+	@Override
+	@Transactional(TxType.NOT_SUPPORTED)
+	public List<HotlistBulkResponseDTO> blockAll(List<HotlistRequestResponseDTO> blockRequests)
+			throws HotlistAppException {
+		return updateAll(blockRequests, HotlistStatus.UNBLOCKED, HotlistStatus.BLOCKED, true, "blockAll");
+	}
+
+	/**
+	 * Retrieve the hotlist status of the ids of a bulk request. The status not
+	 * answered by the status cache are read from the database once per batch.
+	 *
+	 * @param requests the requests
+	 * @return the responses
+	 * @throws HotlistAppException the hotlist app exception
+	 */
+	@Override
+	public List<HotlistBulkResponseDTO> retrieveHotlistAll(List<HotlistRequestResponseDTO> requests)
+			throws HotlistAppException {
+		try {
+			List<String> idHashes = hashAll(requests);
+			List<HotlistBulkResponseDTO> responses = new ArrayList<>(requests.size());
+			for (int start = 0; start < requests.size(); start += batchSize) {
+				List<String> batchIdHashes = idHashes.subList(start, Math.min(start + batchSize, requests.size()));
+				AtomicReference<Map<String, CachedStatus>> batchStatus = new AtomicReference<>();
+				for (int index = start; index < start + batchIdHashes.size(); index++) {
+					HotlistRequestResponseDTO request = requests.get(index);
+					String idHash = idHashes.get(index);
+					Optional<CachedStatus> hotlistedOptionalData = statusCache.getStatus(idHash, request.getIdType(),
+							() -> {
+								if (Objects.isNull(batchStatus.get())) {
+									batchStatus.set(findStatusAll(batchIdHashes));
+								}
+								return Optional.ofNullable(batchStatus.get().get(key(idHash, request.getIdType())));
+							});
+					responses.add(buildBulkResponse(
+							buildStatusResponse(request.getId(), request.getIdType(), hotlistedOptionalData)));
+				}
+			}
+			return responses;
+		} catch (DataAccessException | TransactionException e) {
+			mosipLogger.error(HotlistSecurityManager.getUser(), HOTLIST_SERVICE_IMPL, "retrieveHotlistAll",
+					e.getMessage());
+			throw new HotlistAppException(HotlistErrorConstants.DATABASE_ACCESS_ERROR, e);
+		}
+	}
+
+	/**
+	 * Unblock the ids of a bulk request.
+	 *
+	 * @param unblockRequests the unblock requests
+	 * @return the responses
+	 * @throws HotlistAppException the hotlist app exception
+	 */
+	@Override
+	@Transactional(TxType.NOT_SUPPORTED)
+	public List<HotlistBulkResponseDTO> unblockAll(List<HotlistRequestResponseDTO> unblockRequests)
+			throws HotlistAppException {
+		return updateAll(unblockRequests, HotlistStatus.BLOCKED, HotlistStatus.UNBLOCKED, false, "unblockAll");
+	}
+
+	/**
+	 * Blocks or unblocks the ids of a bulk request, the same way as
+	 * {@link #block(HotlistRequestResponseDTO)} and
+	 * {@link #unblock(HotlistRequestResponseDTO)} do for one id. The ids are
+	 * hashed and encrypted in parallel outside of any transaction, then saved
+	 * by the {@link HotlistBulkWriter} in its own transaction, and the events
+	 * are published in one task once the save is committed.
+	 *
+	 * @param requests        the requests
+	 * @param dbStatus        the status in the database updated to the requested
+	 *                        status
+	 * @param requestedStatus the requested status
+	 * @param insertIfAbsent  whether the ids not hotlisted are inserted
+	 * @param method          the method, for the logs
+	 * @return the responses
+	 * @throws HotlistAppException the hotlist app exception
+	 */
+	private List<HotlistBulkResponseDTO> updateAll(List<HotlistRequestResponseDTO> requests, String dbStatus,
+			String requestedStatus, boolean insertIfAbsent, String method) throws HotlistAppException {
+		try {
+			List<String> idHashes = hashAll(requests);
+			Map<String, CachedStatus> hotlistedData = findStatusAll(idHashes);
+			LocalDateTime timestamp = DateUtils.getUTCCurrentDateTime();
+			List<HotlistBulkResponseDTO> responses = new ArrayList<>(requests.size());
+			Map<String, HotlistBulkResponseDTO> responsesByKey = new HashMap<>();
+			Map<String, Hotlist> inserts = new LinkedHashMap<>();
+			Map<String, Hotlist> updates = new LinkedHashMap<>();
+			for (int index = 0; index < requests.size(); index++) {
+				HotlistRequestResponseDTO request = requests.get(index);
+				String idHash = idHashes.get(index);
+				String key = key(idHash, request.getIdType());
+				HotlistBulkResponseDTO response = buildBulkResponse(
+						buildResponse(request.getId(), request.getIdType(), requestedStatus, null));
+				responses.add(response);
+				if (responsesByKey.containsKey(key)) {
+					setError(response, HotlistErrorConstants.DUPLICATE_ID);
+					continue;
+				}
+				responsesByKey.put(key, response);
+				LocalDateTime expiryTimestamp = request.getExpiryTimestamp();
+				CachedStatus hotlisted = hotlistedData.get(key);
+				if (Objects.nonNull(hotlisted)) {
+					String status = dbStatus;
+					if (!hotlisted.getStatus().contentEquals(dbStatus)) {
+						expiryTimestamp = null;
+						status = requestedStatus;
+					} else if (Objects.isNull(expiryTimestamp)) {
+						status = requestedStatus;
+					}
+					Hotlist hotlist = buildHotlistEntity(request, idHash, status, expiryTimestamp, timestamp);
+					hotlist.setUpdatedBy(HotlistSecurityManager.getUser());
+					hotlist.setUpdatedDateTime(timestamp);
+					updates.put(key, hotlist);
+				} else if (insertIfAbsent) {
+					String status = Objects.nonNull(expiryTimestamp) ? dbStatus : requestedStatus;
+					inserts.put(key, buildHotlistEntity(request, idHash, status, expiryTimestamp, timestamp));
+				}
+				response.setExpiryTimestamp(isExpired(expiryTimestamp));
+			}
+
+			List<String> idValues = new ArrayList<>(inserts.size() + updates.size());
+			inserts.values().forEach(hotlist -> idValues.add(hotlist.getIdValue()));
+			updates.values().forEach(hotlist -> idValues.add(hotlist.getIdValue()));
+			Map<String, String> encrypted = securityManager.encryptAll(idValues);
+			removeNotEncrypted(inserts, encrypted, responsesByKey);
+			removeNotEncrypted(updates, encrypted, responsesByKey);
+
+			securityManager.withEncrypted(encrypted, () -> bulkWriter.saveAll(inserts.values(), updates.values()));
+
+			List<HotlistRequestResponseDTO> events = new ArrayList<>(inserts.size() + updates.size());
+			List<Hotlist> saved = new ArrayList<>(inserts.values());
+			saved.addAll(updates.values());
+			for (Hotlist hotlist : saved) {
+				statusCache.evict(hotlist.getIdHash(), hotlist.getIdType());
+				events.add(buildResponse(hotlist.getIdHash(), hotlist.getIdType(), hotlist.getStatus(),
+						hotlist.getExpiryTimestamp()));
+			}
+			if (!events.isEmpty()) {
+				eventHandler.publishEvents(events);
+			}
+			mosipLogger.info(HotlistSecurityManager.getUser(), HOTLIST_SERVICE_IMPL, method,
+					"INSERTED " + inserts.size() + " AND UPDATED " + updates.size() + " OF " + requests.size() + " IDs");
+			return responses;
+		} catch (DataAccessException | TransactionException e) {
+			mosipLogger.error(HotlistSecurityManager.getUser(), HOTLIST_SERVICE_IMPL, method, e.getMessage());
+			throw new HotlistAppException(HotlistErrorConstants.DATABASE_ACCESS_ERROR, e);
+		}
+	}
+
+	/**
+	 * Removes the ids which failed to encrypt, setting the error in their
+	 * response.
+	 *
+	 * @param hotlists       the ids by key
+	 * @param encrypted      the encrypted ids by id
+	 * @param responsesByKey the responses by key
+	 */
+	private void removeNotEncrypted(Map<String, Hotlist> hotlists, Map<String, String> encrypted,
+			Map<String, HotlistBulkResponseDTO> responsesByKey) {
+		hotlists.entrySet().removeIf(entry -> {
+			if (encrypted.containsKey(entry.getValue().getIdValue())) {
+				return false;
+			}
+			setError(responsesByKey.get(entry.getKey()), HotlistErrorConstants.ENCRYPTION_DECRYPTION_FAILED);
+			return true;
+		});
+	}
+
+	/**
+	 * Hashes the ids of a bulk request in parallel.
+	 *
+	 * @param requests the requests
+	 * @return the id hashes, in the order of the requests
+	 */
+	private List<String> hashAll(List<HotlistRequestResponseDTO> requests) {
+		return requests.parallelStream().map(request -> HotlistSecurityManager.hash(request.getId().getBytes()))
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Find the status of the ids of the id hashes in the database, one batch of
+	 * id hashes per query. Only the status and expiry timestamp are read, so the
+	 * id values are not decrypted.
+	 *
+	 * @param idHashes the id hashes
+	 * @return the status by key of the id hash and id type
+	 */
+	private Map<String, CachedStatus> findStatusAll(List<String> idHashes) {
+		List<String> distinctIdHashes = new ArrayList<>(new LinkedHashSet<>(idHashes));
+		Map<String, CachedStatus> hotlistedData = new HashMap<>();
+		for (int start = 0; start < distinctIdHashes.size(); start += batchSize) {
+			hotlistRepo.findStatusByIdHashIn(
+					distinctIdHashes.subList(start, Math.min(start + batchSize, distinctIdHashes.size())))
+					.forEach(row -> hotlistedData.put(key((String) row[0], (String) row[1]),
+							new CachedStatus((String) row[2], (LocalDateTime) row[3])));
+		}
+		return hotlistedData;
+	}
+
+	/**
+	 * Key of an id in a bulk request.
+	 *
+	 * @param idHash the id hash
+	 * @param idType the id type
+	 * @return the key
+	 */
+	private static String key(String idHash, String idType) {
+		return idHash + "|" + idType;
+	}
+
 	private void updateStatus(HotlistRequestResponseDTO request, String idHash, Optional<Hotlist> hotlistedOptionalData,
 			String dbStatus, String requestedStatus) {
 		if (hotlistedOptionalData.isPresent() && hotlistedOptionalData.get().getStatus().contentEquals(dbStatus)) {
@@ -206,6 +482,7 @@ public class HotlistServiceImpl implements HotlistService {
 		hotlist.setUpdatedDateTime(DateUtils.getUTCCurrentDateTime());
 		hotlistHRepo.save(mapper.convertValue(hotlist, HotlistHistory.class));
 		hotlistRepo.save(hotlist);
+		statusCache.evict(idHash, updateRequest.getIdType());
 		eventHandler.publishEvent(idHash, updateRequest.getIdType(), status, hotlist.getExpiryTimestamp());
 		return buildResponse(hotlist.getIdValue(), null, updateRequest.getStatus(), null);
 	}
@@ -227,6 +504,31 @@ public class HotlistServiceImpl implements HotlistService {
 		hotlist.setExpiryTimestamp(Objects.nonNull(request.getExpiryTimestamp()) ? request.getExpiryTimestamp() : null);
 	}
 
+	/**
+	 * Builds the hotlist entity of an id of a bulk request.
+	 *
+	 * @param request         the request
+	 * @param idHash          the id hash
+	 * @param status          the status
+	 * @param expiryTimestamp the expiry timestamp
+	 * @param timestamp       the timestamp of the bulk request
+	 * @return the hotlist
+	 */
+	private Hotlist buildHotlistEntity(HotlistRequestResponseDTO request, String idHash, String status,
+			LocalDateTime expiryTimestamp, LocalDateTime timestamp) {
+		Hotlist hotlist = new Hotlist();
+		hotlist.setIdHash(idHash);
+		hotlist.setIdValue(request.getId());
+		hotlist.setIdType(request.getIdType());
+		hotlist.setStatus(status);
+		hotlist.setStartTimestamp(timestamp);
+		hotlist.setExpiryTimestamp(expiryTimestamp);
+		hotlist.setCreatedBy(HotlistSecurityManager.getUser());
+		hotlist.setCreatedDateTime(timestamp);
+		hotlist.setIsDeleted(false);
+		return hotlist;
+	}
+
 	private LocalDateTime isExpired(LocalDateTime expiryTimestamp) {
 		return Objects.nonNull(expiryTimestamp) && expiryTimestamp.isAfter(DateUtils.getUTCCurrentDateTime()) ? expiryTimestamp
 				: null;
@@ -250,4 +552,32 @@ public class HotlistServiceImpl implements HotlistService {
 		return response;
 	}
 
+	/**
+	 * Builds the response of an id of a bulk request.
+	 *
+	 * @param response the response
+	 * @return the hotlist bulk response DTO
+	 */
+	private HotlistBulkResponseDTO buildBulkResponse(HotlistRequestResponseDTO response) {
+		HotlistBulkResponseDTO bulkResponse = new HotlistBulkResponseDTO();
+		bulkResponse.setId(response.getId());
+		bulkResponse.setIdType(response.getIdType());
+		bulkResponse.setStatus(response.getStatus());
+		bulkResponse.setExpiryTimestamp(response.getExpiryTimestamp());
+		return bulkResponse;
+	}
+
+	/**
+	 * Sets the error of an id of a bulk request which failed.
+	 *
+	 * @param response the response
+	 * @param error    the error
+	 */
+	private void setError(HotlistBulkResponseDTO response, HotlistErrorConstants error) {
+		response.setStatus(null);
+		response.setExpiryTimestamp(null);
+		response.setErrors(
+				Collections.singletonList(new ServiceError(error.getErrorCode(), error.getErrorMessage())));
+	}
+
 }
\ No newline at end of file
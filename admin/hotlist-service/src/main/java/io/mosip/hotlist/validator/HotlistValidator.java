@@ -66,7 +66,16 @@ public class HotlistValidator implements Validator {
 	@SuppressWarnings("unchecked")
 	@Override
 	public void validate(Object target, Errors errors) {
-		HotlistRequestResponseDTO request = ((RequestWrapper<HotlistRequestResponseDTO>) target).getRequest();
+		validateRequest(((RequestWrapper<HotlistRequestResponseDTO>) target).getRequest(), errors);
+	}
+
+	/**
+	 * Validate a block or unblock request, also of an id of a bulk request.
+	 *
+	 * @param request the request
+	 * @param errors  the errors
+	 */
+	public void validateRequest(HotlistRequestResponseDTO request, Errors errors) {
 		validateId(request.getId(), errors);
 		validateIdType(request.getIdType(), errors);
 		validateStatus(request.getStatus(), errors);
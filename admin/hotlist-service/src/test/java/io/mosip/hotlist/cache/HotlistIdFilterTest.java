@@ -0,0 +1,59 @@
+package io.mosip.hotlist.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class HotlistIdFilterTest {
+
+	@Test
+	public void testNoFalseNegatives() {
+		HotlistIdFilter filter = new HotlistIdFilter(100000, 0.01);
+		for (int i = 0; i < 100000; i++) {
+			filter.add("hash" + i, i % 2 == 0 ? "UIN" : "VID");
+		}
+		for (int i = 0; i < 100000; i++) {
+			assertTrue(filter.mightContain("hash" + i, i % 2 == 0 ? "UIN" : "VID"));
+		}
+		assertFalse(filter.isSaturated());
+	}
+
+	@Test
+	public void testFalsePositiveRate() {
+		HotlistIdFilter filter = new HotlistIdFilter(100000, 0.01);
+		for (int i = 0; i < 100000; i++) {
+			filter.add("hash" + i, "UIN");
+		}
+		int falsePositives = 0;
+		for (int i = 0; i < 100000; i++) {
+			// same id hash of another id type is another id
+			if (filter.mightContain("hash" + i, "VID")) {
+				falsePositives++;
+			}
+		}
+		assertTrue(falsePositives < 1500);
+	}
+
+	@Test
+	public void testSaturated() {
+		HotlistIdFilter filter = new HotlistIdFilter(10, 0.01);
+		for (int i = 0; i < 11; i++) {
+			filter.add("hash" + i, "UIN");
+		}
+		assertTrue(filter.isSaturated());
+	}
+
+	@Test
+	public void testAddedAgainNotCounted() {
+		HotlistIdFilter filter = new HotlistIdFilter(10, 0.01);
+		for (int round = 0; round < 20; round++) {
+			for (int i = 0; i < 10; i++) {
+				filter.add("hash" + i, "UIN");
+			}
+		}
+		assertEquals(10, filter.size());
+		assertFalse(filter.isSaturated());
+	}
+}
@@ -0,0 +1,140 @@
+package io.mosip.hotlist.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.WebApplicationContext;
+
+import io.mosip.hotlist.cache.HotlistStatusCache.CachedStatus;
+import io.mosip.hotlist.repository.HotlistRepository;
+import io.mosip.kernel.core.hotlist.constant.HotlistStatus;
+
+@ContextConfiguration(classes = { TestContext.class, WebApplicationContext.class })
+@RunWith(SpringRunner.class)
+@WebMvcTest
+public class HotlistStatusCacheTest {
+
+	@InjectMocks
+	private HotlistStatusCache statusCache;
+
+	@Mock
+	private HotlistRepository hotlistRepo;
+
+	private AtomicInteger loads;
+
+	@Before
+	public void before() {
+		ReflectionTestUtils.setField(statusCache, "enabled", true);
+		ReflectionTestUtils.setField(statusCache, "maxSize", 100);
+		ReflectionTestUtils.setField(statusCache, "ttl", 60000L);
+		ReflectionTestUtils.setField(statusCache, "expectedIds", 1000L);
+		ReflectionTestUtils.setField(statusCache, "falsePositiveRate", 0.01);
+		ReflectionTestUtils.setField(statusCache, "maxStaleness", 30000L);
+		ReflectionTestUtils.setField(statusCache, "refreshOverlap", 60000L);
+		ReflectionTestUtils.setField(statusCache, "loadPageSize", 2);
+		statusCache.init();
+		loads = new AtomicInteger();
+		when(hotlistRepo.countByIsDeleted(false)).thenReturn(3L);
+		when(hotlistRepo.findIdHashAndIdTypeAfter(any(), any(), any()))
+				.thenReturn(Arrays.asList(new Object[] { "hash1", "UIN" }, new Object[] { "hash2", "UIN" }))
+				.thenReturn(Collections.singletonList(new Object[] { "hash3", "VID" }));
+		when(hotlistRepo.findIdHashAndIdTypeChangedSince(any())).thenReturn(Collections.emptyList());
+		statusCache.refreshFilter();
+	}
+
+	@Test
+	public void testNotHotlistedIdNotLoaded() {
+		for (int i = 0; i < 100; i++) {
+			assertFalse(statusCache.getStatus("other" + i, "UIN", loader(Optional.empty())).isPresent());
+		}
+		// the false positive probability is one percent
+		assertTrue(loads.get() < 10);
+	}
+
+	@Test
+	public void testHotlistedIdLoadedOnce() {
+		CachedStatus blocked = new CachedStatus(HotlistStatus.BLOCKED, null);
+		assertEquals(blocked, statusCache.getStatus("hash3", "VID", loader(Optional.of(blocked))).get());
+		assertEquals(blocked, statusCache.getStatus("hash3", "VID", loader(Optional.of(blocked))).get());
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	public void testBlockEvictsStatus() {
+		statusCache.getStatus("hash1", "UIN", loader(Optional.empty()));
+		CachedStatus blocked = new CachedStatus(HotlistStatus.BLOCKED, null);
+		statusCache.evict("hash1", "UIN");
+		assertEquals(blocked, statusCache.getStatus("hash1", "UIN", loader(Optional.of(blocked))).get());
+		assertEquals(2, loads.get());
+
+		// an id blocked for the first time is added to the filter
+		statusCache.evict("hash9", "UIN");
+		assertEquals(blocked, statusCache.getStatus("hash9", "UIN", loader(Optional.of(blocked))).get());
+	}
+
+	@Test
+	public void testRefreshAddsIdsChangedByOtherInstances() {
+		statusCache.getStatus("hash2", "UIN", loader(Optional.empty()));
+		when(hotlistRepo.findIdHashAndIdTypeChangedSince(any())).thenReturn(Arrays
+				.asList(new Object[] { "hash2", "UIN" }, new Object[] { "hash8", "UIN" }));
+		statusCache.refreshFilter();
+		CachedStatus blocked = new CachedStatus(HotlistStatus.BLOCKED, LocalDateTime.now());
+		assertEquals(blocked, statusCache.getStatus("hash2", "UIN", loader(Optional.of(blocked))).get());
+		assertEquals(blocked, statusCache.getStatus("hash8", "UIN", loader(Optional.of(blocked))).get());
+		assertEquals(3, loads.get());
+	}
+
+	@Test
+	public void testStaleFilterNotUsed() {
+		ReflectionTestUtils.setField(statusCache, "refreshedAt", System.currentTimeMillis() - 60000);
+		CachedStatus blocked = new CachedStatus(HotlistStatus.BLOCKED, null);
+		assertEquals(blocked, statusCache.getStatus("hash7", "UIN", loader(Optional.of(blocked))).get());
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	public void testReloadClearsCache() {
+		statusCache.getStatus("hash1", "UIN", loader(Optional.empty()));
+		when(hotlistRepo.findIdHashAndIdTypeAfter(anyString(), anyString(), any()))
+				.thenReturn(Collections.singletonList(new Object[] { "hash1", "UIN" }));
+		statusCache.reload();
+		statusCache.getStatus("hash1", "UIN", loader(Optional.empty()));
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	public void testDisabled() {
+		ReflectionTestUtils.setField(statusCache, "enabled", false);
+		statusCache.getStatus("other", "UIN", loader(Optional.empty()));
+		statusCache.getStatus("other", "UIN", loader(Optional.empty()));
+		assertEquals(2, loads.get());
+	}
+
+	private Supplier<Optional<CachedStatus>> loader(Optional<CachedStatus> status) {
+		return () -> {
+			loads.incrementAndGet();
+			return status;
+		};
+	}
+}
@@ -1,8 +1,17 @@
 package io.mosip.hotlist.controller;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -12,15 +21,19 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestContext;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.validation.Errors;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.context.WebApplicationContext;
 
 import io.mosip.hotlist.constant.HotlistErrorConstants;
+import io.mosip.hotlist.dto.HotlistBulkResponseDTO;
 import io.mosip.hotlist.dto.HotlistRequestResponseDTO;
 import io.mosip.hotlist.exception.HotlistAppException;
 import io.mosip.hotlist.helper.AuditHelper;
 import io.mosip.hotlist.service.HotlistService;
 import io.mosip.hotlist.validator.HotlistValidator;
+import io.mosip.kernel.core.exception.ServiceError;
 import io.mosip.kernel.core.http.RequestWrapper;
 import io.mosip.kernel.core.http.ResponseWrapper;
 
@@ -127,4 +140,94 @@ public class HotlistControllerTest {
 		assertTrue(response.getErrors().get(0).getMessage()
 				.contentEquals(HotlistErrorConstants.DATABASE_ACCESS_ERROR.getErrorMessage()));
 	}
+
+	@Test
+	public void blockAllTest() throws HotlistAppException {
+		ReflectionTestUtils.setField(controller, "bulkMaxSize", 10);
+		doAnswer(invocation -> {
+			HotlistRequestResponseDTO request = invocation.getArgument(0);
+			if (request.getId().contentEquals("invalid")) {
+				((Errors) invocation.getArgument(1)).reject(HotlistErrorConstants.INVALID_INPUT_PARAMETER.getErrorCode(),
+						"invalid");
+			}
+			return null;
+		}).when(validator).validateRequest(Mockito.any(), Mockito.any());
+		HotlistBulkResponseDTO serviceResponse = new HotlistBulkResponseDTO();
+		serviceResponse.setId("id");
+		serviceResponse.setIdType("idType");
+		when(service.blockAll(Mockito.any())).thenReturn(Collections.singletonList(serviceResponse));
+		RequestWrapper<List<HotlistRequestResponseDTO>> requestWrapper = new RequestWrapper<>();
+		requestWrapper.setRequest(Arrays.asList(request("invalid"), request("id")));
+		ResponseWrapper<List<HotlistBulkResponseDTO>> response = controller.blockAll(requestWrapper);
+		assertEquals(2, response.getResponse().size());
+		assertEquals("invalid", response.getResponse().get(0).getId());
+		assertEquals(HotlistErrorConstants.INVALID_INPUT_PARAMETER.getErrorCode(),
+				response.getResponse().get(0).getErrors().get(0).getErrorCode());
+		assertEquals("id", response.getResponse().get(1).getId());
+		verify(service).blockAll(Mockito.argThat(requests -> requests.size() == 1));
+	}
+
+	@Test
+	public void blockAllTestDuplicateIdAuditedAsError() throws HotlistAppException {
+		ReflectionTestUtils.setField(controller, "bulkMaxSize", 10);
+		HotlistBulkResponseDTO blocked = new HotlistBulkResponseDTO();
+		blocked.setId("id");
+		blocked.setIdType("idType");
+		HotlistBulkResponseDTO duplicate = new HotlistBulkResponseDTO();
+		duplicate.setId("id");
+		duplicate.setIdType("idType");
+		duplicate.setErrors(Collections.singletonList(new ServiceError(HotlistErrorConstants.DUPLICATE_ID.getErrorCode(),
+				HotlistErrorConstants.DUPLICATE_ID.getErrorMessage())));
+		when(service.blockAll(Mockito.any())).thenReturn(Arrays.asList(blocked, duplicate));
+		RequestWrapper<List<HotlistRequestResponseDTO>> requestWrapper = new RequestWrapper<>();
+		requestWrapper.setRequest(Arrays.asList(request("id"), request("id")));
+		controller.blockAll(requestWrapper);
+		verify(auditHelper, times(1)).audit(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(),
+				Mockito.anyString());
+		verify(auditHelper).auditError(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(),
+				Mockito.argThat(e -> ((HotlistAppException) e).getErrorCode()
+						.contentEquals(HotlistErrorConstants.DUPLICATE_ID.getErrorCode())));
+	}
+
+	@Test
+	public void blockAllTestLimitExceeded() throws HotlistAppException {
+		ReflectionTestUtils.setField(controller, "bulkMaxSize", 1);
+		RequestWrapper<List<HotlistRequestResponseDTO>> requestWrapper = new RequestWrapper<>();
+		requestWrapper.setRequest(Arrays.asList(request("id1"), request("id2")));
+		ResponseWrapper<List<HotlistBulkResponseDTO>> response = controller.blockAll(requestWrapper);
+		assertTrue(response.getErrors().get(0).getErrorCode()
+				.contentEquals(HotlistErrorConstants.BULK_LIMIT_EXCEEDED.getErrorCode()));
+		verify(service, never()).blockAll(Mockito.any());
+	}
+
+	@Test
+	public void retrieveHotlistAllTest() throws HotlistAppException {
+		ReflectionTestUtils.setField(controller, "bulkMaxSize", 10);
+		HotlistBulkResponseDTO serviceResponse = new HotlistBulkResponseDTO();
+		serviceResponse.setId("id");
+		when(service.retrieveHotlistAll(Mockito.any())).thenReturn(Collections.singletonList(serviceResponse));
+		RequestWrapper<List<HotlistRequestResponseDTO>> requestWrapper = new RequestWrapper<>();
+		requestWrapper.setRequest(Collections.singletonList(request("id")));
+		ResponseWrapper<List<HotlistBulkResponseDTO>> response = controller.retrieveHotlistAll(requestWrapper);
+		assertEquals("id", response.getResponse().get(0).getId());
+	}
+
+	@Test
+	public void unblockAllTestException() throws HotlistAppException {
+		ReflectionTestUtils.setField(controller, "bulkMaxSize", 10);
+		when(service.unblockAll(Mockito.any()))
+				.thenThrow(new HotlistAppException(HotlistErrorConstants.DATABASE_ACCESS_ERROR));
+		RequestWrapper<List<HotlistRequestResponseDTO>> requestWrapper = new RequestWrapper<>();
+		requestWrapper.setRequest(Collections.singletonList(request("id")));
+		ResponseWrapper<List<HotlistBulkResponseDTO>> response = controller.unblockAll(requestWrapper);
+		assertTrue(response.getErrors().get(0).getErrorCode()
+				.contentEquals(HotlistErrorConstants.DATABASE_ACCESS_ERROR.getErrorCode()));
+	}
+
+	private HotlistRequestResponseDTO request(String id) {
+		HotlistRequestResponseDTO request = new HotlistRequestResponseDTO();
+		request.setId(id);
+		request.setIdType("idType");
+		return request;
+	}
 }
@@ -1,8 +1,12 @@
 package io.mosip.hotlist.event;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -16,6 +20,7 @@ import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.web.context.WebApplicationContext;
 
 import io.mosip.hotlist.constant.HotlistErrorConstants;
+import io.mosip.hotlist.dto.HotlistRequestResponseDTO;
 import io.mosip.hotlist.exception.HotlistRetryException;
 import io.mosip.kernel.core.util.DateUtils;
 import io.mosip.kernel.core.websub.model.EventModel;
@@ -52,4 +57,28 @@ public class HotlistEventHandlerTest {
 			assertTrue(e.getErrorText().contentEquals(HotlistErrorConstants.UNKNOWN_ERROR.getErrorMessage()));
 		}
 	}
+
+	@Test
+	public void testPublishEventsRetryPublishesEventsLeft() {
+		List<HotlistRequestResponseDTO> events = new ArrayList<>();
+		for (String id : new String[] { "id1", "id2", "id3" }) {
+			HotlistRequestResponseDTO event = new HotlistRequestResponseDTO();
+			event.setId(id);
+			event.setIdType("idType");
+			event.setStatus("status");
+			events.add(event);
+		}
+		doNothing().doThrow(new NullPointerException()).doNothing().when(publisher).publishUpdate(Mockito.any(),
+				Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+		try {
+			handler.publishEvents(events);
+		} catch (HotlistRetryException e) {
+			assertTrue(e.getErrorCode().contentEquals(HotlistErrorConstants.UNKNOWN_ERROR.getErrorCode()));
+		}
+		assertEquals(2, events.size());
+		handler.publishEvents(events);
+		assertTrue(events.isEmpty());
+		verify(publisher, times(4)).publishUpdate(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(),
+				Mockito.any());
+	}
 }
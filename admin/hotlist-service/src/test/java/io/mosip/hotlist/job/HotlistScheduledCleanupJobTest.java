@@ -1,22 +1,31 @@
 package io.mosip.hotlist.job;
 
-import static org.mockito.Mockito.when;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.*;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Collections;
 
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import static org.mockito.Mockito.*;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestContext;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.context.WebApplicationContext;
 
+import io.mosip.hotlist.cache.HotlistStatusCache;
+import io.mosip.hotlist.config.job.HotlistCleanupLock;
 import io.mosip.hotlist.config.job.HotlistScheduledCleanupJob;
 import io.mosip.hotlist.repository.HotlistRepository;
+import io.mosip.kernel.core.hotlist.constant.HotlistStatus;
 
 /**
  * @author Manoj SP
@@ -33,40 +42,92 @@ public class HotlistScheduledCleanupJobTest {
 	@Mock
 	private HotlistRepository repo;
 
+	@Mock
+	private HotlistStatusCache statusCache;
+
+	@Mock
+	private HotlistCleanupLock cleanupLock;
+
+	@Before
+	public void before() throws Exception {
+		ReflectionTestUtils.setField(job, "batchSize", 2);
+		HotlistCleanupLock disabledLock = new HotlistCleanupLock();
+		ReflectionTestUtils.setField(disabledLock, "enabled", false);
+		when(cleanupLock.tryAcquire(any())).thenReturn(disabledLock.tryAcquire("test"));
+	}
+
 	@Test
 	public void cleanupUnblockedIdsTest() {
-		when(repo.findByStatusAndExpiryTimestampAndIsDeleted(any(), any(), any())).thenReturn(Collections.emptyList());
+		when(repo.findIdHashByStatusWithoutExpiryAfter(any(), any(), any())).thenReturn(Collections.emptyList());
 		job.cleanupUnblockedIds();
+		verify(repo, never()).deleteByIdHashInAndStatusWithoutExpiry(any(), any());
+		verify(statusCache, never()).reload();
 	}
 
 	@Test
 	public void cleanupUnblockedIdsTestException() {
-		when(repo.findByStatusAndExpiryTimestampAndIsDeleted(any(), any(), any())).thenThrow(new NullPointerException());
+		when(repo.findIdHashByStatusWithoutExpiryAfter(any(), any(), any())).thenThrow(new NullPointerException());
 		job.cleanupUnblockedIds();
 	}
 
 	@Test
 	public void cleanupExpiredIdsTest() {
-		when(repo.findByStatusAndExpiryTimestampAndIsDeleted(any(), any(), any())).thenReturn(Collections.emptyList());
-		job.cleanupUnblockedIds();
+		when(repo.findIdHashByExpiryTimestampLessThanAndStatusAfter(eq(""), any(), eq(HotlistStatus.UNBLOCKED), any()))
+				.thenReturn(Collections.singletonList("hash1"));
+		when(repo.deleteByIdHashInAndExpiryTimestampLessThanAndStatus(eq(Collections.singletonList("hash1")),
+				any(LocalDateTime.class), eq(HotlistStatus.UNBLOCKED))).thenReturn(1);
+		job.cleanupExpiredIds();
+		verify(statusCache).reload();
+		assertEquals(1, job.getDeletedCount());
 	}
 
 	@Test
 	public void cleanupExpiredIdsTestException() {
-		when(repo.findByStatusAndExpiryTimestampAndIsDeleted(any(), any(), any())).thenThrow(new NullPointerException());
-		job.cleanupUnblockedIds();
+		when(repo.findIdHashByExpiryTimestampLessThanAndStatusAfter(any(), any(), any(), any()))
+				.thenThrow(new NullPointerException());
+		job.cleanupExpiredIds();
 	}
 
 	@Test
 	public void cleanupDeletedIdsTest() {
-		when(repo.findByStatusAndExpiryTimestampAndIsDeleted(any(), any(), any())).thenReturn(Collections.emptyList());
-		job.cleanupUnblockedIds();
+		when(repo.findDeletedIdHashAfter(any(), any())).thenReturn(Collections.emptyList());
+		job.cleanupDeletedIds();
+		verify(repo, never()).deleteDeletedByIdHashIn(any());
 	}
 
 	@Test
 	public void cleanupDeletedIdsException() {
-		when(repo.findByStatusAndExpiryTimestampAndIsDeleted(any(), any(), any())).thenThrow(new NullPointerException());
-		job.cleanupUnblockedIds();
+		when(repo.findDeletedIdHashAfter(any(), any())).thenThrow(new NullPointerException());
+		job.cleanupDeletedIds();
+	}
+
+	@Test
+	public void cleanupDeletesInBatchesTest() {
+		Pageable batch = PageRequest.of(0, 2);
+		when(repo.findDeletedIdHashAfter("", batch)).thenReturn(Arrays.asList("hash1", "hash2"));
+		when(repo.findDeletedIdHashAfter("hash2", batch)).thenReturn(Collections.singletonList("hash3"));
+		when(repo.deleteDeletedByIdHashIn(Arrays.asList("hash1", "hash2"))).thenReturn(2);
+		when(repo.deleteDeletedByIdHashIn(Collections.singletonList("hash3"))).thenReturn(1);
+		job.cleanupDeletedIds();
+		verify(repo, times(2)).deleteDeletedByIdHashIn(any());
+		verify(repo, never()).findAll();
+		verify(statusCache, times(1)).reload();
+		assertEquals(3, job.getDeletedCount());
+	}
+
+	@Test
+	public void cleanupNothingDeletedTest() {
+		when(repo.findDeletedIdHashAfter(any(), any())).thenReturn(Collections.emptyList());
+		job.cleanupDeletedIds();
+		verify(statusCache, never()).reload();
+	}
+
+	@Test
+	public void cleanupSkippedWhenRunningOnAnotherInstanceTest() throws Exception {
+		when(cleanupLock.tryAcquire(any())).thenReturn(null);
+		job.cleanupDeletedIds();
+		verifyZeroInteractions(repo);
+		assertEquals(1, job.getSkippedCount());
 	}
 
 }
@@ -1,9 +1,13 @@
 package io.mosip.hotlist.security;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -15,6 +19,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestContext;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.context.WebApplicationContext;
 
 import com.fasterxml.jackson.core.JsonParseException;
@@ -142,4 +147,54 @@ public class HotlistSecurityManagerTest {
 			assertEquals(e.getErrorText(), HotlistErrorConstants.ENCRYPTION_DECRYPTION_FAILED.getErrorMessage());
 		}
 	}
+
+	@Test
+	public void testEncryptAll()
+			throws JsonParseException, JsonMappingException, JsonProcessingException, IOException, HotlistAppException {
+		ResponseWrapper<ObjectNode> response = new ResponseWrapper<>();
+		ObjectNode responseNode = mapper.createObjectNode();
+		responseNode.put("data", "data");
+		response.setResponse(responseNode);
+		when(restBuilder.buildRequest(Mockito.any(), Mockito.any(), Mockito.any(Class.class)))
+				.thenReturn(new RestRequestDTO());
+		when(restHelper.requestSync(Mockito.any()))
+				.thenReturn(mapper.readValue(mapper.writeValueAsString(response), ResponseWrapper.class));
+		ReflectionTestUtils.setField(securityManager, "encryptThreads", 2);
+		securityManager.init();
+		try {
+			Map<String, String> encrypted = securityManager.encryptAll(Arrays.asList("id1", "id2", "id1"));
+			assertEquals(2, encrypted.size());
+			assertEquals("data", encrypted.get("id1"));
+			Mockito.verify(restHelper, Mockito.times(2)).requestSync(Mockito.any());
+		} finally {
+			securityManager.destroy();
+		}
+	}
+
+	@Test
+	public void testEncryptAllError() throws HotlistAppException {
+		when(restBuilder.buildRequest(Mockito.any(), Mockito.any(), Mockito.any(Class.class)))
+				.thenReturn(new RestRequestDTO());
+		when(restHelper.requestSync(Mockito.any()))
+				.thenThrow(new RestServiceException(HotlistErrorConstants.ENCRYPTION_DECRYPTION_FAILED));
+		ReflectionTestUtils.setField(securityManager, "encryptThreads", 2);
+		securityManager.init();
+		try {
+			assertTrue(securityManager.encryptAll(Collections.singletonList("id")).isEmpty());
+		} finally {
+			securityManager.destroy();
+		}
+	}
+
+	@Test
+	public void testEncryptWithEncrypted() throws HotlistAppException {
+		securityManager.withEncrypted(Collections.singletonMap("id", "encrypted"), () -> {
+			try {
+				assertEquals("encrypted", securityManager.encrypt("id"));
+			} catch (HotlistAppException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		Mockito.verifyZeroInteractions(restHelper);
+	}
 }
@@ -1,33 +1,52 @@
 package io.mosip.hotlist.service;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
+import javax.persistence.EntityManager;
+
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.dao.DataAccessException;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestContext;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.context.WebApplicationContext;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.mosip.hotlist.cache.HotlistStatusCache;
 import io.mosip.hotlist.constant.HotlistErrorConstants;
+import io.mosip.hotlist.dto.HotlistBulkResponseDTO;
 import io.mosip.hotlist.dto.HotlistRequestResponseDTO;
 import io.mosip.hotlist.entity.Hotlist;
 import io.mosip.hotlist.event.HotlistEventHandler;
 import io.mosip.hotlist.exception.HotlistAppException;
 import io.mosip.hotlist.repository.HotlistHistoryRepository;
 import io.mosip.hotlist.repository.HotlistRepository;
+import io.mosip.hotlist.security.HotlistSecurityManager;
+import io.mosip.hotlist.service.impl.HotlistBulkWriter;
 import io.mosip.hotlist.service.impl.HotlistServiceImpl;
 import io.mosip.kernel.core.hotlist.constant.HotlistStatus;
 import io.mosip.kernel.core.util.DateUtils;
@@ -58,6 +77,15 @@ public class HotlistServiceTest {
 	@Mock
 	private HotlistEventHandler eventHandler;
 
+	@Spy
+	private HotlistStatusCache statusCache = new HotlistStatusCache();
+
+	@Mock
+	private HotlistSecurityManager securityManager;
+
+	@Mock
+	private EntityManager entityManager;
+
 	@Test
 	public void testBlockIdAlreadyHotlisted() throws HotlistAppException {
 		Hotlist entity = new Hotlist();
@@ -108,8 +136,8 @@ public class HotlistServiceTest {
 		entity.setIdType("idType");
 		entity.setStatus(HotlistStatus.BLOCKED);
 		entity.setExpiryTimestamp(null);
-		when(hotlistRepo.findByIdHashAndIdTypeAndIsDeleted(Mockito.any(), Mockito.any(), Mockito.any()))
-				.thenReturn(Optional.of(entity));
+		when(hotlistRepo.findStatusByIdHashAndIdType(Mockito.any(), Mockito.any()))
+				.thenReturn(Collections.singletonList(new Object[] { entity.getStatus(), entity.getExpiryTimestamp() }));
 		HotlistRequestResponseDTO response = service.retrieveHotlist("id", "idType");
 		assertTrue(response.getId().contentEquals("id"));
 		assertTrue(response.getIdType().contentEquals("idType"));
@@ -126,8 +154,8 @@ public class HotlistServiceTest {
 		entity.setStatus(HotlistStatus.BLOCKED);
 		LocalDateTime expiryTimestamp = DateUtils.getUTCCurrentDateTime().now().withYear(9999);
 		entity.setExpiryTimestamp(expiryTimestamp);
-		when(hotlistRepo.findByIdHashAndIdTypeAndIsDeleted(Mockito.any(), Mockito.any(), Mockito.any()))
-				.thenReturn(Optional.of(entity));
+		when(hotlistRepo.findStatusByIdHashAndIdType(Mockito.any(), Mockito.any()))
+				.thenReturn(Collections.singletonList(new Object[] { entity.getStatus(), entity.getExpiryTimestamp() }));
 		HotlistRequestResponseDTO response = service.retrieveHotlist("id", "idType");
 		assertTrue(response.getId().contentEquals("id"));
 		assertTrue(response.getIdType().contentEquals("idType"));
@@ -142,8 +170,8 @@ public class HotlistServiceTest {
 		entity.setIdType("idType");
 		entity.setStatus(HotlistStatus.BLOCKED);
 		entity.setExpiryTimestamp(null);
-		when(hotlistRepo.findByIdHashAndIdTypeAndIsDeleted(Mockito.any(), Mockito.any(), Mockito.any()))
-				.thenReturn(Optional.empty());
+		when(hotlistRepo.findStatusByIdHashAndIdType(Mockito.any(), Mockito.any()))
+				.thenReturn(Collections.emptyList());
 		HotlistRequestResponseDTO response = service.retrieveHotlist("id", "idType");
 		assertTrue(response.getId().contentEquals("id"));
 		assertTrue(response.getIdType().contentEquals("idType"));
@@ -155,7 +183,7 @@ public class HotlistServiceTest {
 	@Test
 	public void testRetrieveHotlistTransactionFailed() throws HotlistAppException {
 		try {
-			when(hotlistRepo.findByIdHashAndIdTypeAndIsDeleted(Mockito.any(), Mockito.any(), Mockito.any()))
+			when(hotlistRepo.findStatusByIdHashAndIdType(Mockito.any(), Mockito.any()))
 					.thenThrow(new DataAccessException("") {
 					});
 			service.retrieveHotlist("id", "idType");
@@ -207,4 +235,97 @@ public class HotlistServiceTest {
 			assertTrue(e.getErrorText().contentEquals(HotlistErrorConstants.DATABASE_ACCESS_ERROR.getErrorMessage()));
 		}
 	}
+
+	@Test
+	public void testBlockAll() throws HotlistAppException {
+		ReflectionTestUtils.setField(service, "batchSize", 2);
+		HotlistBulkWriter bulkWriter = bulkWriter(2);
+		String blockedIdHash = HotlistSecurityManager.hash("id2".getBytes());
+		when(hotlistRepo.findStatusByIdHashIn(Mockito.any())).thenReturn(Collections
+				.singletonList(new Object[] { blockedIdHash, "idType", HotlistStatus.BLOCKED, null }));
+		Map<String, String> encrypted = new HashMap<>();
+		encrypted.put("id1", "encrypted1");
+		encrypted.put("id2", "encrypted2");
+		when(securityManager.encryptAll(Mockito.any())).thenReturn(encrypted);
+		doAnswer(invocation -> {
+			((Runnable) invocation.getArgument(1)).run();
+			return null;
+		}).when(securityManager).withEncrypted(Mockito.any(), Mockito.any());
+		List<HotlistBulkResponseDTO> responses = service
+				.blockAll(Arrays.asList(request("id1"), request("id2"), request("id1")));
+		assertEquals(3, responses.size());
+		assertEquals("id1", responses.get(0).getId());
+		assertEquals(HotlistStatus.BLOCKED, responses.get(0).getStatus());
+		assertEquals(HotlistStatus.BLOCKED, responses.get(1).getStatus());
+		assertEquals(HotlistErrorConstants.DUPLICATE_ID.getErrorCode(),
+				responses.get(2).getErrors().get(0).getErrorCode());
+		verify(entityManager, times(3)).persist(Mockito.any());
+		verify(hotlistRepo).updateStatusByIdTypeAndIdHashIn(Mockito.eq("idType"),
+				Mockito.eq(Collections.singletonList(blockedIdHash)), Mockito.eq(HotlistStatus.BLOCKED), Mockito.any(),
+				Mockito.isNull(), Mockito.any(), Mockito.any());
+		verify(eventHandler).publishEvents(Mockito.argThat(events -> events.size() == 2));
+		InOrder inOrder = Mockito.inOrder(securityManager, bulkWriter, eventHandler);
+		inOrder.verify(securityManager).encryptAll(Mockito.any());
+		inOrder.verify(bulkWriter).saveAll(Mockito.any(), Mockito.any());
+		inOrder.verify(eventHandler).publishEvents(Mockito.any());
+	}
+
+	@Test
+	public void testUnblockAllEncryptionFailed() throws HotlistAppException {
+		ReflectionTestUtils.setField(service, "batchSize", 2);
+		bulkWriter(2);
+		when(hotlistRepo.findStatusByIdHashIn(Mockito.any())).thenReturn(Collections.singletonList(
+				new Object[] { HotlistSecurityManager.hash("id".getBytes()), "idType", HotlistStatus.BLOCKED, null }));
+		when(securityManager.encryptAll(Mockito.any())).thenReturn(Collections.emptyMap());
+		List<HotlistBulkResponseDTO> responses = service.unblockAll(Collections.singletonList(request("id")));
+		assertEquals(HotlistErrorConstants.ENCRYPTION_DECRYPTION_FAILED.getErrorCode(),
+				responses.get(0).getErrors().get(0).getErrorCode());
+		assertTrue(Objects.isNull(responses.get(0).getStatus()));
+		verify(eventHandler, never()).publishEvents(Mockito.any());
+	}
+
+	@SuppressWarnings("serial")
+	@Test
+	public void testBlockAllTransactionFailed() {
+		ReflectionTestUtils.setField(service, "batchSize", 2);
+		try {
+			when(hotlistRepo.findStatusByIdHashIn(Mockito.any())).thenThrow(new DataAccessException("") {
+			});
+			service.blockAll(Collections.singletonList(request("id")));
+		} catch (HotlistAppException e) {
+			assertTrue(e.getErrorCode().contentEquals(HotlistErrorConstants.DATABASE_ACCESS_ERROR.getErrorCode()));
+		}
+	}
+
+	@Test
+	public void testRetrieveHotlistAll() throws HotlistAppException {
+		ReflectionTestUtils.setField(service, "batchSize", 2);
+		when(hotlistRepo.findStatusByIdHashIn(Mockito.any())).thenReturn(Collections.singletonList(
+				new Object[] { HotlistSecurityManager.hash("id1".getBytes()), "idType", HotlistStatus.BLOCKED, null }));
+		List<HotlistBulkResponseDTO> responses = service
+				.retrieveHotlistAll(Arrays.asList(request("id1"), request("id2"), request("id3")));
+		assertEquals(HotlistStatus.BLOCKED, responses.get(0).getStatus());
+		assertEquals(HotlistStatus.UNBLOCKED, responses.get(1).getStatus());
+		assertEquals("id3", responses.get(2).getId());
+		assertEquals(HotlistStatus.UNBLOCKED, responses.get(2).getStatus());
+		verify(hotlistRepo, times(2)).findStatusByIdHashIn(Mockito.any());
+	}
+
+	private HotlistBulkWriter bulkWriter(int batchSize) {
+		HotlistBulkWriter bulkWriter = new HotlistBulkWriter();
+		ReflectionTestUtils.setField(bulkWriter, "batchSize", batchSize);
+		ReflectionTestUtils.setField(bulkWriter, "hotlistRepo", hotlistRepo);
+		ReflectionTestUtils.setField(bulkWriter, "mapper", mapper);
+		ReflectionTestUtils.setField(bulkWriter, "entityManager", entityManager);
+		bulkWriter = Mockito.spy(bulkWriter);
+		ReflectionTestUtils.setField(service, "bulkWriter", bulkWriter);
+		return bulkWriter;
+	}
+
+	private HotlistRequestResponseDTO request(String id) {
+		HotlistRequestResponseDTO request = new HotlistRequestResponseDTO();
+		request.setId(id);
+		request.setIdType("idType");
+		return request;
+	}
 }
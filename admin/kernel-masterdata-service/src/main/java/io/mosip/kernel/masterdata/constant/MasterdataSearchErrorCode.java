@@ -18,6 +18,8 @@ public enum MasterdataSearchErrorCode {
 	ERROR_OCCURED_WHILE_SORTING("KER-MSD-359", "Error occured while sorting"),
 	INVALID_SORT_FIELD("KER-MSD-357", "Invalid sort field %s"),
 	INVALID_VALUE("KER-MSD-390", "Invalid filter value"),
+	INVALID_PAGE_TOKEN("KER-MSD-365", "Invalid page token received"),
+	PAGE_TOKEN_NOT_SUPPORTED("KER-MSD-372", "Page token is not supported for sort field %s"),
 	LAST_UPDATED_PARSE_EXCEPTION("KER-MSD-261", "Error occurred while parsing lastUpdated timesatamp"),
 	INVALID_TIMESTAMP_EXCEPTION("KER-MSD-262", "Timestamp cannot be future date"),
 	INVALID_LANGCODE("KER-LANG-ERR","Language Code is Invalid");
@@ -2,7 +2,6 @@ package io.mosip.kernel.masterdata.dto.request;
 
 import io.mosip.kernel.masterdata.validator.PositiveValue;
 import io.mosip.kernel.masterdata.validator.StringFormatter;
-import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
@@ -14,7 +13,6 @@ import lombok.NoArgsConstructor;
  */
 
 @Data
-@AllArgsConstructor
 @NoArgsConstructor
 public class Pagination {
 
@@ -24,4 +22,23 @@ public class Pagination {
 	@PositiveValue
 	private int pageFetch = 10;
 
+	/**
+	 * Continuation token of the keyset pagination, empty for the first page and
+	 * the nextPageToken of the previous page for the next pages. pageStart is not
+	 * used when the token is present.
+	 */
+	private String pageToken;
+
+	/**
+	 * true to count all the matching records, false to estimate the count from
+	 * the fetched page. When not present the records are counted, except for the
+	 * keyset pagination.
+	 */
+	private Boolean exactCount;
+
+	public Pagination(int pageStart, int pageFetch) {
+		this.pageStart = pageStart;
+		this.pageFetch = pageFetch;
+	}
+
 }
@@ -4,12 +4,12 @@ import java.util.List;
 
 import javax.validation.Valid;
 
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Data
-@AllArgsConstructor
 @NoArgsConstructor
 public class PageResponseDto<T> {
 	private long fromRecord;
@@ -17,4 +17,13 @@ public class PageResponseDto<T> {
 	private long totalRecord;
 	@Valid
 	private List<T> data;
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private String nextPageToken;
+
+	public PageResponseDto(long fromRecord, long toRecord, long totalRecord, List<T> data) {
+		this.fromRecord = fromRecord;
+		this.toRecord = toRecord;
+		this.totalRecord = totalRecord;
+		this.data = data;
+	}
 }
@@ -1,6 +1,7 @@
 package io.mosip.kernel.masterdata.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -70,6 +71,26 @@ public interface DynamicFieldRepository extends BaseRepository<DynamicField, Str
 	@Query("FROM DynamicField WHERE lower(name)=lower(?1)")
 	List<DynamicField> findAllDynamicFieldByName(String fieldName);
 
+	/**
+	 * Get all the dynamic fields of the names in the languages, in one query
+	 *
+	 * @param fieldNames names of the fields in lower case
+	 * @param langCodes
+	 * @return
+	 */
+	@Query("FROM DynamicField WHERE lower(name) IN ?1 and langCode IN ?2")
+	List<DynamicField> findAllDynamicFieldByNameInAndLangCodeIn(Collection<String> fieldNames,
+			Collection<String> langCodes);
+
+	/**
+	 * Version of the dynamic fields, changes whenever a dynamic field is created,
+	 * updated or deleted
+	 *
+	 * @return
+	 */
+	@Query("SELECT COUNT(d), MAX(d.createdDateTime), MAX(d.updatedDateTime), MAX(d.deletedDateTime) FROM DynamicField d")
+	List<Object[]> findDynamicFieldVersion();
+
 	/**
 	 * Update all the fields of dynamic field except name
 	 * @param id
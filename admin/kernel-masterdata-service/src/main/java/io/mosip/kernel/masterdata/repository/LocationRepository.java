@@ -25,6 +25,9 @@ public interface LocationRepository extends BaseRepository<Location, CodeAndLang
 	@Query("FROM Location WHERE (isDeleted is null OR isDeleted = false) AND isActive = true")
 	List<Location> findLocationHierarchyByIsDeletedIsNullOrIsDeletedFalse();
 
+	@Query("SELECT COUNT(l), MAX(l.createdDateTime), MAX(l.updatedDateTime), MAX(l.deletedDateTime) FROM Location l")
+	List<Object[]> findLocationVersion();
+
 	@Query(value = "FROM Location l where l.code=?1 and l.langCode=?2 and (l.isDeleted is null or l.isDeleted=false) and l.isActive = true")
 	List<Location> findLocationHierarchyByCodeAndLanguageCode(String locCode, String languagecode);
 
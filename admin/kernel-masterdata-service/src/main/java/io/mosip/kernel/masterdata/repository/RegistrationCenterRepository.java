@@ -3,6 +3,7 @@ package io.mosip.kernel.masterdata.repository;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -57,6 +58,17 @@ public interface RegistrationCenterRepository extends BaseRepository<Registratio
 	@Query("FROM RegistrationCenter WHERE id= ?1 and  langCode =?2 and (isDeleted is null or isDeleted =false) and isActive = true")
 	RegistrationCenter findByIdAndLangCode(String id, String langCode);
 
+	/**
+	 * This method trigger query to fetch registration centers based on ids and
+	 * language code.
+	 * 
+	 * @param ids      the centerIds
+	 * @param langCode the languageCode
+	 * @return the list of RegistrationCenter
+	 */
+	@Query("FROM RegistrationCenter WHERE id in ?1 and  langCode =?2 and (isDeleted is null or isDeleted =false) and isActive = true")
+	List<RegistrationCenter> findByIdInAndLangCode(Collection<String> ids, String langCode);
+
 	/**
 	 * This method trigger query to fetch registration centers based on id and
 	 * language code.
@@ -100,6 +112,16 @@ public interface RegistrationCenterRepository extends BaseRepository<Registratio
 	@Query("FROM RegistrationCenter WHERE (isDeleted is null or isDeleted =false) and isActive = true and langCode = ?1")
 	List<RegistrationCenter> findAllByIsDeletedFalseOrIsDeletedIsNullAndLangCode(String langCode);
 
+	/**
+	 * This method trigger query to fetch the count and the latest created, updated
+	 * and deleted times of all registration centers, which change whenever a
+	 * registration center is changed.
+	 *
+	 * @return single row of count and times
+	 */
+	@Query("SELECT COUNT(r), MAX(r.createdDateTime), MAX(r.updatedDateTime), MAX(r.deletedDateTime) FROM RegistrationCenter r")
+	List<Object[]> findRegistrationCenterVersion();
+
 	/**
 	 * This method triggers query to find registration centers based on center type
 	 * code.
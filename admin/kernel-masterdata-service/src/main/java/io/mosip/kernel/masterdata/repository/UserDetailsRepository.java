@@ -1,6 +1,7 @@
 package io.mosip.kernel.masterdata.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
@@ -31,6 +32,9 @@ public interface UserDetailsRepository extends BaseRepository<UserDetails, Strin
 	@Query("FROM UserDetails m where m.id = ?1 and (m.isDeleted is null or m.isDeleted = false)")
 	UserDetails findByIdAndIsDeletedFalseorIsDeletedIsNull(String id);
 
+	@Query("FROM UserDetails m where m.id in ?1 and (m.isDeleted is null or m.isDeleted = false)")
+	List<UserDetails> findByIdInAndIsDeletedFalseorIsDeletedIsNull(Collection<String> ids);
+
 	@Query("FROM UserDetails m where m.id = ?1")
 	UserDetails findUserDetailsById(String id);
 	
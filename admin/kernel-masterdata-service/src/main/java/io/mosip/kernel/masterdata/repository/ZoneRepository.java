@@ -19,6 +19,9 @@ public interface ZoneRepository extends BaseRepository<Zone, CodeAndLanguageCode
 	@Query("FROM Zone z WHERE (z.isDeleted IS NULL OR z.isDeleted = false) ")
 	public List<Zone> findAllNonDeleted();
 
+	@Query("SELECT COUNT(z), MAX(z.createdDateTime), MAX(z.updatedDateTime), MAX(z.deletedDateTime) FROM Zone z")
+	public List<Object[]> findZoneVersion();
+
 	@Query("FROM Zone zu WHERE zu.code=?1 and zu.langCode=?2 AND (zu.isDeleted IS NULL OR zu.isDeleted = false) ")
 	public Zone findZoneByCodeAndLangCodeNonDeleted(String code, String langCode);
 	
@@ -34,10 +34,8 @@ import io.mosip.kernel.masterdata.dto.getresponse.StatusResponseDto;
 import io.mosip.kernel.masterdata.dto.getresponse.extn.BlocklistedWordsExtnDto;
 import io.mosip.kernel.masterdata.dto.request.FilterDto;
 import io.mosip.kernel.masterdata.dto.request.FilterValueDto;
-import io.mosip.kernel.masterdata.dto.request.Pagination;
 import io.mosip.kernel.masterdata.dto.request.SearchDto;
 import io.mosip.kernel.masterdata.dto.request.SearchFilter;
-import io.mosip.kernel.masterdata.dto.request.SearchSort;
 import io.mosip.kernel.masterdata.dto.response.ColumnValue;
 import io.mosip.kernel.masterdata.dto.response.FilterResponseDto;
 import io.mosip.kernel.masterdata.dto.response.PageResponseDto;
@@ -53,6 +51,7 @@ import io.mosip.kernel.masterdata.utils.ExceptionUtils;
 import io.mosip.kernel.masterdata.utils.MapperUtils;
 import io.mosip.kernel.masterdata.utils.MasterDataFilterHelper;
 import io.mosip.kernel.masterdata.utils.MasterdataCreationUtil;
+import io.mosip.kernel.masterdata.utils.MasterdataSearchExecutor;
 import io.mosip.kernel.masterdata.utils.MasterdataSearchHelper;
 import io.mosip.kernel.masterdata.utils.MetaDataUtils;
 import io.mosip.kernel.masterdata.utils.PageUtils;
@@ -87,6 +86,9 @@ public class BlocklistedWordsServiceImpl implements BlocklistedWordsService {
 
 	@Autowired
 	MasterdataSearchHelper masterDataSearchHelper;
+
+	@Autowired
+	private MasterdataSearchExecutor masterdataSearchExecutor;
 	
 	@Autowired
 	MasterdataCreationUtil masterdataCreationUtil;
@@ -384,20 +386,11 @@ public class BlocklistedWordsServiceImpl implements BlocklistedWordsService {
 	@Override
 	public PageResponseDto<BlocklistedWordsExtnDto> searchBlockListedWords(SearchDto dto) {
 		PageResponseDto<BlocklistedWordsExtnDto> pageDto = new PageResponseDto<>();
-		List<BlocklistedWordsExtnDto> blockListedWords = null;
 
 		if (filterTypeValidator.validate(BlocklistedWordsExtnDto.class, dto.getFilters())) {
-			Pagination pagination = dto.getPagination();
-			List<SearchSort> sort = dto.getSort();
-			pageUtils.validateSortField(BlocklistedWordsExtnDto.class, BlocklistedWords.class, sort);
-			dto.setPagination(new Pagination(0, Integer.MAX_VALUE));
-			dto.setSort(Collections.emptyList());
-
-			Page<BlocklistedWords> page = masterDataSearchHelper.searchMasterdata(BlocklistedWords.class, dto, null);
-			if (page.getContent() != null && !page.getContent().isEmpty()) {
-				blockListedWords = MapperUtils.mapAll(page.getContent(), BlocklistedWordsExtnDto.class);
-				pageDto = pageUtils.sortPage(blockListedWords, sort, pagination);
-			}
+			pageUtils.validateSortField(BlocklistedWordsExtnDto.class, BlocklistedWords.class, dto.getSort());
+			pageDto = masterdataSearchExecutor.search(BlocklistedWords.class, dto, null,
+					content -> MapperUtils.mapAll(content, BlocklistedWordsExtnDto.class));
 		}
 		return pageDto;
 	}
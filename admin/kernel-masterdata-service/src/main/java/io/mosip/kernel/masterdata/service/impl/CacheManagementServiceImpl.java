@@ -8,6 +8,10 @@ import org.springframework.stereotype.Service;
 
 import io.mosip.kernel.masterdata.service.CacheManagementService;
 import io.mosip.kernel.masterdata.utils.CacheName;
+import io.mosip.kernel.masterdata.utils.LocationUtils;
+import io.mosip.kernel.masterdata.utils.RegistrationCenterGeoUtils;
+import io.mosip.kernel.masterdata.utils.TextSearchHelper;
+import io.mosip.kernel.masterdata.utils.ZoneUtils;
 
 /**
  * @author GOVINDARAJ VELU
@@ -21,6 +25,18 @@ public class CacheManagementServiceImpl implements CacheManagementService {
 	@Autowired
 	private CacheManager cacheManager;
 
+	@Autowired
+	private ZoneUtils zoneUtils;
+
+	@Autowired
+	private RegistrationCenterGeoUtils registrationCenterGeoUtils;
+
+	@Autowired
+	private LocationUtils locationUtils;
+
+	@Autowired
+	private TextSearchHelper textSearchHelper;
+
 	/**
 	 * clear the cache by cache name
 	 */
@@ -32,6 +48,12 @@ public class CacheManagementServiceImpl implements CacheManagementService {
 				cacheManager.getCache(name).clear();
 			}
 		}
+		if (cacheName == CacheName.ZONES) {
+			zoneUtils.evictZoneIndex();
+		}
+		if (cacheName == CacheName.LOCATIONS || cacheName == CacheName.LOCATION_HIERARCHY) {
+			locationUtils.evictLocationIndex();
+		}
 		log.info("{} got cleared!", cacheName.name);
 	}
 
@@ -44,6 +66,10 @@ public class CacheManagementServiceImpl implements CacheManagementService {
 			if(null!=cacheManager.getCache(name))
 			cacheManager.getCache(name).clear();
 		}
+		zoneUtils.evictZoneIndex();
+		registrationCenterGeoUtils.evictGeoIndex();
+		locationUtils.evictLocationIndex();
+		textSearchHelper.evictIndexes();
 	}
 
 }
@@ -42,7 +42,6 @@ import io.mosip.kernel.masterdata.dto.request.FilterValueDto;
 import io.mosip.kernel.masterdata.dto.request.Pagination;
 import io.mosip.kernel.masterdata.dto.request.SearchDto;
 import io.mosip.kernel.masterdata.dto.request.SearchFilter;
-import io.mosip.kernel.masterdata.dto.request.SearchSort;
 import io.mosip.kernel.masterdata.dto.response.ColumnCodeValue;
 import io.mosip.kernel.masterdata.dto.response.DeviceSearchDto;
 import io.mosip.kernel.masterdata.dto.response.FilterResponseCodeDto;
@@ -98,6 +97,9 @@ public class DeviceServiceImpl implements DeviceService {
 	@Autowired
 	private MasterdataSearchHelper masterdataSearchHelper;
 
+	@Autowired
+	private MasterdataSearchExecutor masterdataSearchExecutor;
+
 	@Autowired
 	private FilterTypeValidator filterValidator;
 
@@ -335,7 +337,6 @@ public class DeviceServiceImpl implements DeviceService {
 	public PageResponseDto<DeviceSearchDto> searchDevice(SearchDtoWithoutLangCode dto) {
 		PageResponseDto<DeviceSearchDto> pageDto = new PageResponseDto<>();
 
-		List<DeviceSearchDto> devices = null;
 		List<SearchFilter> addList = new ArrayList<>();
 		List<SearchFilter> removeList = new ArrayList<>();
 		List<SearchFilter> zoneFilter = new ArrayList<>();
@@ -378,29 +379,20 @@ public class DeviceServiceImpl implements DeviceService {
 		}
 
 		dto.getFilters().removeAll(removeList);
-		Pagination pagination = dto.getPagination();
-		List<SearchSort> sort = dto.getSort();
-		pageUtils.validateSortField(DeviceSearchDto.class, Device.class, sort);
-		dto.setPagination(new Pagination(0, Integer.MAX_VALUE));
-		dto.setSort(Collections.emptyList());
+		pageUtils.validateSortField(DeviceSearchDto.class, Device.class, dto.getSort());
 		if (filterValidator.validate(DeviceSearchDto.class, dto.getFilters())) {
 
 			OptionalFilter optionalFilter = new OptionalFilter(addList);
 			OptionalFilter zoneOptionalFilter = new OptionalFilter(zoneFilter);
-			Page<Device> page = null;
-
-			page = masterdataSearchHelper.searchMasterdataWithoutLangCode(Device.class, dto,
-					new OptionalFilter[] { optionalFilter, zoneOptionalFilter });
-
-			if (page != null && page.getContent() != null && !page.getContent().isEmpty()) {
-				devices = MapperUtils.mapAll(page.getContent(), DeviceSearchDto.class);
-				setDeviceMetadata(devices, zones);
-				setDeviceTypeNames(devices);
-				setMapStatus(devices, dto.getLanguageCode());
-				pageDto = pageUtils.sortPage(devices, sort, pagination);
-
-			}
-
+			List<Zone> userZones = zones;
+			pageDto = masterdataSearchExecutor.searchWithoutLangCode(Device.class, dto,
+					new OptionalFilter[] { optionalFilter, zoneOptionalFilter }, content -> {
+						List<DeviceSearchDto> devices = MapperUtils.mapAll(content, DeviceSearchDto.class);
+						setDeviceMetadata(devices, userZones);
+						setDeviceTypeNames(devices);
+						setMapStatus(devices, dto.getLanguageCode());
+						return devices;
+					});
 		}
 		return pageDto;
 	}
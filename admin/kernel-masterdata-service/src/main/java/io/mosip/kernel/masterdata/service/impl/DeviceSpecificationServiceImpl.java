@@ -34,7 +34,6 @@ import io.mosip.kernel.masterdata.dto.request.FilterDto;
 import io.mosip.kernel.masterdata.dto.request.FilterValueDto;
 import io.mosip.kernel.masterdata.dto.request.Pagination;
 import io.mosip.kernel.masterdata.dto.request.SearchFilter;
-import io.mosip.kernel.masterdata.dto.request.SearchSort;
 import io.mosip.kernel.masterdata.dto.response.ColumnCodeValue;
 import io.mosip.kernel.masterdata.dto.response.FilterResponseCodeDto;
 import io.mosip.kernel.masterdata.dto.response.PageResponseDto;
@@ -54,6 +53,7 @@ import io.mosip.kernel.masterdata.utils.ExceptionUtils;
 import io.mosip.kernel.masterdata.utils.MapperUtils;
 import io.mosip.kernel.masterdata.utils.MasterDataFilterHelper;
 import io.mosip.kernel.masterdata.utils.MasterdataCreationUtil;
+import io.mosip.kernel.masterdata.utils.MasterdataSearchExecutor;
 import io.mosip.kernel.masterdata.utils.MasterdataSearchHelper;
 import io.mosip.kernel.masterdata.utils.MetaDataUtils;
 import io.mosip.kernel.masterdata.utils.OptionalFilter;
@@ -89,6 +89,9 @@ public class DeviceSpecificationServiceImpl implements DeviceSpecificationServic
 	@Autowired
 	MasterdataSearchHelper masterDataSearchHelper;
 
+	@Autowired
+	private MasterdataSearchExecutor masterdataSearchExecutor;
+
 	@Autowired
 	MasterDataFilterHelper masterDataFilterHelper;
 
@@ -381,7 +384,6 @@ public class DeviceSpecificationServiceImpl implements DeviceSpecificationServic
 		PageResponseDto<DeviceSpecificationExtnDto> pageDto = new PageResponseDto<>();
 		List<SearchFilter> addList = new ArrayList<>();
 		List<SearchFilter> removeList = new ArrayList<>();
-		List<DeviceSpecificationExtnDto> devices = null;
 		List<SearchFilter> deviceCodeFilter = null;
 
 		for (SearchFilter filter : dto.getFilters()) {
@@ -409,23 +411,16 @@ public class DeviceSpecificationServiceImpl implements DeviceSpecificationServic
 
 		}
 		dto.getFilters().removeAll(removeList);
-		Pagination pagination = dto.getPagination();
-		List<SearchSort> sort = dto.getSort();
-		dto.setPagination(new Pagination(0, Integer.MAX_VALUE));
-		dto.setSort(Collections.emptyList());
 		if (filterValidator.validate(DeviceSpecificationExtnDto.class, dto.getFilters())) {
 			OptionalFilter optionalFilter = new OptionalFilter(addList);
 			OptionalFilter optionalFilterForDeviceTypeName = new OptionalFilter(deviceCodeFilter);
-			Page<DeviceSpecification> page = masterDataSearchHelper.searchMasterdataWithoutLangCode(
-					DeviceSpecification.class, dto,
-					new OptionalFilter[] { optionalFilter, optionalFilterForDeviceTypeName });
-
-			if (page.getContent() != null && !page.getContent().isEmpty()) {
-				devices = MapperUtils.mapAll(page.getContent(), DeviceSpecificationExtnDto.class);
-				setDeviceTypeName(devices);
-				pageDto = pageUtils.sortPage(devices, sort, pagination);
-			}
-
+			pageDto = masterdataSearchExecutor.searchWithoutLangCode(DeviceSpecification.class, dto,
+					new OptionalFilter[] { optionalFilter, optionalFilterForDeviceTypeName }, content -> {
+						List<DeviceSpecificationExtnDto> devices = MapperUtils.mapAll(content,
+								DeviceSpecificationExtnDto.class);
+						setDeviceTypeName(devices);
+						return devices;
+					});
 		}
 
 		return pageDto;
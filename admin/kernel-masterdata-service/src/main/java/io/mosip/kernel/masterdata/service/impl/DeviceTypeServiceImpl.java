@@ -1,7 +1,6 @@
 package io.mosip.kernel.masterdata.service.impl;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,8 +23,6 @@ import io.mosip.kernel.masterdata.dto.getresponse.StatusResponseDto;
 import io.mosip.kernel.masterdata.dto.getresponse.extn.DeviceTypeExtnDto;
 import io.mosip.kernel.masterdata.dto.request.FilterDto;
 import io.mosip.kernel.masterdata.dto.request.FilterValueDto;
-import io.mosip.kernel.masterdata.dto.request.Pagination;
-import io.mosip.kernel.masterdata.dto.request.SearchSort;
 import io.mosip.kernel.masterdata.dto.response.ColumnCodeValue;
 import io.mosip.kernel.masterdata.dto.response.FilterResponseCodeDto;
 import io.mosip.kernel.masterdata.dto.response.PageResponseDto;
@@ -43,6 +40,7 @@ import io.mosip.kernel.masterdata.utils.ExceptionUtils;
 import io.mosip.kernel.masterdata.utils.MapperUtils;
 import io.mosip.kernel.masterdata.utils.MasterDataFilterHelper;
 import io.mosip.kernel.masterdata.utils.MasterdataCreationUtil;
+import io.mosip.kernel.masterdata.utils.MasterdataSearchExecutor;
 import io.mosip.kernel.masterdata.utils.MasterdataSearchHelper;
 import io.mosip.kernel.masterdata.utils.MetaDataUtils;
 import io.mosip.kernel.masterdata.utils.PageUtils;
@@ -78,6 +76,9 @@ public class DeviceTypeServiceImpl implements DeviceTypeService {
 	@Autowired
 	private MasterdataSearchHelper masterdataSearchHelper;
 
+	@Autowired
+	private MasterdataSearchExecutor masterdataSearchExecutor;
+
 	@Autowired
 	private MasterDataFilterHelper masterDataFilterHelper;
 
@@ -224,22 +225,10 @@ public class DeviceTypeServiceImpl implements DeviceTypeService {
 	public PageResponseDto<DeviceTypeExtnDto> deviceTypeSearch(SearchDtoWithoutLangCode searchRequestDto) {
 		PageResponseDto<DeviceTypeExtnDto> pageDto = new PageResponseDto<>();
 
-		List<DeviceTypeExtnDto> deviceTypeList = null;
-
 		if (filterValidator.validate(DeviceTypeExtnDto.class, searchRequestDto.getFilters())) {
-			Pagination pagination = searchRequestDto.getPagination();
-			List<SearchSort> sort = searchRequestDto.getSort();
-			pageUtils.validateSortField(DeviceTypeExtnDto.class, DeviceType.class, sort);
-			searchRequestDto.setPagination(new Pagination(0, Integer.MAX_VALUE));
-			searchRequestDto.setSort(Collections.emptyList());
-			Page<DeviceType> page = masterdataSearchHelper.searchMasterdataWithoutLangCode(DeviceType.class,
-					searchRequestDto, null);
-
-			if (page.getContent() != null && !page.getContent().isEmpty()) {
-				deviceTypeList = MapperUtils.mapAll(page.getContent(), DeviceTypeExtnDto.class);
-				pageDto = pageUtils.sortPage(deviceTypeList, sort, pagination);
-			}
-
+			pageUtils.validateSortField(DeviceTypeExtnDto.class, DeviceType.class, searchRequestDto.getSort());
+			pageDto = masterdataSearchExecutor.searchWithoutLangCode(DeviceType.class, searchRequestDto, null,
+					content -> MapperUtils.mapAll(content, DeviceTypeExtnDto.class));
 		}
 		return pageDto;
 	}
@@ -3,7 +3,6 @@ package io.mosip.kernel.masterdata.service.impl;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,9 +32,7 @@ import io.mosip.kernel.masterdata.dto.getresponse.extn.DocumentCategoryExtnDto;
 import io.mosip.kernel.masterdata.dto.postresponse.CodeResponseDto;
 import io.mosip.kernel.masterdata.dto.request.FilterDto;
 import io.mosip.kernel.masterdata.dto.request.FilterValueDto;
-import io.mosip.kernel.masterdata.dto.request.Pagination;
 import io.mosip.kernel.masterdata.dto.request.SearchDto;
-import io.mosip.kernel.masterdata.dto.request.SearchSort;
 import io.mosip.kernel.masterdata.dto.response.ColumnValue;
 import io.mosip.kernel.masterdata.dto.response.FilterResponseDto;
 import io.mosip.kernel.masterdata.dto.response.PageResponseDto;
@@ -53,6 +50,7 @@ import io.mosip.kernel.masterdata.utils.ExceptionUtils;
 import io.mosip.kernel.masterdata.utils.MapperUtils;
 import io.mosip.kernel.masterdata.utils.MasterDataFilterHelper;
 import io.mosip.kernel.masterdata.utils.MasterdataCreationUtil;
+import io.mosip.kernel.masterdata.utils.MasterdataSearchExecutor;
 import io.mosip.kernel.masterdata.utils.MasterdataSearchHelper;
 import io.mosip.kernel.masterdata.utils.MetaDataUtils;
 import io.mosip.kernel.masterdata.utils.PageUtils;
@@ -90,6 +88,9 @@ public class DocumentCategoryServiceImpl implements DocumentCategoryService {
 	@Autowired
 	private MasterdataSearchHelper masterDataSearchHelper;
 
+	@Autowired
+	private MasterdataSearchExecutor masterdataSearchExecutor;
+
 	@Autowired
 	private FilterColumnValidator filterColumnValidator;
 
@@ -393,21 +394,12 @@ public class DocumentCategoryServiceImpl implements DocumentCategoryService {
 	@Override
 	public PageResponseDto<DocumentCategoryExtnDto> searchDocCategories(SearchDto dto) {
 		PageResponseDto<DocumentCategoryExtnDto> pageDto = new PageResponseDto<>();
-		List<DocumentCategoryExtnDto> documentCategories = null;
 
 		pageUtils.validateSortField(DocumentCategory.class, dto.getSort());
 		if (filterTypeValidator.validate(DocumentCategoryExtnDto.class, dto.getFilters())) {
-			Pagination pagination = dto.getPagination();
-			List<SearchSort> sort = dto.getSort();
-			pageUtils.validateSortField(DocumentCategoryExtnDto.class, DocumentCategory.class, sort);
-			dto.setPagination(new Pagination(0, Integer.MAX_VALUE));
-			dto.setSort(Collections.emptyList());
-			Page<DocumentCategory> page = masterDataSearchHelper.searchMasterdata(DocumentCategory.class, dto, null);
-
-			if (page.getContent() != null && !page.getContent().isEmpty()) {
-				documentCategories = MapperUtils.mapAll(page.getContent(), DocumentCategoryExtnDto.class);
-				pageDto = pageUtils.sortPage(documentCategories, sort, pagination);
-			}
+			pageUtils.validateSortField(DocumentCategoryExtnDto.class, DocumentCategory.class, dto.getSort());
+			pageDto = masterdataSearchExecutor.search(DocumentCategory.class, dto, null,
+					content -> MapperUtils.mapAll(content, DocumentCategoryExtnDto.class));
 		}
 		return pageDto;
 	}
@@ -36,9 +36,7 @@ import io.mosip.kernel.masterdata.dto.postresponse.DocumentTypePostResponseDto;
 import io.mosip.kernel.masterdata.dto.postresponse.DocumentTypePutResponseDto;
 import io.mosip.kernel.masterdata.dto.request.FilterDto;
 import io.mosip.kernel.masterdata.dto.request.FilterValueDto;
-import io.mosip.kernel.masterdata.dto.request.Pagination;
 import io.mosip.kernel.masterdata.dto.request.SearchDto;
-import io.mosip.kernel.masterdata.dto.request.SearchSort;
 import io.mosip.kernel.masterdata.dto.response.ColumnValue;
 import io.mosip.kernel.masterdata.dto.response.FilterResponseDto;
 import io.mosip.kernel.masterdata.dto.response.PageResponseDto;
@@ -56,6 +54,7 @@ import io.mosip.kernel.masterdata.utils.ExceptionUtils;
 import io.mosip.kernel.masterdata.utils.MapperUtils;
 import io.mosip.kernel.masterdata.utils.MasterDataFilterHelper;
 import io.mosip.kernel.masterdata.utils.MasterdataCreationUtil;
+import io.mosip.kernel.masterdata.utils.MasterdataSearchExecutor;
 import io.mosip.kernel.masterdata.utils.MasterdataSearchHelper;
 import io.mosip.kernel.masterdata.utils.MetaDataUtils;
 import io.mosip.kernel.masterdata.utils.PageUtils;
@@ -102,6 +101,9 @@ public class DocumentTypeServiceImpl implements DocumentTypeService {
 	@Autowired
 	private MasterdataSearchHelper masterdataSearchHelper;
 
+	@Autowired
+	private MasterdataSearchExecutor masterdataSearchExecutor;
+
 	@Autowired
 	private PageUtils pageUtils;
 
@@ -377,20 +379,11 @@ public class DocumentTypeServiceImpl implements DocumentTypeService {
 	@Override
 	public PageResponseDto<DocumentTypeExtnDto> searchDocumentTypes(SearchDto dto) {
 		PageResponseDto<DocumentTypeExtnDto> pageDto = new PageResponseDto<>();
-		List<DocumentTypeExtnDto> doumentTypes = null;
 
 		if (filterTypeValidator.validate(DocumentTypeExtnDto.class, dto.getFilters())) {
-			Pagination pagination = dto.getPagination();
-			List<SearchSort> sort = dto.getSort();
-			pageUtils.validateSortField(DocumentTypeExtnDto.class, DocumentType.class, sort);
-			dto.setPagination(new Pagination(0, Integer.MAX_VALUE));
-			dto.setSort(Collections.emptyList());
-			Page<DocumentType> page = masterdataSearchHelper.searchMasterdata(DocumentType.class, dto, null);
-
-			if (page.getContent() != null && !page.getContent().isEmpty()) {
-				doumentTypes = MapperUtils.mapAll(page.getContent(), DocumentTypeExtnDto.class);
-				pageDto = pageUtils.sortPage(doumentTypes, sort, pagination);
-			}
+			pageUtils.validateSortField(DocumentTypeExtnDto.class, DocumentType.class, dto.getSort());
+			pageDto = masterdataSearchExecutor.search(DocumentType.class, dto, null,
+					content -> MapperUtils.mapAll(content, DocumentTypeExtnDto.class));
 		}
 		return pageDto;
 	}
@@ -19,7 +19,6 @@ import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
@@ -78,6 +77,9 @@ public class DynamicFieldServiceImpl implements DynamicFieldService {
 
 	@Autowired
 	AuditUtil auditUtil;
+
+	@Autowired
+	private DynamicFieldUtils dynamicFieldUtils;
 	
 	/*
 	 * (non-Javadoc)
@@ -86,7 +88,7 @@ public class DynamicFieldServiceImpl implements DynamicFieldService {
 	 * io.mosip.kernel.masterdata.service.DynamicFieldService#getAllDynamicField()
 	 */
 
-	@Cacheable(value = "dynamic-field", key = "'dynamicfield'.concat('-').concat(#pageNumber).concat('-').concat(#pageSize).concat('-').concat(#sortBy).concat('-').concat(#orderBy).concat('-').concat(#langCode)",
+	@Cacheable(value = "dynamic-field", key = "'dynamicfield'.concat('-').concat(@dynamicFieldUtils.getDataVersion()).concat('-').concat(#pageNumber).concat('-').concat(#pageSize).concat('-').concat(#sortBy).concat('-').concat(#orderBy).concat('-').concat(#langCode)",
 			condition="#langCode != null")
 	@Override
 	public PageDto<DynamicFieldExtnDto> getAllDynamicField(int pageNumber, int pageSize, String sortBy, String orderBy, String langCode,
@@ -112,19 +114,11 @@ public class DynamicFieldServiceImpl implements DynamicFieldService {
 		PageDto<DynamicFieldExtnDto> pagedFields = new PageDto<>(pageNumber, 0, 0, list);
 
 		if(pagedResult != null && pagedResult.getContent() != null) {
+			Map<String, List<DynamicField>> groupedValues = getPagedDynamicFields(pagedResult.getContent());
 			pagedResult.getContent().forEach( result -> {
-
-				String fieldName = (String) result[0];
-				String lang = (String) result[1];
-
-				List<DynamicField> fields = dynamicFieldRepository.findAllDynamicFieldByName(fieldName);
-
+				List<DynamicField> fields = groupedValues.get(getFieldKey((String) result[0], (String) result[1]));
 				if(fields != null && !fields.isEmpty()) {
-					Map<String, List<DynamicField>> groupedValues = fields
-							.stream()
-							.collect(Collectors.groupingBy(DynamicField::getLangCode));
-
-					list.add(getDynamicFieldDto(groupedValues.get(lang)));
+					list.add(getDynamicFieldDto(fields));
 				}
 			});
 			
@@ -135,7 +129,7 @@ public class DynamicFieldServiceImpl implements DynamicFieldService {
 		return pagedFields;
 	}
 
-	@Cacheable(value = "dynamic-field", key = "'dynamicfield'")
+	@Cacheable(value = "dynamic-field", key = "'dynamicfield'.concat('-').concat(@dynamicFieldUtils.getDataVersion())")
 	@Override
 	public List<String> getDistinctDynamicFields() {
 		List<String> distinctDynamicField = new ArrayList<String>();
@@ -149,7 +143,7 @@ public class DynamicFieldServiceImpl implements DynamicFieldService {
 		return distinctDynamicField;
 	}
 
-	@Cacheable(value = "dynamic-field", key = "'dynamicfield'.concat(#langCode)")
+	@Cacheable(value = "dynamic-field", key = "'dynamicfield'.concat(#langCode).concat('-').concat(@dynamicFieldUtils.getDataVersion())")
 	@Override
 	public List<DynamicFieldDefDto> getDistinctDynamicFields(String langCode) {
 		List<DynamicFieldDefDto> dynamicFields = new ArrayList<DynamicFieldDefDto>();
@@ -186,7 +180,6 @@ public class DynamicFieldServiceImpl implements DynamicFieldService {
 	 * @see
 	 * io.mosip.kernel.masterdata.service.DynamicFieldService#createDynamicField()
 	 */
-	@CacheEvict(value = "dynamic-field", allEntries = true)
 	@Override
 	@Transactional
 	public DynamicFieldResponseDto createDynamicField(DynamicFieldDto dto) {
@@ -210,6 +203,7 @@ public class DynamicFieldServiceImpl implements DynamicFieldService {
 			entity.setId(UUID.randomUUID().toString());
 			entity.setValueJson(getValidatedFieldValue(dto.getFieldVal()));
 			entity = dynamicFieldRepository.create(entity);
+			dynamicFieldUtils.evictDataVersion();
 		} catch (DataAccessLayerException | DataAccessException e) {
 			throw new MasterDataServiceException(SchemaErrorCode.DYNAMIC_FIELD_INSERT_EXCEPTION.getErrorCode(),
 					ExceptionUtils.parseException(e));
@@ -223,7 +217,6 @@ public class DynamicFieldServiceImpl implements DynamicFieldService {
 	 * @see
 	 * io.mosip.kernel.masterdata.service.DynamicFieldService#updateDynamicField()
 	 */
-	@CacheEvict(value = "dynamic-field", allEntries = true)
 	@Override
 	@Transactional
 	public DynamicFieldResponseDto updateDynamicField(String id, DynamicFieldPutDto dto) {
@@ -240,6 +233,7 @@ public class DynamicFieldServiceImpl implements DynamicFieldService {
 				throw new DataNotFoundException(SchemaErrorCode.DYNAMIC_FIELD_NOT_FOUND_EXCEPTION.getErrorCode(),
 						SchemaErrorCode.DYNAMIC_FIELD_NOT_FOUND_EXCEPTION.getErrorMessage());
 			}
+			dynamicFieldUtils.evictDataVersion();
 
 			entity = dynamicFieldRepository.findDynamicFieldById(id);
 		} catch (DataAccessLayerException | DataAccessException e) {
@@ -249,7 +243,6 @@ public class DynamicFieldServiceImpl implements DynamicFieldService {
 		return getDynamicFieldDto(entity);
 	}
 
-	@CacheEvict(value = "dynamic-field", allEntries = true)
 	@Override
 	@Transactional
 	public StatusResponseDto deleteDynamicFieldValue(String id) {
@@ -274,6 +267,7 @@ public class DynamicFieldServiceImpl implements DynamicFieldService {
 				throw new DataNotFoundException(SchemaErrorCode.DYNAMIC_FIELD_NOT_FOUND_EXCEPTION.getErrorCode(),
 						SchemaErrorCode.DYNAMIC_FIELD_NOT_FOUND_EXCEPTION.getErrorMessage());
 			}
+			dynamicFieldUtils.evictDataVersion();
 			statusResponseDto.setStatus("DynamicField deleted successfully");
 		} catch (DataAccessLayerException | DataAccessException  | IOException e) {
 			throw new MasterDataServiceException(SchemaErrorCode.DYNAMIC_FIELD_DELETE_EXCEPTION.getErrorCode(),
@@ -282,7 +276,6 @@ public class DynamicFieldServiceImpl implements DynamicFieldService {
 		return statusResponseDto;
 	}
 
-	@CacheEvict(value = "dynamic-field", allEntries = true)
 	@Override
 	@Transactional
 	public StatusResponseDto deleteDynamicField(String fieldName) {
@@ -296,6 +289,7 @@ public class DynamicFieldServiceImpl implements DynamicFieldService {
 				throw new DataNotFoundException(SchemaErrorCode.DYNAMIC_FIELD_NOT_FOUND_EXCEPTION.getErrorCode(),
 						SchemaErrorCode.DYNAMIC_FIELD_NOT_FOUND_EXCEPTION.getErrorMessage());
 			}
+			dynamicFieldUtils.evictDataVersion();
 			statusResponseDto.setStatus("DynamicField deleted successfully");
 		} catch (DataAccessLayerException | DataAccessException e) {
 			throw new MasterDataServiceException(SchemaErrorCode.DYNAMIC_FIELD_DELETE_EXCEPTION.getErrorCode(),
@@ -322,7 +316,6 @@ public class DynamicFieldServiceImpl implements DynamicFieldService {
 		return pageDto;
 	}
 
-	@CacheEvict(value = "dynamic-field", allEntries = true)
 	@Override
 	@Transactional
 	public StatusResponseDto updateDynamicFieldStatus(String fieldName, boolean isActive) {
@@ -335,6 +328,7 @@ public class DynamicFieldServiceImpl implements DynamicFieldService {
 				throw new DataNotFoundException(SchemaErrorCode.DYNAMIC_FIELD_NOT_FOUND_EXCEPTION.getErrorCode(),
 						SchemaErrorCode.DYNAMIC_FIELD_NOT_FOUND_EXCEPTION.getErrorMessage());
 			}
+			dynamicFieldUtils.evictDataVersion();
 		} catch (DataAccessLayerException | DataAccessException e) {
 			throw new MasterDataServiceException(SchemaErrorCode.DYNAMIC_FIELD_UPDATE_EXCEPTION.getErrorCode(),
 					ExceptionUtils.parseException(e));
@@ -343,7 +337,6 @@ public class DynamicFieldServiceImpl implements DynamicFieldService {
 		return response;
 	}
 
-	@CacheEvict(value = "dynamic-field", allEntries = true)
 	@Override
 	@Transactional
 	public StatusResponseDto updateDynamicFieldValueStatus(String id, boolean isActive) {
@@ -366,6 +359,7 @@ public class DynamicFieldServiceImpl implements DynamicFieldService {
 				throw new DataNotFoundException(SchemaErrorCode.DYNAMIC_FIELD_NOT_FOUND_EXCEPTION.getErrorCode(),
 						SchemaErrorCode.DYNAMIC_FIELD_NOT_FOUND_EXCEPTION.getErrorMessage());
 			}
+			dynamicFieldUtils.evictDataVersion();
 		} catch (DataAccessLayerException | DataAccessException | IOException e) {
 			throw new MasterDataServiceException(SchemaErrorCode.DYNAMIC_FIELD_UPDATE_EXCEPTION.getErrorCode(),
 					ExceptionUtils.parseException(e));
@@ -436,6 +430,44 @@ public class DynamicFieldServiceImpl implements DynamicFieldService {
 		}
 		return dto;
 	}
+	/**
+	 * Fetches the dynamic fields of all the names and languages of the page in
+	 * one query.
+	 *
+	 * @param pagedNames name and language code of the fields of the page
+	 * @return dynamic fields grouped by name in lower case and language code
+	 */
+	private Map<String, List<DynamicField>> getPagedDynamicFields(List<Object[]> pagedNames) {
+		if (pagedNames.isEmpty())
+			return Collections.emptyMap();
+		Set<String> fieldNames = new HashSet<>();
+		Set<String> langCodes = new HashSet<>();
+		for (Object[] result : pagedNames) {
+			if (result[0] != null && result[1] != null) {
+				fieldNames.add(((String) result[0]).toLowerCase(Locale.ROOT));
+				langCodes.add((String) result[1]);
+			}
+		}
+		if (fieldNames.isEmpty())
+			return Collections.emptyMap();
+		List<DynamicField> fields = null;
+		try {
+			fields = dynamicFieldRepository.findAllDynamicFieldByNameInAndLangCodeIn(fieldNames, langCodes);
+		} catch (DataAccessException | DataAccessLayerException e) {
+			throw new MasterDataServiceException(SchemaErrorCode.DYNAMIC_FIELD_FETCH_EXCEPTION.getErrorCode(),
+					SchemaErrorCode.DYNAMIC_FIELD_FETCH_EXCEPTION.getErrorMessage() + " "
+							+ ExceptionUtils.parseException(e));
+		}
+		if (fields == null)
+			return Collections.emptyMap();
+		return fields.stream().filter(field -> field.getName() != null)
+				.collect(Collectors.groupingBy(field -> getFieldKey(field.getName(), field.getLangCode())));
+	}
+
+	private static String getFieldKey(String fieldName, String langCode) {
+		return fieldName == null ? null : fieldName.toLowerCase(Locale.ROOT) + "-" + langCode;
+	}
+
 	private DynamicFieldExtnDto getDynamicFieldDto(List<DynamicField> dynamicFields) {
 		dynamicFields = dynamicFields
 				.stream()
@@ -1,7 +1,6 @@
 package io.mosip.kernel.masterdata.service.impl;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 import javax.transaction.Transactional;
@@ -28,9 +27,7 @@ import io.mosip.kernel.masterdata.dto.getresponse.extn.GenderExtnDto;
 import io.mosip.kernel.masterdata.dto.postresponse.CodeResponseDto;
 import io.mosip.kernel.masterdata.dto.request.FilterDto;
 import io.mosip.kernel.masterdata.dto.request.FilterValueDto;
-import io.mosip.kernel.masterdata.dto.request.Pagination;
 import io.mosip.kernel.masterdata.dto.request.SearchDto;
-import io.mosip.kernel.masterdata.dto.request.SearchSort;
 import io.mosip.kernel.masterdata.dto.response.ColumnValue;
 import io.mosip.kernel.masterdata.dto.response.FilterResponseDto;
 import io.mosip.kernel.masterdata.dto.response.PageResponseDto;
@@ -46,6 +43,7 @@ import io.mosip.kernel.masterdata.utils.ExceptionUtils;
 import io.mosip.kernel.masterdata.utils.MapperUtils;
 import io.mosip.kernel.masterdata.utils.MasterDataFilterHelper;
 import io.mosip.kernel.masterdata.utils.MasterdataCreationUtil;
+import io.mosip.kernel.masterdata.utils.MasterdataSearchExecutor;
 import io.mosip.kernel.masterdata.utils.MasterdataSearchHelper;
 import io.mosip.kernel.masterdata.utils.MetaDataUtils;
 import io.mosip.kernel.masterdata.utils.PageUtils;
@@ -72,6 +70,9 @@ public class GenderTypeServiceImpl implements GenderTypeService {
 	@Autowired
 	MasterdataSearchHelper masterDataSearchHelper;
 
+	@Autowired
+	private MasterdataSearchExecutor masterdataSearchExecutor;
+
 	@Autowired
 	MasterDataFilterHelper masterDataFilterHelper;
 
@@ -328,20 +329,11 @@ public class GenderTypeServiceImpl implements GenderTypeService {
 	@Override
 	public PageResponseDto<GenderExtnDto> searchGenderTypes(SearchDto request) {
 		PageResponseDto<GenderExtnDto> pageDto = new PageResponseDto<>();
-		List<GenderExtnDto> genderTypeExtns = null;
 
 		if (filterTypeValidator.validate(GenderExtnDto.class, request.getFilters())) {
-			Pagination pagination = request.getPagination();
-			List<SearchSort> sort = request.getSort();
-			pageUtils.validateSortField(GenderExtnDto.class, Gender.class, sort);
-			request.setPagination(new Pagination(0, Integer.MAX_VALUE));
-			request.setSort(Collections.emptyList());
-			Page<Gender> page = masterDataSearchHelper.searchMasterdata(Gender.class, request, null);
-
-			if (page.getContent() != null && !page.getContent().isEmpty()) {
-				genderTypeExtns = MapperUtils.mapAll(page.getContent(), GenderExtnDto.class);
-				pageDto = pageUtils.sortPage(genderTypeExtns, sort, pagination);
-			}
+			pageUtils.validateSortField(GenderExtnDto.class, Gender.class, request.getSort());
+			pageDto = masterdataSearchExecutor.search(Gender.class, request, null,
+					content -> MapperUtils.mapAll(content, GenderExtnDto.class));
 		}
 		return pageDto;
 	}
@@ -1,7 +1,6 @@
 package io.mosip.kernel.masterdata.service.impl;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,9 +24,7 @@ import io.mosip.kernel.masterdata.dto.getresponse.PageDto;
 import io.mosip.kernel.masterdata.dto.getresponse.extn.IndividualTypeExtnDto;
 import io.mosip.kernel.masterdata.dto.request.FilterDto;
 import io.mosip.kernel.masterdata.dto.request.FilterValueDto;
-import io.mosip.kernel.masterdata.dto.request.Pagination;
 import io.mosip.kernel.masterdata.dto.request.SearchDto;
-import io.mosip.kernel.masterdata.dto.request.SearchSort;
 import io.mosip.kernel.masterdata.dto.response.ColumnValue;
 import io.mosip.kernel.masterdata.dto.response.FilterResponseDto;
 import io.mosip.kernel.masterdata.dto.response.PageResponseDto;
@@ -42,6 +39,7 @@ import io.mosip.kernel.masterdata.utils.ExceptionUtils;
 import io.mosip.kernel.masterdata.utils.MapperUtils;
 import io.mosip.kernel.masterdata.utils.MasterDataFilterHelper;
 import io.mosip.kernel.masterdata.utils.MasterdataCreationUtil;
+import io.mosip.kernel.masterdata.utils.MasterdataSearchExecutor;
 import io.mosip.kernel.masterdata.utils.MasterdataSearchHelper;
 import io.mosip.kernel.masterdata.utils.MetaDataUtils;
 import io.mosip.kernel.masterdata.utils.PageUtils;
@@ -70,6 +68,9 @@ public class IndividualTypeServiceImpl implements IndividualTypeService {
 	@Autowired
 	MasterdataSearchHelper masterDataSearchHelper;
 
+	@Autowired
+	private MasterdataSearchExecutor masterdataSearchExecutor;
+
 	@Autowired
 	MasterDataFilterHelper masterDataFilterHelper;
 
@@ -151,20 +152,11 @@ public class IndividualTypeServiceImpl implements IndividualTypeService {
 	@Override
 	public PageResponseDto<IndividualTypeExtnDto> searchIndividuals(SearchDto dto) {
 		PageResponseDto<IndividualTypeExtnDto> pageDto = new PageResponseDto<>();
-		List<IndividualTypeExtnDto> individuals = null;
 
 		if (filterTypeValidator.validate(IndividualTypeExtnDto.class, dto.getFilters())) {
-			Pagination pagination = dto.getPagination();
-			List<SearchSort> sort = dto.getSort();
-			pageUtils.validateSortField(IndividualTypeExtnDto.class, IndividualType.class, sort);
-			dto.setPagination(new Pagination(0, Integer.MAX_VALUE));
-			dto.setSort(Collections.emptyList());
-			Page<IndividualType> page = masterDataSearchHelper.searchMasterdata(IndividualType.class, dto, null);
-
-			if (page.getContent() != null && !page.getContent().isEmpty()) {
-				individuals = MapperUtils.mapAll(page.getContent(), IndividualTypeExtnDto.class);
-				pageDto = pageUtils.sortPage(individuals, sort, pagination);
-			}
+			pageUtils.validateSortField(IndividualTypeExtnDto.class, IndividualType.class, dto.getSort());
+			pageDto = masterdataSearchExecutor.search(IndividualType.class, dto, null,
+					content -> MapperUtils.mapAll(content, IndividualTypeExtnDto.class));
 		}
 		return pageDto;
 	}
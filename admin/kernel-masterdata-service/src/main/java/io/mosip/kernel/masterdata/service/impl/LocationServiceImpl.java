@@ -5,10 +5,8 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
-import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -44,9 +42,7 @@ import io.mosip.kernel.masterdata.dto.getresponse.extn.LocationExtnDto;
 import io.mosip.kernel.masterdata.dto.postresponse.CodeResponseDto;
 import io.mosip.kernel.masterdata.dto.request.FilterDto;
 import io.mosip.kernel.masterdata.dto.request.FilterValueDto;
-import io.mosip.kernel.masterdata.dto.request.Pagination;
 import io.mosip.kernel.masterdata.dto.request.SearchDto;
-import io.mosip.kernel.masterdata.dto.request.SearchSort;
 import io.mosip.kernel.masterdata.dto.response.ColumnCodeValue;
 import io.mosip.kernel.masterdata.dto.response.FilterResponseCodeDto;
 import io.mosip.kernel.masterdata.dto.response.LocationPostResponseDto;
@@ -62,9 +58,12 @@ import io.mosip.kernel.masterdata.repository.LocationRepository;
 import io.mosip.kernel.masterdata.service.LocationService;
 import io.mosip.kernel.masterdata.utils.AuditUtil;
 import io.mosip.kernel.masterdata.utils.ExceptionUtils;
+import io.mosip.kernel.masterdata.utils.LocationHierarchyIndex;
+import io.mosip.kernel.masterdata.utils.LocationUtils;
 import io.mosip.kernel.masterdata.utils.MapperUtils;
 import io.mosip.kernel.masterdata.utils.MasterDataFilterHelper;
 import io.mosip.kernel.masterdata.utils.MasterdataCreationUtil;
+import io.mosip.kernel.masterdata.utils.MasterdataSearchExecutor;
 import io.mosip.kernel.masterdata.utils.MasterdataSearchHelper;
 import io.mosip.kernel.masterdata.utils.MetaDataUtils;
 import io.mosip.kernel.masterdata.utils.PageUtils;
@@ -107,11 +106,14 @@ public class LocationServiceImpl implements LocationService {
 	@Autowired
 	private MasterdataSearchHelper masterdataSearchHelper;
 
+	@Autowired
+	private MasterdataSearchExecutor masterdataSearchExecutor;
+
 	@Autowired
 	private PageUtils pageUtils;
-	private List<Location> childHierarchyList = null;
-	private List<Location> parentHierarchyList = null;
-	private List<String> childList = null;
+
+	@Autowired
+	private LocationUtils locationUtils;
 
 	@Autowired
 	private MasterdataCreationUtil masterdataCreationUtil;
@@ -180,23 +182,13 @@ public class LocationServiceImpl implements LocationService {
 			condition = "#locCode != null && #langCode != null")
 	@Override
 	public LocationResponseDto getLocationHierarchyByLangCode(String locCode, String langCode) {
-		List<Location> childList = null;
-		List<Location> parentList = null;
-		childHierarchyList = new ArrayList<>();
-		parentHierarchyList = new ArrayList<>();
 		LocationResponseDto locationHierarchyResponseDto = new LocationResponseDto();
 		try {
-
-			List<Location> locHierList = getLocationHierarchyList(locCode, langCode);
-			if (locHierList != null && !locHierList.isEmpty()) {
-				for (Location locationHierarchy : locHierList) {
-					String currentParentLocCode = locationHierarchy.getParentLocCode();
-					childList = getChildList(locCode, langCode);
-					parentList = getParentList(currentParentLocCode, langCode);
-
-				}
-				locHierList.addAll(childList);
-				locHierList.addAll(parentList);
+			LocationHierarchyIndex locationIndex = locationUtils.getLocationIndex();
+			// the location followed by its child locations, then its parent locations
+			List<Location> locHierList = new ArrayList<>(locationIndex.getSubLocations(locCode, langCode));
+			if (!locHierList.isEmpty()) {
+				locHierList.addAll(locationIndex.getAncestors(locCode, langCode));
 
 				List<LocationDto> locationHierarchies = MapperUtils.mapAll(locHierList, LocationDto.class);
 				locationHierarchyResponseDto.setLocations(locationHierarchies);
@@ -290,6 +282,7 @@ public class LocationServiceImpl implements LocationService {
 				MasterDataConstant.AUDIT_SYSTEM, String.format(MasterDataConstant.SUCCESSFUL_CREATE_DESC,
 						LocationDto.class.getSimpleName(), locationPostResponseDto.getCode()),
 				"ADM-578");
+		locationUtils.evictLocationIndex();
 		return locationPostResponseDto;
 	}
 
@@ -375,6 +368,7 @@ public class LocationServiceImpl implements LocationService {
 				MasterDataConstant.AUDIT_SYSTEM, String.format(MasterDataConstant.SUCCESSFUL_UPDATE_DESC,
 						LocationDto.class.getSimpleName(), postLocationCodeResponseDto.getCode()),
 				"ADM-580");
+		locationUtils.evictLocationIndex();
 		return postLocationCodeResponseDto;
 	}
 
@@ -408,6 +402,7 @@ public class LocationServiceImpl implements LocationService {
 				MasterDataConstant.AUDIT_SYSTEM, String.format(MasterDataConstant.SUCCESSFUL_UPDATE_DESC,
 						LocationDto.class.getSimpleName()),
 				"ADM-581");
+		locationUtils.evictLocationIndex();
 		return statusResponseDto;
 	}
 
@@ -441,6 +436,7 @@ public class LocationServiceImpl implements LocationService {
 					LocationErrorCode.LOCATION_UPDATE_EXCEPTION.getErrorMessage() + ExceptionUtils.parseException(ex));
 		}
 		codeResponseDto.setCode(locationCode);
+		locationUtils.evictLocationIndex();
 		return codeResponseDto;
 	}
 
@@ -509,75 +505,6 @@ public class LocationServiceImpl implements LocationService {
 		return locationHierarchyResponseDto;
 	}
 
-	/**
-	 * fetches location hierarchy details from database based on location code and
-	 * language code
-	 * 
-	 * @param locCode  - location code
-	 * @param langCode - language code
-	 * @return List<LocationHierarchy>
-	 */
-	private List<Location> getLocationHierarchyList(String locCode, String langCode) {
-
-		return locationRepository.findLocationHierarchyByCodeAndLanguageCode(locCode, langCode);
-	}
-
-	/**
-	 * fetches location hierarchy details from database based on parent location
-	 * code and language code
-	 * 
-	 * @param locCode  - location code
-	 * @param langCode - language code
-	 * @return List<LocationHierarchy>
-	 */
-	private List<Location> getLocationChildHierarchyList(String locCode, String langCode) {
-
-		return locationRepository.findLocationHierarchyByParentLocCodeAndLanguageCode(locCode, langCode);
-
-	}
-
-	/**
-	 * This method fetches child hierarchy details of the location based on location
-	 * code
-	 * 
-	 * @param locCode  - location code
-	 * @param langCode - language code
-	 * @return List<Location>
-	 */
-	private List<Location> getChildList(String locCode, String langCode) {
-
-		if (locCode != null && !locCode.isEmpty()) {
-			List<Location> childLocHierList = getLocationChildHierarchyList(locCode, langCode);
-			childHierarchyList.addAll(childLocHierList);
-			childLocHierList.parallelStream().filter(entity -> entity.getCode() != null && !entity.getCode().isEmpty())
-					.map(entity -> getChildList(entity.getCode(), langCode)).collect(Collectors.toList());
-		}
-
-		return childHierarchyList;
-	}
-
-	/**
-	 * This method fetches parent hierarchy details of the location based on parent
-	 * Location code
-	 * 
-	 * @param locCode  - location code
-	 * @param langCode - language code
-	 * @return List<LocationHierarcy>
-	 */
-	private List<Location> getParentList(String locCode, String langCode) {
-
-		if (locCode != null && !locCode.isEmpty()) {
-			List<Location> parentLocHierList = getLocationHierarchyList(locCode, langCode);
-			parentHierarchyList.addAll(parentLocHierList);
-
-			parentLocHierList.parallelStream()
-					.filter(entity -> entity.getParentLocCode() != null && !entity.getParentLocCode().isEmpty())
-					.map(entity -> getParentList(entity.getParentLocCode(), langCode)).collect(Collectors.toList());
-		}
-
-		return parentHierarchyList;
-	}
-
 	@Override
 	public Map<Short, List<Location>> getLocationByLangCodeAndHierarchyLevel(String langCode, Short hierarchyLevel) {
 		Map<Short, List<Location>> map = new TreeMap<>();
@@ -662,35 +589,13 @@ public class LocationServiceImpl implements LocationService {
 	 */
 	@Override
 	public List<String> getChildList(String locCode) {
-		childList = new ArrayList<>();
-		List<String> resultList = getChildByLocCode(locCode);
+		List<String> resultList = locCode == null || locCode.isEmpty() ? Collections.emptyList()
+				: locationUtils.getLocationIndex().getDescendantCodes(locCode);
 		if (!resultList.isEmpty())
 			return resultList;
 		return Arrays.asList(locCode);
 	}
 
-	private List<String> getChildByLocCode(String locCode) {
-		if (locCode != null && !locCode.isEmpty()) {
-			List<String> childLocHierList = getLocationChildHierarchyList(locCode);
-			childList.addAll(childLocHierList);
-			childLocHierList.parallelStream().filter(Objects::nonNull).map(this::getChildByLocCode).collect(Collectors.toList());
-		}
-		return childList;
-	}
-
-	/**
-	 * fetches location hierarchy details from database based on parent location
-	 * code and language code, children's isActive is either true or false
-	 * 
-	 * @param locCode - location code
-	 * @return List<LocationHierarchy>
-	 */
-	private List<String> getLocationChildHierarchyList(String locCode) {
-
-		return locationRepository.findDistinctByparentLocCode(locCode);
-
-	}
-
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -906,21 +811,12 @@ public class LocationServiceImpl implements LocationService {
 	@Override
 	public PageResponseDto<LocationSearchDto> searchLocation(SearchDto dto) {
 		PageResponseDto<LocationSearchDto> pageDto = new PageResponseDto<>();
-		List<LocationSearchDto> responseDto = null;
 		pageUtils.validateSortField(Location.class, dto.getSort());
 		Boolean isFilter = filterTypeValidator.validate(LocationSearchDto.class, dto.getFilters());
 		if (isFilter) {
-			Pagination pagination = dto.getPagination();
-			List<SearchSort> sort = dto.getSort();
 			pageUtils.validateSortFieldLocation(LocationSearchDto.class, Location.class, dto.getSort());
-			dto.setPagination(new Pagination(0, Integer.MAX_VALUE));
-			dto.setSort(Collections.emptyList());
-			Page<Location> page = masterdataSearchHelper.searchMasterdata(Location.class, dto, null);
-			
-			if (page.getContent() != null && !page.getContent().isEmpty()) {
-				responseDto = MapperUtils.mapAll(page.getContent(), LocationSearchDto.class);
-				pageDto = pageUtils.sortPage(responseDto, sort, pagination);
-			}
+			pageDto = masterdataSearchExecutor.search(Location.class, dto, null,
+					content -> MapperUtils.mapAll(content, LocationSearchDto.class));
 		}
 		return pageDto;
 	}
@@ -44,7 +44,6 @@ import io.mosip.kernel.masterdata.dto.request.FilterValueDto;
 import io.mosip.kernel.masterdata.dto.request.Pagination;
 import io.mosip.kernel.masterdata.dto.request.SearchDto;
 import io.mosip.kernel.masterdata.dto.request.SearchFilter;
-import io.mosip.kernel.masterdata.dto.request.SearchSort;
 import io.mosip.kernel.masterdata.dto.response.ColumnCodeValue;
 import io.mosip.kernel.masterdata.dto.response.FilterResponseCodeDto;
 import io.mosip.kernel.masterdata.dto.response.MachineSearchDto;
@@ -103,6 +102,9 @@ public class MachineServiceImpl implements MachineService {
 	@Autowired
 	private MasterdataSearchHelper masterdataSearchHelper;
 
+	@Autowired
+	private MasterdataSearchExecutor masterdataSearchExecutor;
+
 	@Autowired
 	private FilterTypeValidator filterValidator;
 
@@ -322,7 +324,6 @@ public class MachineServiceImpl implements MachineService {
 	@Override
 	public PageResponseDto<MachineSearchDto> searchMachine(SearchDtoWithoutLangCode dto) {
 		PageResponseDto<MachineSearchDto> pageDto = new PageResponseDto<>();
-		List<MachineSearchDto> machines = null;
 		List<SearchFilter> addList = new ArrayList<>();
 		List<SearchFilter> removeList = new ArrayList<>();
 		List<SearchFilter> zoneFilter = new ArrayList<>();
@@ -374,18 +375,19 @@ public class MachineServiceImpl implements MachineService {
 		}
 		pageUtils.validateSortField(MachineSearchDto.class, Machine.class, dto.getSort());
 		dto.getFilters().removeAll(removeList);
-		Pagination pagination = dto.getPagination();
-		List<SearchSort> sort = dto.getSort();
-		dto.setPagination(new Pagination(0, Integer.MAX_VALUE));
-		dto.setSort(Collections.emptyList());
 		if (filterValidator.validate(MachineSearchDto.class, dto.getFilters())) {
 
 			OptionalFilter optionalFilter = new OptionalFilter(addList);
 			OptionalFilter zoneOptionalFilter = new OptionalFilter(zoneFilter);
-			Page<Machine> page = null;
-			optionalFilter = new OptionalFilter(addList);
-			page = masterdataSearchHelper.searchMasterdataWithoutLangCode(Machine.class, dto,
-					new OptionalFilter[] { optionalFilter, zoneOptionalFilter });
+			List<Zone> userZones = zones;
+			pageDto = masterdataSearchExecutor.searchWithoutLangCode(Machine.class, dto,
+					new OptionalFilter[] { optionalFilter, zoneOptionalFilter }, content -> {
+						List<MachineSearchDto> machines = MapperUtils.mapAll(content, MachineSearchDto.class);
+						setMachineMetadata(machines, userZones);
+						setMachineTypeNames(machines);
+						setMapStatus(machines, dto.getLanguageCode());
+						return machines;
+					});
 	
 		/*	if(typeName!=null &&!typeName.isEmpty() && addList.isEmpty()) {
 				optionalFilter = new OptionalFilter(addList);
@@ -400,13 +402,6 @@ public class MachineServiceImpl implements MachineService {
 				optionalFilter = new OptionalFilter(addList);
 				page = masterdataSearchHelper.searchMasterdataWithoutLangCode(Machine.class, dto,
 						new OptionalFilter[] { optionalFilter, zoneOptionalFilter });			}*/
-			if (page != null && page.getContent() != null && !page.getContent().isEmpty()) {
-				machines = MapperUtils.mapAll(page.getContent(), MachineSearchDto.class);
-				setMachineMetadata(machines, zones);
-				setMachineTypeNames(machines);
-				setMapStatus(machines, dto.getLanguageCode());
-				pageDto = pageUtils.sortPage(machines, sort, pagination);
-			}
 
 		}
 		return pageDto;
@@ -55,6 +55,7 @@ import io.mosip.kernel.masterdata.utils.MachineUtil;
 import io.mosip.kernel.masterdata.utils.MapperUtils;
 import io.mosip.kernel.masterdata.utils.MasterDataFilterHelper;
 import io.mosip.kernel.masterdata.utils.MasterdataCreationUtil;
+import io.mosip.kernel.masterdata.utils.MasterdataSearchExecutor;
 import io.mosip.kernel.masterdata.utils.MasterdataSearchHelper;
 import io.mosip.kernel.masterdata.utils.MetaDataUtils;
 import io.mosip.kernel.masterdata.utils.OptionalFilter;
@@ -89,6 +90,9 @@ public class MachineSpecificationServiceImpl implements MachineSpecificationServ
 	@Autowired
 	private MasterdataSearchHelper masterdataSearchHelper;
 
+	@Autowired
+	private MasterdataSearchExecutor masterdataSearchExecutor;
+
 	@Autowired
 	private FilterTypeValidator filterValidator;
 
@@ -400,8 +404,6 @@ public class MachineSpecificationServiceImpl implements MachineSpecificationServ
 			SearchDtoWithoutLangCode searchRequestDto) {
 		PageResponseDto<MachineSpecificationExtnDto> pageDto = new PageResponseDto<>();
 
-		List<MachineSpecificationExtnDto> machineSpecifications = null;
-
 		List<SearchFilter> addList = new ArrayList<>();
 		List<SearchFilter> removeList = new ArrayList<>();
 		List<SearchSort> srchsrt = new ArrayList<>();
@@ -430,20 +432,15 @@ public class MachineSpecificationServiceImpl implements MachineSpecificationServ
 			}
 		}
 		searchRequestDto.getFilters().removeAll(removeList);
-		Pagination pagination = searchRequestDto.getPagination();
-		List<SearchSort> sort = searchRequestDto.getSort();
-		searchRequestDto.setPagination(new Pagination(0, Integer.MAX_VALUE));
-		searchRequestDto.setSort(Collections.emptyList());
 		if (filterValidator.validate(MachineSpecificationExtnDto.class, searchRequestDto.getFilters())) {
 			OptionalFilter optionalFilter = new OptionalFilter(addList);
-			Page<MachineSpecification> page = masterdataSearchHelper.searchMasterdataWithoutLangCode(
-					MachineSpecification.class,
-					searchRequestDto, new OptionalFilter[] { optionalFilter });
-			if (page.getContent() != null && !page.getContent().isEmpty()) {
-				machineSpecifications = MapperUtils.mapAll(page.getContent(), MachineSpecificationExtnDto.class);
-				setMachineTypeName(machineSpecifications);
-				pageDto = pageUtils.sortPage(machineSpecifications, sort, pagination);
-			}
+			pageDto = masterdataSearchExecutor.searchWithoutLangCode(MachineSpecification.class, searchRequestDto,
+					new OptionalFilter[] { optionalFilter }, content -> {
+						List<MachineSpecificationExtnDto> machineSpecifications = MapperUtils.mapAll(content,
+								MachineSpecificationExtnDto.class);
+						setMachineTypeName(machineSpecifications);
+						return machineSpecifications;
+					});
 		}
 		return pageDto;
 	}
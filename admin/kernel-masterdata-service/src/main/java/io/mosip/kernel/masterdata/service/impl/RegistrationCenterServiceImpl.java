@@ -146,6 +146,9 @@ public class RegistrationCenterServiceImpl implements RegistrationCenterService
 	@Autowired
 	private ZoneUtils zoneUtils;
 
+	@Autowired
+	private RegistrationCenterGeoUtils registrationCenterGeoUtils;
+
 	@Autowired
 	private RegistrationCenterServiceHelper serviceHelper;
 
@@ -263,16 +266,8 @@ public class RegistrationCenterServiceImpl implements RegistrationCenterService
 	@Override
 	public RegistrationCenterResponseDto getRegistrationCentersByCoordinates(double longitude, double latitude,
 			int proximityDistance, String langCode) {
-		List<RegistrationCenter> centers = null;
-		try {
-			centers = registrationCenterRepository.findRegistrationCentersByLat(latitude, longitude,
-					proximityDistance * MasterDataConstant.METERTOMILECONVERSION, langCode);
-		} catch (DataAccessLayerException | DataAccessException e) {
-			throw new MasterDataServiceException(
-					RegistrationCenterErrorCode.REGISTRATION_CENTER_FETCH_EXCEPTION.getErrorCode(),
-					RegistrationCenterErrorCode.REGISTRATION_CENTER_FETCH_EXCEPTION.getErrorMessage()
-							+ ExceptionUtils.parseException(e));
-		}
+		List<RegistrationCenter> centers = registrationCenterGeoUtils.findRegistrationCentersWithin(latitude,
+				longitude, proximityDistance * MasterDataConstant.METERTOMILECONVERSION, langCode);
 		if (centers.isEmpty()) {
 			throw new DataNotFoundException(RegistrationCenterErrorCode.REGISTRATION_CENTER_NOT_FOUND.getErrorCode(),
 					RegistrationCenterErrorCode.REGISTRATION_CENTER_NOT_FOUND.getErrorMessage());
@@ -527,6 +522,7 @@ public class RegistrationCenterServiceImpl implements RegistrationCenterService
 					if (machineList.isEmpty() && users.isEmpty() && deviceList.isEmpty()) {
 						MetaDataUtils.setDeleteMetaData(renRegistrationCenter);
 						delRegistrationCenter = registrationCenterRepository.update(renRegistrationCenter);
+						registrationCenterGeoUtils.evictGeoIndex();
 
 						RegistrationCenterHistory registrationCenterHistory = new RegistrationCenterHistory();
 						MapperUtils.map(delRegistrationCenter, registrationCenterHistory);
@@ -889,6 +885,7 @@ public class RegistrationCenterServiceImpl implements RegistrationCenterService
 				}
 				decommissionedCenters = registrationCenterRepository.decommissionRegCenter(regCenterID,
 						MetaDataUtils.getContextUser(), MetaDataUtils.getCurrentDateTime());
+				registrationCenterGeoUtils.evictGeoIndex();
 			}
 		} catch (DataAccessException | DataAccessLayerException exception) {
 			auditException(RegistrationCenterErrorCode.DECOMMISSION_FAILED.getErrorCode(),
@@ -994,6 +991,7 @@ public class RegistrationCenterServiceImpl implements RegistrationCenterService
 
 					// registrationCenterEntity.setIsActive(false);
 					registrationCenter = registrationCenterRepository.create(registrationCenterEntity);
+					registrationCenterGeoUtils.evictGeoIndex();
 
 					registrationCenterExtnDto = MapperUtils.map(registrationCenter, RegistrationCenterExtnDto.class);
 				}
@@ -1262,6 +1260,7 @@ public class RegistrationCenterServiceImpl implements RegistrationCenterService
 					updRegistrationCenterEntity = MetaDataUtils.setUpdateMetaData(regCenterPutReqDto,
 							renRegistrationCenter, false);
 					updRegistrationCenter = registrationCenterRepository.update(updRegistrationCenterEntity);
+					registrationCenterGeoUtils.evictGeoIndex();
 
 					// New code start ****
 					// update operation for WNW and ExpHoliday only for primary
@@ -1545,6 +1544,7 @@ public class RegistrationCenterServiceImpl implements RegistrationCenterService
 					registrationCenterValidator.getSubZoneIdsForUser(languageUtils.getDefaultLanguage()));
 
 			masterdataCreationUtil.updateMasterDataStatus(RegistrationCenter.class, id, isActive, "id");
+			registrationCenterGeoUtils.evictGeoIndex();
 
 			MetaDataUtils.setUpdateMetaData(registrationCenters.get(0), registrationCenterHistory, true);
 			registrationCenterHistory.setEffectivetimes(LocalDateTime.now(ZoneId.of("UTC")));
@@ -1613,6 +1613,7 @@ public class RegistrationCenterServiceImpl implements RegistrationCenterService
 			regCenterByLangCode.setAddressLine3(dto.getAddressLine3());
 			regCenterByLangCode.setUpdatedDateTime(LocalDateTime.now());
 			registrationCenterRepository.update(regCenterByLangCode);
+			registrationCenterGeoUtils.evictGeoIndex();
 			RegistrationCenterHistory registrationCenterHistory = new RegistrationCenterHistory();
 			MapperUtils.map(regCenterByLangCode, registrationCenterHistory);
 			MapperUtils.setBaseFieldValue(regCenterByLangCode, registrationCenterHistory);
@@ -1639,6 +1640,7 @@ public class RegistrationCenterServiceImpl implements RegistrationCenterService
 		clonedObject.setUpdatedBy(null);
 		clonedObject.setUpdatedDateTime(null);
 		registrationCenterRepository.create(clonedObject);
+		registrationCenterGeoUtils.evictGeoIndex();
 		RegistrationCenterHistory registrationCenterHistory = new RegistrationCenterHistory();
 		MapperUtils.map(clonedObject, registrationCenterHistory);
 		MapperUtils.setBaseFieldValue(clonedObject, registrationCenterHistory);
@@ -1699,6 +1701,7 @@ public class RegistrationCenterServiceImpl implements RegistrationCenterService
 				dto.getCenterStartTime(), dto.getCenterEndTime(), dto.getTimeZone(), dto.getLunchStartTime(),
 				dto.getLunchEndTime(), dto.getZoneCode(), dto.getId(), MetaDataUtils.getContextUser(),
 				MetaDataUtils.getCurrentDateTime());
+		registrationCenterGeoUtils.evictGeoIndex();
 		if (updatedRows > 0) {
 			List<RegistrationCenter> updRegistrationCenters = registrationCenterRepository.findByRegId(dto.getId());
 			updateWorkingNonWorking(updRegistrationCenters.get(0), dto.getWorkingNonWorkingDays(), errors);
@@ -3,7 +3,6 @@ package io.mosip.kernel.masterdata.service.impl;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,9 +30,7 @@ import io.mosip.kernel.masterdata.dto.getresponse.extn.RegistrationCenterTypeExt
 import io.mosip.kernel.masterdata.dto.postresponse.CodeResponseDto;
 import io.mosip.kernel.masterdata.dto.request.FilterDto;
 import io.mosip.kernel.masterdata.dto.request.FilterValueDto;
-import io.mosip.kernel.masterdata.dto.request.Pagination;
 import io.mosip.kernel.masterdata.dto.request.SearchDto;
-import io.mosip.kernel.masterdata.dto.request.SearchSort;
 import io.mosip.kernel.masterdata.dto.response.ColumnCodeValue;
 import io.mosip.kernel.masterdata.dto.response.FilterResponseCodeDto;
 import io.mosip.kernel.masterdata.dto.response.PageResponseDto;
@@ -51,6 +48,7 @@ import io.mosip.kernel.masterdata.utils.ExceptionUtils;
 import io.mosip.kernel.masterdata.utils.MapperUtils;
 import io.mosip.kernel.masterdata.utils.MasterDataFilterHelper;
 import io.mosip.kernel.masterdata.utils.MasterdataCreationUtil;
+import io.mosip.kernel.masterdata.utils.MasterdataSearchExecutor;
 import io.mosip.kernel.masterdata.utils.MasterdataSearchHelper;
 import io.mosip.kernel.masterdata.utils.MetaDataUtils;
 import io.mosip.kernel.masterdata.utils.PageUtils;
@@ -85,6 +83,9 @@ public class RegistrationCenterTypeServiceImpl implements RegistrationCenterType
 	@Autowired
 	MasterdataSearchHelper masterdataSearchHelper;
 
+	@Autowired
+	private MasterdataSearchExecutor masterdataSearchExecutor;
+
 	@Autowired
 	FilterColumnValidator filterColumnValidator;
 
@@ -326,21 +327,11 @@ public class RegistrationCenterTypeServiceImpl implements RegistrationCenterType
 	@Override
 	public PageResponseDto<RegistrationCenterTypeExtnDto> searchRegistrationCenterTypes(SearchDto dto) {
 		PageResponseDto<RegistrationCenterTypeExtnDto> pageDto = new PageResponseDto<>();
-		List<RegistrationCenterTypeExtnDto> registrationCenterTypes = null;
 
 		if (filterTypeValidator.validate(RegistrationCenterTypeExtnDto.class, dto.getFilters())) {
-			Pagination pagination = dto.getPagination();
-			List<SearchSort> sort = dto.getSort();
-			dto.setPagination(new Pagination(0, Integer.MAX_VALUE));
-			dto.setSort(Collections.emptyList());
-
-			pageUtils.validateSortField(RegistrationCenterType.class, sort);
-			Page<RegistrationCenterType> page = masterdataSearchHelper.searchMasterdata(RegistrationCenterType.class,
-					dto, null);
-			if (page.getContent() != null && !page.getContent().isEmpty()) {
-				registrationCenterTypes = MapperUtils.mapAll(page.getContent(), RegistrationCenterTypeExtnDto.class);
-				pageDto = pageUtils.sortPage(registrationCenterTypes, sort, pagination);
-			}
+			pageUtils.validateSortField(RegistrationCenterType.class, dto.getSort());
+			pageDto = masterdataSearchExecutor.search(RegistrationCenterType.class, dto, null,
+					content -> MapperUtils.mapAll(content, RegistrationCenterTypeExtnDto.class));
 		}
 		return pageDto;
 	}
@@ -1,7 +1,6 @@
 package io.mosip.kernel.masterdata.service.impl;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -39,9 +38,7 @@ import io.mosip.kernel.masterdata.dto.getresponse.extn.TemplateExtnDto;
 import io.mosip.kernel.masterdata.dto.postresponse.IdResponseDto;
 import io.mosip.kernel.masterdata.dto.request.FilterDto;
 import io.mosip.kernel.masterdata.dto.request.FilterValueDto;
-import io.mosip.kernel.masterdata.dto.request.Pagination;
 import io.mosip.kernel.masterdata.dto.request.SearchDto;
-import io.mosip.kernel.masterdata.dto.request.SearchSort;
 import io.mosip.kernel.masterdata.dto.response.ColumnValue;
 import io.mosip.kernel.masterdata.dto.response.FilterResponseDto;
 import io.mosip.kernel.masterdata.dto.response.PageResponseDto;
@@ -60,6 +57,7 @@ import io.mosip.kernel.masterdata.utils.ExceptionUtils;
 import io.mosip.kernel.masterdata.utils.MapperUtils;
 import io.mosip.kernel.masterdata.utils.MasterDataFilterHelper;
 import io.mosip.kernel.masterdata.utils.MasterdataCreationUtil;
+import io.mosip.kernel.masterdata.utils.MasterdataSearchExecutor;
 import io.mosip.kernel.masterdata.utils.MasterdataSearchHelper;
 import io.mosip.kernel.masterdata.utils.MetaDataUtils;
 import io.mosip.kernel.masterdata.utils.PageUtils;
@@ -110,6 +108,9 @@ public class TemplateServiceImpl implements TemplateService {
 	@Autowired
 	private MasterdataSearchHelper masterDataSearchHelper;
 
+	@Autowired
+	private MasterdataSearchExecutor masterdataSearchExecutor;
+
 	@Autowired
 	private MasterDataFilterHelper masterDataFilterHelper;
 
@@ -425,19 +426,11 @@ public class TemplateServiceImpl implements TemplateService {
 	@Override
 	public PageResponseDto<TemplateExtnDto> searchTemplates(SearchDto searchDto) {
 		PageResponseDto<TemplateExtnDto> pageDto = new PageResponseDto<>();
-		List<TemplateExtnDto> templates = null;
 
 		if (filterTypeValidator.validate(TemplateExtnDto.class, searchDto.getFilters())) {
-			Pagination pagination = searchDto.getPagination();
-			List<SearchSort> sort = searchDto.getSort();
-			searchDto.setPagination(new Pagination(0, Integer.MAX_VALUE));
-			searchDto.setSort(Collections.emptyList());
-			pageUtils.validateSortField(Template.class, sort);
-			Page<Template> page = masterDataSearchHelper.searchMasterdata(Template.class, searchDto, null);
-			if (page.getContent() != null && !page.getContent().isEmpty()) {
-				templates = MapperUtils.mapAll(page.getContent(), TemplateExtnDto.class);
-				pageDto = pageUtils.sortPage(templates, sort, pagination);
-			}
+			pageUtils.validateSortField(Template.class, searchDto.getSort());
+			pageDto = masterdataSearchExecutor.search(Template.class, searchDto, null,
+					content -> MapperUtils.mapAll(content, TemplateExtnDto.class));
 		}
 		return pageDto;
 
@@ -1,7 +1,6 @@
 package io.mosip.kernel.masterdata.service.impl;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 import javax.annotation.PostConstruct;
@@ -35,9 +34,7 @@ import io.mosip.kernel.masterdata.dto.getresponse.extn.TitleExtnDto;
 import io.mosip.kernel.masterdata.dto.postresponse.CodeResponseDto;
 import io.mosip.kernel.masterdata.dto.request.FilterDto;
 import io.mosip.kernel.masterdata.dto.request.FilterValueDto;
-import io.mosip.kernel.masterdata.dto.request.Pagination;
 import io.mosip.kernel.masterdata.dto.request.SearchDto;
-import io.mosip.kernel.masterdata.dto.request.SearchSort;
 import io.mosip.kernel.masterdata.dto.response.ColumnValue;
 import io.mosip.kernel.masterdata.dto.response.FilterResponseDto;
 import io.mosip.kernel.masterdata.dto.response.PageResponseDto;
@@ -54,6 +51,7 @@ import io.mosip.kernel.masterdata.utils.ExceptionUtils;
 import io.mosip.kernel.masterdata.utils.MapperUtils;
 import io.mosip.kernel.masterdata.utils.MasterDataFilterHelper;
 import io.mosip.kernel.masterdata.utils.MasterdataCreationUtil;
+import io.mosip.kernel.masterdata.utils.MasterdataSearchExecutor;
 import io.mosip.kernel.masterdata.utils.MasterdataSearchHelper;
 import io.mosip.kernel.masterdata.utils.MetaDataUtils;
 import io.mosip.kernel.masterdata.utils.PageUtils;
@@ -83,6 +81,9 @@ public class TitleServiceImpl implements TitleService {
 	@Autowired
 	private MasterdataSearchHelper masterDataSearchHelper;
 
+	@Autowired
+	private MasterdataSearchExecutor masterdataSearchExecutor;
+
 	@Autowired
 	private FilterColumnValidator filterColumnValidator;
 
@@ -341,20 +342,11 @@ public class TitleServiceImpl implements TitleService {
 	@Override
 	public PageResponseDto<TitleExtnDto> searchTitles(SearchDto searchDto) {
 		PageResponseDto<TitleExtnDto> pageDto = new PageResponseDto<>();
-		List<TitleExtnDto> titles = null;
 
 		if (filterTypeValidator.validate(TitleExtnDto.class, searchDto.getFilters())) {
-			Pagination pagination = searchDto.getPagination();
-			List<SearchSort> sort = searchDto.getSort();
-			searchDto.setPagination(new Pagination(0, Integer.MAX_VALUE));
-			searchDto.setSort(Collections.emptyList());
-			pageUtils.validateSortField(Title.class, sort);
-			Page<Title> page = masterDataSearchHelper.searchMasterdata(Title.class, searchDto, null);
-			if (page.getContent() != null && !page.getContent().isEmpty()) {
-				titles = MapperUtils.mapAll(page.getContent(), TitleExtnDto.class);
-				pageDto = pageUtils.sortPage(titles, sort, pagination);
-			}
-
+			pageUtils.validateSortField(Title.class, searchDto.getSort());
+			pageDto = masterdataSearchExecutor.search(Title.class, searchDto, null,
+					content -> MapperUtils.mapAll(content, TitleExtnDto.class));
 		}
 		return pageDto;
 
@@ -60,7 +60,6 @@ import io.mosip.kernel.masterdata.dto.UsersDto;
 import io.mosip.kernel.masterdata.dto.ZoneUserExtnDto;
 import io.mosip.kernel.masterdata.dto.ZoneUserSearchDto;
 import io.mosip.kernel.masterdata.dto.getresponse.StatusResponseDto;
-import io.mosip.kernel.masterdata.dto.getresponse.ZoneNameResponseDto;
 import io.mosip.kernel.masterdata.dto.getresponse.extn.UserCenterMappingExtnDto;
 import io.mosip.kernel.masterdata.dto.getresponse.extn.UserDetailsExtnDto;
 import io.mosip.kernel.masterdata.dto.postresponse.IdResponseDto;
@@ -76,6 +75,7 @@ import io.mosip.kernel.masterdata.exception.MasterDataServiceException;
 import io.mosip.kernel.masterdata.exception.ValidationException;
 import io.mosip.kernel.masterdata.repository.UserDetailsHistoryRepository;
 import io.mosip.kernel.masterdata.repository.UserDetailsRepository;
+import io.mosip.kernel.masterdata.repository.ZoneRepository;
 import io.mosip.kernel.masterdata.repository.ZoneUserRepository;
 import io.mosip.kernel.masterdata.service.RegistrationCenterService;
 import io.mosip.kernel.masterdata.service.UserDetailsHistoryService;
@@ -162,6 +162,12 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 	@Autowired
 	ZoneUserRepository zoneUserRepository;
 
+	@Autowired
+	ZoneRepository zoneRepository;
+
+	@Autowired
+	private UserNameResolver userNameResolver;
+
 	@Override
 	public UserDetailsGetExtnDto getUser(String id) {
 		UserDetails ud = userDetailsRepository.findByIdAndIsDeletedFalseorIsDeletedIsNull(id);
@@ -700,6 +706,9 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 		if (page.getContent() != null && !page.getContent().isEmpty()) {
 			zoneUserSearchDetails = MapperUtils.mapAll(page.getContent(), ZoneUserExtnDto.class);
 			pageDto = PageUtils.pageResponse(page);
+			Map<String, String> userNames = userNameResolver.getUserNames(zoneUserSearchDetails.stream()
+					.map(ZoneUserExtnDto::getUserId).collect(Collectors.toList()));
+			Map<String, String> zoneNames = getZoneNames(zoneUserSearchDetails, zones, searchDto.getLanguageCode());
 			zoneUserSearchDetails.forEach(z -> {
 				ZoneUserSearchDto dto = new ZoneUserSearchDto();
 				dto.setCreatedBy(z.getCreatedBy());
@@ -712,15 +721,10 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 				dto.setUserId(z.getUserId());
 				dto.setUpdatedDateTime(z.getUpdatedDateTime());
 				dto.setUpdatedBy(z.getUpdatedBy());
-				String username = getUserName(z.getUserId());
-				dto.setUserName(username == null || username.isBlank() ? z.getUserId() :
+				String username = userNames.get(z.getUserId());
+				dto.setUserName(username == null ? z.getUserId() :
 						String.format(USERNAME_FORMAT, z.getUserId(), username));
-
-				if (null != z.getZoneCode()) {
-					ZoneNameResponseDto zn = zoneservice.getZone(z.getZoneCode(), searchDto.getLanguageCode());
-					dto.setZoneName(null != zn ? zn.getZoneName() : null);
-				} else
-					dto.setZoneName(null);
+				dto.setZoneName(null != z.getZoneCode() ? zoneNames.get(z.getZoneCode()) : null);
 				zoneSearch.add(dto);
 			});
 			userCenterMappingExtnDtos = dtoMapper(zoneSearch, searchDto.getLanguageCode());
@@ -732,49 +736,62 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 		return userCenterPageDto;
 	}
 
-	private String getUserName(String userId) {
-
-		HttpHeaders h = new HttpHeaders();
-		h.setContentType(MediaType.APPLICATION_JSON);
-		UriComponentsBuilder uribuilder = UriComponentsBuilder.fromUriString(userDetails + "/admin");// .queryParam("appid",
-		// "admin");
-		List<String> userDetails = new ArrayList<>();
-		userDetails.add(userId);
-		RequestWrapper<Map<String, List<String>>> r = new RequestWrapper<>();
-		Map<String, List<String>> m = new HashMap();
-		m.put("userDetails", userDetails);
-		r.setRequest(m);
-		HttpEntity<RequestWrapper<Map<String, List<String>>>> httpReq = new HttpEntity<RequestWrapper<Map<String, List<String>>>>(
-				r, h);
-		ResponseEntity<String> response = restTemplate.exchange(uribuilder.toUriString(), HttpMethod.POST, httpReq,
-				String.class);
-		response.getBody();
-		ObjectMapper mapper = new ObjectMapper();
-		try {
-			Map m1 = mapper.readValue(response.getBody(), Map.class);
-			if(!m1.isEmpty()) {
-				List<Map<String, String>> list = ((Map<String, List<Map<String, String>>>) m1.get("response")).get("mosipUserDtoList");
-				return list == null || list.isEmpty() ? null : list.get(0).get("name");
-			}
-		} catch (Exception e) {
-			logger.error("Failed to fetch username", e);
+	/**
+	 * Gets the names of the zones of the page users, from the sub zones already
+	 * loaded and the zones not found there with one query.
+	 *
+	 * @param zoneUsers    the page users
+	 * @param subZones     the sub zones of the logged in user
+	 * @param languageCode the language of the names
+	 * @return names by zone code
+	 */
+	private Map<String, String> getZoneNames(List<ZoneUserExtnDto> zoneUsers, List<Zone> subZones,
+			String languageCode) {
+		String langCode = languageCode == null ? languageUtils.getDefaultLanguage() : languageCode;
+		Set<String> zoneCodes = zoneUsers.stream().map(ZoneUserExtnDto::getZoneCode).filter(Objects::nonNull)
+				.collect(Collectors.toSet());
+		Map<String, String> zoneNames = new HashMap<>();
+		if (subZones != null) {
+			subZones.stream().filter(zone -> zoneCodes.contains(zone.getCode()) && isActiveZone(zone))
+					.forEach(zone -> zoneNames.put(zone.getCode(), zone.getName()));
 		}
-		return null;
+		List<String> otherZoneCodes = zoneCodes.stream().filter(code -> !zoneNames.containsKey(code))
+				.collect(Collectors.toList());
+		if (!otherZoneCodes.isEmpty()) {
+			zoneRepository.findListZonesFromZone(otherZoneCodes).stream()
+					.filter(zone -> langCode.equals(zone.getLangCode()) && isActiveZone(zone))
+					.forEach(zone -> zoneNames.put(zone.getCode(), zone.getName()));
+		}
+		return zoneNames;
+	}
 
+	private boolean isActiveZone(Zone zone) {
+		return Boolean.TRUE.equals(zone.getIsActive()) && !Boolean.TRUE.equals(zone.getIsDeleted());
 	}
-	
+
 	private List<UserCenterMappingExtnDto> dtoMapper(List<ZoneUserSearchDto> zoneUserSearchDtos, String languageCode) {
 		List<UserCenterMappingExtnDto> userCenterMappingExtnDtos=new ArrayList();
 		mapZoneUserDetailsToUserCenter(zoneUserSearchDtos,userCenterMappingExtnDtos);
+		Map<String, UserDetails> userDetailsById = userDetailsRepository
+				.findByIdInAndIsDeletedFalseorIsDeletedIsNull(userCenterMappingExtnDtos.stream()
+						.map(UserCenterMappingExtnDto::getUserId).collect(Collectors.toSet()))
+				.stream().collect(Collectors.toMap(UserDetails::getId, ud -> ud, (first, second) -> first));
+		Set<String> regCenterIds = userDetailsById.values().stream().map(UserDetails::getRegCenterId)
+				.filter(Objects::nonNull).collect(Collectors.toSet());
+		Map<String, String> regCenterNames = regCenterIds.isEmpty() ? Collections.emptyMap()
+				: registrationCenterRepository.findByIdInAndLangCode(regCenterIds,
+						languageCode == null ? languageUtils.getDefaultLanguage() : languageCode)
+						.stream().filter(regC -> regC.getName() != null)
+						.collect(Collectors.toMap(RegistrationCenter::getId, RegistrationCenter::getName,
+								(first, second) -> first));
 		for (UserCenterMappingExtnDto userCenterMappingExtnDto : userCenterMappingExtnDtos) {
 			userCenterMappingExtnDto.setIsActive(false);
-			UserDetails ud=userDetailsRepository.findByIdAndIsDeletedFalseorIsDeletedIsNull(userCenterMappingExtnDto.getUserId());
+			UserDetails ud=userDetailsById.get(userCenterMappingExtnDto.getUserId());
 				if(ud!=null) {
 					if(ud.getIsDeleted() == null || !ud.getIsDeleted()) {
-						RegistrationCenter regC=registrationCenterRepository.findByIdAndLangCode(ud.getRegCenterId(),
-								languageCode ==null ? languageUtils.getDefaultLanguage() : languageCode);
-						userCenterMappingExtnDto.setRegCenterName((regC != null) ?
-								String.format("%s (%s)", ud.getRegCenterId(), regC.getName()) :
+						String regCenterName = regCenterNames.get(ud.getRegCenterId());
+						userCenterMappingExtnDto.setRegCenterName((regCenterName != null) ?
+								String.format("%s (%s)", ud.getRegCenterId(), regCenterName) :
 								ud.getRegCenterId());
 						userCenterMappingExtnDto.setRegCenterId(ud.getRegCenterId());
 					}
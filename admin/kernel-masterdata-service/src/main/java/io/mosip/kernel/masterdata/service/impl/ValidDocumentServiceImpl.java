@@ -295,18 +295,21 @@ public class ValidDocumentServiceImpl implements ValidDocumentService {
 				}
 			}
 			dto.getFilters().removeAll(removeList);
-			Pagination pagination = dto.getPagination();
+			Pagination pagination = pageUtils.limitPagination(dto.getPagination());
 			List<SearchSort> sort = dto.getSort();
 			pageUtils.validateSortField(DocumentCategory.class, sort);
 			dto.setPagination(new Pagination(0, Integer.MAX_VALUE));
 			dto.setSort(Collections.emptyList());
 			Page<DocumentCategory> pageCategory = masterdataSearchHelper.searchMasterdata(DocumentCategory.class, dto,
 					new OptionalFilter[] { new OptionalFilter(addList1) });
+			if (pageCategory.getContent() == null || pageCategory.getContent().isEmpty()) {
+				return pageDto;
+			}
 			dto.setSort(sort);
+			dto.setPagination(pagination);
 			Page<DocumentType> page = masterdataSearchHelper.searchMasterdata(DocumentType.class, dto,
 					new OptionalFilter[] { new OptionalFilter(addList) });
-			if ((page.getContent() != null && !page.getContent().isEmpty())
-					&& (pageCategory.getContent() != null && !pageCategory.getContent().isEmpty())) {
+			if (page.getContent() != null && !page.getContent().isEmpty()) {
 
 				page.getContent().forEach(documentType -> {
 					DocumentCategoryTypeMappingExtnDto documentTypeExtnDto = new DocumentCategoryTypeMappingExtnDto();
@@ -340,7 +343,7 @@ public class ValidDocumentServiceImpl implements ValidDocumentService {
 					validDocs.add(documentTypeExtnDto);
 				});
 
-				pageDto = pageUtils.applyPagination(validDocs, pagination);
+				pageDto = pageUtils.pageResponse(page, validDocs);
 			}
 		}
 
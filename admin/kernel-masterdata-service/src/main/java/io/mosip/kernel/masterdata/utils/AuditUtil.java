@@ -7,8 +7,10 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -30,6 +32,10 @@ import org.springframework.web.client.RestTemplate;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.mosip.admin.common.audit.AuditEventQueue;
 import io.mosip.kernel.core.authmanager.exception.AuthNException;
 import io.mosip.kernel.core.authmanager.exception.AuthZException;
 import io.mosip.kernel.core.exception.ExceptionUtils;
@@ -68,6 +74,30 @@ public class AuditUtil {
 	@Value("${mosip.kernel.masterdata.audit-url}")
 	private String auditUrl;
 
+	@Value("${mosip.kernel.masterdata.audit.async-enabled:true}")
+	private boolean asyncEnabled;
+
+	@Value("${mosip.kernel.masterdata.audit.queue-capacity:10000}")
+	private int queueCapacity;
+
+	@Value("${mosip.kernel.masterdata.audit.batch-size:100}")
+	private int batchSize;
+
+	@Value("${mosip.kernel.masterdata.audit.offer-timeout:0}")
+	private long offerTimeout;
+
+	@Value("${mosip.kernel.masterdata.audit.replay-interval:60000}")
+	private long replayInterval;
+
+	@Value("${mosip.kernel.masterdata.audit.spill-file:}")
+	private String spillFile;
+
+	@Value("${mosip.kernel.masterdata.audit.shutdown-timeout:10000}")
+	private long shutdownTimeout;
+
+	/** Audit events waiting to be sent, null when they are sent by the caller. */
+	private AuditEventQueue<AuditRequestDto> auditEventQueue;
+
 	@Autowired
 	@Qualifier("selfTokenRestTemplate")
 	private RestTemplate restTemplate;
@@ -77,6 +107,10 @@ public class AuditUtil {
 	
 	@Autowired
 	private Environment env;
+
+	/** Registry the audit queue counts are published to, if any. */
+	@Autowired(required = false)
+	private MeterRegistry meterRegistry;
 	
 	private static final org.slf4j.Logger LOGGER = LoggerFactory.getLogger(AuditUtil.class);
 	/**
@@ -92,7 +126,60 @@ public class AuditUtil {
 			Integer eventCount = Integer.getInteger(System.getProperty("seqGen"));
 			eventCounter = new AtomicInteger(eventCount);
 		}
+		if (asyncEnabled) {
+			auditEventQueue = new AuditEventQueue<>("masterdata-audit-sender", queueCapacity, batchSize,
+					offerTimeout, replayInterval, spillFile, AuditRequestDto.class, objectMapper,
+					this::callAuditManager);
+			auditEventQueue.start();
+			if (meterRegistry != null) {
+				bindMetrics(auditEventQueue, meterRegistry);
+			}
+		}
+	}
+
+	/**
+	 * Publishes the depth of the audit queue and the counts of the events
+	 * submitted, sent, failed, spilled and dropped, so that backpressure and
+	 * lost audits are visible while the service runs.
+	 */
+	private static void bindMetrics(AuditEventQueue<AuditRequestDto> queue, MeterRegistry registry) {
+		Gauge.builder("masterdata.audit.queue.depth", queue, AuditEventQueue::getQueuedCount)
+				.description("Audit events waiting to be sent").register(registry);
+		bindCount(registry, "submitted", queue, AuditEventQueue::getSubmittedCount,
+				"Audit events submitted to the queue");
+		bindCount(registry, "blocked", queue, AuditEventQueue::getBlockedCount,
+				"Audit events which found the queue full");
+		bindCount(registry, "sent", queue, AuditEventQueue::getSentCount, "Audit events sent to the audit manager");
+		bindCount(registry, "failed", queue, AuditEventQueue::getFailedCount,
+				"Attempts to send an audit event which failed");
+		bindCount(registry, "spilled", queue, AuditEventQueue::getSpilledCount,
+				"Audit events spilled to the spill file");
+		bindCount(registry, "dropped", queue, AuditEventQueue::getDroppedCount, "Audit events dropped");
+	}
+
+	private static void bindCount(MeterRegistry registry, String name, AuditEventQueue<AuditRequestDto> queue,
+			ToDoubleFunction<AuditEventQueue<AuditRequestDto>> count, String description) {
+		FunctionCounter.builder("masterdata.audit.events." + name, queue, count).description(description)
+				.register(registry);
+	}
+
+	/**
+	 * Sends the queued audit events before the service stops.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		if (auditEventQueue != null) {
+			auditEventQueue.stop(shutdownTimeout);
+		}
+	}
 
+	/**
+	 * Gets the queue of the audit events.
+	 *
+	 * @return the queue, null if the audit events are sent by the caller
+	 */
+	public AuditEventQueue<AuditRequestDto> getAuditEventQueue() {
+		return auditEventQueue;
 	}
 
 	public void auditRequest(String eventName, String eventType, String description) {
@@ -139,6 +226,8 @@ public class AuditUtil {
 				   environment -> (environment.equalsIgnoreCase("local")) )) {
 			LOGGER.info("Recieved Audit : "+auditRequestDto.toString());
 			
+		} else if (auditEventQueue != null) {
+			auditEventQueue.submit(auditRequestDto);
 		} else {
 			callAuditManager(auditRequestDto);
 		}
@@ -0,0 +1,103 @@
+package io.mosip.kernel.masterdata.utils;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.mosip.kernel.core.dataaccess.exception.DataAccessLayerException;
+import io.mosip.kernel.masterdata.constant.SchemaErrorCode;
+import io.mosip.kernel.masterdata.exception.MasterDataServiceException;
+import io.mosip.kernel.masterdata.repository.DynamicFieldRepository;
+
+/**
+ * Keeps the version of the dynamic field data.
+ *
+ * The version is part of the keys of the cached dynamic field responses, so a
+ * cached response is used until the dynamic fields are changed and is never
+ * served for a newer version. The version is read from the database at most
+ * once in the version check interval, and again right after a dynamic field is
+ * changed on this instance.
+ *
+ * @since 1.2.0
+ */
+@Component
+public class DynamicFieldUtils {
+
+	@Autowired
+	private DynamicFieldRepository dynamicFieldRepository;
+
+	/**
+	 * Interval in milliseconds to check if the dynamic fields are changed.
+	 */
+	@Value("${mosip.kernel.masterdata.dynamic-field.version-check-interval:30000}")
+	private long versionCheckInterval;
+
+	private volatile String dataVersion;
+
+	private volatile long nextVersionCheck;
+
+	/**
+	 * Method to get the version of the dynamic field data.
+	 *
+	 * @return the version, changes whenever a dynamic field is created, updated
+	 *         or deleted
+	 */
+	public String getDataVersion() {
+		String version = dataVersion;
+		if (version != null && System.currentTimeMillis() < nextVersionCheck) {
+			return version;
+		}
+		synchronized (this) {
+			version = dataVersion;
+			long now = System.currentTimeMillis();
+			if (version != null && now < nextVersionCheck) {
+				return version;
+			}
+			version = fetchDataVersion();
+			dataVersion = version;
+			nextVersionCheck = now + versionCheckInterval;
+			return version;
+		}
+	}
+
+	/**
+	 * Drops the known version, next lookup reads the version again. When called
+	 * within a transaction the version is dropped again after the commit, so that
+	 * a version read before the commit is not kept.
+	 */
+	public void evictDataVersion() {
+		resetDataVersion();
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				@Override
+				public void afterCommit() {
+					resetDataVersion();
+				}
+			});
+		}
+	}
+
+	private synchronized void resetDataVersion() {
+		dataVersion = null;
+		nextVersionCheck = 0L;
+	}
+
+	private String fetchDataVersion() {
+		List<Object[]> version = null;
+		try {
+			version = dynamicFieldRepository.findDynamicFieldVersion();
+		} catch (DataAccessLayerException | DataAccessException e) {
+			throw new MasterDataServiceException(SchemaErrorCode.DYNAMIC_FIELD_FETCH_EXCEPTION.getErrorCode(),
+					SchemaErrorCode.DYNAMIC_FIELD_FETCH_EXCEPTION.getErrorMessage() + " "
+							+ ExceptionUtils.parseException(e));
+		}
+		return version == null || version.isEmpty() || version.get(0) == null ? "0"
+				: Arrays.toString(version.get(0));
+	}
+}
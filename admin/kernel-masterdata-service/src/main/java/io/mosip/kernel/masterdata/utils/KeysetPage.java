@@ -0,0 +1,34 @@
+package io.mosip.kernel.masterdata.utils;
+
+import java.util.List;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Page fetched with the keyset pagination, holds the continuation token of the
+ * next page.
+ *
+ * @since 1.2.0
+ */
+public class KeysetPage<T> extends PageImpl<T> {
+
+	private static final long serialVersionUID = 1L;
+
+	private final String nextPageToken;
+
+	/**
+	 * @param content       the page content
+	 * @param pageable      the page request
+	 * @param total         the total number of records, exact or estimated
+	 * @param nextPageToken token to fetch the next page, null for the last page
+	 */
+	public KeysetPage(List<T> content, Pageable pageable, long total, String nextPageToken) {
+		super(content, pageable, total);
+		this.nextPageToken = nextPageToken;
+	}
+
+	public String getNextPageToken() {
+		return nextPageToken;
+	}
+}
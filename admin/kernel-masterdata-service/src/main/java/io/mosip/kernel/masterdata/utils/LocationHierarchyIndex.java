@@ -0,0 +1,283 @@
+package io.mosip.kernel.masterdata.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.mosip.kernel.masterdata.entity.Location;
+
+/**
+ * Immutable index of the location hierarchy.
+ *
+ * Active and non deleted locations of each language are laid out in tree
+ * pre-order, so the sub tree of a location is a contiguous range of the
+ * pre-order array and the leafs of the sub tree are a contiguous range of the
+ * pre-order leaf array. Sub tree, leaf and ancestor lookups are served from
+ * these arrays without walking the tree or querying the database.
+ *
+ * The child codes of all the locations, of any language, active or not and
+ * deleted or not, are kept apart for the code lookups which do not filter the
+ * locations.
+ *
+ * The index is built once from the list of locations and is never modified, a
+ * changed location hierarchy is published by building a new index.
+ *
+ * @since 1.2.0
+ */
+public final class LocationHierarchyIndex {
+
+	private final Object version;
+
+	private final int size;
+
+	private final Map<String, Set<String>> childCodes;
+
+	private final Map<String, LocationTree> trees;
+
+	/**
+	 * @param locations all the locations
+	 * @param version   version of the locations the index is built from, null if
+	 *                  not known
+	 */
+	public LocationHierarchyIndex(List<Location> locations, Object version) {
+		this.version = version;
+		List<Location> allLocations = locations == null ? Collections.emptyList() : locations;
+		this.size = allLocations.size();
+
+		Map<String, Set<String>> children = new HashMap<>();
+		Map<String, List<Location>> locationsByLangCode = new LinkedHashMap<>();
+		for (Location location : allLocations) {
+			if (location.getCode() == null) {
+				continue;
+			}
+			if (location.getParentLocCode() != null) {
+				children.computeIfAbsent(location.getParentLocCode(), key -> new LinkedHashSet<>())
+						.add(location.getCode());
+			}
+			if (Boolean.TRUE.equals(location.getIsActive()) && !Boolean.TRUE.equals(location.getIsDeleted())) {
+				locationsByLangCode.computeIfAbsent(location.getLangCode(), key -> new ArrayList<>()).add(location);
+			}
+		}
+		Map<String, Set<String>> codes = new HashMap<>();
+		children.forEach((code, set) -> codes.put(code, Collections.unmodifiableSet(set)));
+		this.childCodes = codes;
+
+		Map<String, LocationTree> langTrees = new HashMap<>();
+		locationsByLangCode.forEach((langCode, langLocations) -> langTrees.put(langCode, new LocationTree(langLocations)));
+		this.trees = langTrees;
+	}
+
+	public Object getVersion() {
+		return version;
+	}
+
+	/**
+	 * @return number of locations the index is built from
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @param code     location code
+	 * @param langCode language code
+	 * @return the active location or null if not found
+	 */
+	public Location getLocation(String code, String langCode) {
+		LocationTree tree = trees.get(langCode);
+		return tree == null ? null : tree.getLocation(code);
+	}
+
+	/**
+	 * Method to fetch the active location and all its active child locations of a
+	 * language, in tree pre-order.
+	 *
+	 * @param code     location code
+	 * @param langCode language code
+	 * @return list of locations, empty if the location is not found
+	 */
+	public List<Location> getSubLocations(String code, String langCode) {
+		LocationTree tree = trees.get(langCode);
+		return tree == null ? Collections.emptyList() : tree.getSubLocations(code);
+	}
+
+	/**
+	 * Method to fetch the active leaf locations under the location of a language,
+	 * the location itself if it has no active child locations.
+	 *
+	 * @param code     location code
+	 * @param langCode language code
+	 * @return list of locations, empty if the location is not found
+	 */
+	public List<Location> getLeafLocations(String code, String langCode) {
+		LocationTree tree = trees.get(langCode);
+		return tree == null ? Collections.emptyList() : tree.getLeafLocations(code);
+	}
+
+	/**
+	 * Method to fetch the active ancestors of the location of a language, from
+	 * its parent up to the top most active ancestor.
+	 *
+	 * @param code     location code
+	 * @param langCode language code
+	 * @return list of locations, empty if the location is not found
+	 */
+	public List<Location> getAncestors(String code, String langCode) {
+		LocationTree tree = trees.get(langCode);
+		return tree == null ? Collections.emptyList() : tree.getAncestors(code);
+	}
+
+	/**
+	 * Method to fetch the codes of all the child locations under the location, in
+	 * any language, active or not and deleted or not.
+	 *
+	 * @param code location code
+	 * @return list of distinct location codes, without the code itself
+	 */
+	public List<String> getDescendantCodes(String code) {
+		Set<String> descendants = new LinkedHashSet<>();
+		Deque<String> stack = new ArrayDeque<>();
+		stack.push(code);
+		while (!stack.isEmpty()) {
+			Set<String> children = childCodes.get(stack.pop());
+			if (children == null) {
+				continue;
+			}
+			for (String child : children) {
+				// a child code already seen is not walked again, which also ends parent cycles
+				if (!child.equals(code) && descendants.add(child)) {
+					stack.push(child);
+				}
+			}
+		}
+		return new ArrayList<>(descendants);
+	}
+
+	/**
+	 * Location tree of one language laid out in pre-order.
+	 */
+	private static final class LocationTree {
+
+		private final Map<String, Integer> positions = new HashMap<>();
+
+		private final List<Location> preOrder;
+
+		private final int[] subTreeEnd;
+
+		private final int[] parentPositions;
+
+		private final List<Location> leafs;
+
+		private final int[] leafPositions;
+
+		private LocationTree(List<Location> locations) {
+			int size = locations.size();
+			Map<String, Integer> indexes = new HashMap<>();
+			for (int i = 0; i < size; i++) {
+				indexes.put(locations.get(i).getCode(), i);
+			}
+			List<List<Integer>> children = new ArrayList<>(size);
+			List<Integer> roots = new ArrayList<>();
+			for (int i = 0; i < size; i++) {
+				children.add(new ArrayList<>());
+			}
+			for (int i = 0; i < size; i++) {
+				Integer parent = indexes.get(locations.get(i).getParentLocCode());
+				if (parent == null || parent == i) {
+					roots.add(i);
+				} else {
+					children.get(parent).add(i);
+				}
+			}
+
+			Location[] order = new Location[size];
+			int[] ends = new int[size];
+			int[] parents = new int[size];
+			int[] orderPositions = new int[size];
+			List<Location> leafLocations = new ArrayList<>();
+			List<Integer> leafOrder = new ArrayList<>();
+			int position = 0;
+			// iterative depth first walk, a node is pushed again to close its range
+			Deque<int[]> stack = new ArrayDeque<>();
+			for (int r = roots.size() - 1; r >= 0; r--) {
+				stack.push(new int[] { roots.get(r), 0, -1 });
+			}
+			while (!stack.isEmpty()) {
+				int[] entry = stack.pop();
+				int node = entry[0];
+				if (entry[1] == 1) {
+					ends[orderPositions[node]] = position;
+					continue;
+				}
+				orderPositions[node] = position;
+				order[position] = locations.get(node);
+				parents[position] = entry[2];
+				positions.put(locations.get(node).getCode(), position);
+				List<Integer> nodeChildren = children.get(node);
+				if (nodeChildren.isEmpty()) {
+					leafLocations.add(locations.get(node));
+					leafOrder.add(position);
+				}
+				stack.push(new int[] { node, 1, -1 });
+				for (int c = nodeChildren.size() - 1; c >= 0; c--) {
+					stack.push(new int[] { nodeChildren.get(c), 0, position });
+				}
+				position++;
+			}
+			// locations in a parent cycle are not reachable from any root and are left out
+			this.preOrder = Collections.unmodifiableList(Arrays.asList(order).subList(0, position));
+			this.subTreeEnd = Arrays.copyOf(ends, position);
+			this.parentPositions = Arrays.copyOf(parents, position);
+			this.leafs = Collections.unmodifiableList(leafLocations);
+			this.leafPositions = leafOrder.stream().mapToInt(Integer::intValue).toArray();
+		}
+
+		private Location getLocation(String code) {
+			Integer position = positions.get(code);
+			return position == null ? null : preOrder.get(position);
+		}
+
+		private List<Location> getSubLocations(String code) {
+			Integer position = positions.get(code);
+			if (position == null) {
+				return Collections.emptyList();
+			}
+			return preOrder.subList(position, subTreeEnd[position]);
+		}
+
+		private List<Location> getLeafLocations(String code) {
+			Integer position = positions.get(code);
+			if (position == null) {
+				return Collections.emptyList();
+			}
+			int from = lowerBound(leafPositions, position);
+			int to = lowerBound(leafPositions, subTreeEnd[position]);
+			return leafs.subList(from, to);
+		}
+
+		private List<Location> getAncestors(String code) {
+			Integer position = positions.get(code);
+			if (position == null) {
+				return Collections.emptyList();
+			}
+			List<Location> ancestors = new ArrayList<>();
+			for (int parent = parentPositions[position]; parent >= 0; parent = parentPositions[parent]) {
+				ancestors.add(preOrder.get(parent));
+			}
+			return ancestors;
+		}
+
+		private static int lowerBound(int[] values, int key) {
+			int index = Arrays.binarySearch(values, key);
+			return index >= 0 ? index : -index - 1;
+		}
+	}
+}
@@ -1,52 +1,127 @@
 package io.mosip.kernel.masterdata.utils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Component;
 
+import io.mosip.kernel.core.dataaccess.exception.DataAccessLayerException;
+import io.mosip.kernel.masterdata.constant.LocationErrorCode;
 import io.mosip.kernel.masterdata.entity.Location;
+import io.mosip.kernel.masterdata.exception.MasterDataServiceException;
+import io.mosip.kernel.masterdata.repository.LocationRepository;
 
 @Component
 public class LocationUtils {
-	ThreadLocal<List<Location>> local;
-	ThreadLocal<List<Location>> list;
+
+	private static final Logger logger = LoggerFactory.getLogger(LocationUtils.class);
+
+	@Autowired
+	private LocationRepository locationRepository;
+
+	/**
+	 * Interval in milliseconds to check if the locations are changed.
+	 */
+	@Value("${mosip.kernel.masterdata.location-index.version-check-interval:30000}")
+	private long versionCheckInterval;
+
+	private volatile LocationHierarchyIndex locationIndex;
+
+	private volatile long nextVersionCheck;
 
 	public List<Location> getDescedants(List<Location> locations, Location location) {
 		Objects.requireNonNull(locations);
-		initialize(locations);
-		list.get().add(location);
-		getImmdChild(locations, location);
-		return list.get();
-	}
-
-	private void initialize(List<Location> locations) {
-		local = new ThreadLocal<>();
-		local.set(locations);
-		list = new ThreadLocal<>();
-		list.set(new ArrayList<>());
+		List<Location> descendants = new ArrayList<>();
+		descendants.add(location);
+		getImmdChild(locations, location, descendants);
+		return descendants;
 	}
 
-	private void getImmdChild(List<Location> locations, Location location) {
+	private void getImmdChild(List<Location> locations, Location location, List<Location> descendants) {
 		locations.stream().filter(child -> isChild(child, location)).forEach(i -> {
-			list.get().add(i);
-			getImmdChild(local.get(), i);
+			descendants.add(i);
+			getImmdChild(locations, i, descendants);
 		});
 	}
 
-	private void getImmdParent(List<Location> locations, Location location) {
+	private void getImmdParent(List<Location> locations, Location location, List<Location> ancestors) {
 		locations.stream().filter(parent -> isParent(parent, location)).forEach(i -> {
-			list.get().add(i);
-			getImmdParent(local.get(), i);
+			ancestors.add(i);
+			getImmdParent(locations, i, ancestors);
 		});
 	}
 
 	public List<Location> getAncestors(List<Location> locations, Location location) {
-		initialize(locations);
-		list.get().add(location);
-		getImmdParent(locations, location);
-		return list.get();
+		List<Location> ancestors = new ArrayList<>();
+		ancestors.add(location);
+		getImmdParent(locations, location, ancestors);
+		return ancestors;
+	}
+
+	/**
+	 * Method to get the index of the location hierarchy. The index is loaded once
+	 * and is reloaded only when the locations are changed, which is checked at
+	 * most once in the version check interval.
+	 *
+	 * @return the {@link LocationHierarchyIndex}
+	 */
+	public LocationHierarchyIndex getLocationIndex() {
+		LocationHierarchyIndex index = locationIndex;
+		if (index != null && System.currentTimeMillis() < nextVersionCheck) {
+			return index;
+		}
+		synchronized (this) {
+			index = locationIndex;
+			long now = System.currentTimeMillis();
+			if (index != null && now < nextVersionCheck) {
+				return index;
+			}
+			Object version = getLocationVersion();
+			if (index == null || version == null || !version.equals(index.getVersion())) {
+				index = new LocationHierarchyIndex(fetchLocations(), version);
+				locationIndex = index;
+				logger.info("Location index loaded with {} locations", index.size());
+			}
+			// without a version the locations can not be compared, so check again next time
+			nextVersionCheck = version == null ? 0L : now + versionCheckInterval;
+			return index;
+		}
+	}
+
+	/**
+	 * Drops the loaded location index, next location lookup reloads the index.
+	 */
+	public synchronized void evictLocationIndex() {
+		locationIndex = null;
+		nextVersionCheck = 0L;
+	}
+
+	private Object getLocationVersion() {
+		List<Object[]> version = null;
+		try {
+			version = locationRepository.findLocationVersion();
+		} catch (DataAccessLayerException | DataAccessException e) {
+			throw new MasterDataServiceException(LocationErrorCode.LOCATION_FETCH_EXCEPTION.getErrorCode(),
+					LocationErrorCode.LOCATION_FETCH_EXCEPTION.getErrorMessage() + ExceptionUtils.parseException(e));
+		}
+		return version == null || version.isEmpty() || version.get(0) == null ? null
+				: Arrays.asList(version.get(0));
+	}
+
+	private List<Location> fetchLocations() {
+		try {
+			return locationRepository.findAll();
+		} catch (DataAccessLayerException | DataAccessException e) {
+			throw new MasterDataServiceException(LocationErrorCode.LOCATION_FETCH_EXCEPTION.getErrorCode(),
+					LocationErrorCode.LOCATION_FETCH_EXCEPTION.getErrorMessage() + ExceptionUtils.parseException(e));
+		}
 	}
 
 	private boolean isChild(Location child, Location parent) {
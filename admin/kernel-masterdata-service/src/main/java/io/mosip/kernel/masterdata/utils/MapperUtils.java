@@ -1,8 +1,6 @@
 
 package io.mosip.kernel.masterdata.utils;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -10,14 +8,10 @@ import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.stream.Collectors;
 
-import javax.persistence.EmbeddedId;
-import javax.persistence.Entity;
-
 import org.apache.commons.collections4.ListUtils;
 import org.springframework.stereotype.Component;
 
 import io.mosip.kernel.core.dataaccess.exception.DataAccessLayerException;
-import io.mosip.kernel.core.util.EmptyCheckUtils;
 import io.mosip.kernel.masterdata.dto.DeviceLangCodeDtypeDto;
 import io.mosip.kernel.masterdata.dto.ExceptionalHolidayDto;
 import io.mosip.kernel.masterdata.dto.HolidayDto;
@@ -26,7 +20,6 @@ import io.mosip.kernel.masterdata.dto.ReasonCategoryDto;
 import io.mosip.kernel.masterdata.dto.ReasonListDto;
 import io.mosip.kernel.masterdata.dto.RegisteredDevicePostReqDto;
 import io.mosip.kernel.masterdata.dto.getresponse.LocationHierarchyDto;
-import io.mosip.kernel.masterdata.dto.getresponse.extn.BaseDto;
 import io.mosip.kernel.masterdata.dto.registerdevice.DeviceData;
 import io.mosip.kernel.masterdata.dto.registerdevice.DigitalId;
 import io.mosip.kernel.masterdata.dto.registerdevice.RegisterDeviceResponse;
@@ -63,14 +56,6 @@ public class MapperUtils {
 	private static final String SOURCE_NULL_MESSAGE = "source should not be null";
 	private static final String DESTINATION_NULL_MESSAGE = "destination should not be null";
 
-	private static final String ISACTIVE_COLUMN_NAME = "isActive";
-	private static final String ISDELETE_COLUMN_NAME = "isDeleted";
-
-	/**
-	 * This flag is used to restrict copy null values.
-	 */
-	private static Boolean mapNullValues = Boolean.TRUE;
-
 	/**
 	 * Parse a date string of pattern UTC_DATETIME_PATTERN into
 	 * {@link LocalDateTime}
@@ -101,14 +86,18 @@ public class MapperUtils {
 	 * @param source        which value is going to be mapped
 	 * @param destination   where values is going to be mapped
 	 * @param mapNullValues by default marked as true so, it will map null values
-	 *                      but if marked as false then null values will be ignored
+	 *                      but if marked as false then null values will be ignored,
+	 *                      applies only to this call
 	 * @return the <code>destination</code> object
 	 * @throws NullPointerException if either <code>source</code> or
 	 *                              <code>destination</code> is null
 	 */
 	public static <S, D> D map(final S source, D destination, Boolean mapNullValues) {
-		MapperUtils.mapNullValues = mapNullValues;
-		return map(source, destination);
+		Objects.requireNonNull(source, SOURCE_NULL_MESSAGE);
+		Objects.requireNonNull(destination, DESTINATION_NULL_MESSAGE);
+		MappingPlan.of(source.getClass(), destination.getClass()).map(source, destination,
+				!Boolean.FALSE.equals(mapNullValues));
+		return destination;
 	}
 
 	/**
@@ -132,12 +121,7 @@ public class MapperUtils {
 	public static <S, D> D map(final S source, D destination) {
 		Objects.requireNonNull(source, SOURCE_NULL_MESSAGE);
 		Objects.requireNonNull(destination, DESTINATION_NULL_MESSAGE);
-		try {
-			mapValues(source, destination);
-		} catch (IllegalAccessException | InstantiationException e) {
-			throw new DataAccessLayerException("KER-MSD-991", "Exception in mapping vlaues from source : "
-					+ source.getClass().getName() + " to destination : " + destination.getClass().getName(), e);
-		}
+		MappingPlan.of(source.getClass(), destination.getClass()).map(source, destination, true);
 		return destination;
 	}
 
@@ -163,14 +147,9 @@ public class MapperUtils {
 	public static <S, D> D map(final S source, Class<D> destinationClass) {
 		Objects.requireNonNull(source, SOURCE_NULL_MESSAGE);
 		Objects.requireNonNull(destinationClass, "destination class should not be null");
-		Object destination = null;
-		try {
-			destination = destinationClass.newInstance();
-		} catch (InstantiationException | IllegalAccessException e) {
-			throw new DataAccessLayerException("KER-MSD-991", "Exception in mapping vlaues from source : "
-					+ source.getClass().getName() + " to destination : " + destinationClass.getClass().getName(), e);
-		}
-		return (D) map(source, destination);
+		D destination = newInstance(source, destinationClass);
+		MappingPlan.of(source.getClass(), destinationClass).map(source, destination, true);
+		return destination;
 	}
 
 	/**
@@ -193,7 +172,19 @@ public class MapperUtils {
 	public static <S, D> List<D> mapAll(final Collection<S> sourceList, Class<D> destinationClass) {
 		Objects.requireNonNull(sourceList, "sourceList should not be null");
 		Objects.requireNonNull(destinationClass, "destinationClass should not be null");
-		return sourceList.stream().map(entity -> map(entity, destinationClass)).collect(Collectors.toList());
+		List<D> destinationList = new ArrayList<>(sourceList.size());
+		MappingPlan plan = null;
+		for (S source : sourceList) {
+			Objects.requireNonNull(source, SOURCE_NULL_MESSAGE);
+			// plan is looked up again only if the source class changes e.g. proxies
+			if (plan == null || !plan.isFor(source.getClass(), destinationClass)) {
+				plan = MappingPlan.of(source.getClass(), destinationClass);
+			}
+			D destination = newInstance(source, destinationClass);
+			plan.map(source, destination, true);
+			destinationList.add(destination);
+		}
+		return destinationList;
 	}
 
 	/**
@@ -218,10 +209,7 @@ public class MapperUtils {
 
 		Objects.requireNonNull(source, SOURCE_NULL_MESSAGE);
 		Objects.requireNonNull(destination, DESTINATION_NULL_MESSAGE);
-		Field[] sourceFields = source.getClass().getDeclaredFields();
-		Field[] destinationFields = destination.getClass().getDeclaredFields();
-
-		mapFieldValues(source, destination, sourceFields, destinationFields);
+		MappingPlan.of(source.getClass(), destination.getClass()).mapDeclaredFields(source, destination, true);
 
 	}
 
@@ -239,55 +227,7 @@ public class MapperUtils {
 	public static <S, D> void setBaseFieldValue(S source, D destination) {
 		Objects.requireNonNull(source, SOURCE_NULL_MESSAGE);
 		Objects.requireNonNull(destination, DESTINATION_NULL_MESSAGE);
-		String sourceSupername = source.getClass().getSuperclass().getName();// super class of source object
-		String destinationSupername = destination.getClass().getSuperclass().getName();// super class of destination
-		// object
-		String baseEntityClassName = BaseEntity.class.getName();// base entity fully qualified name
-		String objectClassName = Object.class.getName();// object class fully qualified name
-
-		String baseDtoClassName = BaseDto.class.getName();// base entity fully qualified name
-
-		if (sourceSupername.equals(baseEntityClassName) && destinationSupername.equals(baseDtoClassName)) {
-			Field[] sourceFields = source.getClass().getSuperclass().getDeclaredFields();
-			Field[] destinationFields = destination.getClass().getSuperclass().getDeclaredFields();
-			mapFieldValues(source, destination, sourceFields, destinationFields);
-			//sourceFields = source.getClass().getDeclaredFields();
-			//mapFieldValues(source, destination, sourceFields, destinationFields);
-			return;
-		}
-		if (sourceSupername.equals(baseDtoClassName) && destinationSupername.equals(baseEntityClassName)) {
-			Field[] sourceFields = source.getClass().getSuperclass().getDeclaredFields();
-			Field[] destinationFields = destination.getClass().getSuperclass().getDeclaredFields();
-			destinationFields = Arrays.stream(destinationFields)
-					.filter(f -> !f.getName().equals(ISACTIVE_COLUMN_NAME) && !f.getName().equals(ISDELETE_COLUMN_NAME))
-					.collect(Collectors.toList()).toArray(new Field[0]);
-			mapFieldValues(source, destination, sourceFields, destinationFields);
-			//destinationFields = destination.getClass().getDeclaredFields();
-			//mapFieldValues(source, destination, sourceFields, destinationFields);
-			return;
-		}
-
-		// if source is an entity
-		if (sourceSupername.equals(baseEntityClassName) && !destinationSupername.equals(baseEntityClassName)) {
-			Field[] sourceFields = source.getClass().getSuperclass().getDeclaredFields();
-			Field[] destinationFields = destination.getClass().getDeclaredFields();
-			mapFieldValues(source, destination, sourceFields, destinationFields);
-		} else if (destinationSupername.equals(baseEntityClassName) && !sourceSupername.equals(baseEntityClassName)) {
-			// if destination is an entity
-			Field[] sourceFields = source.getClass().getDeclaredFields();
-			Field[] destinationFields = destination.getClass().getSuperclass().getDeclaredFields();
-			destinationFields = Arrays.stream(destinationFields)
-					.filter(f -> !f.getName().equals(ISACTIVE_COLUMN_NAME) && !f.getName().equals(ISDELETE_COLUMN_NAME))
-					.collect(Collectors.toList()).toArray(new Field[0]);
-			mapFieldValues(source, destination, sourceFields, destinationFields);
-		} else {
-			if (!sourceSupername.equals(objectClassName) && !destinationSupername.equals(objectClassName)) {
-				Field[] sourceFields = source.getClass().getSuperclass().getDeclaredFields();
-				Field[] destinationFields = destination.getClass().getSuperclass().getDeclaredFields();
-				mapFieldValues(source, destination, sourceFields, destinationFields);
-			}
-		}
-
+		MappingPlan.of(source.getClass(), destination.getClass()).mapBaseFields(source, destination, true);
 	}
 
 	/*
@@ -295,158 +235,24 @@ public class MapperUtils {
 	 */
 
 	/**
-	 * Map values from source object to destination object.
-	 * 
-	 * @param <S>         is a type parameter
-	 * @param <D>         is a type parameter
-	 * @param source      which value is going to be mapped
-	 * @param destination where values is going to be mapped
-	 * @throws InstantiationException if not able to create instance of field having
-	 *                                annotation {@link EmbeddedId}
-	 * @throws IllegalAccessException if provided fields are not accessible
-	 */
-	private static <S, D> void mapValues(S source, D destination)
-			throws IllegalAccessException, InstantiationException {
-
-		mapFieldValues(source, destination);// this method simply map values if field name and type are same
-
-		if (source.getClass().isAnnotationPresent(Entity.class)) {
-			mapEntityToDto(source, destination);
-		} else {
-			mapDtoToEntity(source, destination);
-		}
-	}
-
-	/**
-	 * This method map source DTO to a class object which extends {@link BaseEntity}
+	 * Create an object of <code>destinationClass</code> using the cached no
+	 * argument constructor.
 	 * 
-	 * @param <S>         is a type parameter
-	 * @param <D>         is a type parameter
-	 * @param source      which value is going to be mapped
-	 * @param destination where values is going to be mapped
-	 * @throws InstantiationException if not able to create instance of field having
-	 *                                annotation {@link EmbeddedId}
-	 * @throws IllegalAccessException if provided fields are not accessible
-	 */
-	private static <S, D> void mapDtoToEntity(S source, D destination)
-			throws InstantiationException, IllegalAccessException {
-		Field[] fields = destination.getClass().getDeclaredFields();
-		setBaseFieldValue(source, destination);// map super class values
-		for (Field field : fields) {
-			/**
-			 * Map DTO matching field values to super class field values
-			 */
-			if (field.isAnnotationPresent(EmbeddedId.class)) {
-				Object id = field.getType().newInstance();
-				mapFieldValues(source, id);
-				field.setAccessible(true);
-				field.set(destination, id);
-				field.setAccessible(false);
-				break;
-			}
-		}
-	}
-
-	/**
-	 * Map source which extends {@link BaseEntity} to a DTO object.
-	 * 
-	 * @param <S>         is a type parameter
-	 * @param <D>         is a type parameter
-	 * @param source      which value is going to be mapped
-	 * @param destination where values is going to be mapped
-	 * @throws IllegalAccessException if provided fields are not accessible
-	 */
-	private static <S, D> void mapEntityToDto(S source, D destination) throws IllegalAccessException {
-		Field[] sourceFields = source.getClass().getDeclaredFields();
-		/*
-		 * Here source is a Entity so we need to take values from Entity object and set
-		 * the matching fields in the destination object mostly an DTO.
-		 */
-		boolean isIdMapped = false;// a flag to check if there any composite key is present and is mapped
-		boolean isSuperMapped = false;// a flag to check is class extends the BaseEntity and is mapped
-		for (Field sfield : sourceFields) {
-			sfield.setAccessible(true);// mark accessible true because fields my be private, for safety
-			if (!isIdMapped && sfield.isAnnotationPresent(EmbeddedId.class)) {
-				/**
-				 * Map the composite key values from source to destination if field name is same
-				 */
-				/**
-				 * Take the field and get the composite key object and map all values to
-				 * destination object
-				 */
-				mapFieldValues(sfield.get(source), destination);
-				sfield.setAccessible(false);
-				isIdMapped = true;// set flag so no need to check and map again
-			} else if (!isSuperMapped) {
-				setBaseFieldValue(source, destination);// this method check whether source is entity or destination
-														// and maps values accordingly
-				isSuperMapped = true;
-			}
-		}
-	}
-
-	/**
-	 * Map values from source field to destination.
-	 * 
-	 * @param <S>         is a type parameter
-	 * @param <D>         is a type parameter
-	 * @param source      which value is going to be mapped
-	 * @param destination where values is going to be mapped
+	 * @param <S>              is a type parameter
+	 * @param <D>              is a type parameter
+	 * @param source           which value is going to be mapped
+	 * @param destinationClass where values is going to be mapped
+	 * @return the object of <code>destinationClass</code>
+	 * @throws DataAccessLayerException if exception occur during creating of
+	 *                                  <code>destinationClass</code> object
 	 */
-	private static <D, S> void mapFieldValues(S source, D destination, Field[] sourceFields,
-			Field[] destinationFields) {
+	private static <S, D> D newInstance(final S source, Class<D> destinationClass) {
 		try {
-			for (Field sfield : sourceFields) {
-				// Do not set values either static or final
-				if (Modifier.isStatic(sfield.getModifiers()) || Modifier.isFinal(sfield.getModifiers())) {
-					continue;
-				}
-
-				// make field accessible possibly private
-				sfield.setAccessible(true);
-
-				for (Field dfield : destinationFields) {
-
-					Class<?> sourceType = sfield.getType();
-					Class<?> destinationType = dfield.getType();
-
-					// map only those field whose name and type is same
-					if (sfield.getName().equals(dfield.getName()) && sourceType.equals(destinationType)) {
-
-						// for normal field values
-						dfield.setAccessible(true);
-						setFieldValue(source, destination, sfield, dfield);
-						break;
-					}
-				}
-			}
-		} catch (IllegalAccessException e) {
-
-			throw new DataAccessLayerException("KER-MSD-993", "Exception raised while mapping values form "
-					+ source.getClass().getName() + " to " + destination.getClass().getName(), e);
-		}
-	}
-
-	/**
-	 * Take value from source field and insert value into destination field.
-	 * 
-	 * @param <S>         is a type parameter
-	 * @param <D>         is a type parameter
-	 * @param source      which value is going to be mapped
-	 * @param destination where values is going to be mapped
-	 * @param sf          source fields
-	 * @param dtf         destination fields
-	 * @throws IllegalAccessException if provided fields are not accessible
-	 */
-	private static <S, D> void setFieldValue(S source, D destination, Field sf, Field dtf)
-			throws IllegalAccessException {
-		// check whether user wants to map null values into destination object or not
-		if (!mapNullValues && EmptyCheckUtils.isNullEmpty(sf.get(source))) {
-			return;
+			return MappingPlan.newInstance(destinationClass);
+		} catch (ReflectiveOperationException e) {
+			throw new DataAccessLayerException("KER-MSD-991", "Exception in mapping vlaues from source : "
+					+ source.getClass().getName() + " to destination : " + destinationClass.getName(), e);
 		}
-		dtf.set(destination, sf.get(source));
-		dtf.setAccessible(false);
-		sf.setAccessible(false);
 	}
 	// ----------------------------------------------------------------------------------------------------------------------------
 
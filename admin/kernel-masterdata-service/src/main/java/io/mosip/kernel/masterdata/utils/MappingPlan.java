@@ -0,0 +1,339 @@
+package io.mosip.kernel.masterdata.utils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+
+import io.mosip.kernel.core.dataaccess.exception.DataAccessLayerException;
+import io.mosip.kernel.core.util.EmptyCheckUtils;
+import io.mosip.kernel.masterdata.dto.getresponse.extn.BaseDto;
+import io.mosip.kernel.masterdata.entity.BaseEntity;
+
+/**
+ * Mapping plan of a source and destination class pair used by
+ * {@link MapperUtils}.
+ *
+ * The matching fields, embedded ids and {@link BaseEntity} / {@link BaseDto}
+ * fields are resolved once per class pair into method handles, mapping an
+ * object only invokes the handles. Plans are immutable and cached, so they are
+ * safe to be shared across threads and null handling is passed on each call.
+ *
+ * @since 1.2.0
+ */
+final class MappingPlan {
+
+	private static final String ISACTIVE_COLUMN_NAME = "isActive";
+	private static final String ISDELETE_COLUMN_NAME = "isDeleted";
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+	private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	private static final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, MappingPlan>> PLANS = new ConcurrentHashMap<>();
+	private static final ConcurrentMap<Class<?>, MethodHandle> CONSTRUCTORS = new ConcurrentHashMap<>();
+
+	/**
+	 * Step of the plan applied after mapping the matching declared fields.
+	 */
+	@FunctionalInterface
+	private interface Step {
+		void apply(Object source, Object destination, boolean mapNullValues);
+	}
+
+	private final Class<?> sourceClass;
+	private final Class<?> destinationClass;
+	private final FieldCopier declaredFields;
+	private final FieldCopier baseFields;
+	private final Step[] steps;
+
+	private MappingPlan(Class<?> sourceClass, Class<?> destinationClass) {
+		this.sourceClass = sourceClass;
+		this.destinationClass = destinationClass;
+		this.declaredFields = new FieldCopier(sourceClass.getDeclaredFields(), destinationClass.getDeclaredFields());
+		this.baseFields = getBaseFields(sourceClass, destinationClass);
+		this.steps = sourceClass.isAnnotationPresent(Entity.class) ? getEntityToDtoSteps() : getDtoToEntitySteps();
+	}
+
+	/**
+	 * Returns the cached plan for the class pair, the plan is created on first use.
+	 *
+	 * @param sourceClass      class of the source object
+	 * @param destinationClass class of the destination object
+	 * @return the {@link MappingPlan}
+	 */
+	static MappingPlan of(Class<?> sourceClass, Class<?> destinationClass) {
+		ConcurrentMap<Class<?>, MappingPlan> plans = PLANS.computeIfAbsent(sourceClass,
+				key -> new ConcurrentHashMap<>());
+		MappingPlan plan = plans.get(destinationClass);
+		if (plan == null) {
+			// not computeIfAbsent, creating a plan may look up other plans
+			plan = new MappingPlan(sourceClass, destinationClass);
+			MappingPlan existing = plans.putIfAbsent(destinationClass, plan);
+			plan = existing == null ? plan : existing;
+		}
+		return plan;
+	}
+
+	/**
+	 * Creates an instance of the class using the cached no argument constructor.
+	 *
+	 * @param clazz class to be instantiated
+	 * @return new instance of the class
+	 * @throws ReflectiveOperationException if the class can not be instantiated
+	 */
+	static <T> T newInstance(Class<T> clazz) throws ReflectiveOperationException {
+		MethodHandle constructor = CONSTRUCTORS.get(clazz);
+		if (constructor == null) {
+			constructor = LOOKUP.findConstructor(clazz, MethodType.methodType(void.class)).asType(CONSTRUCTOR_TYPE);
+			CONSTRUCTORS.putIfAbsent(clazz, constructor);
+		}
+		try {
+			return clazz.cast((Object) constructor.invokeExact());
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new InstantiationException(e.getMessage());
+		}
+	}
+
+	/**
+	 * Maps the matching declared fields, embedded id and super class fields of the
+	 * source into the destination.
+	 *
+	 * @param source        which value is going to be mapped
+	 * @param destination   where values is going to be mapped
+	 * @param mapNullValues if false null and empty values are not mapped
+	 */
+	void map(Object source, Object destination, boolean mapNullValues) {
+		declaredFields.copy(source, destination, mapNullValues);
+		for (Step step : steps) {
+			step.apply(source, destination, mapNullValues);
+		}
+	}
+
+	boolean isFor(Class<?> sourceClass, Class<?> destinationClass) {
+		return this.sourceClass == sourceClass && this.destinationClass == destinationClass;
+	}
+
+	/**
+	 * Maps only the declared fields having same name and type.
+	 *
+	 * @param source        which value is going to be mapped
+	 * @param destination   where values is going to be mapped
+	 * @param mapNullValues if false null and empty values are not mapped
+	 */
+	void mapDeclaredFields(Object source, Object destination, boolean mapNullValues) {
+		declaredFields.copy(source, destination, mapNullValues);
+	}
+
+	/**
+	 * Maps only the {@link BaseEntity} / {@link BaseDto} fields.
+	 *
+	 * @param source        which value is going to be mapped
+	 * @param destination   where values is going to be mapped
+	 * @param mapNullValues if false null and empty values are not mapped
+	 */
+	void mapBaseFields(Object source, Object destination, boolean mapNullValues) {
+		baseFields.copy(source, destination, mapNullValues);
+	}
+
+	/**
+	 * Source is an entity, the composite key values and the super class values are
+	 * mapped in the order of the source fields.
+	 */
+	private Step[] getEntityToDtoSteps() {
+		List<Step> entitySteps = new ArrayList<>();
+		boolean isIdMapped = false;
+		boolean isSuperMapped = false;
+		for (Field sfield : sourceClass.getDeclaredFields()) {
+			if (!isIdMapped && sfield.isAnnotationPresent(EmbeddedId.class)) {
+				MethodHandle idGetter = getter(sfield);
+				FieldCopier idFields = new FieldCopier(sfield.getType().getDeclaredFields(),
+						destinationClass.getDeclaredFields());
+				entitySteps.add((source, destination, mapNullValues) -> {
+					Object id = invokeGetter(idGetter, source, destination);
+					if (id == null) {
+						throw new NullPointerException("source should not be null");
+					}
+					idFields.copy(id, destination, mapNullValues);
+				});
+				isIdMapped = true;
+			} else if (!isSuperMapped) {
+				entitySteps.add(baseFields::copy);
+				isSuperMapped = true;
+			}
+		}
+		return entitySteps.toArray(new Step[0]);
+	}
+
+	/**
+	 * Destination is an entity, the super class values are mapped and composite key
+	 * is created from the source values.
+	 */
+	private Step[] getDtoToEntitySteps() {
+		List<Step> entitySteps = new ArrayList<>();
+		entitySteps.add(baseFields::copy);
+		for (Field dfield : destinationClass.getDeclaredFields()) {
+			if (dfield.isAnnotationPresent(EmbeddedId.class)) {
+				Class<?> idClass = dfield.getType();
+				MethodHandle idSetter = setter(dfield);
+				FieldCopier idFields = new FieldCopier(sourceClass.getDeclaredFields(), idClass.getDeclaredFields());
+				entitySteps.add((source, destination, mapNullValues) -> {
+					Object id;
+					try {
+						id = newInstance(idClass);
+					} catch (ReflectiveOperationException e) {
+						throw new DataAccessLayerException("KER-MSD-991", "Exception in mapping vlaues from source : "
+								+ source.getClass().getName() + " to destination : " + destination.getClass().getName(),
+								e);
+					}
+					idFields.copy(source, id, mapNullValues);
+					invokeSetter(idSetter, destination, id, source);
+				});
+				break;
+			}
+		}
+		return entitySteps.toArray(new Step[0]);
+	}
+
+	private static FieldCopier getBaseFields(Class<?> sourceClass, Class<?> destinationClass) {
+		String sourceSupername = sourceClass.getSuperclass().getName();
+		String destinationSupername = destinationClass.getSuperclass().getName();
+		String baseEntityClassName = BaseEntity.class.getName();
+		String baseDtoClassName = BaseDto.class.getName();
+		String objectClassName = Object.class.getName();
+
+		if (sourceSupername.equals(baseEntityClassName) && destinationSupername.equals(baseDtoClassName)) {
+			return new FieldCopier(sourceClass.getSuperclass().getDeclaredFields(),
+					destinationClass.getSuperclass().getDeclaredFields());
+		}
+		if (sourceSupername.equals(baseDtoClassName) && destinationSupername.equals(baseEntityClassName)) {
+			return new FieldCopier(sourceClass.getSuperclass().getDeclaredFields(),
+					withoutStatusFields(destinationClass.getSuperclass().getDeclaredFields()));
+		}
+		// if source is an entity
+		if (sourceSupername.equals(baseEntityClassName) && !destinationSupername.equals(baseEntityClassName)) {
+			return new FieldCopier(sourceClass.getSuperclass().getDeclaredFields(),
+					destinationClass.getDeclaredFields());
+		}
+		// if destination is an entity
+		if (destinationSupername.equals(baseEntityClassName) && !sourceSupername.equals(baseEntityClassName)) {
+			return new FieldCopier(sourceClass.getDeclaredFields(),
+					withoutStatusFields(destinationClass.getSuperclass().getDeclaredFields()));
+		}
+		if (!sourceSupername.equals(objectClassName) && !destinationSupername.equals(objectClassName)) {
+			return new FieldCopier(sourceClass.getSuperclass().getDeclaredFields(),
+					destinationClass.getSuperclass().getDeclaredFields());
+		}
+		return new FieldCopier(new Field[0], new Field[0]);
+	}
+
+	private static Field[] withoutStatusFields(Field[] fields) {
+		return Arrays.stream(fields)
+				.filter(f -> !f.getName().equals(ISACTIVE_COLUMN_NAME) && !f.getName().equals(ISDELETE_COLUMN_NAME))
+				.toArray(Field[]::new);
+	}
+
+	private static MethodHandle getter(Field field) {
+		try {
+			field.setAccessible(true);
+			return LOOKUP.unreflectGetter(field).asType(GETTER_TYPE);
+		} catch (IllegalAccessException e) {
+			throw new DataAccessLayerException("KER-MSD-993",
+					"Exception raised while reading field " + field.getName() + " of " + field.getDeclaringClass(), e);
+		}
+	}
+
+	private static MethodHandle setter(Field field) {
+		try {
+			field.setAccessible(true);
+			MethodHandle setter = LOOKUP.unreflectSetter(field);
+			if (Modifier.isStatic(field.getModifiers())) {
+				setter = MethodHandles.dropArguments(setter, 0, Object.class);
+			}
+			return setter.asType(SETTER_TYPE);
+		} catch (IllegalAccessException e) {
+			throw new DataAccessLayerException("KER-MSD-993",
+					"Exception raised while writing field " + field.getName() + " of " + field.getDeclaringClass(), e);
+		}
+	}
+
+	private static Object invokeGetter(MethodHandle getter, Object source, Object destination) {
+		try {
+			return (Object) getter.invokeExact(source);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw mappingException(source, destination, e);
+		}
+	}
+
+	private static void invokeSetter(MethodHandle setter, Object destination, Object value, Object source) {
+		try {
+			setter.invokeExact(destination, value);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw mappingException(source, destination, e);
+		}
+	}
+
+	private static DataAccessLayerException mappingException(Object source, Object destination, Throwable e) {
+		return new DataAccessLayerException("KER-MSD-993", "Exception raised while mapping values form "
+				+ source.getClass().getName() + " to " + destination.getClass().getName(), e);
+	}
+
+	/**
+	 * Copies values of the source fields into the destination fields having same
+	 * name and type, static and final source fields are ignored.
+	 */
+	private static final class FieldCopier {
+
+		private final MethodHandle[] getters;
+		private final MethodHandle[] setters;
+
+		private FieldCopier(Field[] sourceFields, Field[] destinationFields) {
+			List<MethodHandle> sourceGetters = new ArrayList<>();
+			List<MethodHandle> destinationSetters = new ArrayList<>();
+			for (Field sfield : sourceFields) {
+				// Do not set values either static or final
+				if (Modifier.isStatic(sfield.getModifiers()) || Modifier.isFinal(sfield.getModifiers())) {
+					continue;
+				}
+				for (Field dfield : destinationFields) {
+					// map only those field whose name and type is same
+					if (sfield.getName().equals(dfield.getName()) && sfield.getType().equals(dfield.getType())) {
+						sourceGetters.add(getter(sfield));
+						destinationSetters.add(setter(dfield));
+						break;
+					}
+				}
+			}
+			this.getters = sourceGetters.toArray(new MethodHandle[0]);
+			this.setters = destinationSetters.toArray(new MethodHandle[0]);
+		}
+
+		private void copy(Object source, Object destination, boolean mapNullValues) {
+			for (int i = 0; i < getters.length; i++) {
+				Object value = invokeGetter(getters[i], source, destination);
+				// check whether user wants to map null values into destination object or not
+				if (!mapNullValues && EmptyCheckUtils.isNullEmpty(value)) {
+					continue;
+				}
+				invokeSetter(setters[i], destination, value, source);
+			}
+		}
+	}
+}
@@ -53,6 +53,9 @@ public class MasterDataFilterHelper {
 	@Autowired
 	private MasterdataSearchHelper masterdataSearchHelper;
 
+	@Autowired
+	private TextSearchHelper textSearchHelper;
+
 	@PostConstruct
 	private static void init() {
 		classes = new ArrayList<>();
@@ -110,9 +113,8 @@ public class MasterDataFilterHelper {
 			predicates.add(langCodePredicate);
 		}
 
-		caseSensitivePredicate = criteriaBuilder.and(criteriaBuilder
-				.like(criteriaBuilder.lower(rootType.get(filterDto.getColumnName())), criteriaBuilder.lower(
-						criteriaBuilder.literal(WILD_CARD_CHARACTER + filterDto.getText() + WILD_CARD_CHARACTER))));
+		caseSensitivePredicate = buildTextPredicate(criteriaBuilder, rootType, filterDto.getColumnName(),
+				filterDto.getText());
 		if (!(rootType.get(columnName).getJavaType().equals(Boolean.class))) {
 			predicates.add(caseSensitivePredicate);
 		}
@@ -169,9 +171,8 @@ public class MasterDataFilterHelper {
 		CriteriaQuery<T> criteriaQueryByType = criteriaBuilder.createQuery((Class<T>) path.getJavaType());
 		Root<E> rootType = criteriaQueryByType.from(entity);
 
-		caseSensitivePredicate = criteriaBuilder.and(criteriaBuilder
-				.like(criteriaBuilder.lower(rootType.get(filterDto.getColumnName())), criteriaBuilder.lower(
-						criteriaBuilder.literal(WILD_CARD_CHARACTER + filterDto.getText() + WILD_CARD_CHARACTER))));
+		caseSensitivePredicate = buildTextPredicate(criteriaBuilder, rootType, filterDto.getColumnName(),
+				filterDto.getText());
 		if (!(rootType.get(columnName).getJavaType().equals(Boolean.class))) {
 			predicates.add(caseSensitivePredicate);
 		}
@@ -228,9 +229,8 @@ public class MasterDataFilterHelper {
 
 		Predicate langCodePredicate = criteriaBuilder.equal(rootType.get(LANGCODE_COLUMN_NAME),
 				filterValueDto.getLanguageCode());
-		caseSensitivePredicate = criteriaBuilder.and(criteriaBuilder
-				.like(criteriaBuilder.lower(rootType.get(filterDto.getColumnName())), criteriaBuilder.lower(
-						criteriaBuilder.literal(WILD_CARD_CHARACTER + filterDto.getText() + WILD_CARD_CHARACTER))));
+		caseSensitivePredicate = buildTextPredicate(criteriaBuilder, rootType, filterDto.getColumnName(),
+				filterDto.getText());
 
 		criteriaQueryByType.multiselect(rootType.get(fieldCodeColumnName), rootType.get(columnName));
 
@@ -285,9 +285,8 @@ public class MasterDataFilterHelper {
 		CriteriaQuery<FilterData> criteriaQueryByType = criteriaBuilder.createQuery(FilterData.class);
 		Root<E> rootType = criteriaQueryByType.from(entity);
 
-		caseSensitivePredicate = criteriaBuilder.and(criteriaBuilder
-				.like(criteriaBuilder.lower(rootType.get(filterDto.getColumnName())), criteriaBuilder.lower(
-						criteriaBuilder.literal(WILD_CARD_CHARACTER + filterDto.getText() + WILD_CARD_CHARACTER))));
+		caseSensitivePredicate = buildTextPredicate(criteriaBuilder, rootType, filterDto.getColumnName(),
+				filterDto.getText());
 
 		criteriaQueryByType.multiselect(rootType.get(fieldCodeColumnName), rootType.get(columnName));
 
@@ -319,6 +318,23 @@ public class MasterDataFilterHelper {
 
 	}
 
+	/**
+	 * Builds the case insensitive contains predicate of the filter text, served
+	 * from the in-memory text index when the database has no text index.
+	 */
+	private <E> Predicate buildTextPredicate(CriteriaBuilder criteriaBuilder, Root<E> rootType, String columnName,
+			String text) {
+		if (textSearchHelper != null) {
+			Predicate indexedPredicate = textSearchHelper.buildIndexedPredicate(criteriaBuilder, rootType, columnName,
+					text, true, true);
+			if (indexedPredicate != null) {
+				return indexedPredicate;
+			}
+		}
+		return criteriaBuilder.and(criteriaBuilder.like(criteriaBuilder.lower(rootType.get(columnName)),
+				criteriaBuilder.lower(criteriaBuilder.literal(WILD_CARD_CHARACTER + text + WILD_CARD_CHARACTER))));
+	}
+
 	private <E> void columnTypeValidator(Root<E> root, String columnName) {
 		if (classes.contains(root.get(columnName).getJavaType())) {
 			throw new MasterDataServiceException(ValidationErrorCode.FILTER_COLUMN_NOT_SUPPORTED.getErrorCode(),
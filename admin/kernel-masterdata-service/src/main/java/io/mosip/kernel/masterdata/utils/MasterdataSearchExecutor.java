@@ -0,0 +1,124 @@
+package io.mosip.kernel.masterdata.utils;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import io.mosip.kernel.masterdata.constant.MasterdataSearchErrorCode;
+import io.mosip.kernel.masterdata.dto.SearchDtoWithoutLangCode;
+import io.mosip.kernel.masterdata.dto.request.Pagination;
+import io.mosip.kernel.masterdata.dto.request.SearchDto;
+import io.mosip.kernel.masterdata.dto.request.SearchSort;
+import io.mosip.kernel.masterdata.dto.response.PageResponseDto;
+import io.mosip.kernel.masterdata.exception.RequestException;
+
+/**
+ * Executes the masterdata search requests.
+ *
+ * Filters, sorting and pagination are applied in the database query whenever
+ * all the sort fields are attributes of the entity, only the requested page is
+ * fetched and mapped. Sorting on the fields which are derived while mapping the
+ * entity to the response (e.g. type names, zone names) still needs all the
+ * matching rows, such requests are sorted and paged in memory. The keyset
+ * pagination, requested with a page token, is supported only when the sorting
+ * is applied in the database query.
+ *
+ * @since 1.2.0
+ */
+@Component
+public class MasterdataSearchExecutor {
+
+	@Autowired
+	private MasterdataSearchHelper masterdataSearchHelper;
+
+	@Autowired
+	private PageUtils pageUtils;
+
+	/**
+	 * Method to search the entity and build the response page.
+	 *
+	 * @param entity          the entity class for which search will be applied
+	 * @param searchDto       which contains the list of filters, sort and
+	 *                        pagination
+	 * @param optionalFilters filters to be considered as 'or' statements
+	 * @param mapper          maps the fetched entities to the response
+	 * @return {@link PageResponseDto}
+	 */
+	public <E, D> PageResponseDto<D> search(Class<E> entity, SearchDto searchDto, OptionalFilter[] optionalFilters,
+			Function<List<E>, List<D>> mapper) {
+		List<SearchSort> sort = searchDto.getSort();
+		Pagination pagination = pageUtils.limitPagination(searchDto.getPagination());
+		List<SearchSort> entitySort = pageUtils.getEntitySort(entity, sort);
+		if (entitySort != null) {
+			searchDto.setSort(entitySort);
+			Page<E> page = masterdataSearchHelper.searchMasterdata(entity, searchDto, optionalFilters);
+			return toPageResponse(page, mapper);
+		}
+		checkPageToken(pagination, sort);
+		searchDto.setPagination(new Pagination(0, Integer.MAX_VALUE));
+		searchDto.setSort(Collections.emptyList());
+		Page<E> page = masterdataSearchHelper.searchMasterdata(entity, searchDto, optionalFilters);
+		return sortPage(page, sort, pagination, mapper);
+	}
+
+	/**
+	 * Method to search the entity without language code and build the response
+	 * page.
+	 *
+	 * @param entity          the entity class for which search will be applied
+	 * @param searchDto       which contains the list of filters, sort and
+	 *                        pagination
+	 * @param optionalFilters filters to be considered as 'or' statements
+	 * @param mapper          maps the fetched entities to the response
+	 * @return {@link PageResponseDto}
+	 */
+	public <E, D> PageResponseDto<D> searchWithoutLangCode(Class<E> entity, SearchDtoWithoutLangCode searchDto,
+			OptionalFilter[] optionalFilters, Function<List<E>, List<D>> mapper) {
+		List<SearchSort> sort = searchDto.getSort();
+		Pagination pagination = pageUtils.limitPagination(searchDto.getPagination());
+		List<SearchSort> entitySort = pageUtils.getEntitySort(entity, sort);
+		if (entitySort != null) {
+			searchDto.setSort(entitySort);
+			Page<E> page = masterdataSearchHelper.searchMasterdataWithoutLangCode(entity, searchDto,
+					optionalFilters);
+			return toPageResponse(page, mapper);
+		}
+		checkPageToken(pagination, sort);
+		searchDto.setPagination(new Pagination(0, Integer.MAX_VALUE));
+		searchDto.setSort(Collections.emptyList());
+		Page<E> page = masterdataSearchHelper.searchMasterdataWithoutLangCode(entity, searchDto, optionalFilters);
+		return sortPage(page, sort, pagination, mapper);
+	}
+
+	/**
+	 * The keyset pagination seeks the page in the database query, it is not
+	 * supported for the requests sorted in memory.
+	 */
+	private void checkPageToken(Pagination pagination, List<SearchSort> sort) {
+		if (pagination.getPageToken() != null) {
+			throw new RequestException(MasterdataSearchErrorCode.PAGE_TOKEN_NOT_SUPPORTED.getErrorCode(),
+					String.format(MasterdataSearchErrorCode.PAGE_TOKEN_NOT_SUPPORTED.getErrorMessage(),
+							sort.stream().map(SearchSort::getSortField).collect(Collectors.joining(","))));
+		}
+	}
+
+	private <E, D> PageResponseDto<D> toPageResponse(Page<E> page, Function<List<E>, List<D>> mapper) {
+		if (page == null || !page.hasContent()) {
+			return new PageResponseDto<>();
+		}
+		return pageUtils.pageResponse(page, mapper.apply(page.getContent()));
+	}
+
+	private <E, D> PageResponseDto<D> sortPage(Page<E> page, List<SearchSort> sort, Pagination pagination,
+			Function<List<E>, List<D>> mapper) {
+		if (page == null || !page.hasContent()) {
+			return new PageResponseDto<>();
+		}
+		return pageUtils.sortPage(mapper.apply(page.getContent()), sort, pagination);
+	}
+}
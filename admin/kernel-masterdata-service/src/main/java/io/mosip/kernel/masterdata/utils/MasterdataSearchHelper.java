@@ -1,14 +1,22 @@
 package io.mosip.kernel.masterdata.utils;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Field;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.persistence.Column;
 import javax.persistence.EntityManager;
@@ -23,8 +31,15 @@ import javax.persistence.criteria.Order;
 import javax.persistence.criteria.Path;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.SingularAttribute;
 
 import org.hibernate.HibernateException;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -32,6 +47,10 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import io.mosip.kernel.core.dataaccess.exception.DataAccessLayerException;
 import io.mosip.kernel.core.util.DateUtils;
 import io.mosip.kernel.dataaccess.hibernate.constant.HibernateErrorCode;
@@ -75,6 +94,13 @@ public class MasterdataSearchHelper {
 	private static final String MACHINE_SPEC_ID = "machineSpecId";
 	private static final String DEVICE_SPEC_ID = "deviceSpecId";
 	private static final String IS_ACTIVE_COLUMN_NAME = "isActive";
+	private static final String PAGE_TOKEN_SORT = "sort";
+	private static final String PAGE_TOKEN_VALUES = "values";
+	private static final String PAGE_TOKEN_RECORDS = "records";
+	private static final ObjectMapper PAGE_TOKEN_MAPPER = new ObjectMapper();
+	private static final List<Class<?>> KEYSET_TYPES = Arrays.asList(String.class, LocalDateTime.class,
+			LocalDate.class, Long.class, long.class, Integer.class, int.class, Short.class, short.class, Double.class,
+			double.class, Float.class, float.class, BigDecimal.class, Boolean.class, boolean.class);
 
 	/**
 	 * Field for interface used to interact with the persistence context.
@@ -82,6 +108,12 @@ public class MasterdataSearchHelper {
 	@PersistenceContext
 	private EntityManager entityManager;
 
+	@Autowired
+	private TextSearchHelper textSearchHelper;
+
+	@Value("${hibernate.dialect:}")
+	private String dialect;
+
 	/**
 	 * Constructor for MasterdataSearchHelper having EntityManager
 	 * 
@@ -102,8 +134,6 @@ public class MasterdataSearchHelper {
 	 * @return {@link Page} of entity
 	 */
 	public <E> Page<E> searchMasterdata(Class<E> entity, SearchDto searchDto, OptionalFilter[] optionalFilters) {
-		long rows = 0l;
-		List<E> result;
 		Objects.requireNonNull(entity, ENTITY_IS_NULL);
 		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
 		CriteriaQuery<E> selectQuery = criteriaBuilder.createQuery(entity);
@@ -116,33 +146,8 @@ public class MasterdataSearchHelper {
 		filterQuery(criteriaBuilder, rootQuery, selectQuery, countQuery, searchDto.getFilters(),
 				searchDto.getLanguageCode(), optionalFilters);
 
-		// applying sorting
-		sortQuery(criteriaBuilder, rootQuery, selectQuery, searchDto.getSort());
-
-		try {
-			// creating executable query from select criteria query
-			TypedQuery<E> executableQuery = entityManager.createQuery(selectQuery);
-			// creating executable query from count criteria query
-			TypedQuery<Long> countExecutableQuery = entityManager.createQuery(countQuery);
-			// getting the rows count
-			rows = countExecutableQuery.getSingleResult();
-			// adding pagination
-			paginationQuery(executableQuery, searchDto.getPagination());
-			// executing query and returning data
-			result = executableQuery.getResultList();
-		} catch (HibernateException hibernateException) {
-			throw new DataAccessLayerException(HibernateErrorCode.HIBERNATE_EXCEPTION.getErrorCode(),
-					hibernateException.getMessage(), hibernateException);
-		} catch (RequestException e) {
-			throw e;
-		} catch (RuntimeException runtimeException) {
-			throw new DataAccessLayerException(HibernateErrorCode.ERR_DATABASE.getErrorCode(),
-					runtimeException.getMessage(), runtimeException);
-		}
-		return new PageImpl<>(result,
-				PageRequest.of(searchDto.getPagination().getPageStart(), searchDto.getPagination().getPageFetch()),
-				rows);
-
+		return executeSearch(criteriaBuilder, rootQuery, selectQuery, countQuery, searchDto.getSort(),
+				searchDto.getPagination());
 	}
 
 	/**
@@ -157,8 +162,6 @@ public class MasterdataSearchHelper {
 	 */
 	public <E> Page<E> searchMasterdataWithoutLangCode(Class<E> entity, SearchDtoWithoutLangCode searchDto,
 			OptionalFilter[] optionalFilters) {
-		long rows = 0l;
-		List<E> result;
 		Objects.requireNonNull(entity, ENTITY_IS_NULL);
 		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
 		CriteriaQuery<E> selectQuery = criteriaBuilder.createQuery(entity);
@@ -171,20 +174,50 @@ public class MasterdataSearchHelper {
 		filterQueryWithoutLang(criteriaBuilder, rootQuery, selectQuery, countQuery, searchDto.getFilters(),
 				optionalFilters);
 
-		// applying sorting
-		sortQuery(criteriaBuilder, rootQuery, selectQuery, searchDto.getSort());
+		return executeSearch(criteriaBuilder, rootQuery, selectQuery, countQuery, searchDto.getSort(),
+				searchDto.getPagination());
+	}
 
+	/**
+	 * Method to sort, paginate and run the search query. A page is fetched by its
+	 * offset, or after the last record of the previous page when the pagination
+	 * has a page token. The count query is run only when an exact count is needed
+	 * and can not be derived from the fetched page.
+	 * 
+	 * @param builder     used to construct criteria queries
+	 * @param root        root type in the from clause,always refers entity
+	 * @param selectQuery criteria select query with the filters
+	 * @param countQuery  criteria count query with the filters
+	 * @param sort        list of {@link SearchSort}
+	 * @param pagination  the requested page
+	 * @return {@link Page} of entity
+	 */
+	private <E> Page<E> executeSearch(CriteriaBuilder builder, Root<E> root, CriteriaQuery<E> selectQuery,
+			CriteriaQuery<Long> countQuery, List<SearchSort> sort, Pagination pagination) {
 		try {
+			if (pagination != null && pagination.getPageToken() != null) {
+				return keysetQuery(builder, root, selectQuery, countQuery, sort, pagination);
+			}
+			// applying sorting
+			sortQuery(builder, root, selectQuery, sort);
+			boolean exactCount = !Boolean.FALSE.equals(pagination.getExactCount());
 			// creating executable query from select criteria query
 			TypedQuery<E> executableQuery = entityManager.createQuery(selectQuery);
-			// creating executable query from count criteria query
-			TypedQuery<Long> countExecutableQuery = entityManager.createQuery(countQuery);
-			// getting the rows count
-			rows = countExecutableQuery.getSingleResult();
 			// adding pagination
-			paginationQuery(executableQuery, searchDto.getPagination());
+			paginationQuery(executableQuery, pagination);
+			if (!exactCount) {
+				// one more record tells if there is a next page
+				executableQuery.setMaxResults(fetchWithNext(pagination));
+			}
 			// executing query and returning data
-			result = executableQuery.getResultList();
+			List<E> result = executableQuery.getResultList();
+			boolean hasNext = result.size() > pagination.getPageFetch();
+			if (hasNext) {
+				result = new ArrayList<>(result.subList(0, pagination.getPageFetch()));
+			}
+			long offset = (long) pagination.getPageStart() * pagination.getPageFetch();
+			return new PageImpl<>(result, PageRequest.of(pagination.getPageStart(), pagination.getPageFetch()),
+					countRows(countQuery, pagination, offset, result.size(), hasNext, exactCount));
 		} catch (HibernateException hibernateException) {
 			throw new DataAccessLayerException(HibernateErrorCode.HIBERNATE_EXCEPTION.getErrorCode(),
 					hibernateException.getMessage(), hibernateException);
@@ -194,10 +227,255 @@ public class MasterdataSearchHelper {
 			throw new DataAccessLayerException(HibernateErrorCode.ERR_DATABASE.getErrorCode(),
 					runtimeException.getMessage(), runtimeException);
 		}
-		return new PageImpl<>(result,
-				PageRequest.of(searchDto.getPagination().getPageStart(), searchDto.getPagination().getPageFetch()),
-				rows);
+	}
+
+	/**
+	 * Method to fetch the page after the record the page token points to. The
+	 * records are sorted by the sort fields and then by the id attributes, and the
+	 * page is fetched with a condition on those values instead of an offset, so a
+	 * deep page costs as much as the first page. The records are counted only
+	 * when the exact count is requested, else the count is estimated as the
+	 * records up to this page, plus one when there is a next page.
+	 * 
+	 * @param builder     used to construct criteria queries
+	 * @param root        root type in the from clause,always refers entity
+	 * @param selectQuery criteria select query with the filters
+	 * @param countQuery  criteria count query with the filters
+	 * @param sort        list of {@link SearchSort}
+	 * @param pagination  the requested page with the page token
+	 * @return {@link KeysetPage} of entity
+	 */
+	private <E> Page<E> keysetQuery(CriteriaBuilder builder, Root<E> root, CriteriaQuery<E> selectQuery,
+			CriteriaQuery<Long> countQuery, List<SearchSort> sort, Pagination pagination) {
+		validatePagination(pagination);
+		List<SearchSort> keys = getKeysetSort(root, sort);
+		sortQuery(builder, root, selectQuery, keys);
+		for (SearchSort key : keys) {
+			if (!KEYSET_TYPES.contains(root.get(key.getSortField()).getJavaType())) {
+				throw new RequestException(MasterdataSearchErrorCode.PAGE_TOKEN_NOT_SUPPORTED.getErrorCode(),
+						String.format(MasterdataSearchErrorCode.PAGE_TOKEN_NOT_SUPPORTED.getErrorMessage(),
+								key.getSortField()));
+			}
+		}
+		String keysetName = getKeysetName(root, keys);
+		long records = 0L;
+		if (!pagination.getPageToken().isEmpty()) {
+			Map<String, Object> token = decodePageToken(pagination.getPageToken());
+			if (token == null || !keysetName.equals(token.get(PAGE_TOKEN_SORT))
+					|| !(token.get(PAGE_TOKEN_VALUES) instanceof List)
+					|| !(token.get(PAGE_TOKEN_RECORDS) instanceof Number)) {
+				throw new RequestException(MasterdataSearchErrorCode.INVALID_PAGE_TOKEN.getErrorCode(),
+						MasterdataSearchErrorCode.INVALID_PAGE_TOKEN.getErrorMessage());
+			}
+			records = ((Number) token.get(PAGE_TOKEN_RECORDS)).longValue();
+			List<Object> values = parseKeyValues(root, keys, (List<?>) token.get(PAGE_TOKEN_VALUES));
+			selectQuery.where(builder.and(selectQuery.getRestriction(), seekPredicate(builder, root, keys, values)));
+		}
+		TypedQuery<E> executableQuery = entityManager.createQuery(selectQuery);
+		// one more record tells if there is a next page
+		executableQuery.setMaxResults(fetchWithNext(pagination));
+		List<E> result = executableQuery.getResultList();
+		boolean hasNext = result.size() > pagination.getPageFetch();
+		String nextPageToken = null;
+		if (hasNext) {
+			result = new ArrayList<>(result.subList(0, pagination.getPageFetch()));
+			nextPageToken = encodePageToken(keysetName, getKeyValues(result.get(result.size() - 1), keys),
+					records + result.size());
+		}
+		long rows = countRows(countQuery, pagination, records, result.size(), hasNext,
+				Boolean.TRUE.equals(pagination.getExactCount()));
+		return new KeysetPage<>(result,
+				PageRequest.of((int) (records / pagination.getPageFetch()), pagination.getPageFetch()), rows,
+				nextPageToken);
+	}
+
+	/**
+	 * Method to count the records matching the filters. A page shorter than the
+	 * page size is the last page, the count is known without the count query.
+	 * 
+	 * @param countQuery criteria count query
+	 * @param pagination the requested page
+	 * @param offset     number of records before the page
+	 * @param fetched    number of records in the page
+	 * @param hasNext    true if there are records after the page
+	 * @param exactCount true to run the count query, false to estimate the count
+	 * @return the count
+	 */
+	private long countRows(CriteriaQuery<Long> countQuery, Pagination pagination, long offset, int fetched,
+			boolean hasNext, boolean exactCount) {
+		if ((fetched > 0 && fetched < pagination.getPageFetch()) || (offset == 0 && fetched == 0)) {
+			return offset + fetched;
+		}
+		if (exactCount) {
+			// creating executable query from count criteria query
+			return entityManager.createQuery(countQuery).getSingleResult();
+		}
+		return offset + fetched + (hasNext ? 1 : 0);
+	}
+
+	private int fetchWithNext(Pagination pagination) {
+		return pagination.getPageFetch() == Integer.MAX_VALUE ? Integer.MAX_VALUE : pagination.getPageFetch() + 1;
+	}
+
+	/**
+	 * Method to get the sort of the keyset pagination, the requested sort followed
+	 * by the id attributes which are not part of it.
+	 * 
+	 * @param root       root type in the from clause,always refers entity
+	 * @param sortFilter requested sort
+	 * @return the sort
+	 */
+	private <E> List<SearchSort> getKeysetSort(Root<E> root, List<SearchSort> sortFilter) {
+		List<SearchSort> keys = new ArrayList<>();
+		if (sortFilter != null) {
+			sortFilter.stream().filter(this::validateSort).forEach(keys::add);
+		}
+		List<String> idAttributes = getIdAttributes(root);
+		if (idAttributes.isEmpty()) {
+			throw new RequestException(MasterdataSearchErrorCode.PAGE_TOKEN_NOT_SUPPORTED.getErrorCode(),
+					String.format(MasterdataSearchErrorCode.PAGE_TOKEN_NOT_SUPPORTED.getErrorMessage(),
+							keys.stream().map(SearchSort::getSortField).collect(Collectors.joining(","))));
+		}
+		idAttributes.stream().filter(name -> keys.stream().noneMatch(key -> name.equals(key.getSortField())))
+				.forEach(name -> keys.add(new SearchSort(name, OrderEnum.asc.name())));
+		return keys;
+	}
+
+	/**
+	 * @return name of the keyset, a page token is valid only for the keyset it is
+	 *         created for
+	 */
+	private <E> String getKeysetName(Root<E> root, List<SearchSort> keys) {
+		return root.getJavaType().getSimpleName() + ":" + keys.stream()
+				.map(key -> key.getSortField() + " " + key.getSortType().toLowerCase()).collect(Collectors.joining(","));
+	}
+
+	/**
+	 * Method to build the {@link Predicate} selecting the records sorted after the
+	 * record having the key values, that is the records having the first i - 1
+	 * keys equal and the i-th key after the value, for any i.
+	 * 
+	 * @param builder used to construct criteria queries
+	 * @param root    root type in the from clause,always refers entity
+	 * @param keys    sort of the keyset
+	 * @param values  key values of the last record of the previous page
+	 * @return {@link Predicate}
+	 */
+	private <E> Predicate seekPredicate(CriteriaBuilder builder, Root<E> root, List<SearchSort> keys,
+			List<Object> values) {
+		List<Predicate> alternatives = new ArrayList<>();
+		List<Predicate> equals = new ArrayList<>();
+		for (int i = 0; i < keys.size(); i++) {
+			Path<Object> path = root.get(keys.get(i).getSortField());
+			Object value = values.get(i);
+			Predicate after = afterPredicate(builder, path, value,
+					OrderEnum.asc.name().equalsIgnoreCase(keys.get(i).getSortType()));
+			if (after != null) {
+				List<Predicate> alternative = new ArrayList<>(equals);
+				alternative.add(after);
+				alternatives.add(builder.and(alternative.toArray(new Predicate[alternative.size()])));
+			}
+			equals.add(value == null ? builder.isNull(path) : builder.equal(path, value));
+		}
+		return alternatives.isEmpty() ? builder.disjunction()
+				: builder.or(alternatives.toArray(new Predicate[alternatives.size()]));
+	}
+
+	/**
+	 * @return {@link Predicate} selecting the values sorted after the value, null
+	 *         if no value is sorted after it
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private Predicate afterPredicate(CriteriaBuilder builder, Path path, Object value, boolean ascending) {
+		// nulls are sorted as the highest values on PostgreSQL and as the lowest on H2
+		boolean nullsLast = ascending == isNullsHigh();
+		if (value == null) {
+			return nullsLast ? null : builder.isNotNull(path);
+		}
+		Predicate after = ascending ? builder.greaterThan(path, (Comparable) value)
+				: builder.lessThan(path, (Comparable) value);
+		return nullsLast ? builder.or(after, builder.isNull(path)) : after;
+	}
+
+	private boolean isNullsHigh() {
+		String dialectName = dialect == null ? "" : dialect.toLowerCase();
+		return dialectName.contains("postgres") || dialectName.contains("oracle");
+	}
+
+	private List<String> getKeyValues(Object entity, List<SearchSort> keys) {
+		BeanWrapper wrapper = new BeanWrapperImpl(entity);
+		return keys.stream().map(key -> {
+			Object value = wrapper.getPropertyValue(key.getSortField());
+			return value == null ? null : value.toString();
+		}).collect(Collectors.toList());
+	}
+
+	private <E> List<Object> parseKeyValues(Root<E> root, List<SearchSort> keys, List<?> values) {
+		if (values.size() != keys.size()) {
+			throw new RequestException(MasterdataSearchErrorCode.INVALID_PAGE_TOKEN.getErrorCode(),
+					MasterdataSearchErrorCode.INVALID_PAGE_TOKEN.getErrorMessage());
+		}
+		List<Object> keyValues = new ArrayList<>();
+		for (int i = 0; i < keys.size(); i++) {
+			Object value = values.get(i);
+			keyValues.add(value == null ? null
+					: parseKeyValue(root.get(keys.get(i).getSortField()).getJavaType(), keys.get(i).getSortField(),
+							value.toString()));
+		}
+		return keyValues;
+	}
+
+	private Object parseKeyValue(Class<?> type, String field, String value) {
+		try {
+			if (String.class.equals(type))
+				return value;
+			if (LocalDateTime.class.equals(type))
+				return LocalDateTime.parse(value);
+			if (LocalDate.class.equals(type))
+				return LocalDate.parse(value);
+			if (Long.class.equals(type) || long.class.equals(type))
+				return Long.valueOf(value);
+			if (Integer.class.equals(type) || int.class.equals(type))
+				return Integer.valueOf(value);
+			if (Short.class.equals(type) || short.class.equals(type))
+				return Short.valueOf(value);
+			if (Double.class.equals(type) || double.class.equals(type))
+				return Double.valueOf(value);
+			if (Float.class.equals(type) || float.class.equals(type))
+				return Float.valueOf(value);
+			if (BigDecimal.class.equals(type))
+				return new BigDecimal(value);
+			if (Boolean.class.equals(type) || boolean.class.equals(type))
+				return Boolean.valueOf(value);
+		} catch (DateTimeParseException | NumberFormatException e) {
+			throw new RequestException(MasterdataSearchErrorCode.INVALID_PAGE_TOKEN.getErrorCode(),
+					MasterdataSearchErrorCode.INVALID_PAGE_TOKEN.getErrorMessage(), e);
+		}
+		throw new RequestException(MasterdataSearchErrorCode.PAGE_TOKEN_NOT_SUPPORTED.getErrorCode(),
+				String.format(MasterdataSearchErrorCode.PAGE_TOKEN_NOT_SUPPORTED.getErrorMessage(), field));
+	}
 
+	private String encodePageToken(String keysetName, List<String> values, long records) {
+		Map<String, Object> token = new LinkedHashMap<>();
+		token.put(PAGE_TOKEN_SORT, keysetName);
+		token.put(PAGE_TOKEN_VALUES, values);
+		token.put(PAGE_TOKEN_RECORDS, records);
+		try {
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(PAGE_TOKEN_MAPPER.writeValueAsBytes(token));
+		} catch (JsonProcessingException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private Map<String, Object> decodePageToken(String pageToken) {
+		try {
+			return PAGE_TOKEN_MAPPER.readValue(Base64.getUrlDecoder().decode(pageToken),
+					new TypeReference<Map<String, Object>>() {
+					});
+		} catch (IOException | IllegalArgumentException e) {
+			throw new RequestException(MasterdataSearchErrorCode.INVALID_PAGE_TOKEN.getErrorCode(),
+					MasterdataSearchErrorCode.INVALID_PAGE_TOKEN.getErrorMessage(), e);
+		}
 	}
 
 	public <E> List<E> getMissingData(String tableName, String langCode) {
@@ -304,17 +582,14 @@ public class MasterdataSearchHelper {
 		String value = filter.getValue();
 		String filterType = filter.getType();
 		if (FilterTypeEnum.CONTAINS.name().equalsIgnoreCase(filterType)) {
-			Expression<String> lowerCase = builder.lower(root.get(columnName));
 			if (value.startsWith("*") && value.endsWith("*")) {
 				String replacedValue = (value.substring(1)).substring(0, value.length() - 2);
-				return builder.like(lowerCase,
-						builder.lower(builder.literal(WILD_CARD_CHARACTER + replacedValue + WILD_CARD_CHARACTER)));
+				return buildTextFilter(builder, root, columnName, replacedValue, true, true);
 			} else if (value.startsWith("*")) {
 				String replacedValue = value.substring(1);
-				return builder.like(lowerCase, builder.lower(builder.literal(WILD_CARD_CHARACTER + replacedValue)));
+				return buildTextFilter(builder, root, columnName, replacedValue, true, false);
 			} else {
-				return builder.like(lowerCase,
-						builder.lower(builder.literal(WILD_CARD_CHARACTER + value + WILD_CARD_CHARACTER)));
+				return buildTextFilter(builder, root, columnName, value, true, true);
 			}
 		}
 		if (FilterTypeEnum.EQUALS.name().equalsIgnoreCase(filterType)) {
@@ -324,8 +599,7 @@ public class MasterdataSearchHelper {
 			if (value.endsWith("*")) {
 				value = value.substring(0, value.length() - 1);
 			}
-			Expression<String> lowerCase = builder.lower(root.get(columnName));
-			return builder.like(lowerCase, builder.lower(builder.literal(value + WILD_CARD_CHARACTER)));
+			return buildTextFilter(builder, root, columnName, value, false, true);
 		}
 		if (FilterTypeEnum.BETWEEN.name().equalsIgnoreCase(filterType)) {
 			return setBetweenValue(builder, root, filter);
@@ -338,6 +612,33 @@ public class MasterdataSearchHelper {
 		return null;
 	}
 
+	/**
+	 * Method to build the case insensitive like {@link Predicate} of a text filter,
+	 * served from the in-memory text index when the database has no text index
+	 * 
+	 * @param builder    used to construct criteria queries
+	 * @param root       root type in the from clause,always refers entity
+	 * @param columnName the column to filter
+	 * @param text       the text to search
+	 * @param anyPrefix  true if the column may have any characters before the
+	 *                   text
+	 * @param anySuffix  true if the column may have any characters after the text
+	 * @return {@link Predicate}
+	 */
+	private <E> Predicate buildTextFilter(CriteriaBuilder builder, Root<E> root, String columnName, String text,
+			boolean anyPrefix, boolean anySuffix) {
+		if (textSearchHelper != null) {
+			Predicate indexedPredicate = textSearchHelper.buildIndexedPredicate(builder, root, columnName, text,
+					anyPrefix, anySuffix);
+			if (indexedPredicate != null) {
+				return indexedPredicate;
+			}
+		}
+		Expression<String> lowerCase = builder.lower(root.get(columnName));
+		return builder.like(lowerCase, builder.lower(builder.literal(
+				(anyPrefix ? WILD_CARD_CHARACTER : "") + text + (anySuffix ? WILD_CARD_CHARACTER : ""))));
+	}
+
 	/**
 	 * Method to add sorting statement in criteria query
 	 * 
@@ -371,10 +672,52 @@ public class MasterdataSearchHelper {
 				return null;
 
 			}).filter(Objects::nonNull).collect(Collectors.toList());
+			addIdOrders(builder, root, sortFilter, orders);
 			criteriaQuery.orderBy(orders);
 		}
 	}
 
+	/**
+	 * Method to add the id attributes which are not part of the sort criteria as
+	 * the last sort orders, so that the rows with same sort values are in the same
+	 * order across pages
+	 * 
+	 * @param builder    used to construct criteria query
+	 * @param root       root type in the from clause,always refers entity
+	 * @param sortFilter sort criteria of the query
+	 * @param orders     sort orders of the query
+	 */
+	private <E> void addIdOrders(CriteriaBuilder builder, Root<E> root, List<SearchSort> sortFilter,
+			List<Order> orders) {
+		if (orders.isEmpty()) {
+			return;
+		}
+		getIdAttributes(root).stream()
+				.filter(name -> sortFilter.stream().noneMatch(sort -> name.equals(sort.getSortField())))
+				.forEach(name -> orders.add(builder.asc(root.get(name))));
+	}
+
+	/**
+	 * @return names of the id attributes, the attributes of the id class when the
+	 *         entity has an id class
+	 */
+	private <E> List<String> getIdAttributes(Root<E> root) {
+		EntityType<E> model = root.getModel();
+		Stream<SingularAttribute<? super E, ?>> idAttributes;
+		if (model.hasSingleIdAttribute()) {
+			idAttributes = model.getSingularAttributes().stream().filter(SingularAttribute::isId);
+		} else {
+			try {
+				idAttributes = model.getIdClassAttributes().stream();
+			} catch (IllegalArgumentException e) {
+				idAttributes = Stream.empty();
+			}
+		}
+		return idAttributes
+				.filter(attribute -> attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC)
+				.map(Attribute::getName).sorted().collect(Collectors.toList());
+	}
+
 	/**
 	 * Method to add pagination in criteria query
 	 * 
@@ -383,15 +726,18 @@ public class MasterdataSearchHelper {
 	 */
 	private void paginationQuery(Query query, Pagination page) {
 		if (page != null) {
-			if (page.getPageStart() < 0 || page.getPageFetch() < 1) {
-				throw new RequestException(MasterdataSearchErrorCode.INVALID_PAGINATION_VALUE.getErrorCode(),
-						String.format(MasterdataSearchErrorCode.INVALID_PAGINATION_VALUE.getErrorMessage(),
-								page.getPageStart(), page.getPageFetch()),
-						null);
-			} else {
-				query.setFirstResult(page.getPageStart() * page.getPageFetch());
-				query.setMaxResults(page.getPageFetch());
-			}
+			validatePagination(page);
+			query.setFirstResult(page.getPageStart() * page.getPageFetch());
+			query.setMaxResults(page.getPageFetch());
+		}
+	}
+
+	private void validatePagination(Pagination page) {
+		if (page.getPageStart() < 0 || page.getPageFetch() < 1) {
+			throw new RequestException(MasterdataSearchErrorCode.INVALID_PAGINATION_VALUE.getErrorCode(),
+					String.format(MasterdataSearchErrorCode.INVALID_PAGINATION_VALUE.getErrorMessage(),
+							page.getPageStart(), page.getPageFetch()),
+					null);
 		}
 	}
 
@@ -667,7 +1013,7 @@ public class MasterdataSearchHelper {
 		List<Machine> result = query.getResultList();
 		return new PageImpl<>(result,
 				PageRequest.of(searchDto.getPagination().getPageStart(), searchDto.getPagination().getPageFetch()),
-				query.getResultList().size());
+				result.size());
 
 	}
 
@@ -717,7 +1063,7 @@ public class MasterdataSearchHelper {
 
 		return new PageImpl<>(result,
 				PageRequest.of(searchDto.getPagination().getPageStart(), searchDto.getPagination().getPageFetch()),
-				query.getResultList().size());
+				result.size());
 
 	}
 
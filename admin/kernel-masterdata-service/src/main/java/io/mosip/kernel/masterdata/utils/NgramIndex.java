@@ -0,0 +1,184 @@
+package io.mosip.kernel.masterdata.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable trigram index of the distinct values of a text column.
+ *
+ * Values are folded to lower case the same way the database lower function
+ * does, and every trigram of a folded value points to the value. A contains,
+ * starts with or ends with lookup reads the values of the trigrams of the
+ * searched text, which are the only values that can match, and checks only
+ * those. Texts shorter than a trigram are checked against all the values.
+ *
+ * The index is built once from the values and is never modified, changed
+ * values are published by building a new index.
+ *
+ * @since 1.2.0
+ */
+public final class NgramIndex {
+
+	private static final int GRAM_LENGTH = 3;
+
+	private final Object version;
+
+	private final String[] values;
+
+	private final String[] foldedValues;
+
+	private final Map<String, int[]> grams;
+
+	/**
+	 * @param values  the distinct values of the column
+	 * @param version version of the values the index is built from, null if not
+	 *                known
+	 */
+	public NgramIndex(Collection<String> values, Object version) {
+		this.version = version;
+		List<String> distinctValues = new ArrayList<>(
+				values == null ? Collections.<String>emptySet() : new LinkedHashSet<>(values));
+		distinctValues.remove(null);
+		this.values = distinctValues.toArray(new String[0]);
+		this.foldedValues = new String[this.values.length];
+
+		Map<String, List<Integer>> postings = new HashMap<>();
+		for (int i = 0; i < this.values.length; i++) {
+			foldedValues[i] = fold(this.values[i]);
+			for (String gram : getGrams(foldedValues[i])) {
+				postings.computeIfAbsent(gram, key -> new ArrayList<>()).add(i);
+			}
+		}
+		Map<String, int[]> gramPositions = new HashMap<>();
+		postings.forEach((gram, positions) -> gramPositions.put(gram,
+				positions.stream().mapToInt(Integer::intValue).toArray()));
+		this.grams = gramPositions;
+	}
+
+	/**
+	 * Folds the text to lower case, as the database lower function does.
+	 *
+	 * @param text the text
+	 * @return folded text
+	 */
+	public static String fold(String text) {
+		return text == null ? null : text.toLowerCase(Locale.ROOT);
+	}
+
+	public Object getVersion() {
+		return version;
+	}
+
+	/**
+	 * @return number of distinct values in the index
+	 */
+	public int size() {
+		return values.length;
+	}
+
+	/**
+	 * Method to find the values matching the text, compared after folding both to
+	 * lower case.
+	 *
+	 * @param text      the text to search
+	 * @param anyPrefix true if the value may have any characters before the text
+	 * @param anySuffix true if the value may have any characters after the text
+	 * @return matching values, in the order the index is built from
+	 */
+	public List<String> find(String text, boolean anyPrefix, boolean anySuffix) {
+		if (text == null) {
+			return Collections.emptyList();
+		}
+		String foldedText = fold(text);
+		List<String> matches = new ArrayList<>();
+		int[] candidates = getCandidates(foldedText);
+		if (candidates == null) {
+			for (int i = 0; i < values.length; i++) {
+				if (matches(foldedValues[i], foldedText, anyPrefix, anySuffix)) {
+					matches.add(values[i]);
+				}
+			}
+		} else {
+			for (int i : candidates) {
+				if (matches(foldedValues[i], foldedText, anyPrefix, anySuffix)) {
+					matches.add(values[i]);
+				}
+			}
+		}
+		return matches;
+	}
+
+	/**
+	 * @return positions of the values having all the trigrams of the text, null
+	 *         if the text is too short to have a trigram
+	 */
+	private int[] getCandidates(String foldedText) {
+		Set<String> textGrams = getGrams(foldedText);
+		if (textGrams.isEmpty()) {
+			return null;
+		}
+		List<int[]> postings = new ArrayList<>();
+		for (String gram : textGrams) {
+			int[] positions = grams.get(gram);
+			if (positions == null) {
+				return new int[0];
+			}
+			postings.add(positions);
+		}
+		// intersect starting from the rarest trigram
+		postings.sort((first, second) -> Integer.compare(first.length, second.length));
+		int[] candidates = postings.get(0);
+		for (int p = 1; p < postings.size() && candidates.length > 0; p++) {
+			candidates = intersect(candidates, postings.get(p));
+		}
+		return candidates;
+	}
+
+	private static boolean matches(String foldedValue, String foldedText, boolean anyPrefix, boolean anySuffix) {
+		if (anyPrefix && anySuffix) {
+			return foldedValue.contains(foldedText);
+		}
+		if (anyPrefix) {
+			return foldedValue.endsWith(foldedText);
+		}
+		if (anySuffix) {
+			return foldedValue.startsWith(foldedText);
+		}
+		return foldedValue.equals(foldedText);
+	}
+
+	private static Set<String> getGrams(String foldedText) {
+		Set<String> textGrams = new LinkedHashSet<>();
+		for (int i = 0; i + GRAM_LENGTH <= foldedText.length(); i++) {
+			textGrams.add(foldedText.substring(i, i + GRAM_LENGTH));
+		}
+		return textGrams;
+	}
+
+	private static int[] intersect(int[] first, int[] second) {
+		int[] common = new int[Math.min(first.length, second.length)];
+		int count = 0;
+		int i = 0;
+		int j = 0;
+		while (i < first.length && j < second.length) {
+			if (first[i] < second[j]) {
+				i++;
+			} else if (first[i] > second[j]) {
+				j++;
+			} else {
+				common[count++] = first[i];
+				i++;
+				j++;
+			}
+		}
+		return Arrays.copyOf(common, count);
+	}
+}
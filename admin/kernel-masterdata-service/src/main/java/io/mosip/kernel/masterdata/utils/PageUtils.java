@@ -54,6 +54,9 @@ public class PageUtils {
 			pageResponse.setFromRecord(start);
 			pageResponse.setToRecord((long) (start - 1) + page.getNumberOfElements());
 			pageResponse.setTotalRecord(totalItem);
+			if (page instanceof KeysetPage) {
+				pageResponse.setNextPageToken(((KeysetPage<T>) page).getNextPageToken());
+			}
 		}
 		return pageResponse;
 	}
@@ -88,6 +91,41 @@ public class PageUtils {
 		return pageResponse;
 	}
 
+	/**
+	 * Method to create the page response of the page fetched with sorting and
+	 * pagination applied in the query
+	 * 
+	 * @param page    page fetched from the database
+	 * @param content page content mapped to the response type
+	 * @return {@link PageResponseDto}
+	 */
+	public <T, D> PageResponseDto<D> pageResponse(Page<T> page, List<D> content) {
+		if (page == null || content == null || content.isEmpty()) {
+			return new PageResponseDto<>();
+		}
+		PageResponseDto<D> pageResponse = pageResponse(page);
+		pageResponse.setData(content);
+		return pageResponse;
+	}
+
+	/**
+	 * Method to validate the pagination and restrict the page size to the
+	 * configured maximum rows
+	 * 
+	 * @param page requested pagination
+	 * @return validated pagination
+	 */
+	public Pagination limitPagination(Pagination page) {
+		validate(page);
+		if (maximumRows != 0)
+			page.setPageFetch(page.getPageFetch()>maximumRows?maximumRows:page.getPageFetch());
+		return page;
+	}
+
+	public <T> List<SearchSort> getEntitySort(Class<T> clazz, List<SearchSort> list) {
+		return sortUtils.getEntitySort(clazz, list);
+	}
+
 	public <D> PageResponseDto<D> applyPagination(List<D> list, Pagination page) {
 		return sortPage(list, Collections.emptyList(), page);
 	}
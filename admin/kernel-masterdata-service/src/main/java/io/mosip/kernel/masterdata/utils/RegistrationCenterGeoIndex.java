@@ -0,0 +1,209 @@
+package io.mosip.kernel.masterdata.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import io.mosip.kernel.masterdata.entity.RegistrationCenter;
+
+/**
+ * Immutable index of the registration centers of a language by their
+ * coordinates.
+ *
+ * Centers are kept sorted by latitude with their coordinates parsed once, a
+ * proximity lookup binary searches the latitude band of the radius, skips the
+ * centers outside the longitude band and computes the distance only for the
+ * rest. The distance is computed with the same haversine formula and earth
+ * radius as the database query it replaces.
+ *
+ * Centers with a missing or non numeric latitude or longitude are left out.
+ *
+ * @since 1.2.0
+ */
+public final class RegistrationCenterGeoIndex {
+
+	/**
+	 * Earth radius in miles, as used by the proximity query.
+	 */
+	public static final double EARTH_RADIUS = 3961;
+
+	/**
+	 * Margin in degrees added to the bands so that rounding never drops a center
+	 * at the edge of the radius.
+	 */
+	private static final double BAND_MARGIN = 1e-9;
+
+	private final Object version;
+
+	private final RegistrationCenter[] centers;
+
+	private final double[] latitudes;
+
+	private final double[] longitudes;
+
+	/**
+	 * @param registrationCenters the active and non deleted centers of a language
+	 * @param version             version of the centers the index is built from,
+	 *                            null if not known
+	 */
+	public RegistrationCenterGeoIndex(List<RegistrationCenter> registrationCenters, Object version) {
+		this.version = version;
+		List<Entry> entries = new ArrayList<>();
+		if (registrationCenters != null) {
+			for (RegistrationCenter center : registrationCenters) {
+				double latitude = parseCoordinate(center.getLatitude());
+				double longitude = parseCoordinate(center.getLongitude());
+				if (!Double.isNaN(latitude) && !Double.isNaN(longitude)) {
+					entries.add(new Entry(center, latitude, longitude));
+				}
+			}
+		}
+		// stable sort, centers with the same latitude keep the load order
+		entries.sort(Comparator.comparingDouble(entry -> entry.latitude));
+		int size = entries.size();
+		this.centers = new RegistrationCenter[size];
+		this.latitudes = new double[size];
+		this.longitudes = new double[size];
+		for (int i = 0; i < size; i++) {
+			Entry entry = entries.get(i);
+			centers[i] = entry.center;
+			latitudes[i] = entry.latitude;
+			longitudes[i] = entry.longitude;
+		}
+	}
+
+	public Object getVersion() {
+		return version;
+	}
+
+	/**
+	 * @return number of centers in the index
+	 */
+	public int size() {
+		return centers.length;
+	}
+
+	/**
+	 * Method to fetch the centers within the distance of the coordinates, nearest
+	 * first.
+	 *
+	 * @param latitude  latitude in degrees
+	 * @param longitude longitude in degrees
+	 * @param distance  distance in miles
+	 * @return list of centers, empty if none is found
+	 */
+	public List<RegistrationCenter> findWithin(double latitude, double longitude, double distance) {
+		if (!(distance > 0) || centers.length == 0) {
+			return Collections.emptyList();
+		}
+		double radius = distance / EARTH_RADIUS;
+		int from = 0;
+		int to = centers.length;
+		boolean checkLongitude = false;
+		double longitudeBand = 0;
+		if (radius < Math.PI / 2) {
+			double latitudeBand = Math.toDegrees(radius) + BAND_MARGIN;
+			from = lowerBound(latitudes, latitude - latitudeBand);
+			to = lowerBound(latitudes, Math.nextUp(latitude + latitudeBand));
+			// near the poles every longitude can be within the radius
+			if (Math.abs(latitude) + latitudeBand < 90) {
+				double sinBand = Math.sin(radius) / Math.cos(Math.toRadians(latitude));
+				if (sinBand < 1) {
+					checkLongitude = true;
+					longitudeBand = Math.toDegrees(Math.asin(sinBand)) + BAND_MARGIN;
+				}
+			}
+		}
+
+		List<Match> matches = new ArrayList<>();
+		for (int i = from; i < to; i++) {
+			if (checkLongitude && longitudeDifference(longitude, longitudes[i]) > longitudeBand) {
+				continue;
+			}
+			double centerDistance = distance(latitude, longitude, latitudes[i], longitudes[i]);
+			if (centerDistance < distance) {
+				matches.add(new Match(i, centerDistance));
+			}
+		}
+		matches.sort(Comparator.comparingDouble((Match match) -> match.distance)
+				.thenComparingInt(match -> match.position));
+		List<RegistrationCenter> result = new ArrayList<>(matches.size());
+		for (Match match : matches) {
+			result.add(centers[match.position]);
+		}
+		return result;
+	}
+
+	/**
+	 * Haversine distance as computed by the proximity query.
+	 *
+	 * @return distance in miles
+	 */
+	public static double distance(double latitude, double longitude, double centerLatitude,
+			double centerLongitude) {
+		double sinLatitude = Math.sin(Math.toRadians((latitude - centerLatitude) / 2));
+		double sinLongitude = Math.sin(Math.toRadians((longitude - centerLongitude) / 2));
+		double value = sinLatitude * sinLatitude + Math.cos(Math.toRadians(centerLatitude))
+				* Math.cos(Math.toRadians(latitude)) * sinLongitude * sinLongitude;
+		return 2 * EARTH_RADIUS * Math.asin(Math.sqrt(Math.min(1, value)));
+	}
+
+	private static double longitudeDifference(double longitude, double centerLongitude) {
+		double difference = Math.abs(longitude - centerLongitude) % 360;
+		return difference > 180 ? 360 - difference : difference;
+	}
+
+	private static double parseCoordinate(String coordinate) {
+		if (coordinate == null) {
+			return Double.NaN;
+		}
+		try {
+			double value = Double.parseDouble(coordinate.trim());
+			return Double.isInfinite(value) ? Double.NaN : value;
+		} catch (NumberFormatException e) {
+			return Double.NaN;
+		}
+	}
+
+	private static int lowerBound(double[] values, double key) {
+		int low = 0;
+		int high = values.length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (values[middle] < key) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	private static final class Entry {
+
+		private final RegistrationCenter center;
+
+		private final double latitude;
+
+		private final double longitude;
+
+		private Entry(RegistrationCenter center, double latitude, double longitude) {
+			this.center = center;
+			this.latitude = latitude;
+			this.longitude = longitude;
+		}
+	}
+
+	private static final class Match {
+
+		private final int position;
+
+		private final double distance;
+
+		private Match(int position, double distance) {
+			this.position = position;
+			this.distance = distance;
+		}
+	}
+}
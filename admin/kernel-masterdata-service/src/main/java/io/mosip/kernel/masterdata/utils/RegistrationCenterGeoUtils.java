@@ -0,0 +1,152 @@
+package io.mosip.kernel.masterdata.utils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import io.mosip.kernel.core.dataaccess.exception.DataAccessLayerException;
+import io.mosip.kernel.masterdata.constant.RegistrationCenterErrorCode;
+import io.mosip.kernel.masterdata.entity.RegistrationCenter;
+import io.mosip.kernel.masterdata.exception.MasterDataServiceException;
+import io.mosip.kernel.masterdata.repository.RegistrationCenterRepository;
+
+/**
+ * Registration center proximity lookup utility
+ *
+ * @since 1.2.0
+ */
+@Component
+public class RegistrationCenterGeoUtils {
+
+	private static final Logger logger = LoggerFactory.getLogger(RegistrationCenterGeoUtils.class);
+
+	@Autowired
+	private RegistrationCenterRepository registrationCenterRepository;
+
+	/**
+	 * Interval in milliseconds to check if the registration centers are changed.
+	 */
+	@Value("${mosip.kernel.masterdata.registration-center-geo-index.version-check-interval:30000}")
+	private long versionCheckInterval;
+
+	private volatile Snapshot snapshot;
+
+	private volatile long nextVersionCheck;
+
+	/**
+	 * Method to fetch the active registration centers of a language within the
+	 * distance of the coordinates, nearest first.
+	 *
+	 * @param latitude  latitude in degrees
+	 * @param longitude longitude in degrees
+	 * @param distance  distance in miles
+	 * @param langCode  language code
+	 * @return list of registration centers
+	 */
+	public List<RegistrationCenter> findRegistrationCentersWithin(double latitude, double longitude,
+			double distance, String langCode) {
+		return getGeoIndex(langCode).findWithin(latitude, longitude, distance);
+	}
+
+	/**
+	 * Method to get the index of the active registration centers of a language.
+	 * Indexes are loaded on first use of a language and are dropped when the
+	 * registration centers are changed, which is checked at most once in the
+	 * version check interval.
+	 *
+	 * @param langCode language code
+	 * @return the {@link RegistrationCenterGeoIndex}
+	 */
+	public RegistrationCenterGeoIndex getGeoIndex(String langCode) {
+		Snapshot current = getSnapshot();
+		RegistrationCenterGeoIndex index = current.indexes.get(langCode);
+		if (index == null) {
+			index = new RegistrationCenterGeoIndex(fetchRegistrationCenters(langCode), current.version);
+			// without a version the centers can not be compared, so the index is not kept
+			if (current.version != null) {
+				RegistrationCenterGeoIndex loaded = current.indexes.putIfAbsent(langCode, index);
+				if (loaded != null) {
+					return loaded;
+				}
+				logger.info("Registration center geo index loaded with {} centers for {}", index.size(), langCode);
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Drops the loaded indexes, next lookup reloads the index of its language.
+	 */
+	public synchronized void evictGeoIndex() {
+		snapshot = null;
+		nextVersionCheck = 0L;
+	}
+
+	private Snapshot getSnapshot() {
+		Snapshot current = snapshot;
+		if (current != null && System.currentTimeMillis() < nextVersionCheck) {
+			return current;
+		}
+		synchronized (this) {
+			current = snapshot;
+			long now = System.currentTimeMillis();
+			if (current != null && now < nextVersionCheck) {
+				return current;
+			}
+			Object version = getRegistrationCenterVersion();
+			if (current == null || version == null || !version.equals(current.version)) {
+				current = new Snapshot(version);
+				snapshot = current;
+			}
+			nextVersionCheck = version == null ? 0L : now + versionCheckInterval;
+			return current;
+		}
+	}
+
+	private Object getRegistrationCenterVersion() {
+		List<Object[]> version = null;
+		try {
+			version = registrationCenterRepository.findRegistrationCenterVersion();
+		} catch (DataAccessLayerException | DataAccessException e) {
+			throw new MasterDataServiceException(
+					RegistrationCenterErrorCode.REGISTRATION_CENTER_FETCH_EXCEPTION.getErrorCode(),
+					RegistrationCenterErrorCode.REGISTRATION_CENTER_FETCH_EXCEPTION.getErrorMessage()
+							+ ExceptionUtils.parseException(e));
+		}
+		return version == null || version.isEmpty() || version.get(0) == null ? null
+				: Arrays.asList(version.get(0));
+	}
+
+	private List<RegistrationCenter> fetchRegistrationCenters(String langCode) {
+		try {
+			return registrationCenterRepository.findAllByIsDeletedFalseOrIsDeletedIsNullAndLangCode(langCode);
+		} catch (DataAccessLayerException | DataAccessException e) {
+			throw new MasterDataServiceException(
+					RegistrationCenterErrorCode.REGISTRATION_CENTER_FETCH_EXCEPTION.getErrorCode(),
+					RegistrationCenterErrorCode.REGISTRATION_CENTER_FETCH_EXCEPTION.getErrorMessage()
+							+ ExceptionUtils.parseException(e));
+		}
+	}
+
+	/**
+	 * Indexes loaded for one version of the registration centers.
+	 */
+	private static final class Snapshot {
+
+		private final Object version;
+
+		private final ConcurrentMap<String, RegistrationCenterGeoIndex> indexes = new ConcurrentHashMap<>();
+
+		private Snapshot(Object version) {
+			this.version = version;
+		}
+	}
+}
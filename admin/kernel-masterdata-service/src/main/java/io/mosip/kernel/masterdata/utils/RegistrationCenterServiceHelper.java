@@ -19,7 +19,6 @@ import io.mosip.kernel.masterdata.dto.getresponse.extn.RegistrationCenterTypeExt
 import io.mosip.kernel.masterdata.dto.request.Pagination;
 import io.mosip.kernel.masterdata.dto.request.SearchDto;
 import io.mosip.kernel.masterdata.dto.request.SearchFilter;
-import io.mosip.kernel.masterdata.dto.request.SearchSort;
 import io.mosip.kernel.masterdata.dto.response.PageResponseDto;
 import io.mosip.kernel.masterdata.dto.response.RegistrationCenterSearchDto;
 import io.mosip.kernel.masterdata.entity.Location;
@@ -55,6 +54,9 @@ public class RegistrationCenterServiceHelper {
 	@Autowired
 	private MasterdataSearchHelper masterdataSearchHelper;
 
+	@Autowired
+	private MasterdataSearchExecutor masterdataSearchExecutor;
+
 	@Autowired
 	private RegistrationCenterTypeRepository registrationCenterTypeRepository;
 
@@ -100,68 +102,46 @@ public class RegistrationCenterServiceHelper {
 	 */
 	public PageResponseDto<RegistrationCenterSearchDto> searchCenter(SearchDto dto, List<SearchFilter> locationFilter,
 			List<SearchFilter> zoneFilter, List<Zone> zones, List<Location> locations) {
-		PageResponseDto<RegistrationCenterSearchDto> pageDto = new PageResponseDto<>();
-		List<RegistrationCenterSearchDto> registrationCenters = null;
 		OptionalFilter optionalFilter = new OptionalFilter(locationFilter);
 		OptionalFilter zoneOptionalFilter = new OptionalFilter(zoneFilter);
-		Pagination pagination = dto.getPagination();
-		List<SearchSort> sort = dto.getSort();
-		dto.setPagination(new Pagination(0, Integer.MAX_VALUE));
-		dto.setSort(Collections.emptyList());
-		Page<RegistrationCenter> page = masterdataSearchHelper.searchMasterdata(RegistrationCenter.class, dto,
-				new OptionalFilter[] { optionalFilter, zoneOptionalFilter });
-		if (page.getContent() != null && !page.getContent().isEmpty()) {
-			registrationCenters = MapperUtils.mapAll(page.getContent(), RegistrationCenterSearchDto.class);
-			setCenterMetadata(registrationCenters, locations, zones);
-			setWorkingNonWorking(registrationCenters);
-			setExceptionalHoliday(registrationCenters);
-			pageDto = pageUtils.sortPage(registrationCenters, sort, pagination);
-		}
-
-		return pageDto;
+		return masterdataSearchExecutor.search(RegistrationCenter.class, dto,
+				new OptionalFilter[] { optionalFilter, zoneOptionalFilter },
+				content -> getCenters(content, locations, zones));
 	}
-	
+
+	/**
+	 * Method to search center matching all the location filters, each of the
+	 * location filter is applied as an 'or' statement
+	 * 
+	 * @param dto             search inputs
+	 * @param locationFilters filters to be applied for location
+	 * @param zoneFilter      filter to be applied for zone
+	 * @param zones           list of zones
+	 * @param locations       list of locations
+	 * @return list of {@link RegistrationCenterSearchDto} with page Metadata
+	 */
 	public PageResponseDto<RegistrationCenterSearchDto> searchCenterLocFilter(SearchDto dto,
 			List<List<SearchFilter>> locationFilters, List<SearchFilter> zoneFilter, List<Zone> zones,
 			List<Location> locations) {
-		PageResponseDto<RegistrationCenterSearchDto> pageDto = new PageResponseDto<>();
-		List<RegistrationCenterSearchDto> registrationCenters = null;
-		OptionalFilter zoneOptionalFilter = new OptionalFilter(zoneFilter);
-		Pagination pagination = dto.getPagination();
-		List<SearchSort> sort = dto.getSort();
-		dto.setPagination(new Pagination(0, Integer.MAX_VALUE));
-		dto.setSort(Collections.emptyList());
-		int count=0;
-		for(List<SearchFilter> locationFilter:locationFilters) {
-			OptionalFilter optionalFilter = new OptionalFilter(locationFilter);
-		Page<RegistrationCenter> page = masterdataSearchHelper.searchMasterdata(RegistrationCenter.class, dto,
-				new OptionalFilter[] { optionalFilter, zoneOptionalFilter });
-		if (page.getContent() != null && !page.getContent().isEmpty()) {
-			if(count==0) {
-			registrationCenters = MapperUtils.mapAll(page.getContent(), RegistrationCenterSearchDto.class);
-			}else {
-				List<RegistrationCenterSearchDto> regCenters =MapperUtils.mapAll(page.getContent(), RegistrationCenterSearchDto.class);
-				List<RegistrationCenterSearchDto> swapregCenters=new ArrayList<>();
-				for(RegistrationCenterSearchDto regCenter:regCenters) {
-					for(RegistrationCenterSearchDto registrationCenter:registrationCenters) {
-						if(registrationCenter.getId().equals(regCenter.getId())) {
-							swapregCenters.add(registrationCenter);
-						}
-					}
-				}
-				registrationCenters = swapregCenters;		
-			}
-			setCenterMetadata(registrationCenters, locations, zones);
-			setWorkingNonWorking(registrationCenters);
-			setExceptionalHoliday(registrationCenters);
-			pageDto = pageUtils.sortPage(registrationCenters, sort, pagination);
-		}else {
-			pageDto=new PageResponseDto<>();
-			return pageDto;
-		}
-		count++;
+		if (locationFilters.isEmpty()) {
+			return new PageResponseDto<>();
 		}
-		return pageDto;
+		List<OptionalFilter> optionalFilters = new ArrayList<>();
+		locationFilters.forEach(locationFilter -> optionalFilters.add(new OptionalFilter(locationFilter)));
+		optionalFilters.add(new OptionalFilter(zoneFilter));
+		return masterdataSearchExecutor.search(RegistrationCenter.class, dto,
+				optionalFilters.toArray(new OptionalFilter[optionalFilters.size()]),
+				content -> getCenters(content, locations, zones));
+	}
+
+	private List<RegistrationCenterSearchDto> getCenters(List<RegistrationCenter> content, List<Location> locations,
+			List<Zone> zones) {
+		List<RegistrationCenterSearchDto> registrationCenters = MapperUtils.mapAll(content,
+				RegistrationCenterSearchDto.class);
+		setCenterMetadata(registrationCenters, locations, zones);
+		setWorkingNonWorking(registrationCenters);
+		setExceptionalHoliday(registrationCenters);
+		return registrationCenters;
 	}
 
 	private void setExceptionalHoliday(List<RegistrationCenterSearchDto> registrationCenters) {
@@ -1,12 +1,17 @@
 package io.mosip.kernel.masterdata.utils;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.temporal.Temporal;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import javax.persistence.Transient;
+
 import org.apache.commons.lang3.StringUtils;
 
 import io.mosip.kernel.masterdata.constant.MasterdataSearchErrorCode;
@@ -151,6 +156,45 @@ public class SortUtils {
 		}
 	}
 
+	/**
+	 * Method to map the sort criteria to the persistent attributes of the entity,
+	 * sort fields are matched ignoring case same as while sorting in memory.
+	 * 
+	 * @param clazz       entity class
+	 * @param searchSorts sort criteria
+	 * @return sort criteria with the entity attribute names, null if any of the
+	 *         sort field is not a basic persistent attribute of the entity
+	 */
+	public <T> List<SearchSort> getEntitySort(Class<T> clazz, List<SearchSort> searchSorts) {
+		List<SearchSort> entitySorts = new ArrayList<>();
+		if (searchSorts == null || searchSorts.isEmpty()) {
+			return entitySorts;
+		}
+		List<Field> fields = new ArrayList<>();
+		for (Class<?> type = clazz; type != null && type != Object.class; type = type.getSuperclass()) {
+			fields.addAll(Arrays.asList(type.getDeclaredFields()));
+		}
+		for (SearchSort searchSort : searchSorts) {
+			Optional<Field> field = fields.stream().filter(f -> f.getName().equalsIgnoreCase(searchSort.getSortField()))
+					.findFirst();
+			if (!field.isPresent() || !isSortableAttribute(field.get())) {
+				return null;
+			}
+			entitySorts.add(new SearchSort(field.get().getName(), searchSort.getSortType()));
+		}
+		return entitySorts;
+	}
+
+	private boolean isSortableAttribute(Field field) {
+		if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers())
+				|| field.isAnnotationPresent(Transient.class)) {
+			return false;
+		}
+		Class<?> type = field.getType();
+		return type.isPrimitive() || type.isEnum() || String.class.equals(type) || Number.class.isAssignableFrom(type)
+				|| Boolean.class.equals(type) || Temporal.class.isAssignableFrom(type) || Date.class.equals(type);
+	}
+
 	private <T> List<Field> extractFields(Class<T> clazz) {
 		List<Field> fields = new ArrayList<>();
 		fields.addAll(Arrays.asList(clazz.getDeclaredFields()));
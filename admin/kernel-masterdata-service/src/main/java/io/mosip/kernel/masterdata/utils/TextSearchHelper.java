@@ -0,0 +1,197 @@
+package io.mosip.kernel.masterdata.utils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.mosip.kernel.masterdata.entity.BaseEntity;
+
+/**
+ * Chooses how the contains, starts with and ends with text filters of the
+ * search and filter values APIs are run.
+ *
+ * On PostgreSQL the searchable columns have trigram indexes on the lower case
+ * column, which serve the <code>lower(column) like '%text%'</code> filters, so
+ * the filters are left to the database. On the other databases, the H2 test
+ * profile among them, the distinct values of the column are kept in an
+ * in-memory {@link NgramIndex} and the filter is replaced by
+ * <code>column in (matching values)</code>.
+ *
+ * The in-memory index is not used, and the filter is left to the database, for
+ * texts having like wild cards, for non text columns, for columns having too
+ * many distinct values and for texts matching too many values.
+ *
+ * @since 1.2.0
+ */
+@Component
+public class TextSearchHelper {
+
+	private static final Logger logger = LoggerFactory.getLogger(TextSearchHelper.class);
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Value("${hibernate.dialect:}")
+	private String dialect;
+
+	/**
+	 * Enables the in-memory index on databases without trigram indexes.
+	 */
+	@Value("${mosip.kernel.masterdata.text-search.ngram-index.enabled:true}")
+	private boolean ngramIndexEnabled;
+
+	/**
+	 * Maximum number of distinct values of a column kept in the in-memory index.
+	 */
+	@Value("${mosip.kernel.masterdata.text-search.ngram-index.max-values:100000}")
+	private int maxValues;
+
+	/**
+	 * Maximum number of matching values passed to the query, the filter is left to
+	 * the database for texts matching more values.
+	 */
+	@Value("${mosip.kernel.masterdata.text-search.ngram-index.max-matches:1000}")
+	private int maxMatches;
+
+	/**
+	 * Interval in milliseconds to check if the values of a column are changed.
+	 * The index is not evicted on writes, so by default it is checked on every
+	 * search.
+	 */
+	@Value("${mosip.kernel.masterdata.text-search.ngram-index.version-check-interval:0}")
+	private long versionCheckInterval;
+
+	private final Map<String, IndexHolder> indexes = new ConcurrentHashMap<>();
+
+	/**
+	 * @return true if the text filters are served by the database indexes
+	 */
+	public boolean isDatabaseIndexed() {
+		return dialect != null && dialect.toLowerCase().contains("postgres");
+	}
+
+	/**
+	 * Method to build the predicate of a text filter from the in-memory index,
+	 * when the filter is not served by the database indexes.
+	 *
+	 * @param builder    used to construct criteria queries
+	 * @param root       root type in the from clause
+	 * @param columnName the column to filter
+	 * @param text       the text to search, without wild cards
+	 * @param anyPrefix  true if the column may have any characters before the
+	 *                   text
+	 * @param anySuffix  true if the column may have any characters after the text
+	 * @return the predicate, null if the filter is to be run as a like filter
+	 */
+	public <E> Predicate buildIndexedPredicate(CriteriaBuilder builder, Root<E> root, String columnName, String text,
+			boolean anyPrefix, boolean anySuffix) {
+		if (isDatabaseIndexed() || !ngramIndexEnabled || text == null || hasWildCard(text)
+				|| !BaseEntity.class.isAssignableFrom(root.getJavaType())) {
+			return null;
+		}
+		Path<Object> path = root.get(columnName);
+		if (!String.class.equals(path.getJavaType())) {
+			return null;
+		}
+		NgramIndex index = getIndex(root.getJavaType(), columnName);
+		if (index == null) {
+			return null;
+		}
+		List<String> values = index.find(text, anyPrefix, anySuffix);
+		if (values.size() > maxMatches) {
+			return null;
+		}
+		return values.isEmpty() ? builder.disjunction() : path.in(values);
+	}
+
+	/**
+	 * Drops all the in-memory indexes, next search reloads the indexes.
+	 */
+	public void evictIndexes() {
+		indexes.clear();
+	}
+
+	private NgramIndex getIndex(Class<?> entity, String columnName) {
+		IndexHolder holder = indexes.computeIfAbsent(entity.getName() + "." + columnName,
+				key -> new IndexHolder());
+		NgramIndex index = holder.index;
+		if (holder.loaded && System.currentTimeMillis() < holder.nextVersionCheck) {
+			return index;
+		}
+		synchronized (holder) {
+			long now = System.currentTimeMillis();
+			if (holder.loaded && now < holder.nextVersionCheck) {
+				return holder.index;
+			}
+			try {
+				String entityName = entityManager.getMetamodel().entity(entity).getName();
+				Object version = getVersion(entityName);
+				if (!holder.loaded || version == null || !version.equals(holder.version)) {
+					holder.index = fetchIndex(entityName, columnName, version);
+					holder.version = version;
+					holder.loaded = true;
+				}
+				// without a version the values can not be compared, so check again next time
+				holder.nextVersionCheck = version == null ? 0L : now + versionCheckInterval;
+			} catch (RuntimeException e) {
+				logger.warn("Failed to load the text index of {}.{}, searching the database", entity.getSimpleName(),
+						columnName, e);
+				return null;
+			}
+			return holder.index;
+		}
+	}
+
+	private Object getVersion(String entityName) {
+		List<?> version = entityManager.createQuery("SELECT COUNT(e), MAX(e.createdDateTime), MAX(e.updatedDateTime), "
+				+ "MAX(e.deletedDateTime) FROM " + entityName + " e").getResultList();
+		return version.isEmpty() || !(version.get(0) instanceof Object[]) ? null
+				: Arrays.asList((Object[]) version.get(0));
+	}
+
+	/**
+	 * @return the index, null if the column has too many distinct values
+	 */
+	private NgramIndex fetchIndex(String entityName, String columnName, Object version) {
+		List<String> values = entityManager
+				.createQuery("SELECT DISTINCT e." + columnName + " FROM " + entityName + " e WHERE e." + columnName
+						+ " IS NOT NULL", String.class)
+				.setMaxResults(maxValues + 1).getResultList();
+		if (values.size() > maxValues) {
+			logger.info("{}.{} has more than {} values, text filters are left to the database", entityName,
+					columnName, maxValues);
+			return null;
+		}
+		NgramIndex index = new NgramIndex(values, version);
+		logger.info("Text index of {}.{} loaded with {} values", entityName, columnName, index.size());
+		return index;
+	}
+
+	private static boolean hasWildCard(String text) {
+		return text.indexOf('%') >= 0 || text.indexOf('_') >= 0 || text.indexOf('\\') >= 0;
+	}
+
+	private static final class IndexHolder {
+
+		private volatile boolean loaded;
+
+		private volatile Object version;
+
+		private volatile NgramIndex index;
+
+		private volatile long nextVersionCheck;
+	}
+}
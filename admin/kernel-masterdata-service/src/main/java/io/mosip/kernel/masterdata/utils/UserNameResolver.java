@@ -0,0 +1,182 @@
+package io.mosip.kernel.masterdata.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.mosip.kernel.core.http.RequestWrapper;
+
+/**
+ * Resolves the names of users from the auth manager.
+ *
+ * All the users not known are requested in one call, so the users of a search
+ * page cost one request whatever the page size. Resolved names, and users the
+ * auth manager has no name for, are kept for a short time so that the next
+ * pages and searches do not request them again. Nothing is kept when the auth
+ * manager replies with errors or without the user list, so that a failure is
+ * not taken as users without a name.
+ *
+ * @since 1.2.0
+ */
+@Component
+public class UserNameResolver {
+
+	private static final Logger logger = LoggerFactory.getLogger(UserNameResolver.class);
+
+	@Value("${zone.user.details.url}")
+	private String userDetailsUrl;
+
+	/**
+	 * time in milliseconds a resolved name is kept.
+	 */
+	@Value("${mosip.kernel.masterdata.user-name-cache.ttl-millis:60000}")
+	private long ttlMillis;
+
+	/**
+	 * maximum number of names kept.
+	 */
+	@Value("${mosip.kernel.masterdata.user-name-cache.max-size:10000}")
+	private int maxSize;
+
+	@Autowired
+	private RestTemplate restTemplate;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private final Map<String, CachedName> names = new ConcurrentHashMap<>();
+
+	/**
+	 * Gets the names of the users.
+	 *
+	 * @param userIds the user ids
+	 * @return names by user id, users without a name are left out
+	 */
+	public Map<String, String> getUserNames(Collection<String> userIds) {
+		long now = System.currentTimeMillis();
+		Map<String, String> userNames = new HashMap<>();
+		List<String> unknownUserIds = new ArrayList<>();
+		for (String userId : new LinkedHashSet<>(userIds)) {
+			if (userId == null)
+				continue;
+			CachedName cachedName = names.get(userId);
+			if (cachedName != null && cachedName.expiresAt > now) {
+				if (cachedName.name != null)
+					userNames.put(userId, cachedName.name);
+			} else
+				unknownUserIds.add(userId);
+		}
+		if (unknownUserIds.isEmpty())
+			return userNames;
+
+		Map<String, String> fetchedNames = fetchUserNames(unknownUserIds);
+		if (fetchedNames == null)
+			return userNames;
+		makeRoom(unknownUserIds.size(), now);
+		for (String userId : unknownUserIds) {
+			String name = fetchedNames.get(userId);
+			names.put(userId, new CachedName(name, now + ttlMillis));
+			if (name != null)
+				userNames.put(userId, name);
+		}
+		return userNames;
+	}
+
+	/**
+	 * Clears the names kept.
+	 */
+	public void clear() {
+		names.clear();
+	}
+
+	/**
+	 * Requests the names of the users in one call.
+	 *
+	 * @param userIds the user ids
+	 * @return names by user id, null if the auth manager replied with errors,
+	 *         without the user list or the response could not be read
+	 */
+	@SuppressWarnings("unchecked")
+	private Map<String, String> fetchUserNames(List<String> userIds) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_JSON);
+		UriComponentsBuilder uribuilder = UriComponentsBuilder.fromUriString(userDetailsUrl + "/admin");
+		RequestWrapper<Map<String, List<String>>> request = new RequestWrapper<>();
+		Map<String, List<String>> userDetails = new HashMap<>();
+		userDetails.put("userDetails", userIds);
+		request.setRequest(userDetails);
+		ResponseEntity<String> response = restTemplate.exchange(uribuilder.toUriString(), HttpMethod.POST,
+				new HttpEntity<>(request, headers), String.class);
+		try {
+			Map<String, Object> body = objectMapper.readValue(response.getBody(), Map.class);
+			if (body == null || body.get("response") == null) {
+				logger.error("Failed to fetch usernames, errors: {}", body == null ? null : body.get("errors"));
+				return null;
+			}
+			List<?> errors = (List<?>) body.get("errors");
+			if (errors != null && !errors.isEmpty()) {
+				logger.error("Failed to fetch usernames, errors: {}", errors);
+				return null;
+			}
+			List<Map<String, String>> users = ((Map<String, List<Map<String, String>>>) body.get("response"))
+					.get("mosipUserDtoList");
+			if (users == null) {
+				logger.error("Failed to fetch usernames, no user list in the response");
+				return null;
+			}
+			Map<String, String> fetchedNames = new HashMap<>();
+			for (Map<String, String> user : users) {
+				String name = user.get("name");
+				if (user.get("userId") != null && name != null && !name.isBlank())
+					fetchedNames.put(user.get("userId"), name);
+			}
+			return fetchedNames;
+		} catch (Exception e) {
+			logger.error("Failed to fetch usernames", e);
+		}
+		return null;
+	}
+
+	/**
+	 * Removes the expired names, and all the names if still too many to add the
+	 * new ones.
+	 */
+	private void makeRoom(int count, long now) {
+		if (names.size() + count <= maxSize)
+			return;
+		names.values().removeIf(cachedName -> cachedName.expiresAt <= now);
+		if (names.size() + count > maxSize)
+			names.clear();
+	}
+
+	private static final class CachedName {
+
+		private final String name;
+
+		private final long expiresAt;
+
+		private CachedName(String name, long expiresAt) {
+			this.name = name;
+			this.expiresAt = expiresAt;
+		}
+	}
+}
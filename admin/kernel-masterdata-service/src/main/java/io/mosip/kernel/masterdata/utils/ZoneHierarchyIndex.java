@@ -0,0 +1,271 @@
+package io.mosip.kernel.masterdata.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.mosip.kernel.masterdata.entity.Zone;
+
+/**
+ * Immutable index of the zone hierarchy.
+ *
+ * Zones of each language are laid out in tree pre-order, so the sub tree of a
+ * zone is a contiguous range of the pre-order array and the leafs of the sub
+ * tree are a contiguous range of the pre-order leaf array. Sub tree and leaf
+ * lookups return views of these arrays without walking the tree.
+ *
+ * The index is built once from the list of zones and is never modified, a
+ * changed zone hierarchy is published by building a new index.
+ *
+ * @since 1.2.0
+ */
+public final class ZoneHierarchyIndex {
+
+	private final Object version;
+
+	private final List<Zone> zones;
+
+	private final Map<String, int[]> positionsByCode;
+
+	private final Map<String, ZoneTree> trees;
+
+	/**
+	 * @param zones   all the non deleted zones
+	 * @param version version of the zones the index is built from, null if not
+	 *                known
+	 */
+	public ZoneHierarchyIndex(List<Zone> zones, Object version) {
+		this.version = version;
+		this.zones = zones == null ? Collections.emptyList()
+				: Collections.unmodifiableList(new ArrayList<>(zones));
+
+		Map<String, List<Integer>> positions = new HashMap<>();
+		Map<String, List<Zone>> zonesByLangCode = new LinkedHashMap<>();
+		for (int i = 0; i < this.zones.size(); i++) {
+			Zone zone = this.zones.get(i);
+			positions.computeIfAbsent(zone.getCode(), key -> new ArrayList<>()).add(i);
+			zonesByLangCode.computeIfAbsent(zone.getLangCode(), key -> new ArrayList<>()).add(zone);
+		}
+		Map<String, int[]> codePositions = new HashMap<>();
+		positions.forEach((code, list) -> codePositions.put(code, list.stream().mapToInt(Integer::intValue).toArray()));
+		this.positionsByCode = codePositions;
+
+		Map<String, ZoneTree> langTrees = new HashMap<>();
+		zonesByLangCode.forEach((langCode, langZones) -> langTrees.put(langCode, new ZoneTree(langZones)));
+		this.trees = langTrees;
+	}
+
+	public Object getVersion() {
+		return version;
+	}
+
+	/**
+	 * @return all the zones in the order they were loaded
+	 */
+	public List<Zone> getZones() {
+		return zones;
+	}
+
+	/**
+	 * @param code     zone code
+	 * @param langCode language code
+	 * @return the zone or null if not found
+	 */
+	public Zone getZone(String code, String langCode) {
+		ZoneTree tree = trees.get(langCode);
+		return tree == null ? null : tree.getZone(code);
+	}
+
+	/**
+	 * Method to fetch the zone and all its child zones of a language, in tree
+	 * pre-order.
+	 *
+	 * @param code     zone code
+	 * @param langCode language code
+	 * @return list of zones, empty if the zone is not found
+	 */
+	public List<Zone> getSubZones(String code, String langCode) {
+		ZoneTree tree = trees.get(langCode);
+		return tree == null ? Collections.emptyList() : tree.getSubZones(code);
+	}
+
+	/**
+	 * Method to fetch the leaf zones under the zone of a language, the zone itself
+	 * if it has no child zones.
+	 *
+	 * @param code     zone code
+	 * @param langCode language code
+	 * @return list of zones, empty if the zone is not found
+	 */
+	public List<Zone> getLeafZones(String code, String langCode) {
+		ZoneTree tree = trees.get(langCode);
+		return tree == null ? Collections.emptyList() : tree.getLeafZones(code);
+	}
+
+	/**
+	 * Method to fetch the codes of the zone and all its child zones in any of the
+	 * languages.
+	 *
+	 * @param code zone code
+	 * @return set of zone codes
+	 */
+	public Set<String> getSubZoneCodes(String code) {
+		Set<String> codes = new HashSet<>();
+		for (ZoneTree tree : trees.values()) {
+			for (Zone zone : tree.getSubZones(code)) {
+				codes.add(zone.getCode());
+			}
+		}
+		return codes;
+	}
+
+	/**
+	 * Method to fetch the zones of all the languages having any of the codes, in
+	 * the order they were loaded.
+	 *
+	 * @param codes zone codes
+	 * @return list of zones
+	 */
+	public List<Zone> getZones(Collection<String> codes) {
+		int count = 0;
+		int[][] matches = new int[codes.size()][];
+		for (String code : codes) {
+			int[] codePositions = positionsByCode.get(code);
+			if (codePositions != null) {
+				matches[count++] = codePositions;
+			}
+		}
+		int size = 0;
+		for (int i = 0; i < count; i++) {
+			size += matches[i].length;
+		}
+		int[] resultPositions = new int[size];
+		int offset = 0;
+		for (int i = 0; i < count; i++) {
+			System.arraycopy(matches[i], 0, resultPositions, offset, matches[i].length);
+			offset += matches[i].length;
+		}
+		Arrays.sort(resultPositions);
+		List<Zone> result = new ArrayList<>(size);
+		int previous = -1;
+		for (int position : resultPositions) {
+			if (position != previous) {
+				result.add(zones.get(position));
+				previous = position;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Zone tree of one language laid out in pre-order.
+	 */
+	private static final class ZoneTree {
+
+		private final Map<String, Integer> positions = new HashMap<>();
+
+		private final List<Zone> preOrder;
+
+		private final int[] subTreeEnd;
+
+		private final List<Zone> leafs;
+
+		private final int[] leafPositions;
+
+		private ZoneTree(List<Zone> zones) {
+			int size = zones.size();
+			Map<String, Integer> indexes = new HashMap<>();
+			for (int i = 0; i < size; i++) {
+				indexes.put(zones.get(i).getCode(), i);
+			}
+			List<List<Integer>> children = new ArrayList<>(size);
+			List<Integer> roots = new ArrayList<>();
+			for (int i = 0; i < size; i++) {
+				children.add(new ArrayList<>());
+			}
+			for (int i = 0; i < size; i++) {
+				Integer parent = indexes.get(zones.get(i).getParentZoneCode());
+				if (parent == null || parent == i) {
+					roots.add(i);
+				} else {
+					children.get(parent).add(i);
+				}
+			}
+
+			Zone[] order = new Zone[size];
+			int[] ends = new int[size];
+			int[] orderPositions = new int[size];
+			List<Zone> leafZones = new ArrayList<>();
+			List<Integer> leafOrder = new ArrayList<>();
+			int position = 0;
+			// iterative depth first walk, a node is pushed again to close its range
+			Deque<int[]> stack = new ArrayDeque<>();
+			for (int r = roots.size() - 1; r >= 0; r--) {
+				stack.push(new int[] { roots.get(r), 0 });
+			}
+			while (!stack.isEmpty()) {
+				int[] entry = stack.pop();
+				int node = entry[0];
+				if (entry[1] == 1) {
+					ends[orderPositions[node]] = position;
+					continue;
+				}
+				orderPositions[node] = position;
+				order[position] = zones.get(node);
+				positions.put(zones.get(node).getCode(), position);
+				List<Integer> nodeChildren = children.get(node);
+				if (nodeChildren.isEmpty()) {
+					leafZones.add(zones.get(node));
+					leafOrder.add(position);
+				}
+				position++;
+				stack.push(new int[] { node, 1 });
+				for (int c = nodeChildren.size() - 1; c >= 0; c--) {
+					stack.push(new int[] { nodeChildren.get(c), 0 });
+				}
+			}
+			// zones in a parent cycle are not reachable from any root and are left out
+			this.preOrder = Collections.unmodifiableList(Arrays.asList(order).subList(0, position));
+			this.subTreeEnd = Arrays.copyOf(ends, position);
+			this.leafs = Collections.unmodifiableList(leafZones);
+			this.leafPositions = leafOrder.stream().mapToInt(Integer::intValue).toArray();
+		}
+
+		private Zone getZone(String code) {
+			Integer position = positions.get(code);
+			return position == null ? null : preOrder.get(position);
+		}
+
+		private List<Zone> getSubZones(String code) {
+			Integer position = positions.get(code);
+			if (position == null) {
+				return Collections.emptyList();
+			}
+			return preOrder.subList(position, subTreeEnd[position]);
+		}
+
+		private List<Zone> getLeafZones(String code) {
+			Integer position = positions.get(code);
+			if (position == null) {
+				return Collections.emptyList();
+			}
+			int from = lowerBound(leafPositions, position);
+			int to = lowerBound(leafPositions, subTreeEnd[position]);
+			return leafs.subList(from, to);
+		}
+
+		private static int lowerBound(int[] values, int key) {
+			int index = Arrays.binarySearch(values, key);
+			return index >= 0 ? index : -index - 1;
+		}
+	}
+}
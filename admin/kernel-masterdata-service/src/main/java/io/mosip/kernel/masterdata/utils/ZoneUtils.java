@@ -1,6 +1,7 @@
 package io.mosip.kernel.masterdata.utils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -13,15 +14,12 @@ import io.mosip.kernel.core.authmanager.authadapter.model.AuthUserDetails;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
-import io.mosip.kernel.core.masterdata.util.model.Node;
-import io.mosip.kernel.core.masterdata.util.spi.UBtree;
 import io.mosip.kernel.masterdata.constant.ZoneErrorCode;
 import io.mosip.kernel.masterdata.entity.Zone;
 import io.mosip.kernel.masterdata.entity.ZoneUser;
@@ -49,12 +47,74 @@ public class ZoneUtils {
 	@Autowired
 	private LanguageUtils languageUtils;
 
-	@Autowired
-	@Qualifier("zoneTree")
-	private UBtree<Zone> zoneTree;
+	/**
+	 * Interval in milliseconds to check if the zones are changed.
+	 */
+	@Value("${mosip.kernel.masterdata.zone-index.version-check-interval:30000}")
+	private long versionCheckInterval;
+
+	private volatile ZoneHierarchyIndex zoneIndex;
+
+	private volatile long nextVersionCheck;
+
+	/**
+	 * Method to get the index of the non deleted zones. The index is loaded once
+	 * and is reloaded only when the zones are changed, which is checked at most
+	 * once in the version check interval.
+	 * 
+	 * @return the {@link ZoneHierarchyIndex}
+	 */
+	public ZoneHierarchyIndex getZoneIndex() {
+		ZoneHierarchyIndex index = zoneIndex;
+		if (index != null && System.currentTimeMillis() < nextVersionCheck) {
+			return index;
+		}
+		synchronized (this) {
+			index = zoneIndex;
+			long now = System.currentTimeMillis();
+			if (index != null && now < nextVersionCheck) {
+				return index;
+			}
+			Object version = getZoneVersion();
+			if (index == null || version == null || !version.equals(index.getVersion())) {
+				index = new ZoneHierarchyIndex(fetchZones(), version);
+				zoneIndex = index;
+				logger.info("Zone index loaded with {} zones", index.getZones().size());
+			}
+			// without a version the zones can not be compared, so check again next time
+			nextVersionCheck = version == null ? 0L : now + versionCheckInterval;
+			return index;
+		}
+	}
+
+	/**
+	 * Drops the loaded zone index, next zone lookup reloads the index.
+	 */
+	public synchronized void evictZoneIndex() {
+		zoneIndex = null;
+		nextVersionCheck = 0L;
+	}
+
+	private Object getZoneVersion() {
+		List<Object[]> version = null;
+		try {
+			version = zoneRepository.findZoneVersion();
+		} catch (DataAccessException e) {
+			throw new MasterDataServiceException(ZoneErrorCode.ZONE_FETCH_EXCEPTION.getErrorCode(),
+					ZoneErrorCode.ZONE_FETCH_EXCEPTION.getErrorMessage());
+		}
+		return version == null || version.isEmpty() || version.get(0) == null ? null
+				: Arrays.asList(version.get(0));
+	}
 
-	@Value("mosip.kernel.masterdata.zone-heirarchy-path-delimiter:/")
-	private String hierarchyPathDelimiter;
+	private List<Zone> fetchZones() {
+		try {
+			return zoneRepository.findAllNonDeleted();
+		} catch (DataAccessException e) {
+			throw new MasterDataServiceException(ZoneErrorCode.ZONE_FETCH_EXCEPTION.getErrorCode(),
+					ZoneErrorCode.ZONE_FETCH_EXCEPTION.getErrorMessage());
+		}
+	}
 
 
 	/**
@@ -65,12 +125,25 @@ public class ZoneUtils {
 	 * @return list of zones
 	 */
 	public List<Zone> getUserZones(List<Zone> zones) {
-		List<Zone> zoneIds = new ArrayList<>();
 		String userName = SecurityContextHolder.getContext().getAuthentication().getName();
+		return getUserZones(new ZoneHierarchyIndex(zones, null), userName);
+	}
+
+	/**
+	 * Method to get the user's zones and all the child zones of a language from the
+	 * index.
+	 * 
+	 * @param index    zone index to search the users zones
+	 * @param userName user for that need zones and child zones
+	 * @return list of zones
+	 */
+	private List<Zone> getUserZones(ZoneHierarchyIndex index, String userName) {
+		List<Zone> zoneIds = new ArrayList<>();
 		List<ZoneUser> userZones = getZoneUser(userName);
 		if (userZones != null && !userZones.isEmpty()) {
+			Set<Zone> added = new HashSet<>();
 			for (ZoneUser zu : userZones) {
-				searchZones(zones, zoneIds, zu);
+				searchZones(index, zoneIds, added, zu);
 			}
 		} else {
 			throw new MasterDataServiceException(ZoneErrorCode.USER_ZONE_UNAVAILABLE.getErrorCode(),
@@ -82,21 +155,15 @@ public class ZoneUtils {
 	/**
 	 * Method to search the all the child zones as per input.
 	 * 
-	 * @param zones   list of zones
+	 * @param index   zone index
 	 * @param zoneIds zone id's to be searched
+	 * @param added   zones already added to zoneIds
 	 * @param zu      zone user
 	 */
-	private void searchZones(List<Zone> zones, List<Zone> zoneIds, ZoneUser zu) {
-		Optional<Zone> zoneOptional = zones.stream()
-				.filter(i -> zu.getZoneCode().equals(i.getCode()) && zu.getLangCode().equals(i.getLangCode()))
-				.findFirst();
-		if (zoneOptional.isPresent()) {
-			Zone zone = zoneOptional.get();
-			if (!zoneIds.contains(zone))
+	private void searchZones(ZoneHierarchyIndex index, List<Zone> zoneIds, Set<Zone> added, ZoneUser zu) {
+		for (Zone zone : index.getSubZones(zu.getZoneCode(), zu.getLangCode())) {
+			if (added.add(zone)) {
 				zoneIds.add(zone);
-			List<Zone> zoneList = getDescedants(zones, zone);
-			if (zoneList != null && !zoneList.isEmpty()) {
-				zoneIds.addAll(zoneList);
 			}
 		}
 	}
@@ -107,18 +174,11 @@ public class ZoneUtils {
 	 * @return list of zones
 	 */
 	public List<Zone> getUserZones() {
-		List<Zone> zones = null;
-		try {
-			zones = zoneRepository.findAllNonDeleted();
-		} catch (DataAccessException e) {
-			throw new MasterDataServiceException(ZoneErrorCode.ZONE_FETCH_EXCEPTION.getErrorCode(),
-					ZoneErrorCode.ZONE_FETCH_EXCEPTION.getErrorMessage());
-		}
-
-		if (zones != null && !zones.isEmpty()) {
-			List<Zone> userZones = getUserZones(zones);
-			List<String> zoneIds = userZones.stream().map(Zone::getCode).collect(Collectors.toList());
-			return zones.stream().filter(i -> zoneIds.contains(i.getCode())).collect(Collectors.toList());
+		ZoneHierarchyIndex index = getZoneIndex();
+		if (!index.getZones().isEmpty()) {
+			String userName = SecurityContextHolder.getContext().getAuthentication().getName();
+			List<Zone> userZones = getUserZones(index, userName);
+			return index.getZones(getZoneCodeSet(userZones));
 		}
 
 		else
@@ -131,14 +191,7 @@ public class ZoneUtils {
 	 * @return list of zones
 	 */
 	public List<Zone> getZones() {
-		List<Zone> zones = null;
-		try {
-			zones = zoneRepository.findAllNonDeleted();
-		} catch (DataAccessException e) {
-			throw new MasterDataServiceException(ZoneErrorCode.ZONE_FETCH_EXCEPTION.getErrorCode(),
-					ZoneErrorCode.ZONE_FETCH_EXCEPTION.getErrorMessage());
-		}
-		return zones;
+		return new ArrayList<>(getZoneIndex().getZones());
 	}
 
 	/**
@@ -149,58 +202,25 @@ public class ZoneUtils {
 	 */
 	public List<Zone> getZones(Zone zone) {
 		Objects.requireNonNull(zone, "zone cannot be null");
-		Set<String> zoneList = new HashSet<>();
-		List<Zone> zones = getUserZones();
-		if (zones != null && !zones.isEmpty()) {
-			zones.stream().filter(z -> z.getHierarchyPath().contains(zone.getCode())).map(Zone::getHierarchyPath)
-					.forEach(i -> {
-						int iIndex = i.lastIndexOf(zone.getCode());
-						String szone = i.substring(iIndex);
-						String[] sArray = szone.split(hierarchyPathDelimiter);
-						for (String zoneCode : sArray) {
-							zoneList.add(zoneCode);
-						}
-					});
-			return zones.stream().filter(z -> zoneList.contains(z.getCode())).collect(Collectors.toList());
-		}
-		return Collections.emptyList();
+		return getChildZones(zone.getCode());
 	}
 
 	public List<Zone> getChildZones(String zoneCode) {
 		Objects.requireNonNull(zoneCode, "zone cannot be null");
-		Set<String> zoneList = new HashSet<>();
 		List<Zone> zones = getUserZones();
 		if (zones != null && !zones.isEmpty()) {
-			zones.stream().filter(z -> z.getHierarchyPath().contains(zoneCode)).map(Zone::getHierarchyPath)
-					.forEach(i -> {
-						int iIndex = i.lastIndexOf(zoneCode);
-						String szone = i.substring(iIndex);
-						String[] sArray = szone.split(hierarchyPathDelimiter);
-						for (String zoneCodeChild : sArray) {
-							zoneList.add(zoneCodeChild);
-						}
-					});
+			Set<String> zoneList = getZoneIndex().getSubZoneCodes(zoneCode);
 			return zones.stream().filter(z -> zoneList.contains(z.getCode())).collect(Collectors.toList());
 		}
 		return Collections.emptyList();
 	}
 
-	/**
-	 * Method to fetch the all the child zones as per the input
-	 * 
-	 * @param zones input list of zone to search from
-	 * @param zone  zone to be search
-	 * @return list of zones
-	 */
-	private List<Zone> getDescedants(List<Zone> zones, Zone zone) {
-		if(zone == null)
-			return Collections.EMPTY_LIST;
-
-		List<Zone> zoneList = zones.stream().filter(i -> i.getLangCode().equals(zone.getLangCode()))
-				.collect(Collectors.toList());
-		List<Node<Zone>> tree = zoneTree.createTree(zoneList);
-		Node<Zone> node = zoneTree.findNode(tree, zone.getCode());
-		return zoneTree.getChildHierarchy(node);
+	private static Set<String> getZoneCodeSet(List<Zone> zones) {
+		Set<String> codes = new HashSet<>();
+		for (Zone zone : zones) {
+			codes.add(zone.getCode());
+		}
+		return codes;
 	}
 
 	/**
@@ -232,18 +252,15 @@ public class ZoneUtils {
 		if (userZones != null && !userZones.isEmpty()) {
 			Optional<String> zoneId = userZones.stream().map(ZoneUser::getZoneCode).findFirst();
 			if (zoneId.isPresent()) {
-				List<Zone> zones = getUserZones();
-				List<Zone> langSpecificZones = null;
+				ZoneHierarchyIndex index = getZoneIndex();
 				if (langCode == null || langCode.equals("all")) {
-					langSpecificZones = zones.stream().filter(i -> languageUtils.getConfiguredLanguages().contains(i.getLangCode()))
-							.collect(Collectors.toList());
-				} else {
-					langSpecificZones = zones.stream().filter(i -> i.getLangCode().equals(langCode))
-							.collect(Collectors.toList());
+					List<Zone> leafZones = new ArrayList<>();
+					for (String lang : languageUtils.getConfiguredLanguages()) {
+						leafZones.addAll(index.getLeafZones(zoneId.get(), lang));
+					}
+					return leafZones;
 				}
-				List<Node<Zone>> tree = zoneTree.createTree(langSpecificZones);
-				Node<Zone> node = zoneTree.findNode(tree, zoneId.get());
-				return zoneTree.findLeafsValue(node);
+				return new ArrayList<>(index.getLeafZones(zoneId.get(), langCode));
 			}
 		}
 		return Collections.emptyList();
@@ -264,14 +281,8 @@ public class ZoneUtils {
 			return Collections.emptyList();
 		}
 
-		List<Zone> zones = getZones();
 		String lang = (langCode==null || langCode.equals("all")) ? languageUtils.getDefaultLanguage() : langCode;
-		List<Zone> langSpecificZones = zones == null ? Collections.EMPTY_LIST : zones.stream().filter(i -> lang.equals(i.getLangCode()))
-				.collect(Collectors.toList());
-
-		List<Node<Zone>> tree = zoneTree.createTree(langSpecificZones);
-		Node<Zone> node = zoneTree.findNode(tree, zu.getZoneCode());
-		return zoneTree.getChildHierarchy(node);
+		return new ArrayList<>(getZoneIndex().getSubZones(zu.getZoneCode(), lang));
 	}
 
 	/**
@@ -288,14 +299,8 @@ public class ZoneUtils {
 			return Collections.emptyList();
 		}
 
-		List<Zone> zones = getZones();
 		String lang = (langCode==null || langCode.equals("all")) ? languageUtils.getDefaultLanguage() : langCode;
-		List<Zone> langSpecificZones = zones.stream().filter(i -> lang.equals(i.getLangCode()))
-				.collect(Collectors.toList());
-
-		List<Node<Zone>> tree = zoneTree.createTree(langSpecificZones);
-		Node<Zone> node = zoneTree.findNode(tree, zu.getZoneCode());
-		return zoneTree.findLeafsValue(node);
+		return new ArrayList<>(getZoneIndex().getLeafZones(zu.getZoneCode(), lang));
 	}
 
 	/**
@@ -304,20 +309,8 @@ public class ZoneUtils {
 	 * @return
 	 */
 	public List<Zone> getLeafZones(String langCode,String zoneCode) {
-		List<Zone> zones = getZones();
-		List<Zone> langSpecificZones = null;
-		if (langCode==null || langCode.equals("all")) {
-			String lang=languageUtils.getDefaultLanguage();
-			langSpecificZones = zones.stream().filter(i -> lang.equals(i.getLangCode()))
-					.collect(Collectors.toList());
-		} else {
-			langSpecificZones = zones.stream().filter(i -> i.getLangCode().equals(langCode))
-					.collect(Collectors.toList());
-		}
-		List<Node<Zone>> tree = zoneTree.createTree(langSpecificZones);
-		Node<Zone> node = zoneTree.findNode(tree, zoneCode);
-		return zoneTree.findLeafsValue(node);
-
+		String lang = (langCode==null || langCode.equals("all")) ? languageUtils.getDefaultLanguage() : langCode;
+		return new ArrayList<>(getZoneIndex().getLeafZones(zoneCode, lang));
 	}
 	// ----------------------------------------
 	/**
@@ -329,18 +322,7 @@ public class ZoneUtils {
 	 * @return list of zones
 	 */
 	public List<Zone> getUserZonesByUserId(List<Zone> zones, String userId) {
-		List<Zone> zoneIds = new ArrayList<>();
-		String userName = userId;
-		List<ZoneUser> userZones = getZoneUser(userName);
-		if (userZones != null && !userZones.isEmpty()) {
-			for (ZoneUser zu : userZones) {
-				searchZones(zones, zoneIds, zu);
-			}
-		} else {
-			throw new MasterDataServiceException(ZoneErrorCode.USER_ZONE_UNAVAILABLE.getErrorCode(),
-					String.format(ZoneErrorCode.USER_ZONE_UNAVAILABLE.getErrorMessage(), userName));
-		}
-		return zoneIds;
+		return getUserZones(new ZoneHierarchyIndex(zones, null), userId);
 	}
 
 	/**
@@ -350,18 +332,10 @@ public class ZoneUtils {
 	 * @return list of zones
 	 */
 	public List<Zone> getUserZonesByUserId(String userId) {
-		List<Zone> zones = null;
-		try {
-			zones = zoneRepository.findAllNonDeleted();
-		} catch (DataAccessException e) {
-			throw new MasterDataServiceException(ZoneErrorCode.ZONE_FETCH_EXCEPTION.getErrorCode(),
-					ZoneErrorCode.ZONE_FETCH_EXCEPTION.getErrorMessage());
-		}
-
-		if (zones != null && !zones.isEmpty()) {
-			List<Zone> userZones = getUserZonesByUserId(zones, userId);
-			List<String> zoneIds = userZones.stream().map(Zone::getCode).collect(Collectors.toList());
-			return zones.stream().filter(i -> zoneIds.contains(i.getCode())).collect(Collectors.toList());
+		ZoneHierarchyIndex index = getZoneIndex();
+		if (!index.getZones().isEmpty()) {
+			List<Zone> userZones = getUserZones(index, userId);
+			return index.getZones(getZoneCodeSet(userZones));
 		}
 
 		else
@@ -369,11 +343,7 @@ public class ZoneUtils {
 	}
 
 	public List<Zone> getChildZoneList(List<String> zoneIds, String zoneCode, String langCode) {
-		List<Zone> zones = null;
-		Zone zone = zoneRepository.findZoneByCodeAndLangCodeNonDeleted(zoneCode, langCode);
-		zones = zoneRepository.findAllNonDeleted();
-		List<Zone> zoneHeirarchyList = getDescedants(zones, zone);
-		return zoneHeirarchyList;
+		return new ArrayList<>(getZoneIndex().getSubZones(zoneCode, langCode));
 	}
 
 	public List<String> getZoneCodes(List<Zone> zones) {
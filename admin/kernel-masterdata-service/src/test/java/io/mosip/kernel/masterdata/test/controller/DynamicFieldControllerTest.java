@@ -1,5 +1,8 @@
 package io.mosip.kernel.masterdata.test.controller;
 
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -7,6 +10,7 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.mosip.kernel.masterdata.dto.request.*;
 import io.mosip.kernel.masterdata.validator.FilterColumnEnum;
+import org.hamcrest.Matchers;
 import org.json.JSONObject;
 import org.junit.Before;
 import org.junit.FixMethodOrder;
@@ -254,6 +258,16 @@ public class DynamicFieldControllerTest {
 				null);
 	}
 
+	@Test
+	@WithUserDetails("global-admin")
+	public void t008getAllDynamicFieldsGroupsValuesTest() throws Exception {
+		mockMvc.perform(MockMvcRequestBuilders.get("/dynamicfields").param("pageNumber", "0").param("pageSize", "10")
+				.param("langCode", "eng")).andExpect(status().isOk())
+				.andExpect(jsonPath("$.response.data[?(@.name == 'bloodType2')]", Matchers.hasSize(1)))
+				.andExpect(jsonPath("$.response.data[?(@.name == 'bloodType2')].fieldVal[*]", Matchers.hasSize(2)))
+				.andExpect(jsonPath("$.response.data[?(@.name == 'bloodType2')].isActive", Matchers.contains(true)));
+	}
+
 	@Test
 	@WithUserDetails("global-admin")
 	public void t019getAllDynamicFieldsFailTest() throws Exception {
@@ -229,8 +229,8 @@ public class RegistrationCenterControllerTest {
 	public void t005getCoordinateSpecificRegistrationCentersTest() throws Exception {
 
 		MasterDataTest.checkResponse(mockMvc
-				.perform(MockMvcRequestBuilders.get("/getcoordinatespecificregistrationcenters/eng/23/34/50"))
-				.andReturn(), "KER-MSD-041");
+				.perform(MockMvcRequestBuilders.get("/getcoordinatespecificregistrationcenters/eng/34.5434/23.3454/50"))
+				.andReturn(), null);
 
 	}
 
@@ -240,7 +240,7 @@ public class RegistrationCenterControllerTest {
 
 		MasterDataTest.checkResponse(mockMvc
 				.perform(MockMvcRequestBuilders.get("/getcoordinatespecificregistrationcenters/eng/23.3454/4.5434/6"))
-				.andReturn(), "KER-MSD-041");
+				.andReturn(), "KER-MSD-215");
 
 	}
 
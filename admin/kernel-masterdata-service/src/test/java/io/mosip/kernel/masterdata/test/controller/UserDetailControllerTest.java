@@ -1,8 +1,10 @@
 package io.mosip.kernel.masterdata.test.controller;
 
 import static org.mockito.Mockito.doNothing;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.ArrayList;
@@ -20,10 +22,12 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.client.ExpectedCount;
 import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.test.web.client.response.DefaultResponseCreator;
 import org.springframework.test.web.servlet.MockMvc;
@@ -44,6 +48,7 @@ import io.mosip.kernel.masterdata.dto.request.SearchSort;
 import io.mosip.kernel.masterdata.test.TestBootApplication;
 import io.mosip.kernel.masterdata.test.utils.MasterDataTest;
 import io.mosip.kernel.masterdata.utils.AuditUtil;
+import io.mosip.kernel.masterdata.utils.UserNameResolver;
 
 @RunWith(SpringRunner.class)
 @SpringBootTest(classes = TestBootApplication.class)
@@ -65,6 +70,8 @@ public class UserDetailControllerTest
 	private String userDetailsUri;
 	@Autowired
 	private RestTemplate restTemplate;
+	@Autowired
+	private UserNameResolver userNameResolver;
 
 	private ObjectMapper mapper;
 	private RequestWrapper<UserDetailsDto> ud = new RequestWrapper<>();
@@ -649,7 +656,60 @@ public class UserDetailControllerTest
 		MasterDataTest.checkResponse(
 				mockMvc.perform(MockMvcRequestBuilders.post("/usercentermapping/search").contentType(MediaType.APPLICATION_JSON).content(mapper.writeValueAsString(sr))).andReturn(), "KER-MSD-390");
 	}
-	
-	
+
+	@Test
+	@WithUserDetails("global-admin")
+	public void t018searchUserCenterMappingDetailsResolvesNamesOncePerPageTest() throws Exception {
+		userNameResolver.clear();
+		MockRestServiceServer authServer = MockRestServiceServer.bindTo(restTemplate).build();
+		authServer.expect(ExpectedCount.once(), requestTo(userDetailsUri + "/admin")).andExpect(method(HttpMethod.POST))
+				.andRespond(withSuccess().body("{\"response\": {\"mosipUserDtoList\": ["
+						+ "{\"userId\": \"4\", \"name\": \"User Four\"},"
+						+ "{\"userId\": \"41\", \"name\": \"User FortyOne\"}]}}")
+						.contentType(MediaType.APPLICATION_JSON));
+		sr.getRequest().getFilters().get(0).setColumnName("zoneCode");
+		sr.getRequest().getFilters().get(0).setValue("RSK");
+		sr.getRequest().setPagination(new Pagination(0, 10));
+		sr.getRequest().getSort().get(0).setSortField("userId");
+
+		for (int i = 0; i < 2; i++) {
+			mockMvc.perform(MockMvcRequestBuilders.post("/usercentermapping/search")
+					.contentType(MediaType.APPLICATION_JSON).content(mapper.writeValueAsString(sr)))
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.response.data.length()").value(4))
+					.andExpect(jsonPath("$.response.data[0].userName").value("4 (User Four)"))
+					.andExpect(jsonPath("$.response.data[1].userName").value("41 (User FortyOne)"))
+					.andExpect(jsonPath("$.response.data[2].userName").value("user7"))
+					.andExpect(jsonPath("$.response.data[0].zoneName").value("RabatSaleKenitra"))
+					.andExpect(jsonPath("$.response.data[3].zoneName").value("RabatSaleKenitra"))
+					.andExpect(jsonPath("$.response.data[0].regCenterId").value("10002"));
+		}
+		authServer.verify();
+	}
+
+	@Test
+	@WithUserDetails("global-admin")
+	public void t019searchUserCenterMappingDetailsDoesNotKeepNamesOnAuthErrorTest() throws Exception {
+		userNameResolver.clear();
+		MockRestServiceServer authServer = MockRestServiceServer.bindTo(restTemplate).build();
+		authServer.expect(ExpectedCount.times(2), requestTo(userDetailsUri + "/admin"))
+				.andExpect(method(HttpMethod.POST))
+				.andRespond(withSuccess().body("{\"response\": null, \"errors\": ["
+						+ "{\"errorCode\": \"KER-ATH-500\", \"message\": \"auth manager unavailable\"}]}")
+						.contentType(MediaType.APPLICATION_JSON));
+		sr.getRequest().getFilters().get(0).setColumnName("zoneCode");
+		sr.getRequest().getFilters().get(0).setValue("RSK");
+		sr.getRequest().setPagination(new Pagination(0, 10));
+		sr.getRequest().getSort().get(0).setSortField("userId");
+
+		for (int i = 0; i < 2; i++) {
+			mockMvc.perform(MockMvcRequestBuilders.post("/usercentermapping/search")
+					.contentType(MediaType.APPLICATION_JSON).content(mapper.writeValueAsString(sr)))
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.response.data.length()").value(4))
+					.andExpect(jsonPath("$.response.data[0].userName").value("4"));
+		}
+		authServer.verify();
+	}
 
 }
@@ -2436,7 +2436,7 @@ public class MasterdataIntegrationTest {
 	@Test
 	@WithUserDetails("individual")
 	public void getCoordinateSpecificRegistrationCentersRegistrationCenterNotFoundExceptionTest() throws Exception {
-		when(registrationCenterRepository.findRegistrationCentersByLat(12.9180022, 77.5028892, 0.999785939, "ENG"))
+		when(registrationCenterRepository.findAllByIsDeletedFalseOrIsDeletedIsNullAndLangCode("ENG"))
 				.thenReturn(new ArrayList<>());
 		mockMvc.perform(get("/getcoordinatespecificregistrationcenters/ENG/77.5028892/12.9180022/1609")
 				.contentType(MediaType.APPLICATION_JSON)).andExpect(status().isOk()).andReturn();
@@ -2445,7 +2445,7 @@ public class MasterdataIntegrationTest {
 	@Test
 	@WithUserDetails("individual")
 	public void getCoordinateSpecificRegistrationCentersRegistrationCenterFetchExceptionTest() throws Exception {
-		when(registrationCenterRepository.findRegistrationCentersByLat(12.9180022, 77.5028892, 0.999785939, "ENG"))
+		when(registrationCenterRepository.findAllByIsDeletedFalseOrIsDeletedIsNullAndLangCode("ENG"))
 				.thenThrow(DataAccessLayerException.class);
 		MvcResult result = mockMvc.perform(
 				get("/getcoordinatespecificregistrationcenters/ENG/77.5028892/12.9180022/1609")
@@ -2531,7 +2531,7 @@ public class MasterdataIntegrationTest {
 	@Test
 	@WithUserDetails("individual")
 	public void getCoordinateSpecificRegistrationCentersTest() throws Exception {
-		when(registrationCenterRepository.findRegistrationCentersByLat(12.9180022, 77.5028892, 0.999785939, "ENG"))
+		when(registrationCenterRepository.findAllByIsDeletedFalseOrIsDeletedIsNullAndLangCode("ENG"))
 				.thenReturn(registrationCenters);
 
 		mockMvc.perform(get("/getcoordinatespecificregistrationcenters/ENG/77.5028892/12.9180022/1609")
@@ -0,0 +1,155 @@
+package io.mosip.kernel.masterdata.test.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import io.mosip.kernel.masterdata.entity.Location;
+import io.mosip.kernel.masterdata.utils.LocationHierarchyIndex;
+
+@RunWith(JUnit4.class)
+public class LocationHierarchyIndexTest {
+
+	private List<Location> locations;
+
+	private LocationHierarchyIndex index;
+
+	@Before
+	public void setup() {
+		locations = new ArrayList<>();
+		locations.add(location("MOR", null, "eng", true, false));
+		locations.add(location("RSK", "MOR", "eng", true, false));
+		locations.add(location("KTA", "RSK", "eng", true, false));
+		locations.add(location("RBT", "RSK", "eng", true, false));
+		locations.add(location("BOU", "RBT", "eng", true, false));
+		locations.add(location("SAL", "RSK", "eng", false, false));
+		locations.add(location("SAL1", "SAL", "eng", true, false));
+		locations.add(location("CST", "MOR", "eng", true, null));
+		locations.add(location("CST1", "CST", "eng", true, true));
+		locations.add(location("MOR", null, "fra", true, false));
+		locations.add(location("RSK", "MOR", "fra", true, false));
+		locations.add(location("TNG", "RSK", "fra", true, false));
+		index = new LocationHierarchyIndex(locations, null);
+	}
+
+	@Test
+	public void testSubLocationsSameAsQueries() {
+		for (Location location : getActiveLocations("eng")) {
+			List<Location> expected = new ArrayList<>();
+			expected.add(location);
+			expected.addAll(getChildList(location.getCode(), "eng"));
+			List<Location> subLocations = index.getSubLocations(location.getCode(), "eng");
+			assertEquals(expected.size(), subLocations.size());
+			assertEquals(new HashSet<>(expected), new HashSet<>(subLocations));
+			assertEquals(location, subLocations.get(0));
+		}
+	}
+
+	@Test
+	public void testAncestorsSameAsQueries() {
+		for (Location location : getActiveLocations("eng")) {
+			assertEquals(getParentList(location.getParentLocCode(), "eng"),
+					index.getAncestors(location.getCode(), "eng"));
+		}
+	}
+
+	@Test
+	public void testDescendantCodesSameAsQueries() {
+		for (Location location : locations) {
+			assertEquals(new HashSet<>(getChildCodes(location.getCode())),
+					new HashSet<>(index.getDescendantCodes(location.getCode())));
+		}
+		assertEquals(new HashSet<>(Arrays.asList("KTA", "RBT", "BOU", "SAL", "SAL1", "TNG")),
+				new HashSet<>(index.getDescendantCodes("RSK")));
+	}
+
+	@Test
+	public void testLeafLocations() {
+		assertEquals(Arrays.asList("KTA", "BOU", "CST"), getCodes(index.getLeafLocations("MOR", "eng")));
+		assertEquals(Arrays.asList("BOU"), getCodes(index.getLeafLocations("RBT", "eng")));
+	}
+
+	@Test
+	public void testUnknownLocation() {
+		assertTrue(index.getSubLocations("XXX", "eng").isEmpty());
+		assertTrue(index.getSubLocations("SAL", "eng").isEmpty());
+		assertTrue(index.getAncestors("MOR", "ara").isEmpty());
+		assertTrue(index.getDescendantCodes("BOU").isEmpty());
+		assertNull(index.getLocation("CST1", "eng"));
+		assertEquals("TNG", index.getLocation("TNG", "fra").getCode());
+	}
+
+	@Test
+	public void testParentCycleLeftOut() {
+		locations.add(location("CY1", "CY2", "eng", true, false));
+		locations.add(location("CY2", "CY1", "eng", true, false));
+		index = new LocationHierarchyIndex(locations, null);
+		assertTrue(index.getSubLocations("CY1", "eng").isEmpty());
+		assertEquals(Arrays.asList("CY2"), index.getDescendantCodes("CY1"));
+	}
+
+	private static Location location(String code, String parentLocCode, String langCode, boolean isActive,
+			Boolean isDeleted) {
+		Location location = new Location(code, code, (short) 0, "level", parentLocCode, langCode, null);
+		location.setIsActive(isActive);
+		location.setIsDeleted(isDeleted);
+		return location;
+	}
+
+	private List<Location> getActiveLocations(String langCode) {
+		return locations.stream()
+				.filter(location -> langCode.equals(location.getLangCode()) && location.getIsActive()
+						&& !Boolean.TRUE.equals(location.getIsDeleted()))
+				.collect(Collectors.toList());
+	}
+
+	// the recursive lookups, one query per location, which the index replaces
+
+	private List<Location> getChildList(String code, String langCode) {
+		List<Location> childList = new ArrayList<>();
+		for (Location child : getActiveLocations(langCode)) {
+			if (code.equals(child.getParentLocCode())) {
+				childList.add(child);
+				childList.addAll(getChildList(child.getCode(), langCode));
+			}
+		}
+		return childList;
+	}
+
+	private List<Location> getParentList(String code, String langCode) {
+		List<Location> parentList = new ArrayList<>();
+		for (Location parent : getActiveLocations(langCode)) {
+			if (parent.getCode().equals(code)) {
+				parentList.add(parent);
+				if (parent.getParentLocCode() != null)
+					parentList.addAll(getParentList(parent.getParentLocCode(), langCode));
+			}
+		}
+		return parentList;
+	}
+
+	private List<String> getChildCodes(String code) {
+		List<String> childCodes = new ArrayList<>();
+		for (String child : locations.stream().filter(location -> code.equals(location.getParentLocCode()))
+				.map(Location::getCode).distinct().collect(Collectors.toList())) {
+			childCodes.add(child);
+			childCodes.addAll(getChildCodes(child));
+		}
+		return childCodes;
+	}
+
+	private List<String> getCodes(List<Location> locations) {
+		return locations.stream().map(Location::getCode).collect(Collectors.toList());
+	}
+}
@@ -11,6 +11,8 @@ import static org.junit.Assert.assertTrue;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -138,6 +140,41 @@ public class MapperTest {
 		assertFalse(entity.getIsActive());
 	}
 
-	
+	@Test
+	public void testMapNullValuesOnlyForThatCall() {
+		LanguageDto dto = new LanguageDto();
+		dto.setCode("ENG");
+		Language entity = new Language();
+		entity.setName("english");
+
+		map(dto, entity, false);
+		assertTrue(entity.getName().equals("english"));
+
+		map(dto, entity);
+		assertNull(entity.getName());
+	}
+
+	@Test
+	public void testMapAllConcurrently() {
+		List<Language> languages = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			Language language = new Language();
+			language.setCode("L" + i);
+			language.setName("language" + i);
+			language.setIsActive(i % 2 == 0);
+			languages.add(language);
+		}
+
+		List<List<LanguageDto>> results = IntStream.range(0, 8).parallel()
+				.mapToObj(i -> MapperUtils.mapAll(languages, LanguageDto.class)).collect(Collectors.toList());
+
+		for (List<LanguageDto> dtos : results) {
+			for (int i = 0; i < languages.size(); i++) {
+				assertTrue(dtos.get(i).getCode().equals(languages.get(i).getCode()));
+				assertTrue(dtos.get(i).getName().equals(languages.get(i).getName()));
+				assertTrue(dtos.get(i).getIsActive().equals(languages.get(i).getIsActive()));
+			}
+		}
+	}
 
 }
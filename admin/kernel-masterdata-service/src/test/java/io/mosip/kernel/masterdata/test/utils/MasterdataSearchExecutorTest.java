@@ -0,0 +1,131 @@
+package io.mosip.kernel.masterdata.test.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import io.mosip.kernel.core.websub.model.EventModel;
+import io.mosip.kernel.core.websub.spi.PublisherClient;
+import io.mosip.kernel.masterdata.dto.request.Pagination;
+import io.mosip.kernel.masterdata.dto.request.SearchDto;
+import io.mosip.kernel.masterdata.dto.request.SearchSort;
+import io.mosip.kernel.masterdata.dto.response.LocationSearchDto;
+import io.mosip.kernel.masterdata.dto.response.PageResponseDto;
+import io.mosip.kernel.masterdata.entity.Location;
+import io.mosip.kernel.masterdata.service.TemplateService;
+import io.mosip.kernel.masterdata.utils.MapperUtils;
+import io.mosip.kernel.masterdata.utils.MasterdataSearchExecutor;
+import io.mosip.kernel.masterdata.utils.MasterdataSearchHelper;
+import io.mosip.kernel.masterdata.utils.PageUtils;
+
+@SpringBootTest
+@RunWith(SpringRunner.class)
+public class MasterdataSearchExecutorTest {
+
+	@Autowired
+	private MasterdataSearchExecutor searchExecutor;
+
+	@Autowired
+	private MasterdataSearchHelper searchHelper;
+
+	@Autowired
+	private PageUtils pageUtils;
+
+	@MockBean
+	private PublisherClient<String, EventModel, HttpHeaders> publisher;
+
+	@MockBean
+	private TemplateService templateService;
+
+	@Test
+	public void searchPagesMatchInMemoryPages() {
+		List<SearchSort> sort = Arrays.asList(new SearchSort("name", "desc"), new SearchSort("code", "asc"));
+		for (int pageStart = 0; pageStart < 4; pageStart++) {
+			assertSamePage(getInMemoryPage(sort, new Pagination(pageStart, 2)),
+					search(sort, new Pagination(pageStart, 2), new AtomicInteger()));
+		}
+	}
+
+	@Test
+	public void searchSortFieldIgnoresCase() {
+		List<SearchSort> sort = Arrays.asList(new SearchSort("HIERARCHYLEVEL", "asc"), new SearchSort("Code", "desc"));
+		assertSamePage(getInMemoryPage(sort, new Pagination(1, 3)),
+				search(sort, new Pagination(1, 3), new AtomicInteger()));
+	}
+
+	@Test
+	public void searchMapsOnlyRequestedPage() {
+		AtomicInteger mappedRows = new AtomicInteger();
+		PageResponseDto<LocationSearchDto> page = search(Arrays.asList(new SearchSort("code", "asc")),
+				new Pagination(0, 2), mappedRows);
+		assertEquals(2, page.getData().size());
+		assertEquals(2, mappedRows.get());
+	}
+
+	@Test
+	public void searchSortOnResponseFieldIsPagedInMemory() {
+		List<SearchSort> sort = Arrays.asList(new SearchSort("region", "asc"));
+		AtomicInteger mappedRows = new AtomicInteger();
+		PageResponseDto<LocationSearchDto> page = search(sort, new Pagination(0, 2), mappedRows);
+		assertSamePage(getInMemoryPage(sort, new Pagination(0, 2)), page);
+		assertEquals(page.getTotalRecord(), mappedRows.get());
+	}
+
+	@Test
+	public void searchOutOfRangePageIsEmpty() {
+		PageResponseDto<LocationSearchDto> page = search(Arrays.asList(new SearchSort("code", "asc")),
+				new Pagination(10, 5), new AtomicInteger());
+		assertNull(page.getData());
+		assertEquals(0, page.getTotalRecord());
+	}
+
+	private PageResponseDto<LocationSearchDto> search(List<SearchSort> sort, Pagination pagination,
+			AtomicInteger mappedRows) {
+		SearchDto searchDto = new SearchDto(new ArrayList<>(), sort, pagination, "eng");
+		return searchExecutor.search(Location.class, searchDto, null, content -> {
+			mappedRows.addAndGet(content.size());
+			return toSearchDto(content);
+		});
+	}
+
+	private PageResponseDto<LocationSearchDto> getInMemoryPage(List<SearchSort> sort, Pagination pagination) {
+		SearchDto searchDto = new SearchDto(new ArrayList<>(), Collections.emptyList(),
+				new Pagination(0, Integer.MAX_VALUE), "eng");
+		List<LocationSearchDto> locations = toSearchDto(
+				searchHelper.searchMasterdata(Location.class, searchDto, null).getContent());
+		return pageUtils.sortPage(locations, sort, pagination);
+	}
+
+	private List<LocationSearchDto> toSearchDto(List<Location> content) {
+		List<LocationSearchDto> locations = MapperUtils.mapAll(content, LocationSearchDto.class);
+		// response only field, can not be sorted in the query
+		locations.forEach(location -> location.setRegion(location.getParentLocCode() + location.getCode()));
+		return locations;
+	}
+
+	private void assertSamePage(PageResponseDto<LocationSearchDto> expected, PageResponseDto<LocationSearchDto> actual) {
+		assertEquals(expected.getFromRecord(), actual.getFromRecord());
+		assertEquals(expected.getToRecord(), actual.getToRecord());
+		assertEquals(expected.getTotalRecord(), actual.getTotalRecord());
+		assertEquals(getCodes(expected), getCodes(actual));
+	}
+
+	private List<String> getCodes(PageResponseDto<LocationSearchDto> page) {
+		return page.getData() == null ? Collections.emptyList()
+				: page.getData().stream().map(LocationSearchDto::getCode).collect(Collectors.toList());
+	}
+}
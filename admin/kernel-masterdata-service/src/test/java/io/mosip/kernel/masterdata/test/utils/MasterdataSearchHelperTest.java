@@ -1,6 +1,13 @@
 package io.mosip.kernel.masterdata.test.utils;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -8,6 +15,7 @@ import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.junit4.SpringRunner;
 
@@ -17,9 +25,11 @@ import io.mosip.kernel.masterdata.dto.request.Pagination;
 import io.mosip.kernel.masterdata.dto.request.SearchDto;
 import io.mosip.kernel.masterdata.dto.request.SearchFilter;
 import io.mosip.kernel.masterdata.dto.request.SearchSort;
+import io.mosip.kernel.masterdata.entity.Location;
 import io.mosip.kernel.masterdata.entity.RegistrationCenter;
 import io.mosip.kernel.masterdata.exception.RequestException;
 import io.mosip.kernel.masterdata.service.TemplateService;
+import io.mosip.kernel.masterdata.utils.KeysetPage;
 import io.mosip.kernel.masterdata.utils.MasterdataSearchHelper;
 import io.mosip.kernel.masterdata.utils.OptionalFilter;
 
@@ -223,4 +233,48 @@ public class MasterdataSearchHelperTest {
 		searchHelper.searchMasterdata(RegistrationCenter.class, searchDto, null);
 	}
 
+	@Test
+	public void searchKeysetPaginationMasterdata() {
+		for (SearchSort keysetSort : Arrays.asList(new SearchSort("name", "asc"),
+				new SearchSort("parentLocCode", "desc"), new SearchSort("hierarchyLevel", "asc"),
+				new SearchSort("updatedBy", "asc"))) {
+			SearchDto searchDto = new SearchDto(Collections.emptyList(), Arrays.asList(keysetSort),
+					new Pagination(0, 100), "eng");
+			List<String> expected = searchHelper.searchMasterdata(Location.class, searchDto, null).getContent()
+					.stream().map(Location::getCode).collect(Collectors.toList());
+
+			List<String> keysetCodes = new ArrayList<>();
+			Pagination keysetPage = new Pagination(0, 2);
+			keysetPage.setPageToken("");
+			do {
+				Page<Location> page = searchHelper.searchMasterdata(Location.class,
+						new SearchDto(Collections.emptyList(), Arrays.asList(keysetSort), keysetPage, "eng"), null);
+				page.getContent().forEach(location -> keysetCodes.add(location.getCode()));
+				assertTrue(page.getTotalElements() >= keysetCodes.size());
+				keysetPage.setPageToken(((KeysetPage<Location>) page).getNextPageToken());
+			} while (keysetPage.getPageToken() != null);
+			assertEquals(expected, keysetCodes);
+		}
+	}
+
+	@Test
+	public void searchKeysetPaginationCountMasterdata() {
+		long total = searchHelper.searchMasterdata(Location.class, new SearchDto(Collections.emptyList(),
+				Arrays.asList(new SearchSort("name", "asc")), new Pagination(0, 1), "eng"), null).getTotalElements();
+		Pagination keysetPage = new Pagination(0, 1);
+		keysetPage.setPageToken("");
+		SearchDto searchDto = new SearchDto(Collections.emptyList(), Arrays.asList(new SearchSort("name", "asc")),
+				keysetPage, "eng");
+		assertEquals(2, searchHelper.searchMasterdata(Location.class, searchDto, null).getTotalElements());
+		keysetPage.setExactCount(true);
+		assertEquals(total, searchHelper.searchMasterdata(Location.class, searchDto, null).getTotalElements());
+	}
+
+	@Test(expected = RequestException.class)
+	public void searchInvalidPageTokenMasterdata() {
+		page.setPageToken("invalid");
+		SearchDto searchDto = new SearchDto(Arrays.asList(filter), Arrays.asList(sort), page, "eng");
+		searchHelper.searchMasterdata(RegistrationCenter.class, searchDto, null);
+	}
+
 }
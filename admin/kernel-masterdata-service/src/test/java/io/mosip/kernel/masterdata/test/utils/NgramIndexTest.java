@@ -0,0 +1,78 @@
+package io.mosip.kernel.masterdata.test.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import io.mosip.kernel.masterdata.utils.NgramIndex;
+
+@RunWith(JUnit4.class)
+public class NgramIndexTest {
+
+	private static final List<String> VALUES = Arrays.asList("Rabat Sale Kenitra", "Kenitra", "KENITRA", "Mograne",
+			"Ben Mansour", "14022", "E8-A9-64-1F-27-E6", "École Élémentaire", "ÉCOLE", "Straße", "STRASSE",
+			"İstanbul", "ΣΊΣΥΦΟΣ", "Dağ", "Ångström", "مركز الرباط", "東京都", "naïve café", "NAÏVE CAFÉ", "a", "ab");
+
+	private static final List<String> TEXTS = Arrays.asList("kenitra", "KENI", "nitra", "ra", "e", "", "zzz",
+			"1f-27", "école", "ÉCOLE", "élé", "straße", "STRASSE", "ss", "istanbul", "i̇st", "σίσυφος", "ΣΥΦ", "DAĞ",
+			"ångs", "الرباط", "京都", "ïve ca", "NAÏVE", "ab", "a");
+
+	private final NgramIndex index = new NgramIndex(VALUES, null);
+
+	@Test
+	public void testContainsSameAsLowerLike() {
+		for (String text : TEXTS) {
+			assertEquals(text, scan(text, true, true), index.find(text, true, true));
+		}
+	}
+
+	@Test
+	public void testStartsAndEndsWithSameAsLowerLike() {
+		for (String text : TEXTS) {
+			assertEquals(text, scan(text, false, true), index.find(text, false, true));
+			assertEquals(text, scan(text, true, false), index.find(text, true, false));
+			assertEquals(text, scan(text, false, false), index.find(text, false, false));
+		}
+	}
+
+	@Test
+	public void testCaseFolding() {
+		assertEquals(Arrays.asList("Rabat Sale Kenitra", "Kenitra", "KENITRA"), index.find("kEnItRa", true, true));
+		assertEquals(Arrays.asList("École Élémentaire", "ÉCOLE"), index.find("éCoLe", false, true));
+		assertEquals(Arrays.asList("naïve café", "NAÏVE CAFÉ"), index.find("Café", true, false));
+		// lower case of sharp s is itself, it is not folded to ss
+		assertEquals(Arrays.asList("Straße"), index.find("STRAẞE", true, true));
+		assertEquals(Arrays.asList("STRASSE"), index.find("strasse", true, true));
+	}
+
+	@Test
+	public void testDistinctValues() {
+		NgramIndex duplicates = new NgramIndex(Arrays.asList("Kenitra", null, "Kenitra", "kenitra"), "1");
+		assertEquals(2, duplicates.size());
+		assertEquals("1", duplicates.getVersion());
+		assertEquals(Arrays.asList("Kenitra", "kenitra"), duplicates.find("KEN", true, true));
+		assertTrue(duplicates.find(null, true, true).isEmpty());
+	}
+
+	// the lower(column) like lower(pattern) filter the index replaces
+	private static List<String> scan(String text, boolean anyPrefix, boolean anySuffix) {
+		String foldedText = NgramIndex.fold(text);
+		return VALUES.stream().filter(value -> {
+			String foldedValue = NgramIndex.fold(value);
+			if (anyPrefix && anySuffix)
+				return foldedValue.contains(foldedText);
+			if (anyPrefix)
+				return foldedValue.endsWith(foldedText);
+			if (anySuffix)
+				return foldedValue.startsWith(foldedText);
+			return foldedValue.equals(foldedText);
+		}).collect(Collectors.toList());
+	}
+}
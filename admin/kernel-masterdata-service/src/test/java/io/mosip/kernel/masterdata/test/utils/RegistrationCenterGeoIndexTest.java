@@ -0,0 +1,148 @@
+package io.mosip.kernel.masterdata.test.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import io.mosip.kernel.masterdata.entity.RegistrationCenter;
+import io.mosip.kernel.masterdata.utils.RegistrationCenterGeoIndex;
+
+@RunWith(JUnit4.class)
+public class RegistrationCenterGeoIndexTest {
+
+	private static final double METER_TO_MILE = 0.000621371;
+
+	private List<RegistrationCenter> centers;
+
+	private RegistrationCenterGeoIndex index;
+
+	@Before
+	public void setup() {
+		Random random = new Random(42);
+		centers = new ArrayList<>();
+		for (int i = 0; i < 100000; i++) {
+			double latitude;
+			double longitude;
+			if (i % 2 == 0) {
+				// clustered around a few cities so that small radiuses have matches
+				latitude = 34.0 + (i % 10) + random.nextGaussian() * 0.05;
+				longitude = -6.8 + (i % 10) + random.nextGaussian() * 0.05;
+			} else {
+				latitude = random.nextDouble() * 180 - 90;
+				longitude = random.nextDouble() * 360 - 180;
+			}
+			centers.add(center(String.valueOf(i), " " + latitude + " ", String.valueOf(longitude)));
+		}
+		centers.add(center("invalid", "abc", "12.5"));
+		centers.add(center("missing", null, "12.5"));
+		index = new RegistrationCenterGeoIndex(centers, null);
+	}
+
+	@Test
+	public void testSameAsProximityQuery() {
+		Random random = new Random(7);
+		int[] distances = { 50, 1609, 10000, 100000, 1000000, 10000000 };
+		for (int i = 0; i < 24; i++) {
+			double latitude;
+			double longitude;
+			if (i % 3 == 0) {
+				latitude = 34.0 + (i % 10);
+				longitude = -6.8 + (i % 10);
+			} else {
+				latitude = random.nextDouble() * 180 - 90;
+				longitude = random.nextDouble() * 360 - 180;
+			}
+			double distance = distances[i % distances.length] * METER_TO_MILE;
+			assertEquals(getIds(scan(latitude, longitude, distance)),
+					getIds(index.findWithin(latitude, longitude, distance)));
+		}
+	}
+
+	@Test
+	public void testNearPolesAndDateLine() {
+		double[][] points = { { 89.99, 10 }, { -89.9, -170 }, { 10, 179.999 }, { -10, -179.999 } };
+		for (double[] point : points) {
+			double distance = 500000 * METER_TO_MILE;
+			assertEquals(getIds(scan(point[0], point[1], distance)),
+					getIds(index.findWithin(point[0], point[1], distance)));
+		}
+	}
+
+	@Test
+	public void testNearestFirst() {
+		List<RegistrationCenter> result = index.findWithin(34.0, -6.8, 20000 * METER_TO_MILE);
+		assertTrue(result.size() > 1);
+		double previous = 0;
+		for (RegistrationCenter center : result) {
+			double distance = RegistrationCenterGeoIndex.distance(34.0, -6.8, Double.parseDouble(center.getLatitude()),
+					Double.parseDouble(center.getLongitude()));
+			assertTrue(distance >= previous);
+			previous = distance;
+		}
+	}
+
+	@Test
+	public void testInvalidCoordinatesSkipped() {
+		assertEquals(100000, index.size());
+		assertTrue(index.findWithin(34.0, -6.8, 0).isEmpty());
+		assertEquals(Arrays.asList("10001"),
+				getIds(new RegistrationCenterGeoIndex(Arrays.asList(center("10001", "23.3454", "34.5434")), null)
+						.findWithin(23.3454, 34.5434, 50 * METER_TO_MILE)));
+	}
+
+	/**
+	 * Full scan with the haversine formula of the proximity query.
+	 */
+	private List<RegistrationCenter> scan(double latitude, double longitude, double distance) {
+		List<RegistrationCenter> result = new ArrayList<>();
+		List<Double> resultDistances = new ArrayList<>();
+		for (RegistrationCenter center : centers) {
+			double centerLatitude;
+			double centerLongitude;
+			try {
+				centerLatitude = Double.parseDouble(center.getLatitude().trim());
+				centerLongitude = Double.parseDouble(center.getLongitude().trim());
+			} catch (NullPointerException | NumberFormatException e) {
+				continue;
+			}
+			double centerDistance = 2 * 3961 * Math.asin(Math.sqrt(
+					Math.pow(Math.sin(Math.toRadians((latitude - centerLatitude) / 2)), 2)
+							+ Math.cos(Math.toRadians(centerLatitude)) * Math.cos(Math.toRadians(latitude))
+									* Math.pow(Math.sin(Math.toRadians((longitude - centerLongitude) / 2)), 2)));
+			if (centerDistance < distance) {
+				result.add(center);
+				resultDistances.add(centerDistance);
+			}
+		}
+		List<Integer> order = new ArrayList<>();
+		for (int i = 0; i < result.size(); i++) {
+			order.add(i);
+		}
+		order.sort(Comparator.comparingDouble(resultDistances::get));
+		return order.stream().map(result::get).collect(Collectors.toList());
+	}
+
+	private static List<String> getIds(List<RegistrationCenter> centers) {
+		return centers.stream().map(RegistrationCenter::getId).collect(Collectors.toList());
+	}
+
+	private static RegistrationCenter center(String id, String latitude, String longitude) {
+		RegistrationCenter center = new RegistrationCenter();
+		center.setId(id);
+		center.setLatitude(latitude);
+		center.setLongitude(longitude);
+		center.setLangCode("eng");
+		return center;
+	}
+}
@@ -0,0 +1,116 @@
+package io.mosip.kernel.masterdata.test.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManager;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.kernel.core.websub.model.EventModel;
+import io.mosip.kernel.core.websub.spi.PublisherClient;
+import io.mosip.kernel.masterdata.dto.request.FilterDto;
+import io.mosip.kernel.masterdata.dto.request.FilterValueDto;
+import io.mosip.kernel.masterdata.dto.request.Pagination;
+import io.mosip.kernel.masterdata.dto.request.SearchDto;
+import io.mosip.kernel.masterdata.dto.request.SearchFilter;
+import io.mosip.kernel.masterdata.dto.request.SearchSort;
+import io.mosip.kernel.masterdata.entity.Location;
+import io.mosip.kernel.masterdata.service.TemplateService;
+import io.mosip.kernel.masterdata.utils.MasterDataFilterHelper;
+import io.mosip.kernel.masterdata.utils.MasterdataSearchHelper;
+import io.mosip.kernel.masterdata.utils.NgramIndex;
+import io.mosip.kernel.masterdata.utils.TextSearchHelper;
+
+@SpringBootTest
+@RunWith(SpringRunner.class)
+public class TextSearchHelperTest {
+
+	@Autowired
+	private MasterdataSearchHelper searchHelper;
+
+	@Autowired
+	private MasterDataFilterHelper filterHelper;
+
+	@Autowired
+	private TextSearchHelper textSearchHelper;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@MockBean
+	private PublisherClient<String, EventModel, HttpHeaders> publisher;
+
+	@MockBean
+	private TemplateService templateService;
+
+	@After
+	public void tearDown() {
+		ReflectionTestUtils.setField(textSearchHelper, "ngramIndexEnabled", true);
+	}
+
+	@Test
+	public void testDatabaseLowerSameAsFold() {
+		for (String text : Arrays.asList("Rabat Sale KENITRA", "École ÉLÉMENTAIRE", "STRAẞE", "İstanbul", "ΣΊΣΥΦΟΣ",
+				"DAĞ", "NAÏVE CAFÉ", "مركز الرباط", "14022")) {
+			assertEquals(text, NgramIndex.fold(text),
+					entityManager.createNativeQuery("SELECT LOWER(?1)").setParameter(1, text).getSingleResult());
+		}
+	}
+
+	@Test
+	public void testSearchSameAsLike() {
+		List<SearchFilter> filters = Arrays.asList(filter("kenitra", "contains"), filter("*KENI*", "contains"),
+				filter("*TRA", "contains"), filter("rAbAt", "startsWith"), filter("moGR*", "startsWith"),
+				filter("n", "contains"), filter("zzz", "contains"), filter("14022", "contains"),
+				filter("n_t", "contains"), filter("%a", "contains"));
+		for (SearchFilter filter : filters) {
+			List<String> indexed = search(filter);
+			ReflectionTestUtils.setField(textSearchHelper, "ngramIndexEnabled", false);
+			assertEquals(filter.getValue(), search(filter), indexed);
+			ReflectionTestUtils.setField(textSearchHelper, "ngramIndexEnabled", true);
+		}
+		assertFalse(search(filter("KENITRA", "contains")).isEmpty());
+	}
+
+	@Test
+	public void testFilterValuesSameAsLike() {
+		for (String text : Arrays.asList("KEN", "a", "Mogr", "zzz", "")) {
+			FilterDto filterDto = new FilterDto();
+			filterDto.setColumnName("name");
+			filterDto.setType("unique");
+			filterDto.setText(text);
+			FilterValueDto filterValueDto = new FilterValueDto();
+			filterValueDto.setFilters(Collections.singletonList(filterDto));
+			filterValueDto.setLanguageCode("eng");
+			List<Object> indexed = filterHelper.filterValues(Location.class, filterDto, filterValueDto);
+			ReflectionTestUtils.setField(textSearchHelper, "ngramIndexEnabled", false);
+			assertEquals(text, filterHelper.filterValues(Location.class, filterDto, filterValueDto), indexed);
+			ReflectionTestUtils.setField(textSearchHelper, "ngramIndexEnabled", true);
+		}
+	}
+
+	private List<String> search(SearchFilter filter) {
+		SearchDto searchDto = new SearchDto(Collections.singletonList(filter),
+				Arrays.asList(new SearchSort("code", "ASC")), new Pagination(0, 50), "eng");
+		return searchHelper.searchMasterdata(Location.class, searchDto, null).getContent().stream()
+				.map(location -> location.getCode() + "-" + location.getLangCode()).collect(Collectors.toList());
+	}
+
+	private static SearchFilter filter(String value, String type) {
+		return new SearchFilter(value, null, null, "name", type);
+	}
+}
@@ -0,0 +1,97 @@
+package io.mosip.kernel.masterdata.test.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import io.mosip.kernel.core.masterdata.util.model.Node;
+import io.mosip.kernel.core.masterdata.util.spi.UBtree;
+import io.mosip.kernel.masterdata.entity.Zone;
+import io.mosip.kernel.masterdata.utils.ZoneHierarchyIndex;
+
+@RunWith(JUnit4.class)
+public class ZoneHierarchyIndexTest {
+
+	private UBtree<Zone> zoneTree;
+
+	private List<Zone> zones;
+
+	private ZoneHierarchyIndex index;
+
+	@Before
+	public void setup() {
+		zoneTree = (zone) -> new Node<>(zone.getCode(), zone, zone.getParentZoneCode());
+		zones = new ArrayList<>();
+		zones.add(new Zone("AAA", "ENG", "AAA", (short) 0, "AAA", null, "AAA"));
+		zones.add(new Zone("BBB", "ENG", "AAA", (short) 1, "BBB", "AAA", "AAA/BBB"));
+		zones.add(new Zone("CCC", "ENG", "AAA", (short) 1, "CCC", "AAA", "AAA/CCC"));
+		zones.add(new Zone("DDD", "ENG", "AAA", (short) 1, "DDD", "AAA", "AAA/DDD"));
+		zones.add(new Zone("AAA1", "ENG", "AAA", (short) 2, "AAA1", "BBB", "AAA/BBB/AAA1"));
+		zones.add(new Zone("AAA2", "ENG", "AAA", (short) 2, "AAA2", "CCC", "AAA/CCC/AAA2"));
+		zones.add(new Zone("AAA3", "ENG", "AAA", (short) 2, "AAA3", "DDD", "AAA/DDD/AAA3"));
+		zones.add(new Zone("AAA4", "ENG", "AAA", (short) 4, "AAA4", "AAA3", "AAA/DDD/AAA3/AAA4"));
+		zones.add(new Zone("AAA", "FRA", "AAA", (short) 0, "AAA", null, "AAA"));
+		zones.add(new Zone("DDD", "FRA", "AAA", (short) 1, "DDD", "AAA", "AAA/DDD"));
+		index = new ZoneHierarchyIndex(zones, null);
+	}
+
+	@Test
+	public void testSubZonesSameAsTree() {
+		for (Zone zone : getZones("ENG")) {
+			assertEquals(new HashSet<>(getCodes(getChildHierarchy(zone.getCode()))),
+					new HashSet<>(getCodes(index.getSubZones(zone.getCode(), "ENG"))));
+		}
+	}
+
+	@Test
+	public void testLeafZonesSameAsTree() {
+		for (Zone zone : getZones("ENG")) {
+			assertEquals(new HashSet<>(getCodes(getLeafs(zone.getCode()))),
+					new HashSet<>(getCodes(index.getLeafZones(zone.getCode(), "ENG"))));
+		}
+	}
+
+	@Test
+	public void testSubZoneCodesAllLanguages() {
+		assertEquals(new HashSet<>(Arrays.asList("DDD", "AAA3", "AAA4")), index.getSubZoneCodes("DDD"));
+		assertEquals(Arrays.asList("DDD", "AAA3", "AAA4", "DDD"),
+				getCodes(index.getZones(index.getSubZoneCodes("DDD"))));
+	}
+
+	@Test
+	public void testUnknownZone() {
+		assertTrue(index.getSubZones("XXX", "ENG").isEmpty());
+		assertTrue(index.getLeafZones("AAA", "ARA").isEmpty());
+		assertNull(index.getZone("AAA1", "FRA"));
+		assertEquals("DDD", index.getZone("DDD", "FRA").getCode());
+	}
+
+	private List<Zone> getZones(String langCode) {
+		return zones.stream().filter(zone -> langCode.equals(zone.getLangCode())).collect(Collectors.toList());
+	}
+
+	private List<Zone> getChildHierarchy(String code) {
+		List<Node<Zone>> tree = zoneTree.createTree(getZones("ENG"));
+		return zoneTree.getChildHierarchy(zoneTree.findNode(tree, code));
+	}
+
+	private List<Zone> getLeafs(String code) {
+		List<Node<Zone>> tree = zoneTree.createTree(getZones("ENG"));
+		return zoneTree.findLeafsValue(zoneTree.findNode(tree, code));
+	}
+
+	private List<String> getCodes(List<Zone> zones) {
+		return zones.stream().map(Zone::getCode).collect(Collectors.toList());
+	}
+}
@@ -2,11 +2,17 @@ package io.mosip.kernel.syncdata.config;
 
 import javax.servlet.Filter;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
 import io.mosip.kernel.websub.api.filter.MultipleReadRequestBodyFilter;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.config.MethodInvokingFactoryBean;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.annotation.CachingConfigurerSupport;
+import org.springframework.cache.interceptor.CacheResolver;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -19,6 +25,9 @@ import org.springframework.web.filter.CommonsRequestLoggingFilter;
 
 import io.mosip.kernel.syncdata.httpfilter.CorsFilter;
 import io.mosip.kernel.syncdata.httpfilter.ReqResFilter;
+import io.mosip.kernel.syncdata.httpfilter.ResponseSignatureFilter;
+import io.mosip.kernel.syncdata.service.helper.EntityDataCache;
+import io.mosip.kernel.syncdata.service.helper.SignatureHelper;
 
 import java.util.concurrent.Executor;
 
@@ -71,6 +80,25 @@ public class Config {
 	}
 
 
+	/**
+	 * Creating bean of the caching configuration resolving the entity data cache
+	 * to the versioned {@link EntityDataCache}. No cache manager is declared, so
+	 * the other caches stay with the auto-configured one.
+	 *
+	 * @return {@link CachingConfigurer}
+	 */
+	@Bean
+	public static CachingConfigurer entityDataCachingConfigurer(ObjectProvider<CacheManager> cacheManager,
+			ObjectProvider<EntityDataCache> entityDataCache) {
+		return new CachingConfigurerSupport() {
+			@Override
+			public CacheResolver cacheResolver() {
+				return new EntityDataCacheResolver(cacheManager, entityDataCache);
+			}
+		};
+	}
+
+
 	@Bean
 	public TaskScheduler taskScheduler() {
 		ThreadPoolTaskScheduler executor = new ThreadPoolTaskScheduler();
@@ -81,6 +109,21 @@ public class Config {
 	}
 
 
+	/**
+	 * Creating bean of the filter signing the response bodies with the bytes
+	 * written to the response
+	 *
+	 * @return {@link FilterRegistrationBean}
+	 */
+	@Bean
+	public FilterRegistrationBean<ResponseSignatureFilter> registerResponseSignatureFilter(
+			SignatureHelper signatureHelper, ObjectMapper objectMapper) {
+		FilterRegistrationBean<ResponseSignatureFilter> responseSignatureBean = new FilterRegistrationBean<>();
+		responseSignatureBean.setFilter(new ResponseSignatureFilter(signatureHelper, objectMapper));
+		responseSignatureBean.setOrder(3);
+		return responseSignatureBean;
+	}
+
 	@Bean
 	public FilterRegistrationBean<MultipleReadRequestBodyFilter> registerMultipleReadRequestBodyFilter() {
 		FilterRegistrationBean<MultipleReadRequestBodyFilter> requestBodyReader = new FilterRegistrationBean();
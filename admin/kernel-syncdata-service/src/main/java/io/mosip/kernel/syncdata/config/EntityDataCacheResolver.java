@@ -0,0 +1,56 @@
+package io.mosip.kernel.syncdata.config;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.CacheOperationInvocationContext;
+import org.springframework.cache.interceptor.CacheResolver;
+
+import io.mosip.kernel.syncdata.service.helper.EntityDataCache;
+
+/**
+ * Resolves the entity data cache to the versioned {@link EntityDataCache}, and
+ * the other caches to the cache manager configured for the application, so
+ * that the spring.cache provider is kept for them.
+ *
+ * @since 1.2.0
+ */
+public class EntityDataCacheResolver implements CacheResolver {
+
+	private final ObjectProvider<CacheManager> cacheManager;
+
+	private final ObjectProvider<EntityDataCache> entityDataCache;
+
+	/**
+	 * The beans are looked up on first use, the resolver being created ahead of
+	 * them along with the caching infrastructure.
+	 *
+	 * @param cacheManager    cache manager of the other caches
+	 * @param entityDataCache entity data cache
+	 */
+	public EntityDataCacheResolver(ObjectProvider<CacheManager> cacheManager,
+			ObjectProvider<EntityDataCache> entityDataCache) {
+		this.cacheManager = cacheManager;
+		this.entityDataCache = entityDataCache;
+	}
+
+	@Override
+	public Collection<? extends Cache> resolveCaches(CacheOperationInvocationContext<?> context) {
+		Collection<String> cacheNames = context.getOperation().getCacheNames();
+		List<Cache> caches = new ArrayList<>(cacheNames.size());
+		for (String cacheName : cacheNames) {
+			Cache cache = EntityDataCache.CACHE_NAME.equals(cacheName) ? entityDataCache.getObject()
+					: cacheManager.getObject().getCache(cacheName);
+			if (cache == null) {
+				throw new IllegalArgumentException(
+						"Cannot find cache named '" + cacheName + "' for " + context.getOperation());
+			}
+			caches.add(cache);
+		}
+		return caches;
+	}
+}
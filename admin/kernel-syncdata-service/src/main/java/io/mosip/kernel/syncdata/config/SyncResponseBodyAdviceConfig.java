@@ -13,7 +13,8 @@ import io.mosip.kernel.syncdata.constant.MasterDataErrorCode;
 import io.mosip.kernel.syncdata.exception.SyncDataServiceException;
 import io.mosip.kernel.syncdata.exception.SyncInvalidArgumentException;
 import io.mosip.kernel.syncdata.exception.SyncServiceException;
-import io.mosip.kernel.syncdata.service.helper.KeymanagerHelper;
+import io.mosip.kernel.syncdata.httpfilter.ResponseSignatureFilter;
+import io.mosip.kernel.syncdata.service.helper.SignatureHelper;
 import io.mosip.kernel.syncdata.utils.ExceptionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -55,7 +56,7 @@ public class SyncResponseBodyAdviceConfig implements ResponseBodyAdvice<Response
 	private ObjectMapper objectMapper;
 
 	@Autowired
-	private KeymanagerHelper keymanagerHelper;
+	private SignatureHelper signatureHelper;
 
 	@Override
 	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
@@ -96,8 +97,15 @@ public class SyncResponseBodyAdviceConfig implements ResponseBodyAdvice<Response
 		if (body != null) {
 			String timestamp = DateUtils.getUTCCurrentDateTimeString();
 			body.setResponsetime(DateUtils.convertUTCToLocalDateTime(timestamp));
+			HttpServletRequest httpServletRequest = ((ServletServerHttpRequest) request).getServletRequest();
+			//signed in the filter with the bytes written by the converter, else serialized here to sign
+			if (httpServletRequest.getAttribute(ResponseSignatureFilter.FILTER_APPLIED) != null) {
+				httpServletRequest.setAttribute(ResponseSignatureFilter.SIGN_RESPONSE, Boolean.TRUE);
+				return body;
+			}
 			try {
-				response.getHeaders().add("response-signature", keymanagerHelper.getSignature(objectMapper.writeValueAsString(body)));
+				response.getHeaders().add(ResponseSignatureFilter.RESPONSE_SIGNATURE_HEADER,
+						signatureHelper.sign(objectMapper.writeValueAsBytes(body)));
 			} catch (IOException e) {
 				throw new SyncDataServiceException("KER-SIG-ERR", e.getMessage(), e);
 			}
@@ -0,0 +1,208 @@
+package io.mosip.kernel.syncdata.httpfilter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.Collections;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.mosip.kernel.core.exception.ServiceError;
+import io.mosip.kernel.core.http.ResponseWrapper;
+import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.kernel.syncdata.service.helper.SignatureHelper;
+
+/**
+ * Signs the response bodies marked by the response body advice, with the bytes
+ * written by the message converter. The marked response body is held until the
+ * request completes and the signature header is added before it is written, so
+ * the body is serialized once and the signature is of the exact bytes sent.
+ * Other responses are written through.
+ *
+ * @since 1.2.0
+ */
+public class ResponseSignatureFilter implements Filter {
+
+	private static final Logger logger = LoggerFactory.getLogger(ResponseSignatureFilter.class);
+
+	public static final String RESPONSE_SIGNATURE_HEADER = "response-signature";
+
+	/**
+	 * Request attribute set by the filter, the response body advice leaves the
+	 * signing to the filter only when it is set
+	 */
+	public static final String FILTER_APPLIED = ResponseSignatureFilter.class.getName() + ".APPLIED";
+
+	/**
+	 * Request attribute set by the response body advice, to sign the response body
+	 */
+	public static final String SIGN_RESPONSE = ResponseSignatureFilter.class.getName() + ".SIGN";
+
+	private final SignatureHelper signatureHelper;
+
+	private final ObjectMapper objectMapper;
+
+	public ResponseSignatureFilter(SignatureHelper signatureHelper, ObjectMapper objectMapper) {
+		this.signatureHelper = signatureHelper;
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	public void init(FilterConfig arg0) throws ServletException {
+		// init method overriding
+	}
+
+	@Override
+	public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+			throws IOException, ServletException {
+		HttpServletRequest httpServletRequest = (HttpServletRequest) request;
+		SigningResponseWrapper responseWrapper = new SigningResponseWrapper(httpServletRequest,
+				(HttpServletResponse) response);
+		httpServletRequest.setAttribute(FILTER_APPLIED, Boolean.TRUE);
+		chain.doFilter(request, responseWrapper);
+
+		byte[] body = responseWrapper.getBufferedBody();
+		if (body == null)
+			return;
+
+		HttpServletResponse httpServletResponse = (HttpServletResponse) response;
+		try {
+			httpServletResponse.setHeader(RESPONSE_SIGNATURE_HEADER, signatureHelper.sign(body));
+		} catch (Exception e) {
+			logger.error("Failed to sign the response of {}", httpServletRequest.getRequestURI(), e);
+			body = getErrorResponse(e);
+			httpServletResponse.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+			httpServletResponse.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		}
+		httpServletResponse.setContentLength(body.length);
+		httpServletResponse.getOutputStream().write(body);
+		httpServletResponse.flushBuffer();
+	}
+
+	@Override
+	public void destroy() {
+		// destroy method overriding
+	}
+
+	private byte[] getErrorResponse(Exception e) throws IOException {
+		ResponseWrapper<ServiceError> responseWrapper = new ResponseWrapper<>();
+		responseWrapper.setResponsetime(DateUtils.getUTCCurrentDateTime());
+		responseWrapper.setErrors(Collections.singletonList(new ServiceError("KER-SIG-ERR", e.getMessage())));
+		return objectMapper.writeValueAsBytes(responseWrapper);
+	}
+
+	/**
+	 * Holds the body of the response once it is marked for signing, when the
+	 * message converter opens the output stream.
+	 */
+	private static class SigningResponseWrapper extends HttpServletResponseWrapper {
+
+		private final HttpServletRequest request;
+
+		private ByteArrayOutputStream buffer;
+
+		private ServletOutputStream outputStream;
+
+		private PrintWriter writer;
+
+		SigningResponseWrapper(HttpServletRequest request, HttpServletResponse response) {
+			super(response);
+			this.request = request;
+		}
+
+		private boolean isBuffering() {
+			if (buffer == null && request.getAttribute(SIGN_RESPONSE) != null) {
+				buffer = new ByteArrayOutputStream(8192);
+				outputStream = new BufferServletOutputStream(buffer);
+			}
+			return buffer != null;
+		}
+
+		@Override
+		public ServletOutputStream getOutputStream() throws IOException {
+			return isBuffering() ? outputStream : super.getOutputStream();
+		}
+
+		@Override
+		public PrintWriter getWriter() throws IOException {
+			if (!isBuffering())
+				return super.getWriter();
+			if (writer == null)
+				writer = new PrintWriter(new OutputStreamWriter(outputStream, getCharacterEncoding()));
+			return writer;
+		}
+
+		@Override
+		public void setContentLength(int len) {
+			if (!isBuffering())
+				super.setContentLength(len);
+		}
+
+		@Override
+		public void setContentLengthLong(long len) {
+			if (!isBuffering())
+				super.setContentLengthLong(len);
+		}
+
+		@Override
+		public void flushBuffer() throws IOException {
+			// the response is committed once the signature header is added
+			if (!isBuffering())
+				super.flushBuffer();
+		}
+
+		byte[] getBufferedBody() {
+			if (buffer == null)
+				return null;
+			if (writer != null)
+				writer.flush();
+			return buffer.toByteArray();
+		}
+	}
+
+	private static class BufferServletOutputStream extends ServletOutputStream {
+
+		private final ByteArrayOutputStream buffer;
+
+		BufferServletOutputStream(ByteArrayOutputStream buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public void write(int b) {
+			buffer.write(b);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			buffer.write(b, off, len);
+		}
+
+		@Override
+		public boolean isReady() {
+			return true;
+		}
+
+		@Override
+		public void setWriteListener(WriteListener writeListener) {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
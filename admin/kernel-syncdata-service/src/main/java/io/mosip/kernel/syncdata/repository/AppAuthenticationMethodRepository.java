@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import io.mosip.kernel.syncdata.dto.EntityDtimes;
+import io.mosip.kernel.syncdata.service.helper.EntityDataCache;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -29,7 +30,7 @@ public interface AppAuthenticationMethodRepository
 	 * @param currentTimeStamp     the current time stamp
 	 * @return list of app authenticationMethod
 	 */
-	@Cacheable(cacheNames = "initial-sync", key = "'app_authentication_method'", condition = "#a0.getYear() <= 1970")
+	@Cacheable(cacheNames = EntityDataCache.CACHE_NAME, key = "@entityDataCache.key('AppAuthenticationMethod', #a0, #a1)", sync = true)
 	@Query("FROM AppAuthenticationMethod WHERE (createdDateTime BETWEEN ?1 AND ?2 ) OR (updatedDateTime BETWEEN ?1 AND ?2 )  OR (deletedDateTime BETWEEN ?1 AND ?2 ) ")
 	List<AppAuthenticationMethod> findByLastUpdatedAndCurrentTimeStamp(LocalDateTime lastUpdatedTimeStamp,
 			LocalDateTime currentTimeStamp);
@@ -5,6 +5,7 @@ import java.util.List;
 
 import io.mosip.kernel.syncdata.dto.EntityDtimes;
 import io.mosip.kernel.syncdata.entity.id.AppRolePriorityID;
+import io.mosip.kernel.syncdata.service.helper.EntityDataCache;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -29,7 +30,7 @@ public interface AppRolePriorityRepository extends JpaRepository<AppRolePriority
 	 * @param currentTimeStamp the current time stamp
 	 * @return {@link AppRolePriority}
 	 */
-	@Cacheable(cacheNames = "initial-sync", key = "'app_role_priority'", condition = "#a0.getYear() <= 1970")
+	@Cacheable(cacheNames = EntityDataCache.CACHE_NAME, key = "@entityDataCache.key('AppRolePriority', #a0, #a1)", sync = true)
 	@Query("FROM AppRolePriority WHERE (createdDateTime BETWEEN ?1 AND ?2) OR (updatedDateTime BETWEEN ?1 AND ?2)  OR (deletedDateTime BETWEEN ?1 AND ?2)")
 	List<AppRolePriority> findByLastUpdatedAndCurrentTimeStamp(LocalDateTime lastUpdatedTime,
 			LocalDateTime currentTimeStamp);
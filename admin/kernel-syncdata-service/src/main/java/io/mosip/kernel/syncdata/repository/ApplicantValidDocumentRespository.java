@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import io.mosip.kernel.syncdata.dto.EntityDtimes;
+import io.mosip.kernel.syncdata.service.helper.EntityDataCache;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -22,7 +23,7 @@ import io.mosip.kernel.syncdata.entity.id.ApplicantValidDocumentID;
 public interface ApplicantValidDocumentRespository
 		extends JpaRepository<ApplicantValidDocument, ApplicantValidDocumentID> {
 
-	@Cacheable(cacheNames = "initial-sync", key = "'applicant_valid_document'", condition = "#a0.getYear() <= 1970")
+	@Cacheable(cacheNames = EntityDataCache.CACHE_NAME, key = "@entityDataCache.key('ApplicantValidDocument', #a0, #a1)", sync = true)
 	@Query("FROM ApplicantValidDocument avd WHERE (createdDateTime BETWEEN ?1 AND ?2) OR (updatedDateTime BETWEEN ?1 AND ?2)  OR (deletedDateTime BETWEEN ?1 AND ?2) ")
 	public List<ApplicantValidDocument> findAllByTimeStamp(LocalDateTime lastUpdatedTime,
 			LocalDateTime currentTimeStamp);
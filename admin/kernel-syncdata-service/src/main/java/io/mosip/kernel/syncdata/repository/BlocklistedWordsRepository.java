@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import io.mosip.kernel.syncdata.dto.EntityDtimes;
+import io.mosip.kernel.syncdata.service.helper.EntityDataCache;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -26,7 +27,7 @@ public interface BlocklistedWordsRepository extends JpaRepository<BlocklistedWor
 	 * @param currentTimeStamp - currentTimestamp
 	 * @return list of {@link BlocklistedWords} - list of blocklisted words
 	 */
-	@Cacheable(cacheNames = "initial-sync", key = "'blocklisted_words'", condition = "#a0.getYear() <= 1970")
+	@Cacheable(cacheNames = EntityDataCache.CACHE_NAME, key = "@entityDataCache.key('BlacklistedWords', #a0, #a1)", sync = true)
 	@Query("FROM BlocklistedWords WHERE (createdDateTime BETWEEN ?1 AND ?2) OR (updatedDateTime BETWEEN ?1 AND ?2)  OR (deletedDateTime BETWEEN ?1 AND ?2)")
 	List<BlocklistedWords> findAllLatestCreatedUpdateDeleted(LocalDateTime lastUpdated, LocalDateTime currentTimeStamp);
 
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import io.mosip.kernel.syncdata.dto.EntityDtimes;
+import io.mosip.kernel.syncdata.service.helper.EntityDataCache;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -27,7 +28,7 @@ public interface DocumentCategoryRepository extends JpaRepository<DocumentCatego
 	 * @param currentTimeStamp - currentTimestamp
 	 * @return list of {@link DocumentCategory} - list of document category
 	 */
-	@Cacheable(cacheNames = "initial-sync", key = "'doc_category'", condition = "#a0.getYear() <= 1970")
+	@Cacheable(cacheNames = EntityDataCache.CACHE_NAME, key = "@entityDataCache.key('DocumentCategory', #a0, #a1)", sync = true)
 	@Query("FROM DocumentCategory WHERE (createdDateTime BETWEEN ?1 AND ?2) OR (updatedDateTime BETWEEN ?1 AND ?2)  OR (deletedDateTime BETWEEN ?1 AND ?2)")
 	List<DocumentCategory> findAllLatestCreatedUpdateDeleted(LocalDateTime lastUpdated, LocalDateTime currentTimeStamp);
 
@@ -2,6 +2,7 @@ package io.mosip.kernel.syncdata.repository;
 
 import io.mosip.kernel.syncdata.dto.EntityDtimes;
 import io.mosip.kernel.syncdata.entity.PermittedLocalConfig;
+import io.mosip.kernel.syncdata.service.helper.EntityDataCache;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -11,7 +12,7 @@ import java.util.List;
 
 public interface PermittedLocalConfigRepository extends JpaRepository<PermittedLocalConfig, String> {
 
-    @Cacheable(cacheNames = "initial-sync", key = "'permitted_local_config'", condition = "#a0.getYear() <= 1970")
+    @Cacheable(cacheNames = EntityDataCache.CACHE_NAME, key = "@entityDataCache.key('PermittedLocalConfig', #a0, #a1)", sync = true)
     @Query("FROM PermittedLocalConfig WHERE (createdDateTime BETWEEN ?1 AND ?2) OR (updatedDateTime BETWEEN ?1 AND ?2)  OR (deletedDateTime BETWEEN ?1 AND ?2)")
     List<PermittedLocalConfig> findAllLatestCreatedUpdateDeleted(LocalDateTime lastUpdated, LocalDateTime currentTimeStamp);
 
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import io.mosip.kernel.syncdata.dto.EntityDtimes;
+import io.mosip.kernel.syncdata.service.helper.EntityDataCache;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -28,7 +29,7 @@ public interface ProcessListRepository extends JpaRepository<ProcessList, IdAndL
 	 * @param currentTimeStamp the current time stamp
 	 * @return {@link ProcessList} list of ProcessList
 	 */
-	@Cacheable(cacheNames = "initial-sync", key = "'process_list'", condition = "#a0.getYear() <= 1970")
+	@Cacheable(cacheNames = EntityDataCache.CACHE_NAME, key = "@entityDataCache.key('ProcessList', #a0, #a1)", sync = true)
 	@Query("FROM ProcessList WHERE (createdDateTime BETWEEN ?1 AND ?2) OR (updatedDateTime BETWEEN ?1 AND ?2)  OR (deletedDateTime BETWEEN ?1 AND ?2) ")
 	List<ProcessList> findByLastUpdatedTimeAndCurrentTimeStamp(LocalDateTime lastUpdatedTime,
 			LocalDateTime currentTimeStamp);
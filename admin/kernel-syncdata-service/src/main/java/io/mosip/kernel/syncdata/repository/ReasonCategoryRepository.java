@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import io.mosip.kernel.syncdata.dto.EntityDtimes;
+import io.mosip.kernel.syncdata.service.helper.EntityDataCache;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -19,7 +20,7 @@ public interface ReasonCategoryRepository extends JpaRepository<ReasonCategory,
 	 * @param currentTimeStamp - currentTimestamp
 	 * @return list of {@link ReasonCategory} -list of reason category
 	 */
-	@Cacheable(cacheNames = "initial-sync", key = "'reason_category'", condition = "#a0.getYear() <= 1970")
+	@Cacheable(cacheNames = EntityDataCache.CACHE_NAME, key = "@entityDataCache.key('ReasonCategory', #a0, #a1)", sync = true)
 	@Query(value = "select rc.code,rc.lang_code,rc.cr_by,rc.cr_dtimes,rc.del_dtimes,rc.is_active,rc.is_deleted,rc.upd_by,rc.upd_dtimes,rc.descr,rc.name from master.reason_category rc where (rc.cr_dtimes BETWEEN ?1 AND ?2) or (rc.upd_dtimes BETWEEN ?1 AND ?2) or (rc.del_dtimes BETWEEN ?1 AND ?2)", nativeQuery = true)
 	List<ReasonCategory> findAllLatestCreatedUpdateDeleted(LocalDateTime lastUpdated, LocalDateTime currentTimeStamp);
 
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import io.mosip.kernel.syncdata.dto.EntityDtimes;
+import io.mosip.kernel.syncdata.service.helper.EntityDataCache;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -26,7 +27,7 @@ public interface ScreenDetailRepository extends JpaRepository<ScreenDetail, IdAn
 	 * @param currentTimeStamp    the current time stamp
 	 * @return the list
 	 */
-	@Cacheable(cacheNames = "initial-sync", key = "'screen_detail'", condition = "#a0.getYear() <= 1970")
+	@Cacheable(cacheNames = EntityDataCache.CACHE_NAME, key = "@entityDataCache.key('ScreenDetail', #a0, #a1)", sync = true)
 	@Query("FROM ScreenDetail WHERE (createdDateTime BETWEEN ?1 AND ?2 ) OR (updatedDateTime BETWEEN ?1 AND ?2 )  OR (deletedDateTime BETWEEN ?1 AND ?2 )")
 	List<ScreenDetail> findByLastUpdatedAndCurrentTimeStamp(LocalDateTime lastUpdateTimeStamp,
 			LocalDateTime currentTimeStamp);
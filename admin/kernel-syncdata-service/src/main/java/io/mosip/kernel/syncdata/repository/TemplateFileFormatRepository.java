@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import io.mosip.kernel.syncdata.dto.EntityDtimes;
+import io.mosip.kernel.syncdata.service.helper.EntityDataCache;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -21,7 +22,7 @@ public interface TemplateFileFormatRepository extends JpaRepository<TemplateFile
 	 * @param currentTimeStamp - current time stamp
 	 * @return list of {@link TemplateFileFormat} - list of template file format
 	 */
-	@Cacheable(cacheNames = "initial-sync", key = "'template_file_format'", condition = "#a0.getYear() <= 1970")
+	@Cacheable(cacheNames = EntityDataCache.CACHE_NAME, key = "@entityDataCache.key('TemplateFileFormat', #a0, #a1)", sync = true)
 	@Query(value = "SELECT ff.code, ff.descr, ff.lang_code, ff.is_active, ff.cr_by, ff.cr_dtimes, ff.upd_by, ff.upd_dtimes, ff.is_deleted, ff.del_dtimes FROM master.template_file_format ff where (ff.cr_dtimes BETWEEN ?1 AND ?2) or (ff.upd_dtimes BETWEEN ?1 AND ?2) or (ff.del_dtimes BETWEEN ?1 AND ?2)", nativeQuery = true)
 	List<TemplateFileFormat> findAllLatestCreatedUpdateDeleted(LocalDateTime lastUpdated,
 			LocalDateTime currentTimeStamp);
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Optional;
 
 import io.mosip.kernel.syncdata.dto.EntityDtimes;
+import io.mosip.kernel.syncdata.service.helper.EntityDataCache;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -19,7 +20,7 @@ public interface UserDetailsRepository extends JpaRepository<UserDetails, String
 	List<UserDetails> findByUsersByRegCenterId(String regCenterId);
 
 
-	@Cacheable(cacheNames = "initial-sync", key = "'user_detail'.concat('_').concat(#a0)", condition = "#a1.getYear() <= 1970")
+	@Cacheable(cacheNames = EntityDataCache.CACHE_NAME, key = "@entityDataCache.key('UserDetails', #a1, #a2, #a0)", sync = true)
 	@Query("From UserDetails mm WHERE mm.regCenterId =?1 AND ((mm.createdDateTime BETWEEN ?2 AND ?3) OR (mm.updatedDateTime BETWEEN ?2 AND ?3) OR (mm.deletedDateTime BETWEEN ?2 AND ?3))")
 	List<UserDetails> findAllLatestCreatedUpdatedDeleted(String regId, LocalDateTime lastUpdated,
 			LocalDateTime currentTimeStamp);
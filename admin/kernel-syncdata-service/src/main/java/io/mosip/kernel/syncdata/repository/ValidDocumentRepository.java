@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import io.mosip.kernel.syncdata.dto.EntityDtimes;
+import io.mosip.kernel.syncdata.service.helper.EntityDataCache;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -22,7 +23,7 @@ public interface ValidDocumentRepository extends JpaRepository<ValidDocument, Va
 	 * @param currentTimeStamp - current time stamp
 	 * @return list of {@link ValidDocument} - list of validDocument
 	 */
-	@Cacheable(cacheNames = "initial-sync", key = "'valid_document'", condition = "#a0.getYear() <= 1970")
+	@Cacheable(cacheNames = EntityDataCache.CACHE_NAME, key = "@entityDataCache.key('ValidDocument', #a0, #a1)", sync = true)
 	@Query("FROM ValidDocument WHERE (createdDateTime BETWEEN ?1 AND ?2) OR (updatedDateTime BETWEEN ?1 AND ?2)  OR  (deletedDateTime BETWEEN ?1 AND ?2)")
 	List<ValidDocument> findAllLatestCreatedUpdateDeleted(LocalDateTime lastUpdated, LocalDateTime currentTimeStamp);
 
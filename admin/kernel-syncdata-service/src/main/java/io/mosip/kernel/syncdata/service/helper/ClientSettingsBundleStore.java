@@ -0,0 +1,197 @@
+package io.mosip.kernel.syncdata.service.helper;
+
+import io.mosip.kernel.clientcrypto.dto.TpmCryptoRequestDto;
+import io.mosip.kernel.clientcrypto.dto.TpmCryptoResponseDto;
+import io.mosip.kernel.clientcrypto.service.spi.ClientCryptoManagerService;
+import io.mosip.kernel.core.util.CryptoUtil;
+import io.mosip.kernel.core.util.HMACUtils2;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the per-machine encrypted client settings payloads warm.
+ *
+ * Encrypted bundles are keyed on entity name, machine public key and the data version of the
+ * plain payload (digest of the serialized entity list). As long as the entity data does not change,
+ * repeated sync requests from the same machine are served from the store without invoking
+ * {@link ClientCryptoManagerService#csEncrypt(TpmCryptoRequestDto)}. Any change in the entity data results
+ * in a new data version, older bundles are dropped in LRU order.
+ *
+ * The store is bounded by the total size of its bundles rather than their count, as a bundle of a large
+ * entity can be several orders of magnitude bigger than the bundle of a small one. A bundle larger than
+ * the whole bound is not stored.
+ *
+ * @since 1.2.0
+ */
+@Component
+public class ClientSettingsBundleStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClientSettingsBundleStore.class);
+
+    private static final String KEY_SEPARATOR = "|";
+
+    /** maximum number of machine public key digests kept */
+    private static final int MAX_PUBLIC_KEY_DIGESTS = 10000;
+
+    /** maximum total size of the stored bundles, weighed as the length of their key and value */
+    @Value("${mosip.syncdata.clientsettings.bundle.max-bytes:134217728}")
+    private long maxBytes;
+
+    @Autowired
+    private ClientCryptoManagerService clientCryptoManagerService;
+
+    /** bundles in access order, guarded by itself */
+    private final LinkedHashMap<String, String> bundles = new LinkedHashMap<>(256, 0.75f, true);
+
+    /** total weight of the bundles, guarded by the bundles */
+    private long totalBytes;
+
+    /** digest of machine public key, avoids hashing the same key for every entity of a request */
+    private final Map<String, String> publicKeyDigests = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Returns the encrypted bundle of the provided plain payload for the machine public key.
+     *
+     * @param entityName entity name
+     * @param payload    serialized (json) entity payload
+     * @param publicKey  machine encryption public key
+     * @return encrypted payload
+     * @throws NoSuchAlgorithmException if the digest algorithm is not available
+     */
+    public String getEncryptedBundle(String entityName, String payload, String publicKey)
+            throws NoSuchAlgorithmException {
+        byte[] plainBytes = payload.getBytes(StandardCharsets.UTF_8);
+        String key = getBundleKey(entityName, HMACUtils2.digestAsPlainText(plainBytes), publicKey);
+
+        String bundle;
+        synchronized (bundles) {
+            bundle = bundles.get(key);
+        }
+        if (bundle != null) {
+            hits.incrementAndGet();
+            return bundle;
+        }
+
+        misses.incrementAndGet();
+        TpmCryptoRequestDto tpmCryptoRequestDto = new TpmCryptoRequestDto();
+        tpmCryptoRequestDto.setValue(CryptoUtil.encodeToURLSafeBase64(plainBytes));
+        tpmCryptoRequestDto.setPublicKey(publicKey);
+        TpmCryptoResponseDto tpmCryptoResponseDto = clientCryptoManagerService.csEncrypt(tpmCryptoRequestDto);
+        put(key, tpmCryptoResponseDto.getValue());
+        return tpmCryptoResponseDto.getValue();
+    }
+
+    /**
+     * Stores the bundle, dropping the least recently used bundles until the total size is within the bound.
+     *
+     * @param key    bundle key
+     * @param bundle encrypted bundle
+     */
+    private void put(String key, String bundle) {
+        long weight = weigh(key, bundle);
+        if (weight > maxBytes) {
+            logger.debug("Encrypted client settings bundle of {} bytes is larger than the store, not stored", weight);
+            return;
+        }
+        synchronized (bundles) {
+            String previous = bundles.put(key, bundle);
+            totalBytes += weight;
+            if (previous != null)
+                totalBytes -= weigh(key, previous);
+            Iterator<Map.Entry<String, String>> iterator = bundles.entrySet().iterator();
+            while (totalBytes > maxBytes && iterator.hasNext()) {
+                Map.Entry<String, String> eldest = iterator.next();
+                totalBytes -= weigh(eldest.getKey(), eldest.getValue());
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Drops all the encrypted bundles of the provided entity.
+     *
+     * @param entityName entity name
+     */
+    public void evict(String entityName) {
+        String prefix = entityName + KEY_SEPARATOR;
+        synchronized (bundles) {
+            Iterator<Map.Entry<String, String>> iterator = bundles.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, String> entry = iterator.next();
+                if (entry.getKey().startsWith(prefix)) {
+                    totalBytes -= weigh(entry.getKey(), entry.getValue());
+                    iterator.remove();
+                }
+            }
+        }
+        logger.info("Evicted encrypted client settings bundles of {}", entityName);
+    }
+
+    /**
+     * Drops all the encrypted bundles.
+     */
+    public void clear() {
+        synchronized (bundles) {
+            bundles.clear();
+            totalBytes = 0;
+        }
+        publicKeyDigests.clear();
+        logger.info("Evicted all encrypted client settings bundles, hits: {}, misses: {}", hits.get(), misses.get());
+    }
+
+    public int size() {
+        synchronized (bundles) {
+            return bundles.size();
+        }
+    }
+
+    /**
+     * @return total size of the stored bundles, weighed as the length of their key and value
+     */
+    public long getTotalBytes() {
+        synchronized (bundles) {
+            return totalBytes;
+        }
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    private String getBundleKey(String entityName, String dataVersion, String publicKey)
+            throws NoSuchAlgorithmException {
+        String publicKeyDigest = publicKeyDigests.get(publicKey);
+        if (publicKeyDigest == null) {
+            publicKeyDigest = HMACUtils2.digestAsPlainText(publicKey.getBytes(StandardCharsets.UTF_8));
+            if (publicKeyDigests.size() < MAX_PUBLIC_KEY_DIGESTS)
+                publicKeyDigests.put(publicKey, publicKeyDigest);
+        }
+        return entityName + KEY_SEPARATOR + publicKeyDigest + KEY_SEPARATOR + dataVersion;
+    }
+
+    /**
+     * Weighs a bundle as the length of its key and value. The values are base64 encoded, so one
+     * character takes one byte in the heap.
+     */
+    private static long weigh(String key, String bundle) {
+        return (long) key.length() + bundle.length();
+    }
+}
@@ -1,9 +1,5 @@
 package io.mosip.kernel.syncdata.service.helper;
 
-import io.mosip.kernel.clientcrypto.dto.TpmCryptoRequestDto;
-import io.mosip.kernel.clientcrypto.dto.TpmCryptoResponseDto;
-import io.mosip.kernel.clientcrypto.service.spi.ClientCryptoManagerService;
-import io.mosip.kernel.core.util.CryptoUtil;
 import io.mosip.kernel.syncdata.dto.*;
 import io.mosip.kernel.syncdata.dto.response.SyncDataBaseDto;
 import io.mosip.kernel.syncdata.entity.*;
@@ -47,7 +43,7 @@ public class ClientSettingsHelper {
     private MapperUtils mapper;
 
     @Autowired
-    private ClientCryptoManagerService clientCryptoManagerService;
+    private ClientSettingsBundleStore clientSettingsBundleStore;
 
     private boolean hasURLDetails(Class clazz, boolean isV2API, boolean deltaSync) {
         if(!isV2API)
@@ -189,13 +185,8 @@ public class ClientSettingsHelper {
 
     private SyncDataBaseDto getEncryptedSyncDataBaseDto(Class clazz, String publicKey, String entityType, Object urlDetails) {
         try {
-            TpmCryptoRequestDto tpmCryptoRequestDto = new TpmCryptoRequestDto();
-            tpmCryptoRequestDto
-                    .setValue(CryptoUtil.encodeToURLSafeBase64(mapper.getObjectAsJsonString(urlDetails).getBytes()));
-            tpmCryptoRequestDto.setPublicKey(publicKey);
-            TpmCryptoResponseDto tpmCryptoResponseDto = clientCryptoManagerService
-                    .csEncrypt(tpmCryptoRequestDto);
-            return new SyncDataBaseDto(clazz.getSimpleName(), entityType, tpmCryptoResponseDto.getValue());
+            return new SyncDataBaseDto(clazz.getSimpleName(), entityType, clientSettingsBundleStore.getEncryptedBundle(
+                    clazz.getSimpleName(), mapper.getObjectAsJsonString(urlDetails), publicKey));
         }
         catch (Exception e) {
             LOGGER.error("Failed to encrypt urlDetails for {} data to json", clazz.getSimpleName(), e);
@@ -208,13 +199,8 @@ public class ClientSettingsHelper {
         scriptNames.forEach(fileName -> {
             Map<String, Object> urlDetail = buildUrlDetailMap(fileName);
             try {
-                TpmCryptoRequestDto tpmCryptoRequestDto = new TpmCryptoRequestDto();
-                tpmCryptoRequestDto
-                        .setValue(CryptoUtil.encodeToURLSafeBase64(mapper.getObjectAsJsonString(urlDetail).getBytes()));
-                tpmCryptoRequestDto.setPublicKey(publicKey);
-                TpmCryptoResponseDto tpmCryptoResponseDto = clientCryptoManagerService
-                        .csEncrypt(tpmCryptoRequestDto);
-                list.add(new SyncDataBaseDto(fileName,"script", tpmCryptoResponseDto.getValue()));
+                list.add(new SyncDataBaseDto(fileName,"script", clientSettingsBundleStore.getEncryptedBundle(fileName,
+                        mapper.getObjectAsJsonString(urlDetail), publicKey)));
             } catch (Exception e) {
                 LOGGER.error("Failed to create script url detail {} data to json", fileName, e);
             }
@@ -0,0 +1,247 @@
+package io.mosip.kernel.syncdata.service.helper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.util.HMACUtils2;
+import io.mosip.kernel.syncdata.constant.SyncConfigDetailsErrorCode;
+import io.mosip.kernel.syncdata.exception.SyncDataServiceException;
+import net.minidev.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the config server files (property files and scripts) synced to the registration clients.
+ *
+ * A file is fetched from the config server on its first request, and kept as a snapshot with its content, version
+ * (digest of the content) and ETag if returned by the config server. For property files the properties are parsed
+ * to json once per version. The snapshots are revalidated with a scheduled poll and on a refresh event
+ * (/actuator/refresh or the bus refresh), with the ETag when present. A snapshot is replaced only when the content
+ * version changes, and kept as is when the config server is not reachable.
+ *
+ * @since 1.2.0
+ */
+@Component
+public class ConfigPropertiesStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConfigPropertiesStore.class);
+
+    private static final String SLASH = "/";
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Environment environment;
+
+    private final Map<String, PropertySnapshot> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the snapshot of the file, the file is fetched from the config server if not yet available.
+     *
+     * @param fileName name of the file in the config server
+     * @return snapshot of the file
+     */
+    public PropertySnapshot getSnapshot(String fileName) {
+        PropertySnapshot snapshot = snapshots.get(fileName);
+        if (snapshot != null)
+            return snapshot;
+        //concurrent requests of the same file wait for the single fetch
+        return snapshots.computeIfAbsent(fileName, name -> fetch(name, null));
+    }
+
+    /**
+     * Returns the properties of the file as json, the properties are parsed once for each version of the file.
+     *
+     * @param fileName name of the property file in the config server
+     * @return properties as json
+     */
+    public String getPropertiesJson(String fileName) {
+        PropertySnapshot snapshot = getSnapshot(fileName);
+        String json = snapshot.json;
+        if (json == null) {
+            json = toJson(fileName, snapshot.getContent());
+            snapshot.json = json;
+        }
+        return json;
+    }
+
+    /**
+     * Revalidates all the snapshots with the config server.
+     */
+    @Scheduled(fixedDelayString = "${mosip.syncdata.config.refresh-interval-ms:300000}",
+            initialDelayString = "${mosip.syncdata.config.refresh-interval-ms:300000}")
+    public void refresh() {
+        int changed = 0;
+        for (String fileName : new ArrayList<>(snapshots.keySet())) {
+            PropertySnapshot current = snapshots.get(fileName);
+            if (current == null)
+                continue;
+            try {
+                PropertySnapshot snapshot = fetch(fileName, current);
+                if (snapshot != current) {
+                    snapshots.replace(fileName, current, snapshot);
+                    if (!snapshot.getVersion().equals(current.getVersion())) {
+                        changed++;
+                        logger.info("Config file {} changed, version {}", fileName, snapshot.getVersion());
+                    }
+                }
+            } catch (RuntimeException e) {
+                logger.error("Failed to revalidate config file {}, version {} is kept", fileName,
+                        current.getVersion(), e);
+            }
+        }
+        logger.debug("Revalidated {} config files, {} changed", snapshots.size(), changed);
+    }
+
+    @EventListener(RefreshScopeRefreshedEvent.class)
+    public void onRefreshEvent() {
+        logger.info("Refresh event received, revalidating config files");
+        refresh();
+    }
+
+    public int size() {
+        return snapshots.size();
+    }
+
+    private PropertySnapshot fetch(String fileName, PropertySnapshot current) {
+        UriComponentsBuilder uriBuilder = UriComponentsBuilder
+                .fromUriString(environment.getProperty("spring.cloud.config.uri"))
+                .path(SLASH).path(environment.getProperty("spring.application.name"))
+                .path(SLASH).path(environment.getProperty("spring.profiles.active"))
+                .path(SLASH).path(environment.getProperty("spring.cloud.config.label"))
+                .path(SLASH).path(fileName);
+
+        HttpHeaders headers = new HttpHeaders();
+        if (current != null && current.getEtag() != null)
+            headers.setIfNoneMatch(current.getEtag());
+
+        ResponseEntity<String> response;
+        try {
+            response = restTemplate.exchange(uriBuilder.toUriString(), HttpMethod.GET, new HttpEntity<>(headers),
+                    String.class);
+        } catch (RestClientException e) {
+            logger.error("Failed to fetch config file {}", fileName, e);
+            throw new SyncDataServiceException(
+                    SyncConfigDetailsErrorCode.SYNC_CONFIG_DETAIL_REST_CLIENT_EXCEPTION.getErrorCode(),
+                    SyncConfigDetailsErrorCode.SYNC_CONFIG_DETAIL_REST_CLIENT_EXCEPTION.getErrorMessage() + " "
+                            + ExceptionUtils.buildMessage(e.getMessage(), e.getCause()));
+        }
+
+        if (current != null && response.getStatusCode() == HttpStatus.NOT_MODIFIED)
+            return current;
+
+        String content = response.getBody() == null ? "" : response.getBody();
+        String etag = response.getHeaders().getETag();
+        String version = digest(content);
+        if (current != null && current.getVersion().equals(version))
+            return etag == null || etag.equals(current.getEtag()) ? current : current.withEtag(etag);
+
+        return new PropertySnapshot(fileName, content, version, etag);
+    }
+
+    private String toJson(String fileName, String content) {
+        JSONObject properties = parseProperties(content);
+        try {
+            return objectMapper.writeValueAsString(properties);
+        } catch (JsonProcessingException e) {
+            logger.error("Failed to convert config file {} to json", fileName, e);
+            throw new SyncDataServiceException(SyncConfigDetailsErrorCode.SYNC_SERIALIZATION_ERROR.getErrorCode(),
+                    SyncConfigDetailsErrorCode.SYNC_SERIALIZATION_ERROR.getErrorMessage());
+        }
+    }
+
+    public static JSONObject parseProperties(String content) {
+        JSONObject result = new JSONObject();
+        try {
+            Properties properties = new Properties();
+            properties.load(new StringReader(content));
+            for (Map.Entry<Object, Object> entry : properties.entrySet()) {
+                result.put(String.valueOf(entry.getKey()), entry.getValue());
+            }
+        } catch (Exception e) {
+            logger.error("Failed to parse config properties", e);
+        }
+        return result;
+    }
+
+    private static String digest(String content) {
+        try {
+            return HMACUtils2.digestAsPlainText(content.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Content of a config server file, as fetched with the version.
+     */
+    public static final class PropertySnapshot {
+
+        private final String fileName;
+        private final String content;
+        private final String version;
+        private final String etag;
+        private volatile String json;
+
+        private PropertySnapshot(String fileName, String content, String version, String etag) {
+            this.fileName = fileName;
+            this.content = content;
+            this.version = version;
+            this.etag = etag;
+        }
+
+        private PropertySnapshot withEtag(String etag) {
+            PropertySnapshot snapshot = new PropertySnapshot(fileName, content, version, etag);
+            snapshot.json = json;
+            return snapshot;
+        }
+
+        public String getFileName() {
+            return fileName;
+        }
+
+        /**
+         * @return content of the file, as returned by the config server
+         */
+        public String getContent() {
+            return content;
+        }
+
+        /**
+         * @return digest of the content, which is the file hash signed for the registration clients
+         */
+        public String getVersion() {
+            return version;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+    }
+}
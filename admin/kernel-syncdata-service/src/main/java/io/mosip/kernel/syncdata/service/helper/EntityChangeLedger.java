@@ -0,0 +1,262 @@
+package io.mosip.kernel.syncdata.service.helper;
+
+import io.mosip.kernel.syncdata.dto.EntityDtimes;
+import io.mosip.kernel.syncdata.entity.*;
+import io.mosip.kernel.syncdata.repository.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Table;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Ledger of the last created / updated / deleted timestamps of all the client settings entities.
+ *
+ * The ledger is loaded with a single aggregate query across all the entity tables and is refreshed along
+ * with the delta-sync cache eviction. Delta sync requests check the ledger instead of querying max
+ * timestamps of each entity table.
+ *
+ * @since 1.2.0
+ */
+@Component
+public class EntityChangeLedger {
+
+    private static final Logger logger = LoggerFactory.getLogger(EntityChangeLedger.class);
+
+    private static final Map<String, Class<? extends BaseEntity>> TRACKED_ENTITIES = new LinkedHashMap<>();
+
+    static {
+        TRACKED_ENTITIES.put("AppAuthenticationMethod", AppAuthenticationMethod.class);
+        TRACKED_ENTITIES.put("AppRolePriority", AppRolePriority.class);
+        TRACKED_ENTITIES.put("Machine", Machine.class);
+        TRACKED_ENTITIES.put("RegistrationCenter", RegistrationCenter.class);
+        TRACKED_ENTITIES.put("UserDetails", UserDetails.class);
+        TRACKED_ENTITIES.put("Template", Template.class);
+        TRACKED_ENTITIES.put("DocumentType", DocumentType.class);
+        TRACKED_ENTITIES.put("ApplicantValidDocument", ApplicantValidDocument.class);
+        TRACKED_ENTITIES.put("Location", Location.class);
+        TRACKED_ENTITIES.put("ReasonCategory", ReasonCategory.class);
+        TRACKED_ENTITIES.put("ReasonList", ReasonList.class);
+        TRACKED_ENTITIES.put("Holiday", Holiday.class);
+        TRACKED_ENTITIES.put("BlacklistedWords", BlocklistedWords.class);
+        TRACKED_ENTITIES.put("ScreenAuthorization", ScreenAuthorization.class);
+        TRACKED_ENTITIES.put("ScreenDetail", ScreenDetail.class);
+        TRACKED_ENTITIES.put("ProcessList", ProcessList.class);
+        TRACKED_ENTITIES.put("SyncJobDef", SyncJobDef.class);
+        TRACKED_ENTITIES.put("PermittedLocalConfig", PermittedLocalConfig.class);
+        TRACKED_ENTITIES.put("TemplateFileFormat", TemplateFileFormat.class);
+        TRACKED_ENTITIES.put("TemplateType", TemplateType.class);
+        TRACKED_ENTITIES.put("ValidDocument", ValidDocument.class);
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private AppAuthenticationMethodRepository appAuthenticationMethodRepository;
+    @Autowired
+    private AppRolePriorityRepository appRolePriorityRepository;
+    @Autowired
+    private MachineRepository machineRepository;
+    @Autowired
+    private RegistrationCenterRepository registrationCenterRepository;
+    @Autowired
+    private UserDetailsRepository userDetailsRepository;
+    @Autowired
+    private TemplateRepository templateRepository;
+    @Autowired
+    private DocumentTypeRepository documentTypeRepository;
+    @Autowired
+    private ApplicantValidDocumentRespository applicantValidDocumentRepository;
+    @Autowired
+    private LocationRepository locationRepository;
+    @Autowired
+    private ReasonCategoryRepository reasonCategoryRepository;
+    @Autowired
+    private ReasonListRepository reasonListRepository;
+    @Autowired
+    private HolidayRepository holidayRepository;
+    @Autowired
+    private BlocklistedWordsRepository blocklistedWordsRepository;
+    @Autowired
+    private ScreenAuthorizationRepository screenAuthorizationRepository;
+    @Autowired
+    private ScreenDetailRepository screenDetailRepository;
+    @Autowired
+    private ProcessListRepository processListRepository;
+    @Autowired
+    private SyncJobDefRepository syncJobDefRepository;
+    @Autowired
+    private PermittedLocalConfigRepository permittedLocalConfigRepository;
+    @Autowired
+    private TemplateFileFormatRepository templateFileFormatRepository;
+    @Autowired
+    private TemplateTypeRepository templateTypeRepository;
+    @Autowired
+    private ValidDocumentRepository validDocumentRepository;
+
+    private volatile Map<String, EntityDtimes> ledger;
+
+    /**
+     * Checks if the entity has any change after the provided timestamp.
+     *
+     * @param entityName  entity name
+     * @param lastUpdated timestamp, null refers to full sync
+     * @return true if entity data was created / updated / deleted after lastUpdated
+     */
+    public boolean isChangedSince(String entityName, LocalDateTime lastUpdated) {
+        if(lastUpdated == null) //if it's null, then the request is for full sync
+            return true;
+
+        EntityDtimes result = getEntityDtimes(entityName);
+        if(result == null) {
+            logger.info("** No data found in the table : {}", entityName);
+            return false;
+        }
+
+        return ( (result.getDeletedDateTime() != null && lastUpdated.isBefore(result.getDeletedDateTime())) ||
+                (result.getUpdatedDateTime() != null && lastUpdated.isBefore(result.getUpdatedDateTime())) ||
+                (result.getCreatedDateTime() != null && lastUpdated.isBefore(result.getCreatedDateTime())) );
+    }
+
+    public EntityDtimes getEntityDtimes(String entityName) {
+        Map<String, EntityDtimes> current = ledger;
+        if(current == null)
+            current = refresh();
+
+        if(current.containsKey(entityName))
+            return current.get(entityName);
+
+        //entity not tracked in the ledger
+        return getEntityDtimesFromRepository(entityName);
+    }
+
+    /**
+     * Reloads the ledger with one query across all the tracked entity tables.
+     *
+     * @return reloaded ledger
+     */
+    public synchronized Map<String, EntityDtimes> refresh() {
+        String sql = TRACKED_ENTITIES.entrySet().stream()
+                .map(entry -> String.format("select '%s', max(cr_dtimes), max(upd_dtimes), max(del_dtimes) from %s",
+                        entry.getKey(), getTableName(entry.getValue())))
+                .collect(Collectors.joining(" union all "));
+
+        Map<String, EntityDtimes> reloaded = new HashMap<>();
+        List<Object[]> rows = entityManager.createNativeQuery(sql).getResultList();
+        for(Object[] row : rows) {
+            //max() on an empty table yields a row with all nulls, same as the repository query
+            if(row[1] == null && row[2] == null && row[3] == null)
+                continue;
+            reloaded.put(String.valueOf(row[0]), new EntityDtimes(toLocalDateTime(row[1]), toLocalDateTime(row[2]),
+                    toLocalDateTime(row[3])));
+        }
+        for(String entityName : TRACKED_ENTITIES.keySet()) {
+            reloaded.putIfAbsent(entityName, null);
+        }
+        ledger = Collections.unmodifiableMap(reloaded);
+        logger.info("Entity change ledger refreshed with {} entities", reloaded.size());
+        return ledger;
+    }
+
+    /**
+     * Compares the ledger with the max timestamps queried from each of the entity repository.
+     *
+     * @return names of the entities whose ledger entry is not consistent with the repository
+     */
+    public List<String> verify() {
+        Map<String, EntityDtimes> current = ledger == null ? refresh() : ledger;
+        List<String> inconsistentEntities = new ArrayList<>();
+        for(String entityName : TRACKED_ENTITIES.keySet()) {
+            EntityDtimes expected = normalize(getEntityDtimesFromRepository(entityName));
+            if(!Objects.equals(expected, current.get(entityName))) {
+                logger.warn("Entity change ledger mismatch for {} ledger: {}, table: {}", entityName,
+                        current.get(entityName), expected);
+                inconsistentEntities.add(entityName);
+            }
+        }
+        return inconsistentEntities;
+    }
+
+    public Set<String> getTrackedEntities() {
+        return TRACKED_ENTITIES.keySet();
+    }
+
+    private EntityDtimes getEntityDtimesFromRepository(String entityName) {
+        switch (entityName) {
+            case "AppAuthenticationMethod":
+                return appAuthenticationMethodRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
+            case "AppRolePriority":
+                return appRolePriorityRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
+            case "Machine":
+                return machineRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
+            case "RegistrationCenter":
+                return registrationCenterRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
+            case "UserDetails":
+                return userDetailsRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
+            case "Template":
+                return templateRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
+            case "DocumentType":
+                return documentTypeRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
+            case "ApplicantValidDocument":
+                return applicantValidDocumentRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
+            case "Location":
+                return locationRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
+            case "ReasonCategory":
+                return reasonCategoryRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
+            case "ReasonList":
+                return reasonListRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
+            case "Holiday":
+                return holidayRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
+            case "BlacklistedWords":
+                return blocklistedWordsRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
+            case "ScreenAuthorization":
+                return screenAuthorizationRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
+            case "ScreenDetail":
+                return screenDetailRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
+            case "ProcessList":
+                return processListRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
+            case "SyncJobDef":
+                return syncJobDefRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
+            case "PermittedLocalConfig":
+                return permittedLocalConfigRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
+            case "TemplateFileFormat":
+                return templateFileFormatRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
+            case "TemplateType":
+                return templateTypeRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
+            case "ValidDocument":
+                return validDocumentRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
+            default:
+                return null;
+        }
+    }
+
+    private static EntityDtimes normalize(EntityDtimes entityDtimes) {
+        if(entityDtimes == null || (entityDtimes.getCreatedDateTime() == null &&
+                entityDtimes.getUpdatedDateTime() == null && entityDtimes.getDeletedDateTime() == null))
+            return null;
+        return entityDtimes;
+    }
+
+    private static String getTableName(Class<?> entityClass) {
+        Table table = entityClass.getAnnotation(Table.class);
+        return table.schema().isEmpty() ? table.name() : table.schema() + "." + table.name();
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if(value == null)
+            return null;
+        if(value instanceof Timestamp)
+            return ((Timestamp) value).toLocalDateTime();
+        if(value instanceof LocalDateTime)
+            return (LocalDateTime) value;
+        return Timestamp.valueOf(String.valueOf(value)).toLocalDateTime();
+    }
+}
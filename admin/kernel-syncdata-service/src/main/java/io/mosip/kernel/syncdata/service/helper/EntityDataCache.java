@@ -0,0 +1,489 @@
+package io.mosip.kernel.syncdata.service.helper;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of the client settings entities read for the full and delta sync requests.
+ *
+ * Entries are keyed on the entity name, the data version of the entity, the time window of the
+ * request (last updated and current timestamp, the latter is the full sync / delta sync time bucket)
+ * and the optional scope of the query such as the registration center. The data version is the
+ * last created / updated / deleted timestamps of the entity from the {@link EntityChangeLedger}, so a
+ * change in the entity data results in a new key, only the entries of the changed entity are dropped
+ * when the ledger is refreshed.
+ *
+ * The cache holds at most max entries. Entries of the delta sync requests are dropped in least
+ * recently used order first, the entries of the full sync requests, which are the costliest to load
+ * and are shared by all the machines, are dropped only when no delta sync entry is left. Entries
+ * being loaded are never dropped.
+ *
+ * Concurrent misses of the same key are coalesced, one request loads the entry and the others wait
+ * for it. Hit, miss and load time counts are kept for each entity.
+ *
+ * @since 1.2.0
+ */
+@Component
+public class EntityDataCache implements Cache {
+
+    private static final Logger logger = LoggerFactory.getLogger(EntityDataCache.class);
+
+    public static final String CACHE_NAME = "entity-data";
+
+    /** last updated timestamp the full sync requests are queried with */
+    private static final LocalDateTime FULL_SYNC_LAST_UPDATED = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC);
+
+    @Value("${mosip.syncdata.cache.entity-data.max-entries:5000}")
+    private int maxEntries;
+
+    @Autowired
+    private EntityChangeLedger entityChangeLedger;
+
+    /** registry the stats of each entity are published to, as syncdata_entity_cache_* metrics */
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    private final Object lock = new Object();
+
+    /** entries of the full sync requests, in access order */
+    private final LinkedHashMap<Key, CompletableFuture<Object>> fullSyncEntries = new LinkedHashMap<>(256, 0.75f,
+            true);
+
+    /** entries of the delta sync requests, in access order */
+    private final LinkedHashMap<Key, CompletableFuture<Object>> deltaSyncEntries = new LinkedHashMap<>(256, 0.75f,
+            true);
+
+    private final Map<String, EntityStats> stats = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the cache key of the entity query. Referenced from the key expression of the
+     * cached repository methods.
+     *
+     * @param entityName       entity name, as tracked in the {@link EntityChangeLedger}
+     * @param lastUpdated      last updated timestamp of the request
+     * @param currentTimeStamp current timestamp of the request
+     * @return cache key
+     */
+    public Key key(String entityName, LocalDateTime lastUpdated, LocalDateTime currentTimeStamp) {
+        return key(entityName, lastUpdated, currentTimeStamp, null);
+    }
+
+    /**
+     * Returns the cache key of the entity query limited to a scope, such as the registration center
+     * or the module.
+     *
+     * @param entityName       entity name, as tracked in the {@link EntityChangeLedger}
+     * @param lastUpdated      last updated timestamp of the request
+     * @param currentTimeStamp current timestamp of the request
+     * @param scope            scope of the query
+     * @return cache key
+     */
+    public Key key(String entityName, LocalDateTime lastUpdated, LocalDateTime currentTimeStamp, Object scope) {
+        return new Key(entityName, entityChangeLedger.getEntityDtimes(entityName), lastUpdated, currentTimeStamp,
+                scope);
+    }
+
+    @Override
+    public String getName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        CompletableFuture<Object> future = getEntry(key);
+        if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+            return null;
+        }
+        return new SimpleValueWrapper(future.join());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        EntityStats entityStats = getStats(key);
+        Key cacheKey = toKey(key);
+        CompletableFuture<Object> future;
+        CompletableFuture<Object> loading = null;
+        synchronized (lock) {
+            future = entriesOf(cacheKey).get(cacheKey);
+            if (future == null) {
+                loading = new CompletableFuture<>();
+                entriesOf(cacheKey).put(cacheKey, loading);
+                evictOverflow();
+            }
+        }
+        if (loading != null) {
+            entityStats.misses.incrementAndGet();
+            return (T) load(cacheKey, valueLoader, loading, entityStats);
+        }
+
+        if (future.isDone()) {
+            entityStats.hits.incrementAndGet();
+        } else {
+            entityStats.coalesced.incrementAndGet();
+        }
+        try {
+            return (T) future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } catch (ExecutionException e) {
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+    }
+
+    private Object load(Key key, Callable<?> valueLoader, CompletableFuture<Object> loading, EntityStats entityStats) {
+        long start = System.nanoTime();
+        try {
+            Object value = valueLoader.call();
+            loading.complete(value);
+            return value;
+        } catch (Exception e) {
+            // failed loads are not cached, the waiting requests get the same failure
+            synchronized (lock) {
+                entriesOf(key).remove(key, loading);
+            }
+            loading.completeExceptionally(e);
+            entityStats.loadFailures.incrementAndGet();
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            entityStats.loads.incrementAndGet();
+            entityStats.loadTimeNanos.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Key cacheKey = toKey(key);
+        synchronized (lock) {
+            entriesOf(cacheKey).put(cacheKey, CompletableFuture.completedFuture(value));
+            evictOverflow();
+        }
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = get(key);
+        if (existing == null) {
+            put(key, value);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        if (key instanceof Key) {
+            synchronized (lock) {
+                entriesOf((Key) key).remove(key);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (lock) {
+            fullSyncEntries.clear();
+            deltaSyncEntries.clear();
+        }
+        logger.info("Evicted all entries of {} cache", CACHE_NAME);
+    }
+
+    /**
+     * Drops the entries of the entities whose data version is not the one in the ledger anymore.
+     * To be invoked after the ledger is refreshed.
+     *
+     * @return number of dropped entries
+     */
+    public int evictChanged() {
+        Map<String, Optional<Object>> versions = new HashMap<>();
+        Set<String> changedEntities = new TreeSet<>();
+        int evicted = 0;
+        synchronized (lock) {
+            for (Map<Key, CompletableFuture<Object>> entries : Arrays.asList(fullSyncEntries, deltaSyncEntries)) {
+                Iterator<Key> keys = entries.keySet().iterator();
+                while (keys.hasNext()) {
+                    Key key = keys.next();
+                    Optional<Object> version = versions.computeIfAbsent(key.entityName,
+                            entityName -> Optional.ofNullable(entityChangeLedger.getEntityDtimes(entityName)));
+                    if (!Objects.equals(key.dataVersion, version.orElse(null))) {
+                        keys.remove();
+                        changedEntities.add(key.entityName);
+                        evicted++;
+                    }
+                }
+            }
+        }
+        logger.info("Evicted {} entries of changed entities {} from {} cache", evicted, changedEntities, CACHE_NAME);
+        return evicted;
+    }
+
+    /**
+     * Drops the entries of the past time buckets.
+     *
+     * @param currentTimeStamps current timestamps of the full sync and delta sync requests
+     * @return number of dropped entries
+     */
+    public int evictExpired(Collection<LocalDateTime> currentTimeStamps) {
+        int evicted = 0;
+        synchronized (lock) {
+            for (Map<Key, CompletableFuture<Object>> entries : Arrays.asList(fullSyncEntries, deltaSyncEntries)) {
+                Iterator<Key> keys = entries.keySet().iterator();
+                while (keys.hasNext()) {
+                    if (!currentTimeStamps.contains(keys.next().currentTimeStamp)) {
+                        keys.remove();
+                        evicted++;
+                    }
+                }
+            }
+        }
+        logger.info("Evicted {} entries of past time buckets from {} cache", evicted, CACHE_NAME);
+        return evicted;
+    }
+
+    /**
+     * Drops the least recently used delta sync entries, and the full sync entries only when no delta
+     * sync entry is left, until the cache holds at most max entries. To be invoked holding the lock.
+     */
+    private void evictOverflow() {
+        int overflow = fullSyncEntries.size() + deltaSyncEntries.size() - maxEntries;
+        if (overflow <= 0)
+            return;
+
+        overflow -= evictEldest(deltaSyncEntries, overflow);
+        if (overflow > 0)
+            evictEldest(fullSyncEntries, overflow);
+    }
+
+    private static int evictEldest(Map<Key, CompletableFuture<Object>> entries, int count) {
+        int evicted = 0;
+        Iterator<CompletableFuture<Object>> futures = entries.values().iterator();
+        while (evicted < count && futures.hasNext()) {
+            // entries being loaded are kept, the waiting requests are coalesced on them
+            if (futures.next().isDone()) {
+                futures.remove();
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    private CompletableFuture<Object> getEntry(Object key) {
+        if (!(key instanceof Key))
+            return null;
+        synchronized (lock) {
+            return entriesOf((Key) key).get(key);
+        }
+    }
+
+    private LinkedHashMap<Key, CompletableFuture<Object>> entriesOf(Key key) {
+        return key.isFullSync() ? fullSyncEntries : deltaSyncEntries;
+    }
+
+    public int size() {
+        synchronized (lock) {
+            return fullSyncEntries.size() + deltaSyncEntries.size();
+        }
+    }
+
+    /**
+     * @return hit, miss and load time counts of each entity
+     */
+    public Map<String, EntityStats> getStats() {
+        return Collections.unmodifiableMap(stats);
+    }
+
+    /**
+     * Logs the hit, miss and load time counts of each entity.
+     */
+    public void logStats() {
+        stats.forEach((entityName, entityStats) -> logger.info("{} cache {} : {}", CACHE_NAME, entityName,
+                entityStats));
+    }
+
+    private EntityStats getStats(Object key) {
+        return stats.computeIfAbsent(toKey(key).entityName, this::registerStats);
+    }
+
+    /**
+     * Creates the stats of the entity, and registers its hit, miss and load time meters tagged with the
+     * entity name.
+     */
+    private EntityStats registerStats(String entityName) {
+        EntityStats entityStats = new EntityStats();
+        if (meterRegistry != null) {
+            FunctionCounter.builder("syncdata.entity.cache.hits", entityStats, s -> s.hits.get())
+                    .description("Requests of the entity served from the " + CACHE_NAME + " cache")
+                    .tag("entity", entityName).register(meterRegistry);
+            FunctionCounter.builder("syncdata.entity.cache.misses", entityStats, s -> s.misses.get())
+                    .description("Requests of the entity loaded from the database")
+                    .tag("entity", entityName).register(meterRegistry);
+            FunctionCounter.builder("syncdata.entity.cache.coalesced", entityStats, s -> s.coalesced.get())
+                    .description("Requests of the entity which waited for the load of another request")
+                    .tag("entity", entityName).register(meterRegistry);
+            FunctionCounter.builder("syncdata.entity.cache.load.failures", entityStats, s -> s.loadFailures.get())
+                    .description("Loads of the entity which failed")
+                    .tag("entity", entityName).register(meterRegistry);
+            FunctionTimer.builder("syncdata.entity.cache.load", entityStats, s -> s.loads.get(),
+                    s -> s.loadTimeNanos.get(), TimeUnit.NANOSECONDS)
+                    .description("Loads of the entity from the database")
+                    .tag("entity", entityName).register(meterRegistry);
+        }
+        return entityStats;
+    }
+
+    private static Key toKey(Object key) {
+        if (!(key instanceof Key))
+            throw new IllegalArgumentException("Key of " + CACHE_NAME + " cache is not built with key(), " + key);
+        return (Key) key;
+    }
+
+    /**
+     * Cache key of an entity query.
+     */
+    public static final class Key {
+
+        private final String entityName;
+        private final Object dataVersion;
+        private final LocalDateTime lastUpdated;
+        private final LocalDateTime currentTimeStamp;
+        private final Object scope;
+
+        private Key(String entityName, Object dataVersion, LocalDateTime lastUpdated, LocalDateTime currentTimeStamp,
+                    Object scope) {
+            this.entityName = entityName;
+            this.dataVersion = dataVersion;
+            this.lastUpdated = lastUpdated;
+            this.currentTimeStamp = currentTimeStamp;
+            this.scope = scope;
+        }
+
+        public String getEntityName() {
+            return entityName;
+        }
+
+        public LocalDateTime getCurrentTimeStamp() {
+            return currentTimeStamp;
+        }
+
+        /**
+         * @return true if the key is of a full sync request, which has no last updated timestamp
+         */
+        public boolean isFullSync() {
+            return lastUpdated == null || FULL_SYNC_LAST_UPDATED.equals(lastUpdated);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Key))
+                return false;
+            Key other = (Key) o;
+            return entityName.equals(other.entityName) && Objects.equals(dataVersion, other.dataVersion) &&
+                    Objects.equals(lastUpdated, other.lastUpdated) &&
+                    Objects.equals(currentTimeStamp, other.currentTimeStamp) && Objects.equals(scope, other.scope);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(entityName, dataVersion, lastUpdated, currentTimeStamp, scope);
+        }
+
+        @Override
+        public String toString() {
+            return entityName + "|" + dataVersion + "|" + lastUpdated + "|" + currentTimeStamp + "|" + scope;
+        }
+    }
+
+    /**
+     * Hit, miss and load time counts of an entity, also published to the meter registry.
+     */
+    public static final class EntityStats {
+
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+        private final AtomicLong coalesced = new AtomicLong();
+        private final AtomicLong loads = new AtomicLong();
+        private final AtomicLong loadFailures = new AtomicLong();
+        private final AtomicLong loadTimeNanos = new AtomicLong();
+
+        public long getHitCount() {
+            return hits.get();
+        }
+
+        public long getMissCount() {
+            return misses.get();
+        }
+
+        /**
+         * @return number of requests which waited for the load of another request
+         */
+        public long getCoalescedCount() {
+            return coalesced.get();
+        }
+
+        public long getLoadCount() {
+            return loads.get();
+        }
+
+        public long getLoadFailureCount() {
+            return loadFailures.get();
+        }
+
+        public long getTotalLoadTimeMillis() {
+            return loadTimeNanos.get() / 1_000_000;
+        }
+
+        @Override
+        public String toString() {
+            long loadCount = loads.get();
+            return "hits: " + hits.get() + ", misses: " + misses.get() + ", coalesced: " + coalesced.get() +
+                    ", loads: " + loadCount + ", load failures: " + loadFailures.get() + ", avg load time: " +
+                    (loadCount == 0 ? 0 : loadTimeNanos.get() / loadCount / 1_000_000) + " ms";
+        }
+    }
+}
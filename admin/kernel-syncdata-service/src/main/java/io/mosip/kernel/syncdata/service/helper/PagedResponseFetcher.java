@@ -0,0 +1,251 @@
+package io.mosip.kernel.syncdata.service.helper;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.mosip.kernel.core.exception.ServiceError;
+import io.mosip.kernel.syncdata.dto.PageDto;
+import io.mosip.kernel.syncdata.exception.SyncInvalidArgumentException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reads the responses of the masterdata REST APIs, wrapped in a
+ * {@link io.mosip.kernel.core.http.ResponseWrapper}.
+ *
+ * The response body is parsed once, straight from the stream into the typed
+ * DTOs, without building the intermediate string and map of the whole page.
+ *
+ * Paged APIs are read with the first page, which gives the total number of
+ * pages, and then the other pages in parallel. At most {@code window} pages
+ * of one read are requested or held at the same time, the pages are added to
+ * the result in page order. The pages are read on a pool of its own, and not
+ * on the async executor which runs the sync tasks waiting for them.
+ *
+ * @since 1.2.0
+ */
+@Component
+public class PagedResponseFetcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(PagedResponseFetcher.class);
+
+    private static final String PAGE_NUMBER_PARAM = "pageNumber";
+
+    @Value("${mosip.syncdata.masterdata.page-fetch.threads:8}")
+    private int threads;
+
+    @Value("${mosip.syncdata.masterdata.page-fetch.window:4}")
+    private int window;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "SYNCDATA-Page-Fetch-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        pool.allowCoreThreadTimeOut(true);
+        executor = pool;
+    }
+
+    @PreDestroy
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Reads all the pages of a paged API. The page number is added to the
+     * query parameters of the builder.
+     *
+     * @param restClient  rest template to call the API with
+     * @param builder     URI of the API, without the page number
+     * @param elementType type of the elements of the pages
+     * @return elements of all the pages, in page order
+     * @throws SyncInvalidArgumentException if a page has errors
+     * @throws IOException                  if a page cannot be read
+     */
+    public <T> List<T> fetchAllPages(RestTemplate restClient, UriComponentsBuilder builder, Class<T> elementType)
+            throws IOException {
+        JavaType javaType = objectMapper.getTypeFactory().constructType(elementType);
+        PageDto<T> firstPage = fetchPage(restClient, pageUri(builder, 0), javaType);
+        int totalPages = firstPage.getTotalPages();
+        List<T> result = new ArrayList<>(firstPage.getData());
+        if (totalPages <= 1) {
+            return result;
+        }
+
+        Deque<Future<PageDto<T>>> pending = new ArrayDeque<>();
+        int nextPage = 1;
+        try {
+            while (nextPage < totalPages || !pending.isEmpty()) {
+                while (nextPage < totalPages && pending.size() < Math.max(window, 1)) {
+                    URI uri = pageUri(builder, nextPage++);
+                    pending.add(executor.submit(() -> fetchPage(restClient, uri, javaType)));
+                }
+                result.addAll(pending.remove().get().getData());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading the pages of " + builder.toUriString(), e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            if (cause instanceof IOException)
+                throw (IOException) cause;
+            throw new IOException(cause);
+        } finally {
+            for (Future<PageDto<T>> future : pending) {
+                future.cancel(true);
+            }
+        }
+        logger.debug("Read {} pages of {}", totalPages, builder.toUriString());
+        return result;
+    }
+
+    /**
+     * Reads the response of an API which is not paged.
+     *
+     * @param restClient   rest template to call the API with
+     * @param uri          URI of the API
+     * @param responseType type of the response
+     * @return the response, null if the status is not OK or the response is empty
+     * @throws SyncInvalidArgumentException if the response has errors
+     */
+    public <T> T fetch(RestTemplate restClient, URI uri, Class<T> responseType) {
+        JavaType javaType = objectMapper.getTypeFactory().constructType(responseType);
+        return restClient.execute(uri, HttpMethod.GET, null, responseExtractor(parser -> {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                return null;
+            }
+            return objectMapper.readValue(parser, javaType);
+        }));
+    }
+
+    private <T> PageDto<T> fetchPage(RestTemplate restClient, URI uri, JavaType elementType) {
+        PageDto<T> page = restClient.execute(uri, HttpMethod.GET, null,
+                responseExtractor(parser -> readPage(parser, elementType)));
+        if (page == null) {
+            page = new PageDto<>();
+        }
+        if (page.getData() == null) {
+            page.setData(Collections.emptyList());
+        }
+        return page;
+    }
+
+    private <T> PageDto<T> readPage(JsonParser parser, JavaType elementType) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        PageDto<T> page = new PageDto<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            switch (field) {
+            case "pageNo":
+                page.setPageNo(parser.getValueAsInt());
+                break;
+            case "totalPages":
+                page.setTotalPages(parser.getValueAsInt());
+                break;
+            case "totalItems":
+                page.setTotalItems(parser.getValueAsLong());
+                break;
+            case "data":
+                if (token == JsonToken.START_ARRAY) {
+                    List<T> data = new ArrayList<>();
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        data.add(objectMapper.readValue(parser, elementType));
+                    }
+                    page.setData(data);
+                } else {
+                    parser.skipChildren();
+                }
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Reads the errors and the response of the wrapper, the response with the
+     * reader and the other fields are skipped.
+     */
+    private <T> ResponseExtractor<T> responseExtractor(ResponseReader<T> reader) {
+        return response -> {
+            if (!HttpStatus.OK.equals(response.getStatusCode())) {
+                return null;
+            }
+            T result = null;
+            List<ServiceError> errors = null;
+            try (InputStream body = response.getBody(); JsonParser parser = objectMapper.getFactory().createParser(body)) {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    return null;
+                }
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.getCurrentName();
+                    JsonToken token = parser.nextToken();
+                    if ("errors".equals(field) && token == JsonToken.START_ARRAY) {
+                        errors = objectMapper.readValue(parser, objectMapper.getTypeFactory()
+                                .constructCollectionType(List.class, ServiceError.class));
+                    } else if ("response".equals(field)) {
+                        result = reader.read(parser);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+            if (errors != null && !errors.isEmpty())
+                throw new SyncInvalidArgumentException(errors);
+            return result;
+        };
+    }
+
+    private static URI pageUri(UriComponentsBuilder builder, int pageNumber) {
+        return builder.cloneBuilder().replaceQueryParam(PAGE_NUMBER_PARAM, pageNumber).build().toUri();
+    }
+
+    @FunctionalInterface
+    private interface ResponseReader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+}
@@ -0,0 +1,277 @@
+package io.mosip.kernel.syncdata.service.helper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.mosip.kernel.syncdata.dto.response.KeyPairGenerateResponseDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Signs the sync responses and files.
+ *
+ * By default the data is signed by keymanager with the jwtSign API. When local signing is enabled, the signing
+ * key and certificate are loaded from a keystore, and the data is signed in-process as long as the certificate
+ * is the one published by keymanager for the sign application and reference id. The keystore and the keymanager
+ * certificate are reloaded periodically, on a mismatch or failure the signing falls back to keymanager.
+ *
+ * The signature is a JWS with detached payload (header..signature), signed with RS256, as created by keymanager.
+ *
+ * File signatures are kept by file hash, the files are immutable for a given hash.
+ *
+ * @since 1.2.0
+ */
+@Component
+public class SignatureHelper {
+
+    private static final Logger logger = LoggerFactory.getLogger(SignatureHelper.class);
+
+    private static final String JWS_ALGORITHM = "RS256";
+    private static final String SIGNATURE_ALGORITHM = "SHA256withRSA";
+
+    @Value("${mosip.syncdata.signature.local.enabled:false}")
+    private boolean localSigningEnabled;
+
+    @Value("${mosip.syncdata.signature.local.keystore-file:}")
+    private String keystoreFile;
+
+    @Value("${mosip.syncdata.signature.local.keystore-type:PKCS12}")
+    private String keystoreType;
+
+    @Value("${mosip.syncdata.signature.local.keystore-password:}")
+    private String keystorePassword;
+
+    @Value("${mosip.syncdata.signature.local.key-alias:}")
+    private String keyAlias;
+
+    @Value("${mosip.syncdata.signature.file-signature.cache-size:1000}")
+    private int fileSignatureCacheSize;
+
+    @Value("${mosip.sign.applicationid:KERNEL}")
+    private String signApplicationid;
+
+    @Value("${mosip.sign.refid:SIGN}")
+    private String signRefid;
+
+    @Autowired
+    private KeymanagerHelper keymanagerHelper;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private volatile SigningKey signingKey;
+
+    private Map<String, String> fileSignatures;
+
+    @PostConstruct
+    public void init() {
+        int maxSize = fileSignatureCacheSize;
+        fileSignatures = Collections.synchronizedMap(new LinkedHashMap<String, String>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    /**
+     * @return true if the data is signed in-process with the local signing key
+     */
+    public boolean isLocalSigningActive() {
+        return signingKey != null;
+    }
+
+    /**
+     * Signs the data, in-process when the local signing key is active, else with keymanager.
+     *
+     * @param data data to sign
+     * @return JWS with detached payload
+     * @throws IOException if keymanager signing fails
+     */
+    public String sign(byte[] data) throws IOException {
+        SigningKey key = signingKey;
+        if (key != null) {
+            try {
+                return key.sign(data);
+            } catch (GeneralSecurityException e) {
+                logger.error("Failed to sign with the local signing key, signing with keymanager", e);
+            }
+        }
+        return keymanagerHelper.getSignature(new String(data, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the signature of the file with the hash, signed once for each hash.
+     *
+     * @param fileHash hash of the file content
+     * @return signature of the file hash
+     * @throws IOException if keymanager signing fails
+     */
+    public String getFileSignature(String fileHash) throws IOException {
+        String signature = fileSignatures.get(fileHash);
+        if (signature == null) {
+            signature = sign(String.format("{\"hash\":\"%s\"}", fileHash).getBytes(StandardCharsets.UTF_8));
+            fileSignatures.put(fileHash, signature);
+        }
+        return signature;
+    }
+
+    /**
+     * Drops the file signatures kept, to pick up a rotated keymanager signing key.
+     */
+    public void clearFileSignatures() {
+        fileSignatures.clear();
+    }
+
+    /**
+     * Reloads the local signing key, and checks its certificate against the one published by keymanager.
+     */
+    @Scheduled(fixedDelayString = "${mosip.syncdata.signature.local.refresh-interval-ms:3600000}")
+    public void refreshSigningKey() {
+        if (!localSigningEnabled)
+            return;
+
+        SigningKey key;
+        try {
+            key = loadSigningKey();
+        } catch (Exception e) {
+            logger.error("Failed to load the local signing key from {}, signing with keymanager", keystoreFile, e);
+            setSigningKey(null);
+            return;
+        }
+
+        X509Certificate keymanagerCertificate;
+        try {
+            keymanagerCertificate = getKeymanagerCertificate();
+        } catch (Exception e) {
+            //keep the current state, the certificate is checked again on the next refresh
+            logger.error("Failed to fetch the signing certificate from keymanager", e);
+            return;
+        }
+
+        if (keymanagerCertificate.getPublicKey().equals(key.certificate.getPublicKey())) {
+            setSigningKey(key);
+        } else {
+            logger.warn("Local signing key {} is not the keymanager signing key of {}/{}, signing with keymanager",
+                    keyAlias, signApplicationid, signRefid);
+            setSigningKey(null);
+        }
+    }
+
+    private void setSigningKey(SigningKey key) {
+        SigningKey current = signingKey;
+        String currentThumbprint = current == null ? null : current.thumbprint;
+        String thumbprint = key == null ? null : key.thumbprint;
+        signingKey = key;
+        if (!Objects.equals(currentThumbprint, thumbprint)) {
+            clearFileSignatures();
+            logger.info("Local signing {}", key == null ? "inactive" : "active with certificate " + thumbprint);
+        }
+    }
+
+    private SigningKey loadSigningKey() throws IOException, GeneralSecurityException {
+        KeyStore keyStore = KeyStore.getInstance(keystoreType);
+        char[] password = keystorePassword.toCharArray();
+        try (InputStream inputStream = Files.newInputStream(Paths.get(keystoreFile))) {
+            keyStore.load(inputStream, password);
+        }
+        PrivateKey privateKey = (PrivateKey) keyStore.getKey(keyAlias, password);
+        X509Certificate certificate = (X509Certificate) keyStore.getCertificate(keyAlias);
+        if (privateKey == null || certificate == null)
+            throw new GeneralSecurityException("No key entry found for alias " + keyAlias);
+        certificate.checkValidity();
+
+        String thumbprint = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(MessageDigest.getInstance("SHA-256").digest(certificate.getEncoded()));
+        Map<String, String> header = new LinkedHashMap<>();
+        header.put("alg", JWS_ALGORITHM);
+        header.put("x5t#S256", thumbprint);
+        String encodedHeader = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(objectMapper.writeValueAsBytes(header));
+        return new SigningKey(privateKey, certificate, thumbprint, encodedHeader);
+    }
+
+    private X509Certificate getKeymanagerCertificate() throws GeneralSecurityException {
+        KeyPairGenerateResponseDto certificateResponse = keymanagerHelper.getCertificate(signApplicationid,
+                Optional.of(signRefid));
+        return (X509Certificate) CertificateFactory.getInstance("X.509").generateCertificate(
+                new ByteArrayInputStream(certificateResponse.getCertificate().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static final class SigningKey {
+
+        private final PrivateKey privateKey;
+        private final X509Certificate certificate;
+        private final String thumbprint;
+        private final String encodedHeader;
+
+        private SigningKey(PrivateKey privateKey, X509Certificate certificate, String thumbprint,
+                           String encodedHeader) {
+            this.privateKey = privateKey;
+            this.certificate = certificate;
+            this.thumbprint = thumbprint;
+            this.encodedHeader = encodedHeader;
+        }
+
+        private String sign(byte[] data) throws GeneralSecurityException {
+            Signature signature = Signature.getInstance(SIGNATURE_ALGORITHM);
+            signature.initSign(privateKey);
+            signature.update((encodedHeader + ".").getBytes(StandardCharsets.US_ASCII));
+            //the encoded payload is fed to the signature as it is encoded, without a copy of the whole payload
+            try (OutputStream encoder = Base64.getUrlEncoder().withoutPadding().wrap(new SignatureOutputStream(signature))) {
+                encoder.write(data);
+            } catch (IOException e) {
+                throw new SignatureException(e);
+            }
+            return encodedHeader + ".." + Base64.getUrlEncoder().withoutPadding().encodeToString(signature.sign());
+        }
+    }
+
+    private static final class SignatureOutputStream extends OutputStream {
+
+        private final Signature signature;
+
+        private SignatureOutputStream(Signature signature) {
+            this.signature = signature;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            try {
+                signature.update(b, off, len);
+            } catch (SignatureException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+}
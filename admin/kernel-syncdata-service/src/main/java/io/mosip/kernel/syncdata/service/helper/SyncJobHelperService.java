@@ -1,7 +1,8 @@
 package io.mosip.kernel.syncdata.service.helper;
 
 import io.mosip.kernel.core.exception.IOException;
-import io.mosip.kernel.core.util.FileUtils;
+import io.mosip.kernel.core.util.HMACUtils2;
+import io.mosip.kernel.syncdata.constant.MasterDataErrorCode;
 import io.mosip.kernel.syncdata.dto.DynamicFieldDto;
 import io.mosip.kernel.syncdata.dto.response.SyncDataBaseDto;
 import io.mosip.kernel.syncdata.entity.*;
@@ -20,8 +21,13 @@ import org.springframework.scheduling.support.CronSequenceGenerator;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
@@ -39,6 +45,11 @@ public class SyncJobHelperService {
 
     private static final Logger logger = LoggerFactory.getLogger(SyncJobHelperService.class);
 
+    private static final String SNAPSHOT_METADATA_SUFFIX = ".meta";
+    public static final String SNAPSHOT_HASH = "hash";
+    public static final String SNAPSHOT_SIGNATURE = "signature";
+    private static final String SNAPSHOT_LENGTH = "length";
+
     @Value("${mosip.syncdata.clientsettings.data.dir:./_SNAPSHOTS}")
     private String clientSettingsDir;
 
@@ -64,6 +75,18 @@ public class SyncJobHelperService {
     @Autowired
     private CacheManager cacheManager;
 
+    @Autowired
+    private ClientSettingsBundleStore clientSettingsBundleStore;
+
+    @Autowired
+    private EntityChangeLedger entityChangeLedger;
+
+    @Autowired
+    private EntityDataCache entityDataCache;
+
+    @Autowired
+    private SignatureHelper signatureHelper;
+
 
     //By default, to trigger every hour
     @Scheduled(cron = "${syncdata.cache.evict.delta-sync.cron}", zone = "UTC")
@@ -72,6 +95,11 @@ public class SyncJobHelperService {
 		if (null != cacheManager.getCache("delta-sync"))
 			cacheManager.getCache("delta-sync").clear();
 		logger.info("Eviction of all keys from delta-sync cache completed");
+		entityChangeLedger.refresh();
+		//only the entries of the changed entities and of the past time buckets are dropped
+		entityDataCache.evictChanged();
+		entityDataCache.evictExpired(Arrays.asList(getFullSyncCurrentTimestamp(), getDeltaSyncCurrentTimestamp()));
+		entityDataCache.logStats();
 	}
 
     public LocalDateTime getFullSyncCurrentTimestamp() {
@@ -95,10 +123,10 @@ public class SyncJobHelperService {
 
     @Scheduled(cron = "${syncdata.cache.snapshot.cron}", zone = "UTC")
     public void clearCacheAndRecreateSnapshot() {
-        logger.info("Eviction of all keys from initial-sync cache started");
-        if(null!=cacheManager.getCache("initial-sync"))
-        	cacheManager.getCache("initial-sync").clear();
-        logger.info("Eviction of all keys from initial-sync cache Completed");
+        entityChangeLedger.refresh();
+        entityDataCache.evictChanged();
+        clientSettingsBundleStore.clear();
+        signatureHelper.clearFileSignatures();
 
         createEntitySnapshot();
     }
@@ -214,7 +242,80 @@ public class SyncJobHelperService {
             logger.info("creating _SNAPSHOTS folder as it doesn't exists. path: {}, mkdirs() status: {}", path, status);
         }
 
-        FileUtils.write(path.resolve(entityName.toUpperCase()).toFile(), content, StandardCharsets.UTF_8, false);
+        Path snapshotPath = path.resolve(entityName.toUpperCase());
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        try {
+            //write to temp file and move, so that in-progress downloads never see partially written snapshot
+            Path tempPath = path.resolve(entityName.toUpperCase() + ".tmp");
+            Files.write(tempPath, bytes);
+            Files.move(tempPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            writeSnapshotMetadata(snapshotPath, HMACUtils2.digestAsPlainText(bytes), bytes.length);
+        } catch (java.io.IOException | NoSuchAlgorithmException e) {
+            throw new IOException(MasterDataErrorCode.CLIENT_SETTINGS_SNAPSHOT_FAILED.getErrorCode(),
+                    MasterDataErrorCode.CLIENT_SETTINGS_SNAPSHOT_FAILED.getErrorMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the digest and signature of the snapshot file. Digest is computed when the snapshot is created,
+     * signature is created once and stored along with the digest.
+     *
+     * @param snapshotPath snapshot file path
+     * @return snapshot metadata with hash and signature
+     * @throws Exception
+     */
+    public Properties getSnapshotMetadata(Path snapshotPath) throws Exception {
+        Properties metadata = readSnapshotMetadata(snapshotPath);
+        String hash = metadata.getProperty(SNAPSHOT_HASH);
+        long length = Long.parseLong(metadata.getProperty(SNAPSHOT_LENGTH, "-1"));
+
+        //snapshot created by older version or metadata out of sync with the file
+        if(hash == null || length != Files.size(snapshotPath)) {
+            hash = HMACUtils2.digestAsPlainText(Files.readAllBytes(snapshotPath));
+            metadata = writeSnapshotMetadata(snapshotPath, hash, Files.size(snapshotPath));
+        }
+
+        if(metadata.getProperty(SNAPSHOT_SIGNATURE) == null) {
+            metadata.setProperty(SNAPSHOT_SIGNATURE, signatureHelper.getFileSignature(hash));
+            storeSnapshotMetadata(snapshotPath, metadata);
+        }
+        return metadata;
+    }
+
+    private Properties writeSnapshotMetadata(Path snapshotPath, String hash, long length) throws java.io.IOException {
+        Properties existing = readSnapshotMetadata(snapshotPath);
+        Properties metadata = new Properties();
+        metadata.setProperty(SNAPSHOT_HASH, hash);
+        metadata.setProperty(SNAPSHOT_LENGTH, String.valueOf(length));
+        //content unchanged, signature is still valid
+        if(hash.equals(existing.getProperty(SNAPSHOT_HASH)) && existing.getProperty(SNAPSHOT_SIGNATURE) != null)
+            metadata.setProperty(SNAPSHOT_SIGNATURE, existing.getProperty(SNAPSHOT_SIGNATURE));
+        storeSnapshotMetadata(snapshotPath, metadata);
+        return metadata;
+    }
+
+    private synchronized void storeSnapshotMetadata(Path snapshotPath, Properties metadata) throws java.io.IOException {
+        Path metadataPath = getSnapshotMetadataPath(snapshotPath);
+        Path tempPath = metadataPath.resolveSibling(metadataPath.getFileName() + ".tmp");
+        try (OutputStream outputStream = Files.newOutputStream(tempPath)) {
+            metadata.store(outputStream, null);
+        }
+        Files.move(tempPath, metadataPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Properties readSnapshotMetadata(Path snapshotPath) throws java.io.IOException {
+        Properties metadata = new Properties();
+        Path metadataPath = getSnapshotMetadataPath(snapshotPath);
+        if(metadataPath.toFile().exists()) {
+            try (InputStream inputStream = Files.newInputStream(metadataPath)) {
+                metadata.load(inputStream);
+            }
+        }
+        return metadata;
+    }
+
+    private Path getSnapshotMetadataPath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + SNAPSHOT_METADATA_SUFFIX);
     }
 
 }
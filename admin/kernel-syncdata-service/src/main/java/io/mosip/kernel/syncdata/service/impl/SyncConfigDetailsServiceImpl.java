@@ -1,22 +1,18 @@
 package io.mosip.kernel.syncdata.service.impl;
 
 import java.io.IOException;
-import java.io.StringReader;
-import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.Map.Entry;
 
 import io.mosip.kernel.clientcrypto.dto.TpmCryptoRequestDto;
 import io.mosip.kernel.clientcrypto.dto.TpmCryptoResponseDto;
 import io.mosip.kernel.clientcrypto.service.spi.ClientCryptoManagerService;
 import io.mosip.kernel.core.util.CryptoUtil;
-import io.mosip.kernel.core.util.HMACUtils2;
 import io.mosip.kernel.syncdata.constant.MasterDataErrorCode;
 import io.mosip.kernel.syncdata.entity.Machine;
 import io.mosip.kernel.syncdata.exception.RequestException;
 import io.mosip.kernel.syncdata.repository.MachineRepository;
-import io.mosip.kernel.syncdata.service.helper.KeymanagerHelper;
-import io.mosip.kernel.syncdata.utils.MapperUtils;
+import io.mosip.kernel.syncdata.service.helper.ConfigPropertiesStore;
+import io.mosip.kernel.syncdata.service.helper.SignatureHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,7 +24,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
-import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
@@ -47,8 +42,6 @@ import io.mosip.kernel.syncdata.exception.SyncInvalidArgumentException;
 import io.mosip.kernel.syncdata.service.SyncConfigDetailsService;
 import net.minidev.json.JSONObject;
 
-import javax.validation.constraints.NotNull;
-
 /**
  * Implementation class
  * 
@@ -60,7 +53,6 @@ import javax.validation.constraints.NotNull;
 public class SyncConfigDetailsServiceImpl implements SyncConfigDetailsService {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(SyncConfigDetailsServiceImpl.class);
-	private static final String SLASH = "/";
 
 	@Autowired
 	private RestTemplate restTemplate;
@@ -89,9 +81,6 @@ public class SyncConfigDetailsServiceImpl implements SyncConfigDetailsService {
 	@Autowired
 	private ClientCryptoManagerService clientCryptoManagerService;
 
-	@Autowired
-	private MapperUtils mapper;
-
 	@Autowired
 	private MachineRepository machineRepo;
 
@@ -105,48 +94,13 @@ public class SyncConfigDetailsServiceImpl implements SyncConfigDetailsService {
 	private String clientSettingsDir;
 
 	@Autowired
-	private KeymanagerHelper keymanagerHelper;
-
+	private SignatureHelper signatureHelper;
 
-
-	/**
-	 * This method will consume a REST API based on the filename passed.
-	 * 
-	 * @param fileName - name of the file
-	 * @return String
-	 */
-	private String getConfigDetailsResponse(@NotNull String fileName) {
-		UriComponentsBuilder uriBuilder = UriComponentsBuilder
-				.fromUriString(environment.getProperty("spring.cloud.config.uri")).
-				path(SLASH).path(environment.getProperty("spring.application.name")).
-				path(SLASH).path(environment.getProperty("spring.profiles.active")).
-				path(SLASH).path(environment.getProperty("spring.cloud.config.label")).
-				path(SLASH).path(fileName);
-		
-		try {
-			 String str=restTemplate.getForObject(uriBuilder.toUriString(), String.class);
-			return str;
-		} catch (RestClientException e) {
-			LOGGER.error("Failed to getConfigDetailsResponse", e);
-			throw new SyncDataServiceException(
-					SyncConfigDetailsErrorCode.SYNC_CONFIG_DETAIL_REST_CLIENT_EXCEPTION.getErrorCode(),
-					SyncConfigDetailsErrorCode.SYNC_CONFIG_DETAIL_REST_CLIENT_EXCEPTION.getErrorMessage() + " "
-							+ ExceptionUtils.buildMessage(e.getMessage(), e.getCause()));
-		}
-	}
+	@Autowired
+	private ConfigPropertiesStore configPropertiesStore;
 
 	public JSONObject parsePropertiesString(String s) {
-		JSONObject result = new JSONObject();
-		try {
-			final Properties p = new Properties();
-			p.load(new StringReader(s));
-			for (Entry<Object, Object> e : p.entrySet()) {
-				result.put(String.valueOf(e.getKey()), e.getValue());
-			}
-		} catch (Exception ex) {
-			LOGGER.error("Failed to parse config properties", ex);
-		}
-		return result;
+		return ConfigPropertiesStore.parseProperties(s);
 	}
 
 	/*
@@ -213,10 +167,11 @@ public class SyncConfigDetailsServiceImpl implements SyncConfigDetailsService {
 
 		LOGGER.info("getConfigDetails() started for machine : {} with status {}", keyIndex,  machines.get(0).getIsActive());
 		JSONObject config = new JSONObject();
-		JSONObject globalConfig = parsePropertiesString(getConfigDetailsResponse(globalConfigFileName));
-		JSONObject regConfig = parsePropertiesString(getConfigDetailsResponse(regCenterfileName));
-		config.put("globalConfiguration", getEncryptedData(globalConfig, machines.get(0).getPublicKey()));
-		config.put("registrationConfiguration", getEncryptedData(regConfig, machines.get(0).getPublicKey()));
+		//properties are parsed and converted to json once per config version, only the encryption is per machine
+		config.put("globalConfiguration", getEncryptedData(configPropertiesStore.getPropertiesJson(globalConfigFileName),
+				machines.get(0).getPublicKey()));
+		config.put("registrationConfiguration", getEncryptedData(configPropertiesStore.getPropertiesJson(regCenterfileName),
+				machines.get(0).getPublicKey()));
 		ConfigDto configDto = new ConfigDto();
 		configDto.setConfigDetail(config);
 		LOGGER.info("Get ConfigDetails() {} completed", keyIndex);
@@ -233,27 +188,15 @@ public class SyncConfigDetailsServiceImpl implements SyncConfigDetailsService {
 
 		Boolean isEncrypted = environment.getProperty(String.format("mosip.sync.entity.encrypted.%s",
 				scriptName.toUpperCase()), Boolean.class, false);
-		String content = getConfigDetailsResponse(scriptName);
+		ConfigPropertiesStore.PropertySnapshot script = configPropertiesStore.getSnapshot(scriptName);
 
 		return ResponseEntity.ok()
 				.contentType(MediaType.TEXT_PLAIN)
-				.header("file-signature",
-						keymanagerHelper.getFileSignature(HMACUtils2.digestAsPlainText(content.getBytes(StandardCharsets.UTF_8))))
-				.body(isEncrypted ?	getEncryptedData(content, machines.get(0).getPublicKey()) : content);
+				.header("file-signature", signatureHelper.getFileSignature(script.getVersion()))
+				.body(isEncrypted ?	getEncryptedData(script.getContent(), machines.get(0).getPublicKey()) : script.getContent());
 	}
 
 
-	private String getEncryptedData(JSONObject config, String publicKey) {
-		try {
-			String json = mapper.getObjectAsJsonString(config);
-			return getEncryptedData(json, publicKey);
-		} catch (Exception e) {
-			LOGGER.error("Failed to convert json to string", e);
-		}
-		throw new SyncDataServiceException(SyncConfigDetailsErrorCode.SYNC_SERIALIZATION_ERROR.getErrorCode(),
-				SyncConfigDetailsErrorCode.SYNC_SERIALIZATION_ERROR.getErrorMessage());
-	}
-
 	private String getEncryptedData(String data, String publicKey) {
 		try {
 			TpmCryptoRequestDto tpmCryptoRequestDto = new TpmCryptoRequestDto();
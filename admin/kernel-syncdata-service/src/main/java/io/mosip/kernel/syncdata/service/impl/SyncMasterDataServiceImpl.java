@@ -12,14 +12,10 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import io.mosip.kernel.clientcrypto.dto.TpmCryptoRequestDto;
-import io.mosip.kernel.clientcrypto.dto.TpmCryptoResponseDto;
-import io.mosip.kernel.clientcrypto.service.spi.ClientCryptoManagerService;
 import io.mosip.kernel.core.exception.ExceptionUtils;
 import io.mosip.kernel.core.exception.FileNotFoundException;
 import io.mosip.kernel.core.http.ResponseWrapper;
 import io.mosip.kernel.core.util.FileUtils;
-import io.mosip.kernel.core.util.HMACUtils2;
 import io.mosip.kernel.cryptomanager.util.CryptomanagerUtils;
 import io.mosip.kernel.keymanagerservice.entity.CACertificateStore;
 import io.mosip.kernel.keymanagerservice.repository.CACertificateStoreRepository;
@@ -34,12 +30,12 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.Environment;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
-import io.mosip.kernel.core.util.CryptoUtil;
 import io.mosip.kernel.syncdata.constant.MasterDataErrorCode;
 import io.mosip.kernel.syncdata.entity.Machine;
 import io.mosip.kernel.syncdata.repository.MachineRepository;
@@ -103,7 +99,10 @@ public class SyncMasterDataServiceImpl implements SyncMasterDataService {
 	private Environment environment;
 
 	@Autowired
-	private ClientCryptoManagerService clientCryptoManagerService;
+	private SyncJobHelperService syncJobHelperService;
+
+	@Autowired
+	private ClientSettingsBundleStore clientSettingsBundleStore;
 
 	@Autowired
 	private CryptomanagerUtils cryptomanagerUtils;
@@ -267,16 +266,24 @@ public class SyncMasterDataServiceImpl implements SyncMasterDataService {
 				entityIdentifier.toUpperCase()), Boolean.class, false);
 
 		Path path = getEntityResource(entityIdentifier);
-		String content = FileUtils.readFileToString(path.toFile(),	StandardCharsets.UTF_8);
+		Properties metadata = syncJobHelperService.getSnapshotMetadata(path);
 
-		return ResponseEntity.ok()
+		ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok()
 				.contentType(MediaType.APPLICATION_OCTET_STREAM)
-				.header("file-signature",
-						keymanagerHelper.getFileSignature(HMACUtils2.digestAsPlainText(content.getBytes(StandardCharsets.UTF_8))))
-				.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + entityIdentifier + "\"")
-				.body(isEncrypted ?
-						getEncryptedData(content.getBytes(StandardCharsets.UTF_8), machines.get(0).getPublicKey()) :
-						content);
+				.header("file-signature", metadata.getProperty(SyncJobHelperService.SNAPSHOT_SIGNATURE))
+				.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + entityIdentifier + "\"");
+
+		if(isEncrypted) {
+			String content = FileUtils.readFileToString(path.toFile(),	StandardCharsets.UTF_8);
+			return responseBuilder.body(getEncryptedData(entityIdentifier.toUpperCase(), content,
+					machines.get(0).getPublicKey()));
+		}
+
+		//plain snapshot is streamed from the file, conditional (ETag) and range requests are handled by spring mvc
+		return responseBuilder
+				.eTag(metadata.getProperty(SyncJobHelperService.SNAPSHOT_HASH))
+				.lastModified(path.toFile().lastModified())
+				.body(new FileSystemResource(path));
 	}
 
 	private Path getEntityResource(String entityIdentifier) throws FileNotFoundException {
@@ -288,13 +295,9 @@ public class SyncMasterDataServiceImpl implements SyncMasterDataService {
 				MasterDataErrorCode.CLIENT_SETTINGS_DATA_FILE_NOT_FOUND.getErrorMessage());
 	}
 
-	private String getEncryptedData(byte[] bytes, String publicKey) {
+	private String getEncryptedData(String entityName, String content, String publicKey) {
 		try {
-			TpmCryptoRequestDto tpmCryptoRequestDto = new TpmCryptoRequestDto();
-			tpmCryptoRequestDto.setValue(CryptoUtil.encodeToURLSafeBase64(bytes));
-			tpmCryptoRequestDto.setPublicKey(publicKey);
-			TpmCryptoResponseDto tpmCryptoResponseDto = clientCryptoManagerService.csEncrypt(tpmCryptoRequestDto);
-			return tpmCryptoResponseDto.getValue();
+			return clientSettingsBundleStore.getEncryptedBundle(entityName, content, publicKey);
 		} catch (Exception e) {
 			logger.error("Failed to convert json to string", e);
 		}
@@ -16,25 +16,17 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
-import io.mosip.kernel.clientcrypto.dto.TpmCryptoRequestDto;
-import io.mosip.kernel.clientcrypto.dto.TpmCryptoResponseDto;
-import io.mosip.kernel.clientcrypto.service.spi.ClientCryptoManagerService;
 import io.mosip.kernel.core.dataaccess.exception.DataAccessLayerException;
 import io.mosip.kernel.core.exception.ExceptionUtils;
-import io.mosip.kernel.core.exception.ServiceError;
-import io.mosip.kernel.core.http.ResponseWrapper;
-import io.mosip.kernel.core.util.CryptoUtil;
 import io.mosip.kernel.core.util.DateUtils;
 import io.mosip.kernel.syncdata.constant.AdminServiceErrorCode;
 import io.mosip.kernel.syncdata.constant.MasterDataErrorCode;
@@ -44,13 +36,11 @@ import io.mosip.kernel.syncdata.dto.ApplicantValidDocumentDto;
 import io.mosip.kernel.syncdata.dto.BlacklistedWordsDto;
 import io.mosip.kernel.syncdata.dto.DocumentTypeDto;
 import io.mosip.kernel.syncdata.dto.DynamicFieldDto;
-import io.mosip.kernel.syncdata.dto.EntityDtimes;
 import io.mosip.kernel.syncdata.dto.HolidayDto;
 import io.mosip.kernel.syncdata.dto.LocationDto;
 import io.mosip.kernel.syncdata.dto.LocationHierarchyDto;
 import io.mosip.kernel.syncdata.dto.LocationHierarchyLevelResponseDto;
 import io.mosip.kernel.syncdata.dto.MachineDto;
-import io.mosip.kernel.syncdata.dto.PageDto;
 import io.mosip.kernel.syncdata.dto.PermittedConfigDto;
 import io.mosip.kernel.syncdata.dto.PostReasonCategoryDto;
 import io.mosip.kernel.syncdata.dto.ProcessListDto;
@@ -92,6 +82,9 @@ import io.mosip.kernel.syncdata.exception.RequestException;
 import io.mosip.kernel.syncdata.exception.SyncDataServiceException;
 import io.mosip.kernel.syncdata.exception.SyncInvalidArgumentException;
 import io.mosip.kernel.syncdata.exception.SyncServiceException;
+import io.mosip.kernel.syncdata.service.helper.ClientSettingsBundleStore;
+import io.mosip.kernel.syncdata.service.helper.EntityChangeLedger;
+import io.mosip.kernel.syncdata.service.helper.PagedResponseFetcher;
 import io.mosip.kernel.syncdata.repository.AppAuthenticationMethodRepository;
 import io.mosip.kernel.syncdata.repository.AppDetailRepository;
 import io.mosip.kernel.syncdata.repository.AppRolePriorityRepository;
@@ -240,11 +233,13 @@ public class SyncMasterDataServiceHelper {
 	@Autowired
 	private PermittedLocalConfigRepository permittedLocalConfigRepository;
 	@Autowired
-	private ClientCryptoManagerService clientCryptoManagerService;
+	private ClientSettingsBundleStore clientSettingsBundleStore;
 	@Autowired
-	private RestTemplate restTemplate;
+	private EntityChangeLedger entityChangeLedger;
+	@Autowired
+	private PagedResponseFetcher pagedResponseFetcher;
 	@Autowired
-	private ObjectMapper objectMapper;
+	private RestTemplate restTemplate;
 
 	@Value("${mosip.kernel.masterdata.locationhierarchylevels.uri}")
 	private String locationHirerarchyUrl;
@@ -322,33 +317,7 @@ public class SyncMasterDataServiceHelper {
 	 */
 	@Async
 	public CompletableFuture<List<LocationHierarchyDto>> getLocationHierarchyList(LocalDateTime lastUpdated) {
-		List<LocationHierarchyDto> locationHierarchyLevelDtos = new ArrayList<LocationHierarchyDto>();
-
-		UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(locationHirerarchyUrl);
-		if(lastUpdated != null) {	builder.queryParam("lastUpdated", DateUtils.formatToISOString(lastUpdated)); }
-		ResponseEntity<String> response = restTemplate.getForEntity(builder.build().toUri(), String.class);
-
-		if (response.getStatusCode().equals(HttpStatus.OK)) {
-			String responseBody = response.getBody();
-			List<ServiceError> validationErrorsList = ExceptionUtils.getServiceErrorList(responseBody);
-			if (!validationErrorsList.isEmpty()) {
-				throw new SyncServiceException(validationErrorsList);
-			}
-
-			try {
-				ResponseWrapper<?> responseObject = objectMapper.readValue(response.getBody(), ResponseWrapper.class);
-				LocationHierarchyLevelResponseDto locationHierarchyResponseDto = objectMapper.readValue(
-						objectMapper.writeValueAsString(responseObject.getResponse()),
-						LocationHierarchyLevelResponseDto.class);
-				locationHierarchyLevelDtos = locationHierarchyResponseDto.getLocationHierarchyLevels();
-			} catch (Exception e) {
-				logger.error(e.getMessage(), e);
-				throw new SyncDataServiceException(
-						MasterDataErrorCode.LOCATION_HIERARCHY_DESERIALIZATION_FAILED.getErrorCode(),
-						MasterDataErrorCode.LOCATION_HIERARCHY_DESERIALIZATION_FAILED.getErrorMessage());
-			}
-		}
-		return CompletableFuture.completedFuture(locationHierarchyLevelDtos);
+		return getLocationHierarchyList(lastUpdated, restTemplate);
 	}
 
 	@Async
@@ -357,27 +326,24 @@ public class SyncMasterDataServiceHelper {
 
 		UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(locationHirerarchyUrl);
 		if(lastUpdated != null) {	builder.queryParam("lastUpdated", DateUtils.formatToISOString(lastUpdated)); }
-		ResponseEntity<String> response = restClient.getForEntity(builder.build().toUri(), String.class);
 
-		if (response.getStatusCode().equals(HttpStatus.OK)) {
-			String responseBody = response.getBody();
-			List<ServiceError> validationErrorsList = ExceptionUtils.getServiceErrorList(responseBody);
-			if (!validationErrorsList.isEmpty()) {
-				throw new SyncServiceException(validationErrorsList);
-			}
+		LocationHierarchyLevelResponseDto locationHierarchyResponseDto;
+		try {
+			locationHierarchyResponseDto = pagedResponseFetcher.fetch(restClient, builder.build().toUri(),
+					LocationHierarchyLevelResponseDto.class);
+		} catch (SyncInvalidArgumentException e) {
+			throw new SyncServiceException(e.getList());
+		} catch (RestClientException e) {
+			if (!(e.getCause() instanceof JsonProcessingException))
+				throw e;
+			logger.error(e.getMessage(), e);
+			throw new SyncDataServiceException(
+					MasterDataErrorCode.LOCATION_HIERARCHY_DESERIALIZATION_FAILED.getErrorCode(),
+					MasterDataErrorCode.LOCATION_HIERARCHY_DESERIALIZATION_FAILED.getErrorMessage());
+		}
 
-			try {
-				ResponseWrapper<?> responseObject = objectMapper.readValue(response.getBody(), ResponseWrapper.class);
-				LocationHierarchyLevelResponseDto locationHierarchyResponseDto = objectMapper.readValue(
-						objectMapper.writeValueAsString(responseObject.getResponse()),
-						LocationHierarchyLevelResponseDto.class);
-				locationHierarchyLevelDtos = locationHierarchyResponseDto.getLocationHierarchyLevels();
-			} catch (Exception e) {
-				logger.error(e.getMessage(), e);
-				throw new SyncDataServiceException(
-						MasterDataErrorCode.LOCATION_HIERARCHY_DESERIALIZATION_FAILED.getErrorCode(),
-						MasterDataErrorCode.LOCATION_HIERARCHY_DESERIALIZATION_FAILED.getErrorMessage());
-			}
+		if (locationHierarchyResponseDto != null && locationHierarchyResponseDto.getLocationHierarchyLevels() != null) {
+			locationHierarchyLevelDtos = locationHierarchyResponseDto.getLocationHierarchyLevels();
 		}
 		return CompletableFuture.completedFuture(locationHierarchyLevelDtos);
 	}
@@ -1322,60 +1288,16 @@ public class SyncMasterDataServiceHelper {
 
 	@Async
 	public CompletableFuture<List<DynamicFieldDto>> getAllDynamicFields(LocalDateTime lastUpdated) {
-		List<DynamicFieldDto> result = new ArrayList<>();
-		try {
-			PageDto<DynamicFieldDto> pageDto = null;
-			int pageNo = 0;
-			do {
-				UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(dynamicfieldUrl);
-				if(lastUpdated != null) {	builder.queryParam("lastUpdated", DateUtils.formatToISOString(lastUpdated)); }
-				builder.queryParam("pageNumber", pageNo++);
-				//its with default sort on crd_dtimes
-				ResponseEntity<String> responseEntity = restTemplate.getForEntity(builder.build().toUri(), String.class);
-
-				ResponseWrapper<PageDto<DynamicFieldDto>> resp = objectMapper.readValue(responseEntity.getBody(),
-						new TypeReference<ResponseWrapper<PageDto<DynamicFieldDto>>>() {});
-
-				if(resp.getErrors() != null && !resp.getErrors().isEmpty())
-					throw new SyncInvalidArgumentException(resp.getErrors());
-
-				pageDto = resp.getResponse();
-				result.addAll(pageDto.getData());
-			} while(pageNo < pageDto.getTotalPages());
-
-			return CompletableFuture.completedFuture(result);
-
-		} catch (Exception e) {
-			logger.error("Failed to fetch dynamic fields", e);
-			throw new SyncDataServiceException(MasterDataErrorCode.DYNAMIC_FIELD_FETCH_FAILED.getErrorCode(),
-					MasterDataErrorCode.DYNAMIC_FIELD_FETCH_FAILED.getErrorMessage() + " : " +
-							ExceptionUtils.buildMessage(e.getMessage(), e.getCause()));
-		}
+		return getAllDynamicFields(lastUpdated, restTemplate);
 	}
 
 	@Async
 	public CompletableFuture<List<DynamicFieldDto>> getAllDynamicFields(LocalDateTime lastUpdated, RestTemplate restClient) {
-		List<DynamicFieldDto> result = new ArrayList<>();
 		try {
-			PageDto<DynamicFieldDto> pageDto = null;
-			int pageNo = 0;
-			do {
-				UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(dynamicfieldUrl);
-				if(lastUpdated != null) {	builder.queryParam("lastUpdated", DateUtils.formatToISOString(lastUpdated)); }
-				builder.queryParam("pageNumber", pageNo++);
-				//its with default sort on crd_dtimes
-				ResponseEntity<String> responseEntity = restClient.getForEntity(builder.build().toUri(), String.class);
-
-				ResponseWrapper<PageDto<DynamicFieldDto>> resp = objectMapper.readValue(responseEntity.getBody(),
-						new TypeReference<ResponseWrapper<PageDto<DynamicFieldDto>>>() {});
-
-				if(resp.getErrors() != null && !resp.getErrors().isEmpty())
-					throw new SyncInvalidArgumentException(resp.getErrors());
-
-				pageDto = resp.getResponse();
-				result.addAll(pageDto.getData());
-			} while(pageNo < pageDto.getTotalPages());
-
+			UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(dynamicfieldUrl);
+			if(lastUpdated != null) {	builder.queryParam("lastUpdated", DateUtils.formatToISOString(lastUpdated)); }
+			//its with default sort on crd_dtimes, pages are fetched in parallel and kept in page order
+			List<DynamicFieldDto> result = pagedResponseFetcher.fetchAllPages(restClient, builder, DynamicFieldDto.class);
 			return CompletableFuture.completedFuture(result);
 
 		} catch (Exception e) {
@@ -1444,16 +1366,12 @@ public class SyncMasterDataServiceHelper {
 
 			try {
 				if (list.size() > 0) {
-					TpmCryptoRequestDto tpmCryptoRequestDto = new TpmCryptoRequestDto();
-					tpmCryptoRequestDto
-							.setValue(CryptoUtil.encodeToURLSafeBase64(mapper.getObjectAsJsonString(list).getBytes()));
-					tpmCryptoRequestDto.setPublicKey(publicKey);
-					TpmCryptoResponseDto tpmCryptoResponseDto = clientCryptoManagerService
-							.csEncrypt(tpmCryptoRequestDto);
+					String encryptedData = clientSettingsBundleStore.getEncryptedBundle(entityName,
+							mapper.getObjectAsJsonString(list), publicKey);
 
 					//backward compatibility
 					result.add(new SyncDataBaseDto(entityName.equalsIgnoreCase(BlocklistedWords.class.getSimpleName()) ?
-							"BlacklistedWords" : entityName, entityType, tpmCryptoResponseDto.getValue()));
+							"BlacklistedWords" : entityName, entityType, encryptedData));
 				}
 			} catch (Exception e) {
 				logger.error("Failed to encrypt {} data to json", entityName, e);
@@ -1466,13 +1384,8 @@ public class SyncMasterDataServiceHelper {
 			try {
 				entities = (List) entities.parallelStream().filter(Objects::nonNull).collect(Collectors.toList());
 				if (entities.size() > 0) {
-					TpmCryptoRequestDto tpmCryptoRequestDto = new TpmCryptoRequestDto();
-					tpmCryptoRequestDto
-							.setValue(CryptoUtil.encodeToURLSafeBase64(mapper.getObjectAsJsonString(entities).getBytes()));
-					tpmCryptoRequestDto.setPublicKey(publicKey);
-					TpmCryptoResponseDto tpmCryptoResponseDto = clientCryptoManagerService
-							.csEncrypt(tpmCryptoRequestDto);
-					result.add(new SyncDataBaseDto(entityName, entityType, tpmCryptoResponseDto.getValue()));
+					result.add(new SyncDataBaseDto(entityName, entityType, clientSettingsBundleStore.getEncryptedBundle(
+							entityName, mapper.getObjectAsJsonString(entities), publicKey)));
 				}
 			} catch (Exception e) {
 				logger.error("Failed to encrypt " + entityName + " data to json", e);
@@ -1527,83 +1440,7 @@ public class SyncMasterDataServiceHelper {
 	}
 
 	private boolean isChangesFound(String entityName, LocalDateTime lastUpdated) {
-		if(lastUpdated == null) //if it's null, then the request is for full sync
-			return true;
-
-		EntityDtimes result = null;
-		switch (entityName) {
-			case "AppAuthenticationMethod":
-				result = appAuthenticationMethodRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
-				break;
-			case "AppRolePriority":
-				result = appRolePriorityRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
-				break;
-			case "Machine":
-				result = machineRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
-				break;
-			case "RegistrationCenter":
-				result = registrationCenterRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
-				break;
-			case "UserDetails":
-				result = userDetailsRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
-				break;
-			case "Template":
-				result = templateRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
-				break;
-			case "DocumentType":
-				result = documentTypeRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
-				break;
-			case "ApplicantValidDocument":
-				result = applicantValidDocumentRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
-				break;
-			case "Location":
-				result = locationRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
-				break;
-			case "ReasonCategory":
-				result = reasonCategoryRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
-				break;
-			case "ReasonList":
-				result = reasonListRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
-				break;
-			case "Holiday":
-				result = holidayRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
-				break;
-			case "BlacklistedWords":
-				result = blocklistedWordsRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
-				break;
-			case "ScreenAuthorization":
-				result = screenAuthorizationRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
-				break;
-			case "ScreenDetail":
-				result = screenDetailRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
-				break;
-			case "ProcessList":
-				result = processListRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
-				break;
-			case "SyncJobDef":
-				result = syncJobDefRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
-				break;
-			case "PermittedLocalConfig":
-				result = permittedLocalConfigRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
-				break;
-			case "TemplateFileFormat":
-				result = templateFileFormatRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
-				break;
-			case "TemplateType":
-				result = templateTypeRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
-				break;
-			case "ValidDocument":
-				result = validDocumentRepository.getMaxCreatedDateTimeMaxUpdatedDateTime();
-				break;
-		}
-		if(result == null) {
-			logger.info("** No data found in the table : {}", entityName);
-			return false;
-		}
-
-		return ( (result.getDeletedDateTime() != null && lastUpdated.isBefore(result.getDeletedDateTime())) ||
-				(result.getUpdatedDateTime() != null && lastUpdated.isBefore(result.getUpdatedDateTime())) ||
-				(result.getCreatedDateTime() != null && lastUpdated.isBefore(result.getCreatedDateTime())) );
+		return entityChangeLedger.isChangedSince(entityName, lastUpdated);
 	}
 
 	/**
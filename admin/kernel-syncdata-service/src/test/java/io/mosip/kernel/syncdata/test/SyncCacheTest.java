@@ -5,6 +5,7 @@ import io.mosip.kernel.syncdata.entity.*;
 import io.mosip.kernel.syncdata.entity.id.ApplicantValidDocumentID;
 import io.mosip.kernel.syncdata.entity.id.HolidayID;
 import io.mosip.kernel.syncdata.repository.*;
+import io.mosip.kernel.syncdata.service.helper.EntityDataCache;
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -27,6 +28,9 @@ public class SyncCacheTest {
     @Autowired
     CacheManager cacheManager;
 
+    @Autowired
+    EntityDataCache entityDataCache;
+
     @Autowired
     AppAuthenticationMethodRepository appAuthenticationMethodRepository;
     @Autowired
@@ -81,20 +85,21 @@ public class SyncCacheTest {
         appAuthenticationMethodRepository.save(getAppAuthMethods("test1"));
         LocalDateTime lastUpdatedTime = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC);
         LocalDateTime currentTime = LocalDateTime.now(ZoneOffset.UTC);
-        evictAllKeys("initial-sync");
+        evictAllKeys(EntityDataCache.CACHE_NAME);
         List<AppAuthenticationMethod> list = appAuthenticationMethodRepository.findByLastUpdatedAndCurrentTimeStamp(lastUpdatedTime, currentTime);
-        Assert.assertEquals(list.size(), getInitialCachedValue("initial-sync", "app_authentication_method").size());
+        Assert.assertEquals(list.size(), getEntityCachedValue(entityDataCache.key("AppAuthenticationMethod", lastUpdatedTime, currentTime)).size());
     }
 
     @Test
-    public void whenFindChangedAppAuthMethods_thenResultShouldNotBePutInCache() {
+    public void whenFindChangedAppAuthMethods_thenResultShouldBePutInCacheOfItsTimeWindow() {
         appAuthenticationMethodRepository.save(getAppAuthMethods("test"));
         appAuthenticationMethodRepository.save(getAppAuthMethods("test1"));
         LocalDateTime lastUpdatedTime = LocalDateTime.now(ZoneOffset.UTC).minusDays(10);
         LocalDateTime currentTime = LocalDateTime.now(ZoneOffset.UTC);
-        evictAllKeys("initial-sync");
-        appAuthenticationMethodRepository.findByLastUpdatedAndCurrentTimeStamp(lastUpdatedTime, currentTime);
-        Assert.assertEquals(0, getInitialCachedValue("initial-sync", "app_authentication_method").size());
+        evictAllKeys(EntityDataCache.CACHE_NAME);
+        List<?> list = appAuthenticationMethodRepository.findByLastUpdatedAndCurrentTimeStamp(lastUpdatedTime, currentTime);
+        Assert.assertEquals(list.size(), getEntityCachedValue(entityDataCache.key("AppAuthenticationMethod", lastUpdatedTime, currentTime)).size());
+        Assert.assertEquals(0, getEntityCachedValue(entityDataCache.key("AppAuthenticationMethod", LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), currentTime)).size());
     }
 
     @Test
@@ -129,20 +134,21 @@ public class SyncCacheTest {
         appRolePriorityRepository.save(getAppRolePriority("test1"));
         LocalDateTime lastUpdatedTime = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC);
         LocalDateTime currentTime = LocalDateTime.now(ZoneOffset.UTC);
-        evictAllKeys("initial-sync");
+        evictAllKeys(EntityDataCache.CACHE_NAME);
         List<AppRolePriority> list = appRolePriorityRepository.findByLastUpdatedAndCurrentTimeStamp(lastUpdatedTime, currentTime);
-        Assert.assertEquals(list.size(), getInitialCachedValue("initial-sync", "app_role_priority").size());
+        Assert.assertEquals(list.size(), getEntityCachedValue(entityDataCache.key("AppRolePriority", lastUpdatedTime, currentTime)).size());
     }
 
     @Test
-    public void whenFindChangedAppRolePriority_thenResultShouldNotBePutInCache() {
+    public void whenFindChangedAppRolePriority_thenResultShouldBePutInCacheOfItsTimeWindow() {
         appRolePriorityRepository.save(getAppRolePriority("test"));
         appRolePriorityRepository.save(getAppRolePriority("test1"));
         LocalDateTime lastUpdatedTime = LocalDateTime.now(ZoneOffset.UTC).minusDays(10);
         LocalDateTime currentTime = LocalDateTime.now(ZoneOffset.UTC);
-        evictAllKeys("initial-sync");
-        appRolePriorityRepository.findByLastUpdatedAndCurrentTimeStamp(lastUpdatedTime, currentTime);
-        Assert.assertEquals(0, getInitialCachedValue("initial-sync", "app_role_priority").size());
+        evictAllKeys(EntityDataCache.CACHE_NAME);
+        List<?> list = appRolePriorityRepository.findByLastUpdatedAndCurrentTimeStamp(lastUpdatedTime, currentTime);
+        Assert.assertEquals(list.size(), getEntityCachedValue(entityDataCache.key("AppRolePriority", lastUpdatedTime, currentTime)).size());
+        Assert.assertEquals(0, getEntityCachedValue(entityDataCache.key("AppRolePriority", LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), currentTime)).size());
     }
 
     @Test
@@ -177,20 +183,21 @@ public class SyncCacheTest {
         templateRepository.save(getTemplate("test"));
         LocalDateTime lastUpdatedTime = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC);
         LocalDateTime currentTime = LocalDateTime.now(ZoneOffset.UTC);
-        evictAllKeys("initial-sync");
+        evictAllKeys(EntityDataCache.CACHE_NAME);
         List<Template> list = templateRepository.findAllLatestCreatedUpdateDeletedByModule(lastUpdatedTime, currentTime, "test");
-        Assert.assertEquals(list.size(), getInitialCachedValue("initial-sync", "template").size());
+        Assert.assertEquals(list.size(), getEntityCachedValue(entityDataCache.key("Template", lastUpdatedTime, currentTime, "test")).size());
     }
 
     @Test
-    public void whenFindChangedTemplate_thenResultShouldNotBePutInCache() {
+    public void whenFindChangedTemplate_thenResultShouldBePutInCacheOfItsTimeWindow() {
         saveModuleDetail();
         templateRepository.save(getTemplate("test"));
         LocalDateTime lastUpdatedTime = LocalDateTime.now(ZoneOffset.UTC).minusDays(10);
         LocalDateTime currentTime = LocalDateTime.now(ZoneOffset.UTC);
-        evictAllKeys("initial-sync");
-        templateRepository.findAllLatestCreatedUpdateDeletedByModule(lastUpdatedTime, currentTime, "test");
-        Assert.assertEquals(0, getInitialCachedValue("initial-sync", "template").size());
+        evictAllKeys(EntityDataCache.CACHE_NAME);
+        List<?> list = templateRepository.findAllLatestCreatedUpdateDeletedByModule(lastUpdatedTime, currentTime, "test");
+        Assert.assertEquals(list.size(), getEntityCachedValue(entityDataCache.key("Template", lastUpdatedTime, currentTime, "test")).size());
+        Assert.assertEquals(0, getEntityCachedValue(entityDataCache.key("Template", LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), currentTime, "test")).size());
     }
 
     @Test
@@ -223,19 +230,20 @@ public class SyncCacheTest {
         syncJobDefRepository.save(getSyncJobDef("test"));
         LocalDateTime lastUpdatedTime = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC);
         LocalDateTime currentTime = LocalDateTime.now(ZoneOffset.UTC);
-        evictAllKeys("initial-sync");
+        evictAllKeys(EntityDataCache.CACHE_NAME);
         List<SyncJobDef> list = syncJobDefRepository.findLatestByLastUpdatedTimeAndCurrentTimeStamp(lastUpdatedTime, currentTime);
-        Assert.assertEquals(list.size(), getInitialCachedValue("initial-sync", "sync_job_def").size());
+        Assert.assertEquals(list.size(), getEntityCachedValue(entityDataCache.key("SyncJobDef", lastUpdatedTime, currentTime)).size());
     }
 
     @Test
-    public void whenFindChangedJobDef_thenResultShouldNotBePutInCache() {
+    public void whenFindChangedJobDef_thenResultShouldBePutInCacheOfItsTimeWindow() {
         syncJobDefRepository.save(getSyncJobDef("test"));
         LocalDateTime lastUpdatedTime = LocalDateTime.now(ZoneOffset.UTC).minusDays(10);
         LocalDateTime currentTime = LocalDateTime.now(ZoneOffset.UTC);
-        evictAllKeys("initial-sync");
-        syncJobDefRepository.findLatestByLastUpdatedTimeAndCurrentTimeStamp(lastUpdatedTime, currentTime);
-        Assert.assertEquals(0, getInitialCachedValue("initial-sync", "sync_job_def").size());
+        evictAllKeys(EntityDataCache.CACHE_NAME);
+        List<?> list = syncJobDefRepository.findLatestByLastUpdatedTimeAndCurrentTimeStamp(lastUpdatedTime, currentTime);
+        Assert.assertEquals(list.size(), getEntityCachedValue(entityDataCache.key("SyncJobDef", lastUpdatedTime, currentTime)).size());
+        Assert.assertEquals(0, getEntityCachedValue(entityDataCache.key("SyncJobDef", LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), currentTime)).size());
     }
 
     @Test
@@ -267,19 +275,20 @@ public class SyncCacheTest {
         screenDetailRepository.save(getScreenDetail("test"));
         LocalDateTime lastUpdatedTime = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC);
         LocalDateTime currentTime = LocalDateTime.now(ZoneOffset.UTC);
-        evictAllKeys("initial-sync");
+        evictAllKeys(EntityDataCache.CACHE_NAME);
         List<ScreenDetail> list = screenDetailRepository.findByLastUpdatedAndCurrentTimeStamp(lastUpdatedTime, currentTime);
-        Assert.assertEquals(list.size(), getInitialCachedValue("initial-sync", "screen_detail").size());
+        Assert.assertEquals(list.size(), getEntityCachedValue(entityDataCache.key("ScreenDetail", lastUpdatedTime, currentTime)).size());
     }
 
     @Test
-    public void whenFindChangedScreenDetail_thenResultShouldNotBePutInCache() {
+    public void whenFindChangedScreenDetail_thenResultShouldBePutInCacheOfItsTimeWindow() {
         screenDetailRepository.save(getScreenDetail("test"));
         LocalDateTime lastUpdatedTime = LocalDateTime.now(ZoneOffset.UTC).minusDays(10);
         LocalDateTime currentTime = LocalDateTime.now(ZoneOffset.UTC);
-        evictAllKeys("initial-sync");
-        screenDetailRepository.findByLastUpdatedAndCurrentTimeStamp(lastUpdatedTime, currentTime);
-        Assert.assertEquals(0, getInitialCachedValue("initial-sync", "screen_detail").size());
+        evictAllKeys(EntityDataCache.CACHE_NAME);
+        List<?> list = screenDetailRepository.findByLastUpdatedAndCurrentTimeStamp(lastUpdatedTime, currentTime);
+        Assert.assertEquals(list.size(), getEntityCachedValue(entityDataCache.key("ScreenDetail", lastUpdatedTime, currentTime)).size());
+        Assert.assertEquals(0, getEntityCachedValue(entityDataCache.key("ScreenDetail", LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), currentTime)).size());
     }
 
     @Test
@@ -311,19 +320,20 @@ public class SyncCacheTest {
         screenAuthorizationRepository.save(getScreenAuthorization("test"));
         LocalDateTime lastUpdatedTime = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC);
         LocalDateTime currentTime = LocalDateTime.now(ZoneOffset.UTC);
-        evictAllKeys("initial-sync");
+        evictAllKeys(EntityDataCache.CACHE_NAME);
         List<ScreenAuthorization> list = screenAuthorizationRepository.findByLastUpdatedAndCurrentTimeStamp(lastUpdatedTime, currentTime);
-        Assert.assertEquals(list.size(), getInitialCachedValue("initial-sync", "screen_authorization").size());
+        Assert.assertEquals(list.size(), getEntityCachedValue(entityDataCache.key("ScreenAuthorization", lastUpdatedTime, currentTime)).size());
     }
 
     @Test
-    public void whenFindChangedScreenAuth_thenResultShouldNotBePutInCache() {
+    public void whenFindChangedScreenAuth_thenResultShouldBePutInCacheOfItsTimeWindow() {
         screenAuthorizationRepository.save(getScreenAuthorization("test"));
         LocalDateTime lastUpdatedTime = LocalDateTime.now(ZoneOffset.UTC).minusDays(10);
         LocalDateTime currentTime = LocalDateTime.now(ZoneOffset.UTC);
-        evictAllKeys("initial-sync");
-        screenAuthorizationRepository.findByLastUpdatedAndCurrentTimeStamp(lastUpdatedTime, currentTime);
-        Assert.assertEquals(0, getInitialCachedValue("initial-sync", "screen_authorization").size());
+        evictAllKeys(EntityDataCache.CACHE_NAME);
+        List<?> list = screenAuthorizationRepository.findByLastUpdatedAndCurrentTimeStamp(lastUpdatedTime, currentTime);
+        Assert.assertEquals(list.size(), getEntityCachedValue(entityDataCache.key("ScreenAuthorization", lastUpdatedTime, currentTime)).size());
+        Assert.assertEquals(0, getEntityCachedValue(entityDataCache.key("ScreenAuthorization", LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), currentTime)).size());
     }
 
     @Test
@@ -355,19 +365,20 @@ public class SyncCacheTest {
         permittedLocalConfigRepository.save(getPermittedLocalConfig("test"));
         LocalDateTime lastUpdatedTime = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC);
         LocalDateTime currentTime = LocalDateTime.now(ZoneOffset.UTC);
-        evictAllKeys("initial-sync");
+        evictAllKeys(EntityDataCache.CACHE_NAME);
         List<PermittedLocalConfig> list = permittedLocalConfigRepository.findAllLatestCreatedUpdateDeleted(lastUpdatedTime, currentTime);
-        Assert.assertEquals(list.size(), getInitialCachedValue("initial-sync", "permitted_local_config").size());
+        Assert.assertEquals(list.size(), getEntityCachedValue(entityDataCache.key("PermittedLocalConfig", lastUpdatedTime, currentTime)).size());
     }
 
     @Test
-    public void whenFindChangedPLC_thenResultShouldNotBePutInCache() {
+    public void whenFindChangedPLC_thenResultShouldBePutInCacheOfItsTimeWindow() {
         permittedLocalConfigRepository.save(getPermittedLocalConfig("test"));
         LocalDateTime lastUpdatedTime = LocalDateTime.now(ZoneOffset.UTC).minusDays(10);
         LocalDateTime currentTime = LocalDateTime.now(ZoneOffset.UTC);
-        evictAllKeys("initial-sync");
-        permittedLocalConfigRepository.findAllLatestCreatedUpdateDeleted(lastUpdatedTime, currentTime);
-        Assert.assertEquals(0, getInitialCachedValue("initial-sync", "permitted_local_config").size());
+        evictAllKeys(EntityDataCache.CACHE_NAME);
+        List<?> list = permittedLocalConfigRepository.findAllLatestCreatedUpdateDeleted(lastUpdatedTime, currentTime);
+        Assert.assertEquals(list.size(), getEntityCachedValue(entityDataCache.key("PermittedLocalConfig", lastUpdatedTime, currentTime)).size());
+        Assert.assertEquals(0, getEntityCachedValue(entityDataCache.key("PermittedLocalConfig", LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), currentTime)).size());
     }
 
     @Test
@@ -400,19 +411,20 @@ public class SyncCacheTest {
         processListRepository.save(getProcessList("test"));
         LocalDateTime lastUpdatedTime = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC);
         LocalDateTime currentTime = LocalDateTime.now(ZoneOffset.UTC);
-        evictAllKeys("initial-sync");
+        evictAllKeys(EntityDataCache.CACHE_NAME);
         List<ProcessList> list = processListRepository.findByLastUpdatedTimeAndCurrentTimeStamp(lastUpdatedTime, currentTime);
-        Assert.assertEquals(list.size(), getInitialCachedValue("initial-sync", "process_list").size());
+        Assert.assertEquals(list.size(), getEntityCachedValue(entityDataCache.key("ProcessList", lastUpdatedTime, currentTime)).size());
     }
 
     @Test
-    public void whenFindChangedPL_thenResultShouldNotBePutInCache() {
+    public void whenFindChangedPL_thenResultShouldBePutInCacheOfItsTimeWindow() {
         processListRepository.save(getProcessList("test"));
         LocalDateTime lastUpdatedTime = LocalDateTime.now(ZoneOffset.UTC).minusDays(10);
         LocalDateTime currentTime = LocalDateTime.now(ZoneOffset.UTC);
-        evictAllKeys("initial-sync");
-        processListRepository.findByLastUpdatedTimeAndCurrentTimeStamp(lastUpdatedTime, currentTime);
-        Assert.assertEquals(0, getInitialCachedValue("initial-sync", "process_list").size());
+        evictAllKeys(EntityDataCache.CACHE_NAME);
+        List<?> list = processListRepository.findByLastUpdatedTimeAndCurrentTimeStamp(lastUpdatedTime, currentTime);
+        Assert.assertEquals(list.size(), getEntityCachedValue(entityDataCache.key("ProcessList", lastUpdatedTime, currentTime)).size());
+        Assert.assertEquals(0, getEntityCachedValue(entityDataCache.key("ProcessList", LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), currentTime)).size());
     }
 
     @Test
@@ -444,19 +456,20 @@ public class SyncCacheTest {
         blocklistedWordsRepository.save(getBlockListedWords("test"));
         LocalDateTime lastUpdatedTime = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC);
         LocalDateTime currentTime = LocalDateTime.now(ZoneOffset.UTC);
-        evictAllKeys("initial-sync");
+        evictAllKeys(EntityDataCache.CACHE_NAME);
         List<BlocklistedWords> list = blocklistedWordsRepository.findAllLatestCreatedUpdateDeleted(lastUpdatedTime, currentTime);
-        Assert.assertEquals(list.size(), getInitialCachedValue("initial-sync", "blocklisted_words").size());
+        Assert.assertEquals(list.size(), getEntityCachedValue(entityDataCache.key("BlacklistedWords", lastUpdatedTime, currentTime)).size());
     }
 
     @Test
-    public void whenFindChangedBW_thenResultShouldNotBePutInCache() {
+    public void whenFindChangedBW_thenResultShouldBePutInCacheOfItsTimeWindow() {
         blocklistedWordsRepository.save(getBlockListedWords("test"));
         LocalDateTime lastUpdatedTime = LocalDateTime.now(ZoneOffset.UTC).minusDays(10);
         LocalDateTime currentTime = LocalDateTime.now(ZoneOffset.UTC);
-        evictAllKeys("initial-sync");
-        blocklistedWordsRepository.findAllLatestCreatedUpdateDeleted(lastUpdatedTime, currentTime);
-        Assert.assertEquals(0, getInitialCachedValue("initial-sync", "blocklisted_words").size());
+        evictAllKeys(EntityDataCache.CACHE_NAME);
+        List<?> list = blocklistedWordsRepository.findAllLatestCreatedUpdateDeleted(lastUpdatedTime, currentTime);
+        Assert.assertEquals(list.size(), getEntityCachedValue(entityDataCache.key("BlacklistedWords", lastUpdatedTime, currentTime)).size());
+        Assert.assertEquals(0, getEntityCachedValue(entityDataCache.key("BlacklistedWords", LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), currentTime)).size());
     }
 
     @Test
@@ -488,9 +501,9 @@ public class SyncCacheTest {
         machineRepository.save(getMachine("test"));
         LocalDateTime lastUpdatedTime = LocalDateTime.now(ZoneOffset.UTC).minusDays(10);
         LocalDateTime currentTime = LocalDateTime.now(ZoneOffset.UTC);
-        evictAllKeys("initial-sync");
+        evictAllKeys(EntityDataCache.CACHE_NAME);
         machineRepository.findMachineLatestCreatedUpdatedDeleted("test", lastUpdatedTime, currentTime, "test");
-        Assert.assertEquals(0, getInitialCachedValue("initial-sync", "machine_master_test").size());
+        Assert.assertEquals(0, entityDataCache.size());
     }
 
     @Test
@@ -522,19 +535,20 @@ public class SyncCacheTest {
         locationRepository.save(getLocation("test"));
         LocalDateTime lastUpdatedTime = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC);
         LocalDateTime currentTime = LocalDateTime.now(ZoneOffset.UTC);
-        evictAllKeys("initial-sync");
+        evictAllKeys(EntityDataCache.CACHE_NAME);
         List<Location> list = locationRepository.findAllLatestCreatedUpdateDeleted(lastUpdatedTime, currentTime);
-        Assert.assertEquals(list.size(), getInitialCachedValue("initial-sync", "location").size());
+        Assert.assertEquals(list.size(), getEntityCachedValue(entityDataCache.key("Location", lastUpdatedTime, currentTime)).size());
     }
 
     @Test
-    public void whenFindChangedLocation_thenResultShouldNotBePutInCache() {
+    public void whenFindChangedLocation_thenResultShouldBePutInCacheOfItsTimeWindow() {
         locationRepository.save(getLocation("test"));
         LocalDateTime lastUpdatedTime = LocalDateTime.now(ZoneOffset.UTC).minusDays(10);
         LocalDateTime currentTime = LocalDateTime.now(ZoneOffset.UTC);
-        evictAllKeys("initial-sync");
-        locationRepository.findAllLatestCreatedUpdateDeleted(lastUpdatedTime, currentTime);
-        Assert.assertEquals(0, getInitialCachedValue("initial-sync", "location").size());
+        evictAllKeys(EntityDataCache.CACHE_NAME);
+        List<?> list = locationRepository.findAllLatestCreatedUpdateDeleted(lastUpdatedTime, currentTime);
+        Assert.assertEquals(list.size(), getEntityCachedValue(entityDataCache.key("Location", lastUpdatedTime, currentTime)).size());
+        Assert.assertEquals(0, getEntityCachedValue(entityDataCache.key("Location", LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), currentTime)).size());
     }
 
     @Test
@@ -566,19 +580,20 @@ public class SyncCacheTest {
         reasonCategoryRepository.save(getReasonCategory("test"));
         LocalDateTime lastUpdatedTime = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC);
         LocalDateTime currentTime = LocalDateTime.now(ZoneOffset.UTC);
-        evictAllKeys("initial-sync");
+        evictAllKeys(EntityDataCache.CACHE_NAME);
         List<ReasonCategory> list = reasonCategoryRepository.findAllLatestCreatedUpdateDeleted(lastUpdatedTime, currentTime);
-        Assert.assertEquals(list.size(), getInitialCachedValue("initial-sync", "reason_category").size());
+        Assert.assertEquals(list.size(), getEntityCachedValue(entityDataCache.key("ReasonCategory", lastUpdatedTime, currentTime)).size());
     }
 
     @Test
-    public void whenFindChangedRC_thenResultShouldNotBePutInCache() {
+    public void whenFindChangedRC_thenResultShouldBePutInCacheOfItsTimeWindow() {
         reasonCategoryRepository.save(getReasonCategory("test"));
         LocalDateTime lastUpdatedTime = LocalDateTime.now(ZoneOffset.UTC).minusDays(10);
         LocalDateTime currentTime = LocalDateTime.now(ZoneOffset.UTC);
-        evictAllKeys("initial-sync");
-        reasonCategoryRepository.findAllLatestCreatedUpdateDeleted(lastUpdatedTime, currentTime);
-        Assert.assertEquals(0, getInitialCachedValue("initial-sync", "reason_category").size());
+        evictAllKeys(EntityDataCache.CACHE_NAME);
+        List<?> list = reasonCategoryRepository.findAllLatestCreatedUpdateDeleted(lastUpdatedTime, currentTime);
+        Assert.assertEquals(list.size(), getEntityCachedValue(entityDataCache.key("ReasonCategory", lastUpdatedTime, currentTime)).size());
+        Assert.assertEquals(0, getEntityCachedValue(entityDataCache.key("ReasonCategory", LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), currentTime)).size());
     }
 
     @Test
@@ -610,19 +625,20 @@ public class SyncCacheTest {
         reasonListRepository.save(getReasonList("test"));
         LocalDateTime lastUpdatedTime = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC);
         LocalDateTime currentTime = LocalDateTime.now(ZoneOffset.UTC);
-        evictAllKeys("initial-sync");
+        evictAllKeys(EntityDataCache.CACHE_NAME);
         List<ReasonList> list = reasonListRepository.findAllLatestCreatedUpdateDeleted(lastUpdatedTime, currentTime);
-        Assert.assertEquals(list.size(), getInitialCachedValue("initial-sync", "reason_list").size());
+        Assert.assertEquals(list.size(), getEntityCachedValue(entityDataCache.key("ReasonList", lastUpdatedTime, currentTime)).size());
     }
 
     @Test
-    public void whenFindChangedRL_thenResultShouldNotBePutInCache() {
+    public void whenFindChangedRL_thenResultShouldBePutInCacheOfItsTimeWindow() {
         reasonListRepository.save(getReasonList("test"));
         LocalDateTime lastUpdatedTime = LocalDateTime.now(ZoneOffset.UTC).minusDays(10);
         LocalDateTime currentTime = LocalDateTime.now(ZoneOffset.UTC);
-        evictAllKeys("initial-sync");
-        reasonListRepository.findAllLatestCreatedUpdateDeleted(lastUpdatedTime, currentTime);
-        Assert.assertEquals(0, getInitialCachedValue("initial-sync", "reason_list").size());
+        evictAllKeys(EntityDataCache.CACHE_NAME);
+        List<?> list = reasonListRepository.findAllLatestCreatedUpdateDeleted(lastUpdatedTime, currentTime);
+        Assert.assertEquals(list.size(), getEntityCachedValue(entityDataCache.key("ReasonList", lastUpdatedTime, currentTime)).size());
+        Assert.assertEquals(0, getEntityCachedValue(entityDataCache.key("ReasonList", LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), currentTime)).size());
     }
 
     @Test
@@ -654,19 +670,20 @@ public class SyncCacheTest {
         documentTypeRepository.save(getDocumentType("test"));
         LocalDateTime lastUpdatedTime = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC);
         LocalDateTime currentTime = LocalDateTime.now(ZoneOffset.UTC);
-        evictAllKeys("initial-sync");
+        evictAllKeys(EntityDataCache.CACHE_NAME);
         List<DocumentType> list = documentTypeRepository.findAllLatestCreatedUpdateDeleted(lastUpdatedTime, currentTime);
-        Assert.assertEquals(list.size(), getInitialCachedValue("initial-sync", "doc_type").size());
+        Assert.assertEquals(list.size(), getEntityCachedValue(entityDataCache.key("DocumentType", lastUpdatedTime, currentTime)).size());
     }
 
     @Test
-    public void whenFindChangedDT_thenResultShouldNotBePutInCache() {
+    public void whenFindChangedDT_thenResultShouldBePutInCacheOfItsTimeWindow() {
         documentTypeRepository.save(getDocumentType("test"));
         LocalDateTime lastUpdatedTime = LocalDateTime.now(ZoneOffset.UTC).minusDays(10);
         LocalDateTime currentTime = LocalDateTime.now(ZoneOffset.UTC);
-        evictAllKeys("initial-sync");
-        documentTypeRepository.findAllLatestCreatedUpdateDeleted(lastUpdatedTime, currentTime);
-        Assert.assertEquals(0, getInitialCachedValue("initial-sync", "doc_type").size());
+        evictAllKeys(EntityDataCache.CACHE_NAME);
+        List<?> list = documentTypeRepository.findAllLatestCreatedUpdateDeleted(lastUpdatedTime, currentTime);
+        Assert.assertEquals(list.size(), getEntityCachedValue(entityDataCache.key("DocumentType", lastUpdatedTime, currentTime)).size());
+        Assert.assertEquals(0, getEntityCachedValue(entityDataCache.key("DocumentType", LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), currentTime)).size());
     }
 
     @Test
@@ -698,19 +715,20 @@ public class SyncCacheTest {
         applicantValidDocumentRespository.save(getApplicantValidDocument("test"));
         LocalDateTime lastUpdatedTime = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC);
         LocalDateTime currentTime = LocalDateTime.now(ZoneOffset.UTC);
-        evictAllKeys("initial-sync");
+        evictAllKeys(EntityDataCache.CACHE_NAME);
         List<ApplicantValidDocument> list = applicantValidDocumentRespository.findAllByTimeStamp(lastUpdatedTime, currentTime);
-        Assert.assertEquals(list.size(), getInitialCachedValue("initial-sync", "applicant_valid_document").size());
+        Assert.assertEquals(list.size(), getEntityCachedValue(entityDataCache.key("ApplicantValidDocument", lastUpdatedTime, currentTime)).size());
     }
 
     @Test
-    public void whenFindChangedAVD_thenResultShouldNotBePutInCache() {
+    public void whenFindChangedAVD_thenResultShouldBePutInCacheOfItsTimeWindow() {
         applicantValidDocumentRespository.save(getApplicantValidDocument("test"));
         LocalDateTime lastUpdatedTime = LocalDateTime.now(ZoneOffset.UTC).minusDays(10);
         LocalDateTime currentTime = LocalDateTime.now(ZoneOffset.UTC);
-        evictAllKeys("initial-sync");
-        applicantValidDocumentRespository.findAllByTimeStamp(lastUpdatedTime, currentTime);
-        Assert.assertEquals(0, getInitialCachedValue("initial-sync", "applicant_valid_document").size());
+        evictAllKeys(EntityDataCache.CACHE_NAME);
+        List<?> list = applicantValidDocumentRespository.findAllByTimeStamp(lastUpdatedTime, currentTime);
+        Assert.assertEquals(list.size(), getEntityCachedValue(entityDataCache.key("ApplicantValidDocument", lastUpdatedTime, currentTime)).size());
+        Assert.assertEquals(0, getEntityCachedValue(entityDataCache.key("ApplicantValidDocument", LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), currentTime)).size());
     }
 
     @Test
@@ -766,19 +784,20 @@ public class SyncCacheTest {
         userDetailsRepository.save(getUserDetail("test"));
         LocalDateTime lastUpdatedTime = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC);
         LocalDateTime currentTime = LocalDateTime.now(ZoneOffset.UTC);
-        evictAllKeys("initial-sync");
+        evictAllKeys(EntityDataCache.CACHE_NAME);
         userDetailsRepository.findAllLatestCreatedUpdatedDeleted("test", lastUpdatedTime, currentTime);
-        Assert.assertEquals(1, getInitialCachedValue("initial-sync", "user_detail_test").size());
+        Assert.assertEquals(1, getEntityCachedValue(entityDataCache.key("UserDetails", lastUpdatedTime, currentTime, "test")).size());
     }
 
     @Test
-    public void whenFindChangedUD_thenResultShouldNotBePutInCache() {
+    public void whenFindChangedUD_thenResultShouldBePutInCacheOfItsTimeWindow() {
         userDetailsRepository.save(getUserDetail("test"));
         LocalDateTime lastUpdatedTime = LocalDateTime.now(ZoneOffset.UTC).minusDays(10);
         LocalDateTime currentTime = LocalDateTime.now(ZoneOffset.UTC);
-        evictAllKeys("initial-sync");
-        userDetailsRepository.findAllLatestCreatedUpdatedDeleted("test", lastUpdatedTime, currentTime);
-        Assert.assertEquals(0, getInitialCachedValue("initial-sync", "user_detail_test").size());
+        evictAllKeys(EntityDataCache.CACHE_NAME);
+        List<?> list = userDetailsRepository.findAllLatestCreatedUpdatedDeleted("test", lastUpdatedTime, currentTime);
+        Assert.assertEquals(list.size(), getEntityCachedValue(entityDataCache.key("UserDetails", lastUpdatedTime, currentTime, "test")).size());
+        Assert.assertEquals(0, getEntityCachedValue(entityDataCache.key("UserDetails", LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), currentTime, "test")).size());
     }
 
     @Test
@@ -811,19 +830,22 @@ public class SyncCacheTest {
         return null;
     }
 
-    private List getInitialCachedValue(String cacheName, String key) {
-        Cache cache = cacheManager.getCache(cacheName);
-        if(cache != null) {
-            return cache.get(key, List.class) == null ? Collections.emptyList() : cache.get(key, List.class);
-        }
-        return Collections.emptyList();
+    private List getEntityCachedValue(EntityDataCache.Key key) {
+        List value = entityDataCache.get(key, List.class);
+        return value == null ? Collections.emptyList() : value;
     }
 
     private void evictAllKeys(String cacheName) {
-        Cache cache = cacheManager.getCache(cacheName);
+        //entity data cache is resolved apart from the cache manager
+        Cache cache = EntityDataCache.CACHE_NAME.equals(cacheName) ? entityDataCache : cacheManager.getCache(cacheName);
         cache.clear();
     }
 
+    @Test
+    public void entityDataCacheIsNotTakenFromCacheManager() {
+        Assert.assertNotSame(entityDataCache, cacheManager.getCache(EntityDataCache.CACHE_NAME));
+    }
+
     private void saveModuleDetail() {
         ModuleDetail moduleDetail = new ModuleDetail();
         moduleDetail.setName("test");
@@ -0,0 +1,109 @@
+package io.mosip.kernel.syncdata.test.service;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.mosip.kernel.clientcrypto.dto.TpmCryptoRequestDto;
+import io.mosip.kernel.clientcrypto.dto.TpmCryptoResponseDto;
+import io.mosip.kernel.clientcrypto.service.spi.ClientCryptoManagerService;
+import io.mosip.kernel.syncdata.service.helper.ClientSettingsBundleStore;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ClientSettingsBundleStoreTest {
+
+    @Mock
+    private ClientCryptoManagerService clientCryptoManagerService;
+
+    @InjectMocks
+    private ClientSettingsBundleStore clientSettingsBundleStore;
+
+    private final AtomicInteger encryptCalls = new AtomicInteger();
+
+    @Before
+    public void setUp() {
+        ReflectionTestUtils.setField(clientSettingsBundleStore, "maxBytes", 1000L);
+        when(clientCryptoManagerService.csEncrypt(Mockito.any(TpmCryptoRequestDto.class))).thenAnswer(invocation -> {
+            TpmCryptoRequestDto requestDto = invocation.getArgument(0);
+            TpmCryptoResponseDto responseDto = new TpmCryptoResponseDto();
+            responseDto.setValue(requestDto.getPublicKey() + ":" + requestDto.getValue() + ":" + encryptCalls.incrementAndGet());
+            return responseDto;
+        });
+    }
+
+    @Test
+    public void sameMachineSameDataVersionEncryptsOnce() throws Exception {
+        String first = clientSettingsBundleStore.getEncryptedBundle("Location", "[{\"code\":\"KTA\"}]", "machine-key-1");
+        String second = clientSettingsBundleStore.getEncryptedBundle("Location", "[{\"code\":\"KTA\"}]", "machine-key-1");
+
+        Assert.assertEquals(first, second);
+        Assert.assertEquals(1, encryptCalls.get());
+        Assert.assertEquals(1, clientSettingsBundleStore.getHitCount());
+        Assert.assertEquals(1, clientSettingsBundleStore.getMissCount());
+        verify(clientCryptoManagerService, times(1)).csEncrypt(Mockito.any(TpmCryptoRequestDto.class));
+    }
+
+    @Test
+    public void differentMachineOrDataVersionEncryptsAgain() throws Exception {
+        String first = clientSettingsBundleStore.getEncryptedBundle("Location", "[{\"code\":\"KTA\"}]", "machine-key-1");
+        String otherMachine = clientSettingsBundleStore.getEncryptedBundle("Location", "[{\"code\":\"KTA\"}]", "machine-key-2");
+        String changedData = clientSettingsBundleStore.getEncryptedBundle("Location", "[{\"code\":\"RSK\"}]", "machine-key-1");
+
+        Assert.assertNotEquals(first, otherMachine);
+        Assert.assertNotEquals(first, changedData);
+        Assert.assertEquals(3, encryptCalls.get());
+    }
+
+    @Test
+    public void evictAndClearDropBundles() throws Exception {
+        clientSettingsBundleStore.getEncryptedBundle("Location", "[]", "machine-key-1");
+        clientSettingsBundleStore.getEncryptedBundle("Holiday", "[]", "machine-key-1");
+        Assert.assertEquals(2, clientSettingsBundleStore.size());
+
+        clientSettingsBundleStore.evict("Location");
+        Assert.assertEquals(1, clientSettingsBundleStore.size());
+        clientSettingsBundleStore.getEncryptedBundle("Location", "[]", "machine-key-1");
+        Assert.assertEquals(3, encryptCalls.get());
+
+        clientSettingsBundleStore.clear();
+        Assert.assertEquals(0, clientSettingsBundleStore.size());
+    }
+
+    @Test
+    public void storeIsBoundedToMaxBytes() throws Exception {
+        for (int i = 0; i < 100; i++) {
+            clientSettingsBundleStore.getEncryptedBundle("Location", "[]", "machine-key-" + i);
+        }
+        Assert.assertTrue(clientSettingsBundleStore.getTotalBytes() <= 1000);
+        Assert.assertTrue(clientSettingsBundleStore.size() < 100);
+
+        String recent = clientSettingsBundleStore.getEncryptedBundle("Location", "[]", "machine-key-99");
+        Assert.assertEquals(100, encryptCalls.get());
+        Assert.assertTrue(recent.endsWith(":100"));
+    }
+
+    @Test
+    public void bundleLargerThanStoreIsNotStored() throws Exception {
+        clientSettingsBundleStore.getEncryptedBundle("Location", "[]", "machine-key-1");
+        StringBuilder payload = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            payload.append('x');
+        }
+        clientSettingsBundleStore.getEncryptedBundle("Holiday", payload.toString(), "machine-key-1");
+
+        Assert.assertEquals(1, clientSettingsBundleStore.size());
+        clientSettingsBundleStore.getEncryptedBundle("Location", "[]", "machine-key-1");
+        Assert.assertEquals(2, encryptCalls.get());
+    }
+}
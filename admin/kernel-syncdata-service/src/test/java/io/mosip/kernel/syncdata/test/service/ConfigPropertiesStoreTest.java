@@ -0,0 +1,173 @@
+package io.mosip.kernel.syncdata.test.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.mosip.kernel.syncdata.exception.SyncDataServiceException;
+import io.mosip.kernel.syncdata.service.helper.ConfigPropertiesStore;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the store against a config server stand-in, serving the files of a folder with an ETag.
+ */
+public class ConfigPropertiesStoreTest {
+
+    private static final String PATH = "/kernel-syncdata-service/test/0.9.0/";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private HttpServer configServer;
+
+    private final AtomicInteger fetchCount = new AtomicInteger();
+
+    private final AtomicInteger notModifiedCount = new AtomicInteger();
+
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    private ConfigPropertiesStore configPropertiesStore;
+
+    @Before
+    public void setUp() throws Exception {
+        File configDir = temporaryFolder.getRoot();
+        configServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        configServer.createContext(PATH, exchange -> serveFile(exchange, configDir.toPath()));
+        configServer.start();
+
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.cloud.config.uri", "http://localhost:" + configServer.getAddress().getPort())
+                .withProperty("spring.application.name", "kernel-syncdata-service")
+                .withProperty("spring.profiles.active", "test")
+                .withProperty("spring.cloud.config.label", "0.9.0");
+
+        configPropertiesStore = new ConfigPropertiesStore();
+        ReflectionTestUtils.setField(configPropertiesStore, "restTemplate", new RestTemplate());
+        ReflectionTestUtils.setField(configPropertiesStore, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(configPropertiesStore, "environment", environment);
+    }
+
+    @After
+    public void tearDown() {
+        configServer.stop(0);
+    }
+
+    @Test
+    public void propertiesAreFetchedAndParsedOnce() throws Exception {
+        writeFile("registration-test.properties", "mosip.registration.face.retry=3\nmosip.registration.gps=Y\n");
+
+        String json = configPropertiesStore.getPropertiesJson("registration-test.properties");
+        Assert.assertSame(json, configPropertiesStore.getPropertiesJson("registration-test.properties"));
+
+        Map<?, ?> properties = objectMapper.readValue(json, Map.class);
+        Assert.assertEquals("3", properties.get("mosip.registration.face.retry"));
+        Assert.assertEquals("Y", properties.get("mosip.registration.gps"));
+        Assert.assertEquals(1, fetchCount.get());
+    }
+
+    @Test
+    public void unchangedFileIsRevalidatedWithEtag() throws Exception {
+        writeFile("applicanttype.mvel", "return \"ADULT\";");
+        ConfigPropertiesStore.PropertySnapshot snapshot = configPropertiesStore.getSnapshot("applicanttype.mvel");
+        Assert.assertNotNull(snapshot.getEtag());
+
+        configPropertiesStore.refresh();
+        configPropertiesStore.onRefreshEvent();
+
+        Assert.assertSame(snapshot, configPropertiesStore.getSnapshot("applicanttype.mvel"));
+        Assert.assertEquals(3, fetchCount.get());
+        Assert.assertEquals(2, notModifiedCount.get());
+    }
+
+    @Test
+    public void changedFileIsPickedUpOnRefresh() throws Exception {
+        writeFile("registration-test.properties", "mosip.registration.face.retry=3\n");
+        ConfigPropertiesStore.PropertySnapshot snapshot = configPropertiesStore.getSnapshot("registration-test.properties");
+        configPropertiesStore.getPropertiesJson("registration-test.properties");
+
+        writeFile("registration-test.properties", "mosip.registration.face.retry=5\n");
+        configPropertiesStore.refresh();
+
+        ConfigPropertiesStore.PropertySnapshot changed = configPropertiesStore.getSnapshot("registration-test.properties");
+        Assert.assertNotEquals(snapshot.getVersion(), changed.getVersion());
+        Assert.assertEquals("mosip.registration.face.retry=5\n", changed.getContent());
+        Map<?, ?> properties = objectMapper.readValue(
+                configPropertiesStore.getPropertiesJson("registration-test.properties"), Map.class);
+        Assert.assertEquals("5", properties.get("mosip.registration.face.retry"));
+    }
+
+    @Test
+    public void snapshotIsKeptWhenConfigServerIsDown() throws Exception {
+        writeFile("application-test.properties", "mosip.mandatory-languages=eng\n");
+        ConfigPropertiesStore.PropertySnapshot snapshot = configPropertiesStore.getSnapshot("application-test.properties");
+
+        configServer.stop(0);
+        configPropertiesStore.refresh();
+
+        Assert.assertSame(snapshot, configPropertiesStore.getSnapshot("application-test.properties"));
+        try {
+            configPropertiesStore.getSnapshot("registration-test.properties");
+            Assert.fail();
+        } catch (SyncDataServiceException e) {
+            Assert.assertEquals("KER-SNC-001", e.getErrorCode());
+        }
+        Assert.assertEquals(1, configPropertiesStore.size());
+    }
+
+    @Test
+    public void missingFileIsNotKept() {
+        try {
+            configPropertiesStore.getSnapshot("unknown.mvel");
+            Assert.fail();
+        } catch (SyncDataServiceException e) {
+            Assert.assertEquals("KER-SNC-001", e.getErrorCode());
+        }
+        Assert.assertEquals(0, configPropertiesStore.size());
+    }
+
+    private void writeFile(String fileName, String content) throws IOException {
+        Files.write(temporaryFolder.getRoot().toPath().resolve(fileName), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void serveFile(HttpExchange exchange, Path configDir) throws IOException {
+        fetchCount.incrementAndGet();
+        Path file = configDir.resolve(exchange.getRequestURI().getPath().substring(PATH.length()));
+        if (!Files.exists(file)) {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+            return;
+        }
+        byte[] content = Files.readAllBytes(file);
+        String etag = "\"" + Integer.toHexString(Arrays.hashCode(content)) + "\"";
+        if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            notModifiedCount.incrementAndGet();
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+        exchange.getResponseHeaders().set("ETag", etag);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain;charset=UTF-8");
+        exchange.sendResponseHeaders(200, content.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(content);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package io.mosip.kernel.syncdata.test.service;
+
+import io.mosip.kernel.syncdata.entity.AppAuthenticationMethod;
+import io.mosip.kernel.syncdata.repository.AppAuthenticationMethodRepository;
+import io.mosip.kernel.syncdata.service.helper.EntityChangeLedger;
+import io.mosip.kernel.syncdata.test.TestBootApplication;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = TestBootApplication.class)
+public class EntityChangeLedgerTest {
+
+    @Autowired
+    private EntityChangeLedger entityChangeLedger;
+
+    @Autowired
+    private AppAuthenticationMethodRepository appAuthenticationMethodRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Before
+    public void setUp() {
+        if (null != cacheManager.getCache("delta-sync"))
+            cacheManager.getCache("delta-sync").clear();
+    }
+
+    @Test
+    public void ledgerIsConsistentWithMaxQueries() {
+        entityChangeLedger.refresh();
+        Assert.assertTrue(entityChangeLedger.verify().isEmpty());
+    }
+
+    @Test
+    public void ledgerReflectsChangesAfterRefresh() {
+        LocalDateTime lastUpdated = LocalDateTime.now(ZoneOffset.UTC).minusMinutes(5);
+        appAuthenticationMethodRepository.save(getAppAuthMethod("ledger-test"));
+
+        entityChangeLedger.refresh();
+        Assert.assertTrue(entityChangeLedger.isChangedSince("AppAuthenticationMethod", lastUpdated));
+        Assert.assertFalse(entityChangeLedger.isChangedSince("AppAuthenticationMethod",
+                LocalDateTime.now(ZoneOffset.UTC).plusMinutes(5)));
+        Assert.assertTrue(entityChangeLedger.verify().isEmpty());
+    }
+
+    @Test
+    public void fullSyncIsAlwaysChanged() {
+        Assert.assertTrue(entityChangeLedger.isChangedSince("Location", null));
+    }
+
+    private AppAuthenticationMethod getAppAuthMethod(String value) {
+        AppAuthenticationMethod method = new AppAuthenticationMethod();
+        method.setAppId(value);
+        method.setMethodSequence(1);
+        method.setAuthMethodCode(value);
+        method.setLangCode("eng");
+        method.setProcessId(value);
+        method.setRoleCode(value);
+        method.setIsActive(true);
+        method.setCreatedBy(value);
+        method.setCreatedDateTime(LocalDateTime.now(ZoneOffset.UTC));
+        return method;
+    }
+}
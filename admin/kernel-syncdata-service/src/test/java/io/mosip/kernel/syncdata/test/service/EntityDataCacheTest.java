@@ -0,0 +1,216 @@
+package io.mosip.kernel.syncdata.test.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.kernel.syncdata.dto.EntityDtimes;
+import io.mosip.kernel.syncdata.service.helper.EntityChangeLedger;
+import io.mosip.kernel.syncdata.service.helper.EntityDataCache;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.cache.Cache;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@RunWith(MockitoJUnitRunner.class)
+public class EntityDataCacheTest {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime FULL_SYNC = LocalDateTime.of(2021, 12, 10, 0, 0);
+    private static final LocalDateTime DELTA_SYNC = LocalDateTime.of(2021, 12, 10, 5, 30);
+
+    @Mock
+    private EntityChangeLedger entityChangeLedger;
+
+    @InjectMocks
+    private EntityDataCache entityDataCache;
+
+    @Before
+    public void setUp() {
+        ReflectionTestUtils.setField(entityDataCache, "maxEntries", 100);
+        Mockito.when(entityChangeLedger.getEntityDtimes(Mockito.anyString())).thenReturn(dtimes(1));
+    }
+
+    @Test
+    public void cachedValueIsReturnedForSameKey() {
+        AtomicInteger loads = new AtomicInteger();
+        Object first = entityDataCache.get(entityDataCache.key("Location", EPOCH, FULL_SYNC), () -> load(loads));
+        Object second = entityDataCache.get(entityDataCache.key("Location", EPOCH, FULL_SYNC), () -> load(loads));
+
+        Assert.assertSame(first, second);
+        Assert.assertEquals(1, loads.get());
+        Assert.assertEquals(1, entityDataCache.getStats().get("Location").getHitCount());
+        Assert.assertEquals(1, entityDataCache.getStats().get("Location").getMissCount());
+        Assert.assertEquals(1, entityDataCache.getStats().get("Location").getLoadCount());
+    }
+
+    @Test
+    public void scopeAndTimeWindowArePartOfKey() {
+        AtomicInteger loads = new AtomicInteger();
+        entityDataCache.get(entityDataCache.key("UserDetails", EPOCH, FULL_SYNC, "10001"), () -> load(loads));
+        entityDataCache.get(entityDataCache.key("UserDetails", EPOCH, FULL_SYNC, "10002"), () -> load(loads));
+        entityDataCache.get(entityDataCache.key("UserDetails", FULL_SYNC, DELTA_SYNC, "10001"), () -> load(loads));
+
+        Assert.assertEquals(3, loads.get());
+        Assert.assertEquals(3, entityDataCache.size());
+    }
+
+    @Test
+    public void onlyChangedEntityIsEvicted() {
+        AtomicInteger loads = new AtomicInteger();
+        entityDataCache.get(entityDataCache.key("Location", EPOCH, FULL_SYNC), () -> load(loads));
+        entityDataCache.get(entityDataCache.key("Template", EPOCH, FULL_SYNC, "10002"), () -> load(loads));
+
+        Mockito.when(entityChangeLedger.getEntityDtimes("Location")).thenReturn(dtimes(2));
+        Assert.assertEquals(1, entityDataCache.evictChanged());
+
+        Assert.assertNull(entityDataCache.get(entityDataCache.key("Location", EPOCH, FULL_SYNC)));
+        Assert.assertNotNull(entityDataCache.get(entityDataCache.key("Template", EPOCH, FULL_SYNC, "10002")));
+    }
+
+    @Test
+    public void pastTimeBucketsAreEvicted() {
+        AtomicInteger loads = new AtomicInteger();
+        entityDataCache.get(entityDataCache.key("Location", EPOCH, FULL_SYNC.minusDays(1)), () -> load(loads));
+        entityDataCache.get(entityDataCache.key("Location", EPOCH, FULL_SYNC), () -> load(loads));
+        entityDataCache.get(entityDataCache.key("Location", FULL_SYNC, DELTA_SYNC), () -> load(loads));
+
+        Assert.assertEquals(1, entityDataCache.evictExpired(Arrays.asList(FULL_SYNC, DELTA_SYNC)));
+        Assert.assertEquals(2, entityDataCache.size());
+    }
+
+    @Test
+    public void leastRecentlyUsedDeltaEntryIsEvictedBeforeFullSyncEntries() {
+        ReflectionTestUtils.setField(entityDataCache, "maxEntries", 4);
+        AtomicInteger loads = new AtomicInteger();
+        entityDataCache.get(entityDataCache.key("Location", EPOCH, FULL_SYNC), () -> load(loads));
+        entityDataCache.get(entityDataCache.key("Template", EPOCH, FULL_SYNC), () -> load(loads));
+        entityDataCache.get(entityDataCache.key("Location", FULL_SYNC, DELTA_SYNC, "10001"), () -> load(loads));
+        entityDataCache.get(entityDataCache.key("Location", FULL_SYNC, DELTA_SYNC, "10002"), () -> load(loads));
+        // recently used delta entry is kept
+        entityDataCache.get(entityDataCache.key("Location", FULL_SYNC, DELTA_SYNC, "10001"), () -> load(loads));
+        entityDataCache.get(entityDataCache.key("Location", FULL_SYNC, DELTA_SYNC, "10003"), () -> load(loads));
+
+        Assert.assertEquals(4, entityDataCache.size());
+        Assert.assertNotNull(entityDataCache.get(entityDataCache.key("Location", EPOCH, FULL_SYNC)));
+        Assert.assertNotNull(entityDataCache.get(entityDataCache.key("Template", EPOCH, FULL_SYNC)));
+        Assert.assertNotNull(entityDataCache.get(entityDataCache.key("Location", FULL_SYNC, DELTA_SYNC, "10001")));
+        Assert.assertNull(entityDataCache.get(entityDataCache.key("Location", FULL_SYNC, DELTA_SYNC, "10002")));
+        Assert.assertNotNull(entityDataCache.get(entityDataCache.key("Location", FULL_SYNC, DELTA_SYNC, "10003")));
+    }
+
+    @Test
+    public void deltaEntriesAreBoundedByMaxEntries() {
+        int maxEntries = 100;
+        ReflectionTestUtils.setField(entityDataCache, "maxEntries", maxEntries);
+        AtomicInteger loads = new AtomicInteger();
+        entityDataCache.get(entityDataCache.key("Location", EPOCH, FULL_SYNC), () -> load(loads));
+        // every machine syncs with its own last updated timestamp, all in the same delta sync bucket
+        for (int i = 0; i < maxEntries * 10; i++) {
+            entityDataCache.get(entityDataCache.key("Location", FULL_SYNC.plusSeconds(i), DELTA_SYNC), () -> load(loads));
+            Assert.assertTrue(entityDataCache.size() <= maxEntries);
+        }
+
+        Assert.assertEquals(maxEntries, entityDataCache.size());
+        Assert.assertNotNull(entityDataCache.get(entityDataCache.key("Location", EPOCH, FULL_SYNC)));
+    }
+
+    @Test
+    public void concurrentMissesAreLoadedOnce() throws Exception {
+        int requests = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                futures.add(executor.submit(() -> entityDataCache.get(
+                        entityDataCache.key("Location", EPOCH, FULL_SYNC), () -> {
+                            loading.countDown();
+                            release.await();
+                            return load(loads);
+                        })));
+            }
+            Assert.assertTrue(loading.await(5, TimeUnit.SECONDS));
+            // let the other requests reach the pending entry before the load completes
+            Thread.sleep(200);
+            release.countDown();
+
+            Object value = futures.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<Object> future : futures) {
+                Assert.assertSame(value, future.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        EntityDataCache.EntityStats stats = entityDataCache.getStats().get("Location");
+        Assert.assertEquals(1, loads.get());
+        Assert.assertEquals(1, stats.getMissCount());
+        Assert.assertEquals(requests - 1, stats.getHitCount() + stats.getCoalescedCount());
+    }
+
+    @Test
+    public void failedLoadIsNotCached() {
+        AtomicInteger loads = new AtomicInteger();
+        try {
+            entityDataCache.get(entityDataCache.key("Location", EPOCH, FULL_SYNC), () -> {
+                throw new IllegalStateException("db unavailable");
+            });
+            Assert.fail();
+        } catch (Cache.ValueRetrievalException e) {
+            Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        Assert.assertEquals(0, entityDataCache.size());
+
+        entityDataCache.get(entityDataCache.key("Location", EPOCH, FULL_SYNC), () -> load(loads));
+        Assert.assertEquals(1, loads.get());
+        Assert.assertEquals(1, entityDataCache.getStats().get("Location").getLoadFailureCount());
+        Assert.assertEquals(2, entityDataCache.getStats().get("Location").getLoadCount());
+    }
+
+    @Test
+    public void statsArePublishedPerEntity() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ReflectionTestUtils.setField(entityDataCache, "meterRegistry", meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+        entityDataCache.get(entityDataCache.key("Location", EPOCH, FULL_SYNC), () -> load(loads));
+        entityDataCache.get(entityDataCache.key("Location", EPOCH, FULL_SYNC), () -> load(loads));
+        entityDataCache.get(entityDataCache.key("Template", EPOCH, FULL_SYNC), () -> load(loads));
+
+        Assert.assertEquals(1, meterRegistry.get("syncdata.entity.cache.hits").tag("entity", "Location")
+                .functionCounter().count(), 0);
+        Assert.assertEquals(1, meterRegistry.get("syncdata.entity.cache.misses").tag("entity", "Location")
+                .functionCounter().count(), 0);
+        Assert.assertEquals(0, meterRegistry.get("syncdata.entity.cache.hits").tag("entity", "Template")
+                .functionCounter().count(), 0);
+        Assert.assertEquals(1, meterRegistry.get("syncdata.entity.cache.load").tag("entity", "Template")
+                .functionTimer().count(), 0);
+    }
+
+    private static List<String> load(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return new ArrayList<>(Collections.singletonList("value"));
+    }
+
+    private static EntityDtimes dtimes(int day) {
+        LocalDateTime dateTime = LocalDateTime.of(2021, 12, day, 0, 0);
+        return new EntityDtimes(dateTime, dateTime, null);
+    }
+}
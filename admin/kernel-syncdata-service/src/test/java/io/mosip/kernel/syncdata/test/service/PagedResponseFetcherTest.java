@@ -0,0 +1,202 @@
+package io.mosip.kernel.syncdata.test.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sun.net.httpserver.HttpServer;
+import io.mosip.kernel.core.exception.ServiceError;
+import io.mosip.kernel.core.http.ResponseWrapper;
+import io.mosip.kernel.syncdata.dto.DynamicFieldDto;
+import io.mosip.kernel.syncdata.dto.DynamicFieldValueDto;
+import io.mosip.kernel.syncdata.dto.LocationHierarchyDto;
+import io.mosip.kernel.syncdata.dto.LocationHierarchyLevelResponseDto;
+import io.mosip.kernel.syncdata.dto.PageDto;
+import io.mosip.kernel.syncdata.exception.SyncInvalidArgumentException;
+import io.mosip.kernel.syncdata.service.helper.PagedResponseFetcher;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class PagedResponseFetcherTest {
+
+    private static final int TOTAL_PAGES = 8;
+    private static final int PAGE_SIZE = 5;
+    private static final long PAGE_LATENCY_MILLIS = 200;
+    private static final int WINDOW = 4;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private final RestTemplate restTemplate = new RestTemplate();
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private volatile int errorPage = -1;
+
+    private HttpServer server;
+
+    private PagedResponseFetcher pagedResponseFetcher;
+
+    @Before
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/dynamicfields", exchange -> {
+            int running = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(running, Math::max);
+            requests.incrementAndGet();
+            try {
+                Thread.sleep(PAGE_LATENCY_MILLIS);
+                String pageNumber = UriComponentsBuilder.fromUri(exchange.getRequestURI()).build()
+                        .getQueryParams().getFirst("pageNumber");
+                byte[] body = dynamicFieldPage(Integer.parseInt(pageNumber)).getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                exchange.sendResponseHeaders(500, -1);
+            } finally {
+                inFlight.decrementAndGet();
+                exchange.close();
+            }
+        });
+        server.createContext("/locationHierarchyLevels", exchange -> {
+            byte[] body = locationHierarchyResponse().getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+            exchange.close();
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        pagedResponseFetcher = new PagedResponseFetcher();
+        ReflectionTestUtils.setField(pagedResponseFetcher, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(pagedResponseFetcher, "threads", 8);
+        ReflectionTestUtils.setField(pagedResponseFetcher, "window", WINDOW);
+        pagedResponseFetcher.init();
+    }
+
+    @After
+    public void tearDown() {
+        pagedResponseFetcher.destroy();
+        server.stop(0);
+    }
+
+    @Test
+    public void fetchAllPagesInPageOrder() throws Exception {
+        List<DynamicFieldDto> fields = pagedResponseFetcher.fetchAllPages(restTemplate, builder("/dynamicfields"),
+                DynamicFieldDto.class);
+
+        Assert.assertEquals(TOTAL_PAGES * PAGE_SIZE, fields.size());
+        for (int i = 0; i < fields.size(); i++) {
+            Assert.assertEquals("field" + i, fields.get(i).getId());
+            Assert.assertEquals(1, fields.get(i).getFieldVal().size());
+        }
+        Assert.assertEquals(TOTAL_PAGES, requests.get());
+    }
+
+    @Test
+    public void fetchAllPagesInParallelWithinWindow() throws Exception {
+        long start = System.currentTimeMillis();
+        pagedResponseFetcher.fetchAllPages(restTemplate, builder("/dynamicfields"), DynamicFieldDto.class);
+        long elapsed = System.currentTimeMillis() - start;
+
+        // the first page alone, then the other pages at most WINDOW at a time
+        Assert.assertTrue("took " + elapsed + " ms", elapsed < TOTAL_PAGES * PAGE_LATENCY_MILLIS);
+        Assert.assertTrue(maxInFlight.get() > 1);
+        Assert.assertTrue(maxInFlight.get() <= WINDOW);
+    }
+
+    @Test
+    public void fetchAllPagesWithLastUpdated() throws Exception {
+        UriComponentsBuilder builder = builder("/dynamicfields").queryParam("lastUpdated", "2021-12-10T05:59:29.437Z");
+        List<DynamicFieldDto> fields = pagedResponseFetcher.fetchAllPages(restTemplate, builder,
+                DynamicFieldDto.class);
+
+        Assert.assertEquals(TOTAL_PAGES * PAGE_SIZE, fields.size());
+    }
+
+    @Test(expected = SyncInvalidArgumentException.class)
+    public void fetchAllPagesWithErrorsInPage() throws Exception {
+        errorPage = 5;
+        pagedResponseFetcher.fetchAllPages(restTemplate, builder("/dynamicfields"), DynamicFieldDto.class);
+    }
+
+    @Test
+    public void fetchLocationHierarchy() throws Exception {
+        URI uri = builder("/locationHierarchyLevels").build().toUri();
+        LocationHierarchyLevelResponseDto responseDto = pagedResponseFetcher.fetch(restTemplate, uri,
+                LocationHierarchyLevelResponseDto.class);
+
+        Assert.assertEquals(2, responseDto.getLocationHierarchyLevels().size());
+        Assert.assertEquals("Region", responseDto.getLocationHierarchyLevels().get(1).getHierarchyLevelName());
+    }
+
+    private UriComponentsBuilder builder(String path) {
+        return UriComponentsBuilder.fromUriString("http://localhost:" + server.getAddress().getPort() + path);
+    }
+
+    private String dynamicFieldPage(int pageNo) throws IOException {
+        ResponseWrapper<PageDto<DynamicFieldDto>> responseWrapper = new ResponseWrapper<>();
+        responseWrapper.setResponsetime(LocalDateTime.now());
+        if (pageNo == errorPage) {
+            responseWrapper.setErrors(Collections.singletonList(new ServiceError("KER-MSD-999", "page failed")));
+            return objectMapper.writeValueAsString(responseWrapper);
+        }
+        List<DynamicFieldDto> data = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            DynamicFieldDto dynamicFieldDto = new DynamicFieldDto();
+            dynamicFieldDto.setId("field" + (pageNo * PAGE_SIZE + i));
+            dynamicFieldDto.setName("gender");
+            dynamicFieldDto.setDataType("string");
+            dynamicFieldDto.setLangCode("eng");
+            dynamicFieldDto.setIsActive(true);
+            DynamicFieldValueDto valueDto = new DynamicFieldValueDto();
+            valueDto.setCode("MLE");
+            valueDto.setValue("Male");
+            valueDto.setActive(true);
+            dynamicFieldDto.setFieldVal(Collections.singletonList(valueDto));
+            data.add(dynamicFieldDto);
+        }
+        responseWrapper.setResponse(new PageDto<>(pageNo, TOTAL_PAGES, TOTAL_PAGES * PAGE_SIZE, data));
+        return objectMapper.writeValueAsString(responseWrapper);
+    }
+
+    private String locationHierarchyResponse() throws IOException {
+        List<LocationHierarchyDto> levels = new ArrayList<>();
+        String[] names = { "Country", "Region" };
+        for (int i = 0; i < names.length; i++) {
+            LocationHierarchyDto locationHierarchyDto = new LocationHierarchyDto();
+            locationHierarchyDto.setHierarchyLevel((short) i);
+            locationHierarchyDto.setHierarchyLevelName(names[i]);
+            locationHierarchyDto.setLangCode("eng");
+            locationHierarchyDto.setIsActive(true);
+            levels.add(locationHierarchyDto);
+        }
+        LocationHierarchyLevelResponseDto responseDto = new LocationHierarchyLevelResponseDto();
+        responseDto.setLocationHierarchyLevels(levels);
+        ResponseWrapper<LocationHierarchyLevelResponseDto> responseWrapper = new ResponseWrapper<>();
+        responseWrapper.setResponse(responseDto);
+        return objectMapper.writeValueAsString(responseWrapper);
+    }
+}
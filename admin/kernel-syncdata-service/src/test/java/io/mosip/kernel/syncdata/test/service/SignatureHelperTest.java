@@ -0,0 +1,211 @@
+package io.mosip.kernel.syncdata.test.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.mosip.kernel.syncdata.dto.response.KeyPairGenerateResponseDto;
+import io.mosip.kernel.syncdata.httpfilter.ResponseSignatureFilter;
+import io.mosip.kernel.syncdata.service.helper.KeymanagerHelper;
+import io.mosip.kernel.syncdata.service.helper.SignatureHelper;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyStore;
+import java.security.Signature;
+import java.security.cert.X509Certificate;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SignatureHelperTest {
+
+    private static final String PASSWORD = "password";
+    private static final String ALIAS = "sign";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Mock
+    private KeymanagerHelper keymanagerHelper;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private SignatureHelper signatureHelper;
+
+    private File keystoreFile;
+
+    private X509Certificate certificate;
+
+    @Before
+    public void setUp() throws Exception {
+        keystoreFile = new File(temporaryFolder.getRoot(), "sign.p12");
+        generateKeystore(keystoreFile, ALIAS);
+        certificate = loadCertificate(keystoreFile, ALIAS);
+
+        ReflectionTestUtils.setField(signatureHelper, "localSigningEnabled", true);
+        ReflectionTestUtils.setField(signatureHelper, "keystoreFile", keystoreFile.getAbsolutePath());
+        ReflectionTestUtils.setField(signatureHelper, "keystoreType", "PKCS12");
+        ReflectionTestUtils.setField(signatureHelper, "keystorePassword", PASSWORD);
+        ReflectionTestUtils.setField(signatureHelper, "keyAlias", ALIAS);
+        ReflectionTestUtils.setField(signatureHelper, "fileSignatureCacheSize", 10);
+        ReflectionTestUtils.setField(signatureHelper, "signApplicationid", "KERNEL");
+        ReflectionTestUtils.setField(signatureHelper, "signRefid", "SIGN");
+        signatureHelper.init();
+    }
+
+    @Test
+    public void localSignatureValidatesWithSameBytes() throws Exception {
+        mockKeymanagerCertificate(certificate);
+        signatureHelper.refreshSigningKey();
+        Assert.assertTrue(signatureHelper.isLocalSigningActive());
+
+        byte[] body = "{\"id\":null,\"response\":{\"lastSyncTime\":\"2021-12-10T05:59:29.437Z\"},\"errors\":null}"
+                .getBytes(StandardCharsets.UTF_8);
+        String jws = signatureHelper.sign(body);
+
+        Assert.assertTrue(verify(jws, body));
+        byte[] changed = body.clone();
+        changed[changed.length - 2] = 'm';
+        Assert.assertFalse(verify(jws, changed));
+        Mockito.verify(keymanagerHelper, Mockito.never()).getSignature(Mockito.anyString());
+    }
+
+    @Test
+    public void keymanagerSignsWhenCertificateDoesNotMatch() throws Exception {
+        File otherKeystore = new File(temporaryFolder.getRoot(), "other.p12");
+        generateKeystore(otherKeystore, ALIAS);
+        mockKeymanagerCertificate(loadCertificate(otherKeystore, ALIAS));
+        Mockito.when(keymanagerHelper.getSignature(Mockito.anyString())).thenReturn("remote");
+
+        signatureHelper.refreshSigningKey();
+
+        Assert.assertFalse(signatureHelper.isLocalSigningActive());
+        Assert.assertEquals("remote", signatureHelper.sign("{}".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void keymanagerSignsWhenLocalSigningDisabled() throws Exception {
+        ReflectionTestUtils.setField(signatureHelper, "localSigningEnabled", false);
+        Mockito.when(keymanagerHelper.getSignature("{}")).thenReturn("remote");
+
+        signatureHelper.refreshSigningKey();
+
+        Assert.assertFalse(signatureHelper.isLocalSigningActive());
+        Assert.assertEquals("remote", signatureHelper.sign("{}".getBytes(StandardCharsets.UTF_8)));
+        Mockito.verify(keymanagerHelper, Mockito.never()).getCertificate(Mockito.anyString(), Mockito.any());
+    }
+
+    @Test
+    public void fileSignatureIsSignedOncePerHash() throws Exception {
+        Mockito.when(keymanagerHelper.getSignature("{\"hash\":\"ABCD\"}")).thenReturn("signed");
+
+        Assert.assertEquals("signed", signatureHelper.getFileSignature("ABCD"));
+        Assert.assertEquals("signed", signatureHelper.getFileSignature("ABCD"));
+        Mockito.verify(keymanagerHelper, Mockito.times(1)).getSignature(Mockito.anyString());
+
+        signatureHelper.clearFileSignatures();
+        signatureHelper.getFileSignature("ABCD");
+        Mockito.verify(keymanagerHelper, Mockito.times(2)).getSignature(Mockito.anyString());
+    }
+
+    @Test
+    public void filterSignsBytesWrittenToResponse() throws Exception {
+        mockKeymanagerCertificate(certificate);
+        signatureHelper.refreshSigningKey();
+        byte[] body = "{\"response\":{\"data\":\"\u00fcn\u00efcode\"}}".getBytes(StandardCharsets.UTF_8);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v2/clientsettings");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new ResponseSignatureFilter(signatureHelper, objectMapper).doFilter(request, response,
+                new MockFilterChain(new HttpServlet() {
+                    @Override
+                    protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                        Assert.assertNotNull(req.getAttribute(ResponseSignatureFilter.FILTER_APPLIED));
+                        req.setAttribute(ResponseSignatureFilter.SIGN_RESPONSE, Boolean.TRUE);
+                        resp.getOutputStream().write(body);
+                        resp.flushBuffer();
+                    }
+                }));
+
+        Assert.assertArrayEquals(body, response.getContentAsByteArray());
+        Assert.assertTrue(verify(response.getHeader(ResponseSignatureFilter.RESPONSE_SIGNATURE_HEADER),
+                response.getContentAsByteArray()));
+    }
+
+    @Test
+    public void filterWritesUnmarkedResponseThrough() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/scripts/applicanttype.mvel");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new ResponseSignatureFilter(signatureHelper, objectMapper).doFilter(request, response,
+                new MockFilterChain(new HttpServlet() {
+                    @Override
+                    protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                        resp.getOutputStream().write("content".getBytes(StandardCharsets.UTF_8));
+                    }
+                }));
+
+        Assert.assertEquals("content", response.getContentAsString());
+        Assert.assertNull(response.getHeader(ResponseSignatureFilter.RESPONSE_SIGNATURE_HEADER));
+        Mockito.verifyZeroInteractions(keymanagerHelper);
+    }
+
+    private boolean verify(String jws, byte[] body) throws Exception {
+        String[] parts = jws.split("\\.");
+        Assert.assertEquals(3, parts.length);
+        Assert.assertEquals("", parts[1]);
+        Signature signature = Signature.getInstance("SHA256withRSA");
+        signature.initVerify(certificate.getPublicKey());
+        signature.update((parts[0] + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(body))
+                .getBytes(StandardCharsets.US_ASCII));
+        return signature.verify(Base64.getUrlDecoder().decode(parts[2]));
+    }
+
+    private void mockKeymanagerCertificate(X509Certificate keymanagerCertificate) throws Exception {
+        String pem = "-----BEGIN CERTIFICATE-----\n"
+                + Base64.getMimeEncoder().encodeToString(keymanagerCertificate.getEncoded())
+                + "\n-----END CERTIFICATE-----\n";
+        KeyPairGenerateResponseDto responseDto = new KeyPairGenerateResponseDto();
+        responseDto.setCertificate(pem);
+        Mockito.when(keymanagerHelper.getCertificate("KERNEL", Optional.of("SIGN"))).thenReturn(responseDto);
+    }
+
+    private static void generateKeystore(File file, String alias) throws Exception {
+        String keytool = System.getProperty("java.home") + File.separator + "bin" + File.separator + "keytool";
+        Process process = new ProcessBuilder(keytool, "-genkeypair", "-alias", alias, "-keyalg", "RSA",
+                "-keysize", "2048", "-sigalg", "SHA256withRSA", "-dname", "CN=syncdata-test", "-validity", "1",
+                "-storetype", "PKCS12", "-keystore", file.getAbsolutePath(), "-storepass", PASSWORD,
+                "-keypass", PASSWORD).redirectErrorStream(true).start();
+        Assert.assertTrue(process.waitFor(60, TimeUnit.SECONDS));
+        Assert.assertEquals(0, process.exitValue());
+    }
+
+    private static X509Certificate loadCertificate(File file, String alias) throws Exception {
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        try (InputStream inputStream = new FileInputStream(file)) {
+            keyStore.load(inputStream, PASSWORD.toCharArray());
+        }
+        return (X509Certificate) keyStore.getCertificate(alias);
+    }
+}
@@ -8,6 +8,7 @@ import io.mosip.kernel.signature.dto.JWTSignatureResponseDto;
 import io.mosip.kernel.syncdata.dto.*;
 import io.mosip.kernel.syncdata.dto.response.SyncDataResponseDto;
 import io.mosip.kernel.syncdata.service.helper.ClientSettingsHelper;
+import io.mosip.kernel.syncdata.service.helper.KeymanagerHelper;
 import io.mosip.kernel.syncdata.service.helper.SyncJobHelperService;
 import io.mosip.kernel.syncdata.service.impl.SyncMasterDataServiceImpl;
 import io.mosip.kernel.syncdata.test.TestBootApplication;
@@ -16,11 +17,14 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.annotation.DirtiesContext;
@@ -71,6 +75,9 @@ public class SyncMasterDataServiceHelperTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @SpyBean
+    private KeymanagerHelper keymanagerHelper;
+
     @Value("${mosip.kernel.keymanager-service-sign-url}")
     private String signUrl;
 
@@ -265,6 +272,20 @@ public class SyncMasterDataServiceHelperTest {
         Assert.assertNotNull(responseEntity.getBody());
         Assert.assertNotNull(responseEntity.getHeaders().get("file-signature"));
         Assert.assertNotNull(responseEntity.getHeaders().get(HttpHeaders.CONTENT_DISPOSITION));
+        Assert.assertNotNull(responseEntity.getHeaders().getETag());
+        Assert.assertTrue(responseEntity.getBody() instanceof Resource);
+        //signed at most once, the signature of an unchanged snapshot is carried over when it is recreated
+        Mockito.verify(keymanagerHelper, Mockito.atMost(1)).getSignature(Mockito.anyString());
+        Mockito.clearInvocations(keymanagerHelper);
+
+        //signature is stored along with the snapshot, no further keymanager calls
+        ResponseEntity secondResponseEntity = syncMasterDataService.getClientSettingsJsonFile("LOCATION",
+                "41:3a:ed:6d:38:a0:28:36:72:a6:75:08:8a:41:3c:a3:4f:48:72:6f:c8:fb:29:dd:53:bd:6f:12:70:9b:e3:29");
+        Assert.assertEquals(responseEntity.getHeaders().get("file-signature"),
+                secondResponseEntity.getHeaders().get("file-signature"));
+        Assert.assertEquals(responseEntity.getHeaders().getETag(), secondResponseEntity.getHeaders().getETag());
+        Mockito.verify(keymanagerHelper, Mockito.never()).getSignature(Mockito.anyString());
+        Mockito.verifyNoMoreInteractions(keymanagerHelper);
     }
     
     @Test
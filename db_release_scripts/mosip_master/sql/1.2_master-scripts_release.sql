@@ -266,4 +266,18 @@ ALTER TABLE master.ui_spec ALTER COLUMN version TYPE numeric(5,3);
 ALTER TABLE master.ui_spec ALTER COLUMN identity_schema_version TYPE numeric(5,3);
 
 
+-------------------------------------------------------------------------------------------------------------------------------------------
+
+----------------------------------------- TRIGRAM INDEXES OF THE SEARCHABLE TEXT COLUMNS ------------------------------------------
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_location_name_trgm ON master.location USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_reg_centr_name_trgm ON master.registration_center USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_mac_master_name_trgm ON master.machine_master USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_mac_master_mac_address_trgm ON master.machine_master USING gin (lower(mac_address) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_mac_master_serial_num_trgm ON master.machine_master USING gin (lower(serial_num) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_device_master_name_trgm ON master.device_master USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_device_master_mac_address_trgm ON master.device_master USING gin (lower(mac_address) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_device_master_serial_num_trgm ON master.device_master USING gin (lower(serial_num) gin_trgm_ops);
+
 -------------------------------------------------------------------------------------------------------------------------------------------
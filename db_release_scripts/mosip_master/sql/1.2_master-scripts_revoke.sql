@@ -27,3 +27,15 @@ ALTER TABLE master.bulkupload_transaction ALTER COLUMN upload_description charac
 
 ALTER TABLE master.ui_spec ALTER COLUMN version TYPE numeric(5);
 ALTER TABLE master.ui_spec ALTER COLUMN identity_schema_version TYPE numeric(5);
+
+
+DROP INDEX IF EXISTS master.idx_location_name_trgm;
+DROP INDEX IF EXISTS master.idx_reg_centr_name_trgm;
+DROP INDEX IF EXISTS master.idx_mac_master_name_trgm;
+DROP INDEX IF EXISTS master.idx_mac_master_mac_address_trgm;
+DROP INDEX IF EXISTS master.idx_mac_master_serial_num_trgm;
+DROP INDEX IF EXISTS master.idx_device_master_name_trgm;
+DROP INDEX IF EXISTS master.idx_device_master_mac_address_trgm;
+DROP INDEX IF EXISTS master.idx_device_master_serial_num_trgm;
+
+-----------------------------------------------------------------------------------------------------------------
@@ -15,3 +15,6 @@ CREATE SCHEMA master;
 ALTER SCHEMA master OWNER TO postgres;
 ALTER DATABASE mosip_master SET search_path TO master,pg_catalog,public;
 
+-- trigram indexes of the searchable text columns
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
@@ -26,6 +26,9 @@ CREATE TABLE master.device_master(
 -- ddl-end --
 -- index creation starts--
 CREATE INDEX IF NOT EXISTS idx_device_master_cntr_id ON master.device_master USING btree (regcntr_id);
+CREATE INDEX IF NOT EXISTS idx_device_master_name_trgm ON master.device_master USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_device_master_mac_address_trgm ON master.device_master USING gin (lower(mac_address) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_device_master_serial_num_trgm ON master.device_master USING gin (lower(serial_num) gin_trgm_ops);
 -- index creation ends--
 COMMENT ON TABLE master.device_master IS 'Device Master : Contains list of approved devices and  details,  like fingerprint scanner, iris scanner, scanner etc used at registration centers. Valid devices with active status only allowed at registration centers for respective functionalities. Device onboarding are handled through admin application/portal by the user who is having the device onboarding authority. ';
 -- ddl-end --
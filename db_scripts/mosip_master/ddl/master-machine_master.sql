@@ -28,6 +28,9 @@ CREATE TABLE master.machine_master(
 CREATE INDEX IF NOT EXISTS idx_mac_master_cntr_id ON master.machine_master USING btree (regcntr_id);
 CREATE INDEX IF NOT EXISTS idx_mac_master_cr_dtimes ON master.machine_master USING btree (cr_dtimes);
 CREATE INDEX IF NOT EXISTS idx_mac_master_regcntr_id ON master.machine_master USING btree (regcntr_id);
+CREATE INDEX IF NOT EXISTS idx_mac_master_name_trgm ON master.machine_master USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_mac_master_mac_address_trgm ON master.machine_master USING gin (lower(mac_address) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_mac_master_serial_num_trgm ON master.machine_master USING gin (lower(serial_num) gin_trgm_ops);
 COMMENT ON TABLE master.machine_master IS 'Machine Master : Contains list of approved Machines and  details,  like laptop, desktop, dongle etc used at registration centers. Valid Machines with active status only allowed at registration centers for respective functionalities. Machine onboarding are handled through admin application/portal by the user who is having the Machine onboarding authority. ';
 
 COMMENT ON COLUMN master.machine_master.id IS 'Machine ID : Unique ID generated / assigned for machine';
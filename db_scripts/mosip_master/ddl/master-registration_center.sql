@@ -38,6 +38,7 @@ CREATE TABLE master.registration_center(
 -- ddl-end --
 --index creation starts--
 CREATE INDEX IF NOT EXISTS idx_reg_centr_loc_code ON master.registration_center USING btree (holiday_loc_code);
+CREATE INDEX IF NOT EXISTS idx_reg_centr_name_trgm ON master.registration_center USING gin (lower(name) gin_trgm_ops);
 -- index creation ends--
 COMMENT ON TABLE master.registration_center IS 'Registration Center : List of registration centers that are authorized to perform UIN registrations ';
 -- ddl-end --